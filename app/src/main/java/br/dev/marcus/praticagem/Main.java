@@ -2,17 +2,35 @@ package br.dev.marcus.praticagem;
 
 import io.javalin.Javalin;
 
+import br.dev.marcus.praticagem.busca.CorrespondenciaNavio;
+import br.dev.marcus.praticagem.busca.IndiceNavios;
 import br.dev.marcus.praticagem.config.ConfigLoader;
+import br.dev.marcus.praticagem.config.ThreadsVirtuais;
+import br.dev.marcus.praticagem.consulta.FiltroMovimentacoes;
+import br.dev.marcus.praticagem.consulta.PaginaMovimentacoes;
 import br.dev.marcus.praticagem.fetcher.HtmlFetcher;
+import br.dev.marcus.praticagem.historico.ConsultaHistorico;
+import br.dev.marcus.praticagem.historico.HistoricoMovimentacoes;
+import br.dev.marcus.praticagem.historico.LeitorHistorico;
+import br.dev.marcus.praticagem.metricas.MetricasHttp;
+import br.dev.marcus.praticagem.metricas.RegistroMetricas;
 import br.dev.marcus.praticagem.parser.HtmlParser;
+import br.dev.marcus.praticagem.parser.PoolTextos;
+import br.dev.marcus.praticagem.parser.StreamingHtmlParser;
+import br.dev.marcus.praticagem.push.DifusorSse;
+import br.dev.marcus.praticagem.push.HubWebSocket;
+import br.dev.marcus.praticagem.scheduler.MovimentacaoPoller;
 import br.dev.marcus.praticagem.service.MovimentacaoService;
-import br.dev.marcus.praticagem.model.NavioMovimentacao;
+import br.dev.marcus.praticagem.service.MovimentacaoSnapshot;
+import br.dev.marcus.praticagem.service.RepresentacaoJson;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Ponto de entrada da aplicação de scraping de movimentação de navios.
@@ -52,6 +70,42 @@ import java.util.Map;
  *   </tr>
  *   <tr>
  *     <td>GET</td>
+ *     <td>/movimentacoes?since=N</td>
+ *     <td>Apenas o que mudou desde a versão N</td>
+ *     <td>JSON com {@code versao} e {@code mudancas} (ou lista completa)</td>
+ *   </tr>
+ *   <tr>
+ *     <td>GET</td>
+ *     <td>/movimentacoes/historico?de=...&amp;ate=...&amp;berco=...</td>
+ *     <td>Mudanças gravadas no histórico em um período, opcionalmente de um berço</td>
+ *     <td>JSON com {@code registros} (versão, instante e mudanças de cada coleta)</td>
+ *   </tr>
+ *   <tr>
+ *     <td>GET</td>
+ *     <td>/navios/busca?q=...</td>
+ *     <td>Busca de navios por nome (prefixo, palavras ou aproximada)</td>
+ *     <td>JSON com {@code resultados} em ordem de relevância</td>
+ *   </tr>
+ *   <tr>
+ *     <td>GET</td>
+ *     <td>/movimentacoes/stream</td>
+ *     <td>Server-Sent Events: snapshot ao conectar, depois só as mudanças</td>
+ *     <td>Eventos {@code snapshot} e {@code mudancas} (JSON)</td>
+ *   </tr>
+ *   <tr>
+ *     <td>WS</td>
+ *     <td>/movimentacoes/ws</td>
+ *     <td>WebSocket: assina berços/navios e recebe só as mudanças deles</td>
+ *     <td>Mensagens {@code assinaturas}, {@code mudancas} e {@code erro} (JSON)</td>
+ *   </tr>
+ *   <tr>
+ *     <td>GET</td>
+ *     <td>/metrics</td>
+ *     <td>Métricas de coleta, parse e atendimento para o Prometheus</td>
+ *     <td>Texto no formato de exposição do Prometheus</td>
+ *   </tr>
+ *   <tr>
+ *     <td>GET</td>
  *     <td>/health</td>
  *     <td>Health check da aplicação</td>
  *     <td>Texto "OK" com status 200</td>
@@ -102,11 +156,65 @@ import java.util.Map;
  *     <td>Timeout HTTP em milissegundos</td>
  *   </tr>
  *   <tr>
+ *     <td>praticagem.cache.enabled</td>
+ *     <td>PRATICAGEM_CACHE_ENABLED</td>
+ *     <td>true</td>
+ *     <td>Mantém snapshot em memória (stale-while-revalidate)</td>
+ *   </tr>
+ *   <tr>
+ *     <td>praticagem.cache.ttlMs</td>
+ *     <td>PRATICAGEM_CACHE_TTLMS</td>
+ *     <td>60000</td>
+ *     <td>Tempo de vida do snapshot antes da revalidação</td>
+ *   </tr>
+ *   <tr>
+ *     <td>praticagem.poll.enabled</td>
+ *     <td>PRATICAGEM_POLL_ENABLED</td>
+ *     <td>true</td>
+ *     <td>Busca o site em background; GET /movimentacoes vira leitura em memória</td>
+ *   </tr>
+ *   <tr>
+ *     <td>praticagem.poll.intervalMs</td>
+ *     <td>PRATICAGEM_POLL_INTERVALMS</td>
+ *     <td>60000</td>
+ *     <td>Intervalo entre polls</td>
+ *   </tr>
+ *   <tr>
+ *     <td>praticagem.poll.jitterMs</td>
+ *     <td>PRATICAGEM_POLL_JITTERMS</td>
+ *     <td>5000</td>
+ *     <td>Atraso aleatório máximo somado ao intervalo</td>
+ *   </tr>
+ *   <tr>
+ *     <td>praticagem.parser.modo</td>
+ *     <td>PRATICAGEM_PARSER_MODO</td>
+ *     <td>dom</td>
+ *     <td>Parser da tabela: {@code dom} (Jsoup) ou {@code streaming} (sem DOM)</td>
+ *   </tr>
+ *   <tr>
+ *     <td>praticagem.historico.enabled</td>
+ *     <td>PRATICAGEM_HISTORICO_ENABLED</td>
+ *     <td>true</td>
+ *     <td>Grava cada versão em disco e restaura a última na inicialização</td>
+ *   </tr>
+ *   <tr>
+ *     <td>praticagem.historico.dir</td>
+ *     <td>PRATICAGEM_HISTORICO_DIR</td>
+ *     <td>data/historico</td>
+ *     <td>Diretório dos segmentos do histórico</td>
+ *   </tr>
+ *   <tr>
  *     <td>server.port</td>
  *     <td>SERVER_PORT</td>
  *     <td>7000</td>
  *     <td>Porta do servidor HTTP</td>
  *   </tr>
+ *   <tr>
+ *     <td>server.virtualThreads</td>
+ *     <td>SERVER_VIRTUALTHREADS</td>
+ *     <td>false</td>
+ *     <td>Handlers e HttpClient em virtual threads (requer Java 21 em execução)</td>
+ *   </tr>
  * </table>
  * 
  * <h2>Como Executar</h2>
@@ -140,6 +248,12 @@ public class Main {
      */
     private static final Logger logger = LoggerFactory.getLogger(Main.class);
 
+    /**
+     * Intervalo entre heartbeats do {@code /movimentacoes/stream}, abaixo do
+     * timeout de ociosidade típico de proxies (30-60s).
+     */
+    private static final long INTERVALO_HEARTBEAT_SSE_MS = 15_000;
+
     /**
      * Ponto de entrada da aplicação.
      * 
@@ -171,28 +285,111 @@ public class Main {
         int porta = config.getInt("server.port", 7000);
         int maxRetries = config.getInt("praticagem.maxRetries", 3);
         int retryBackoff = config.getInt("praticagem.retryBackoff", 2000);
+        boolean cacheHabilitado = config.getBoolean("praticagem.cache.enabled", true);
+        long cacheTtlMs = config.getLong("praticagem.cache.ttlMs", 60000);
+        boolean pollHabilitado = config.getBoolean("praticagem.poll.enabled", true);
+        long pollIntervaloMs = config.getLong("praticagem.poll.intervalMs", 60000);
+        long pollJitterMs = config.getLong("praticagem.poll.jitterMs", 5000);
+        String modoParser = config.get("praticagem.parser.modo", "dom");
+        boolean historicoHabilitado = config.getBoolean("praticagem.historico.enabled", true);
+        String historicoDir = config.get("praticagem.historico.dir", "data/historico");
+        boolean threadsVirtuais = config.getBoolean("server.virtualThreads", false);
+
+        // Modo opt-in: sem virtual threads no JDK em execução, segue com o pool do Jetty
+        if (threadsVirtuais && !ThreadsVirtuais.disponiveis()) {
+            logger.warn(
+                "server.virtualThreads=true ignorado: Java {} sem virtual threads "
+                    + "(requer Java 21, ou 19/20 com --enable-preview)",
+                Runtime.version().feature()
+            );
+            threadsVirtuais = false;
+        }
+        final boolean usarThreadsVirtuais = threadsVirtuais;
 
         // Log das configurações carregadas (útil para debug)
         logger.info("Configurações carregadas:");
         logger.info("  └─ URL: {}", url);
         logger.info("  └─ Timeout: {}ms", timeout);
         logger.info("  └─ Porta: {}", porta);
+        logger.info("  └─ Threads: {}", usarThreadsVirtuais ? "virtuais" : "pool do Jetty");
         logger.info("  └─ Max Retries: {}", maxRetries);
         logger.info("  └─ Retry Backoff: {}ms", retryBackoff);
+        logger.info("  └─ Cache: {} (TTL {}ms)", cacheHabilitado ? "ativo" : "desativado", cacheTtlMs);
+        logger.info(
+            "  └─ Poller: {} (intervalo {}ms, jitter {}ms)",
+            pollHabilitado ? "ativo" : "desativado", pollIntervaloMs, pollJitterMs
+        );
+        logger.info("  └─ Parser: {}", modoParser);
+        logger.info("  └─ Histórico: {} ({})", historicoHabilitado ? "ativo" : "desativado", historicoDir);
 
         // ===== INICIALIZAÇÃO DE COMPONENTES =====
         // Padrão de injeção de dependências manual (simples e explícito)
         logger.info("Inicializando componentes...");
         
-        HtmlFetcher fetcher = new HtmlFetcher(url, timeout, maxRetries, retryBackoff);
+        // Com virtual threads, as respostas do HttpClient também são tratadas nelas
+        HtmlFetcher fetcher = new HtmlFetcher(
+            url, timeout, maxRetries, retryBackoff,
+            usarThreadsVirtuais ? ThreadsVirtuais.executorPorTarefa("http-cliente-") : null
+        );
         logger.debug("  ✓ HtmlFetcher criado");
         
-        HtmlParser parser = new HtmlParser();
-        logger.debug("  ✓ HtmlParser criado");
+        HtmlParser parser = criarParser(modoParser);
+        logger.debug("  ✓ {} criado", parser.getClass().getSimpleName());
         
-        MovimentacaoService service = new MovimentacaoService(fetcher, parser);
+        MovimentacaoService service = new MovimentacaoService(
+            fetcher, parser, cacheHabilitado, cacheTtlMs
+        );
         logger.debug("  ✓ MovimentacaoService criado");
 
+        // Histórico em disco: restaura a última versão antes do primeiro poll,
+        // para que a primeira requisição após um deploy não espere pelo site
+        HistoricoMovimentacoes historico = null;
+        if (historicoHabilitado) {
+            try {
+                historico = HistoricoMovimentacoes.abrir(Path.of(historicoDir));
+                historico.ultimoEstado().ifPresent(estado -> service.restaurar(
+                    estado.estado(), estado.obtidoEm(), estado.versao()
+                ));
+                service.adicionarOuvinte(historico);
+                logger.debug("  ✓ HistoricoMovimentacoes aberto");
+
+            } catch (IllegalStateException e) {
+                // Sem histórico a API continua funcionando, só não persiste as versões
+                logger.error("Histórico desativado: {}", e.getMessage(), e);
+                historico = null;
+            }
+        }
+        final HistoricoMovimentacoes historicoAtivo = historico;
+
+        // Consultas por período sobre os segmentos mapeados em memória
+        final LeitorHistorico leitorHistorico = historico == null
+            ? null
+            : new LeitorHistorico(historico.getDiretorio());
+
+        // Com o poller ativo, o scraping sai do caminho das requisições
+        MovimentacaoPoller poller = null;
+        if (pollHabilitado) {
+            poller = new MovimentacaoPoller(service, pollIntervaloMs, pollJitterMs);
+            poller.iniciar();
+            logger.debug("  ✓ MovimentacaoPoller iniciado");
+        }
+        final MovimentacaoPoller pollerAtivo = poller;
+
+        // Push das mudanças para clientes SSE, a cada snapshot publicado
+        DifusorSse difusor = new DifusorSse(service, INTERVALO_HEARTBEAT_SSE_MS);
+        difusor.iniciar();
+        logger.debug("  ✓ DifusorSse iniciado");
+
+        // Push filtrado por berço/navio para clientes WebSocket
+        HubWebSocket hub = new HubWebSocket(service);
+        hub.iniciar();
+        logger.debug("  ✓ HubWebSocket iniciado");
+
+        // Busca por nome de navio, atualizada a cada conjunto de mudanças
+        IndiceNavios indiceNavios = new IndiceNavios(service);
+        indiceNavios.iniciar();
+        logger.debug("  ✓ IndiceNavios iniciado");
+
         // ===== CONFIGURAÇÃO DO SERVIDOR JAVALIN =====
         logger.info("Configurando servidor Javalin...");
         
@@ -202,6 +399,15 @@ public class Main {
             
             // Habilita logs de requisições HTTP (útil para monitoramento)
             javalinConfig.plugins.enableDevLogging();
+
+            // Sem compressão por requisição: /movimentacoes já envia gzip
+            // pré-calculado no snapshot, e as demais respostas são pequenas
+            javalinConfig.compression.none();
+
+            // Uma virtual thread por requisição em vez do pool fixo do Jetty:
+            // um handler esperando o site (carga inicial sem poller) não ocupa
+            // uma thread de plataforma, e milhares de clientes podem esperar juntos
+            javalinConfig.useVirtualThreads = usarThreadsVirtuais;
             
             // Configurações adicionais podem ser adicionadas aqui:
             // javalinConfig.plugins.enableCors(...);
@@ -210,6 +416,14 @@ public class Main {
 
         logger.info("✅ Servidor iniciado com sucesso em http://localhost:{}", porta);
 
+        // Latência por rota; o stream SSE fica de fora (conexão longa)
+        MetricasHttp metricasHttp = new MetricasHttp(Set.of("/movimentacoes/stream"));
+        metricasHttp.instalar(app);
+
+        RegistroMetricas metricas = criarMetricas(
+            service, metricasHttp, difusor, hub, indiceNavios, historicoAtivo
+        );
+
         // ===== TRATAMENTO GLOBAL DE EXCEÇÕES =====
         // Captura IllegalStateException (erros de scraping) e retorna JSON
         app.exception(IllegalStateException.class, (exception, ctx) -> {
@@ -236,30 +450,280 @@ public class Main {
          * 
          * <h3>Fluxo:</h3>
          * <ol>
-         *   <li>Service → Fetcher (busca HTML com retry)</li>
+         *   <li>Poller ativo: apenas lê o snapshot publicado (nunca acessa o site)</li>
+         *   <li>Service → snapshot em memória (se o cache estiver ativo e já carregado)</li>
+         *   <li>Service → Fetcher (busca HTML com retry) na primeira carga ou revalidação</li>
          *   <li>Service → Parser (extrai dados da tabela)</li>
-         *   <li>Javalin serializa para JSON</li>
+         *   <li>Escreve o JSON já serializado do snapshot (gzip pré-comprimido se o
+         *       cliente aceitar), com {@code ETag}</li>
          * </ol>
          * 
          * <h3>Respostas:</h3>
          * <ul>
-         *   <li><b>200 OK:</b> JSON array de movimentações</li>
+         *   <li><b>200 OK:</b> JSON array de movimentações (header {@code X-Versao})</li>
+         *   <li><b>200 OK com {@code ?since=N}:</b> objeto com as mudanças desde a
+         *       versão N, ou com a lista completa se N saiu da janela de versões</li>
+         *   <li><b>200 OK com filtros</b> ({@code berco}, {@code navio}, {@code manobra},
+         *       {@code situacao}, {@code de}, {@code ate}, {@code sort}, {@code limit},
+         *       {@code offset}): objeto com {@code total} e a página pedida, montado a
+         *       partir dos índices do snapshot ({@link FiltroMovimentacoes})</li>
+         *   <li><b>400 Bad Request:</b> {@code since} não numérico ou filtro inválido</li>
+         *   <li><b>304 Not Modified:</b> {@code If-None-Match} igual ao ETag atual (sem corpo)</li>
+         *   <li><b>503 Unavailable:</b> Poller ativo, mas o primeiro poll ainda não terminou</li>
          *   <li><b>500 Error:</b> Falha no scraping</li>
          * </ul>
          */
         app.get("/movimentacoes", ctx -> {
             logger.info("Requisição recebida: GET /movimentacoes");
             
-            // Service coordena fetcher e parser
-            List<NavioMovimentacao> dados = service.buscarMovimentacoes();
-            
+            MovimentacaoSnapshot snapshot;
+
+            if (pollerAtivo != null) {
+                // Leitura pura em memória: o poller mantém o snapshot atualizado
+                snapshot = service.lerSnapshotPublicado().orElse(null);
+
+                if (snapshot == null) {
+                    logger.warn("Snapshot ainda não disponível (primeiro poll em andamento)");
+                    ctx.status(503);
+                    ctx.header("Retry-After", "5");
+                    ctx.json(Map.of(
+                        "erro", "Dados ainda não disponíveis",
+                        "mensagem", "Primeira coleta do site da praticagem em andamento",
+                        "timestamp", System.currentTimeMillis(),
+                        "path", ctx.path()
+                    ));
+                    return;
+                }
+
+            } else {
+                // Service coordena fetcher e parser (com cache, se ativo)
+                snapshot = service.obterSnapshot();
+            }
+
+            ctx.header("X-Versao", Long.toString(snapshot.versao()));
+
+            // Delta: só o que mudou desde a versão que o cliente já tem
+            String since = ctx.queryParam("since");
+            if (since != null) {
+                long versao;
+                try {
+                    versao = Long.parseLong(since.trim());
+
+                } catch (NumberFormatException e) {
+                    ctx.status(400);
+                    ctx.json(Map.of(
+                        "erro", "Parâmetro inválido",
+                        "mensagem", "since deve ser um número de versão: " + since,
+                        "timestamp", System.currentTimeMillis(),
+                        "path", ctx.path()
+                    ));
+                    return;
+                }
+
+                logger.info("Respondendo mudanças desde a versão {} (atual {})", versao, snapshot.versao());
+                ctx.header("Cache-Control", "no-cache");
+                ctx.contentType("application/json");
+                ctx.result(service.movimentacoesDesde(versao, snapshot));
+                return;
+            }
+
+            // Filtros, ordenação e paginação: respondidos pelos índices do snapshot
+            FiltroMovimentacoes filtro;
+            try {
+                filtro = FiltroMovimentacoes.de(ctx::queryParam);
+
+            } catch (IllegalArgumentException e) {
+                ctx.status(400);
+                ctx.json(Map.of(
+                    "erro", "Parâmetro inválido",
+                    "mensagem", e.getMessage(),
+                    "timestamp", System.currentTimeMillis(),
+                    "path", ctx.path()
+                ));
+                return;
+            }
+
+            if (!filtro.semEfeito()) {
+                PaginaMovimentacoes pagina = snapshot.indice().consultar(filtro);
+                logger.info(
+                    "Respondendo {} de {} movimentações filtradas",
+                    pagina.movimentacoes().size(), pagina.total()
+                );
+                ctx.header("Cache-Control", "no-cache");
+                ctx.json(pagina);
+                return;
+            }
+
+            // JSON, gzip e ETag foram calculados uma vez, na publicação do snapshot
+            RepresentacaoJson json = snapshot.json();
+            boolean gzip = RepresentacaoJson.aceitaGzip(ctx.header("Accept-Encoding"));
+
+            ctx.header("ETag", gzip ? json.etagGzip() : json.etag());
+            ctx.header("Vary", "Accept-Encoding");
+            ctx.header("Cache-Control", "no-cache");
+
+            if (json.correspondeA(ctx.header("If-None-Match"))) {
+                logger.info("Cliente já possui a versão atual. Respondendo 304");
+                ctx.status(304);
+                return;
+            }
+
             logger.info(
                 "Respondendo com {} movimentações encontradas",
-                dados.size()
+                snapshot.movimentacoes().size()
             );
-            
-            // Javalin serializa automaticamente para JSON
-            ctx.json(dados);
+
+            // Bytes prontos: nenhuma serialização nem compressão no caminho da requisição
+            ctx.contentType("application/json");
+            if (gzip) {
+                ctx.header("Content-Encoding", "gzip");
+                ctx.result(json.gzip());
+            } else {
+                ctx.result(json.bytes());
+            }
+        });
+
+        // ===== ENDPOINT: /movimentacoes/historico =====
+        /**
+         * GET /movimentacoes/historico?de=...&ate=...&berco=...
+         *
+         * <p>Mudanças gravadas no histórico entre {@code de} e {@code ate}
+         * (epoch ms, ISO-8601 ou dd/MM/aaaa; padrão: últimas 24 horas),
+         * opcionalmente só de um berço. A resposta é escrita em streaming a
+         * partir dos segmentos mapeados em memória ({@link LeitorHistorico}).</p>
+         *
+         * <h3>Respostas:</h3>
+         * <ul>
+         *   <li><b>200 OK:</b> JSON com {@code registros} e {@code total}</li>
+         *   <li><b>400 Bad Request:</b> {@code de}/{@code ate} inválidos ou {@code de} depois de {@code ate}</li>
+         *   <li><b>404 Not Found:</b> Histórico desativado</li>
+         * </ul>
+         */
+        app.get("/movimentacoes/historico", ctx -> {
+            logger.info("Requisição recebida: GET /movimentacoes/historico");
+
+            if (leitorHistorico == null) {
+                ctx.status(404);
+                ctx.json(Map.of(
+                    "erro", "Histórico desativado",
+                    "mensagem", "Ative praticagem.historico.enabled para consultar o histórico",
+                    "timestamp", System.currentTimeMillis(),
+                    "path", ctx.path()
+                ));
+                return;
+            }
+
+            ConsultaHistorico consulta;
+            try {
+                consulta = ConsultaHistorico.de(
+                    ctx.queryParam("de"),
+                    ctx.queryParam("ate"),
+                    ctx.queryParam("berco"),
+                    System.currentTimeMillis()
+                );
+
+            } catch (IllegalArgumentException e) {
+                ctx.status(400);
+                ctx.json(Map.of(
+                    "erro", "Parâmetro inválido",
+                    "mensagem", e.getMessage(),
+                    "timestamp", System.currentTimeMillis(),
+                    "path", ctx.path()
+                ));
+                return;
+            }
+
+            // Sem corpo em memória: os registros vão do arquivo mapeado para a resposta
+            ctx.contentType("application/json");
+            ctx.header("Cache-Control", "no-cache");
+            long total = leitorHistorico.escrever(consulta, ctx.outputStream());
+            logger.info("Histórico: {} registro(s) entre {} e {}", total, consulta.de(), consulta.ate());
+        });
+
+        // ===== ENDPOINT: /movimentacoes/stream =====
+        /**
+         * GET /movimentacoes/stream
+         *
+         * <p>Server-Sent Events. Ao conectar, o cliente recebe o evento
+         * {@code snapshot} com a lista completa; a cada publicação com dados
+         * diferentes, recebe o evento {@code mudancas} com as movimentações
+         * adicionadas, removidas e alteradas.</p>
+         *
+         * <p>A conexão não ocupa thread: o {@link DifusorSse} enfileira os
+         * eventos de cada cliente e um pool fixo de threads de escrita se
+         * reveza entre as filas. Um cliente lento ocupa no máximo uma dessas
+         * threads e, se ficar 64 eventos para trás ou com uma escrita parada
+         * por mais de um heartbeat, é desconectado.</p>
+         */
+        app.sse("/movimentacoes/stream", difusor::conectar);
+
+        // ===== ENDPOINT: /navios/busca =====
+        /**
+         * GET /navios/busca?q=...&amp;limit=...
+         *
+         * <p>Busca navios pelo nome, sem diferenciar maiúsculas e acentos,
+         * aceitando nomes incompletos ("msc mar") e com erro de digitação.
+         * Responde a partir do {@link IndiceNavios}, sem percorrer o snapshot.</p>
+         *
+         * <h3>Respostas:</h3>
+         * <ul>
+         *   <li><b>200 OK:</b> JSON com {@code q} e {@code resultados}</li>
+         *   <li><b>400 Bad Request:</b> {@code q} ausente ou longo demais, ou {@code limit} inválido</li>
+         * </ul>
+         */
+        app.get("/navios/busca", ctx -> {
+            String q = ctx.queryParam("q");
+            String limit = ctx.queryParam("limit");
+
+            List<CorrespondenciaNavio> resultados;
+            try {
+                int limite = limit == null || limit.isBlank()
+                    ? IndiceNavios.LIMITE_PADRAO
+                    : Integer.parseInt(limit.trim());
+                resultados = indiceNavios.buscar(q, limite);
+
+            } catch (IllegalArgumentException e) {
+                // NumberFormatException também cai aqui
+                ctx.status(400);
+                ctx.json(Map.of(
+                    "erro", "Parâmetro inválido",
+                    "mensagem", e.getMessage(),
+                    "timestamp", System.currentTimeMillis(),
+                    "path", ctx.path()
+                ));
+                return;
+            }
+
+            logger.debug("Busca de navios \"{}\": {} resultado(s)", q, resultados.size());
+            ctx.header("Cache-Control", "no-cache");
+            ctx.json(Map.of("q", q, "resultados", resultados));
+        });
+
+        // ===== ENDPOINT: /movimentacoes/ws =====
+        /**
+         * WS /movimentacoes/ws
+         *
+         * <p>WebSocket com assinaturas por berço e por navio. O cliente envia
+         * {@code {"acao":"assinar","bercos":["201"],"navios":["MSC MARINA"]}} e
+         * passa a receber apenas as mudanças dessas movimentações.</p>
+         *
+         * <p>O roteamento usa índices de assinaturas no {@link HubWebSocket}:
+         * o custo de cada publicação cresce com os assinantes interessados,
+         * não com o total de conexões.</p>
+         */
+        app.ws("/movimentacoes/ws", hub::configurar);
+
+        // ===== ENDPOINT: /metrics =====
+        /**
+         * GET /metrics
+         *
+         * <p>Métricas no formato texto do Prometheus: latência de cada tentativa
+         * ao site, retentativas e bytes baixados; duração e linhas do parse;
+         * idade do snapshot, acertos do cache e latência por rota.</p>
+         */
+        app.get("/metrics", ctx -> {
+            ctx.contentType(RegistroMetricas.TIPO_CONTEUDO);
+            ctx.result(metricas.exportar());
         });
 
         // ===== ENDPOINT: /health =====
@@ -282,6 +746,11 @@ public class Main {
         logger.info("=== Aplicação pronta para receber requisições ===");
         logger.info("Endpoints disponíveis:");
         logger.info("  └─ GET http://localhost:{}/movimentacoes - Lista movimentações", porta);
+        logger.info("  └─ GET http://localhost:{}/movimentacoes/historico - Mudanças por período", porta);
+        logger.info("  └─ GET http://localhost:{}/navios/busca?q= - Busca de navios por nome", porta);
+        logger.info("  └─ GET http://localhost:{}/movimentacoes/stream - Mudanças em tempo real (SSE)", porta);
+        logger.info("  └─ WS  ws://localhost:{}/movimentacoes/ws - Mudanças por berço/navio", porta);
+        logger.info("  └─ GET http://localhost:{}/metrics - Métricas (Prometheus)", porta);
         logger.info("  └─ GET http://localhost:{}/health - Health check", porta);
         logger.info("====================================================");
         
@@ -291,7 +760,194 @@ public class Main {
             logger.info("Sinal de encerramento recebido (Ctrl+C)");
             logger.info("Parando servidor...");
             app.stop();
+            difusor.encerrar();
+            hub.encerrar();
+            if (pollerAtivo != null) {
+                pollerAtivo.encerrar();
+            }
+            service.encerrar();
+            if (leitorHistorico != null) {
+                leitorHistorico.close();
+            }
+            if (historicoAtivo != null) {
+                historicoAtivo.close();
+            }
             logger.info("✓ Aplicação encerrada com sucesso");
         }));
     }
+
+    /**
+     * Registra as métricas expostas em {@code GET /metrics}.
+     *
+     * <p>Nenhum componente conhece o registro: cada métrica lê, no scrape,
+     * os contadores que o componente já expõe por getters.</p>
+     *
+     * @param service Serviço (fetcher, parse e cache)
+     * @param metricasHttp Latência por rota
+     * @param difusor Clientes SSE
+     * @param hub Clientes WebSocket
+     * @param indiceNavios Consultas de busca
+     * @param historico Histórico em disco, ou {@code null} se desativado
+     * @return Registro pronto para exportar
+     */
+    private static RegistroMetricas criarMetricas(
+        MovimentacaoService service,
+        MetricasHttp metricasHttp,
+        DifusorSse difusor,
+        HubWebSocket hub,
+        IndiceNavios indiceNavios,
+        HistoricoMovimentacoes historico
+    ) {
+        RegistroMetricas metricas = new RegistroMetricas();
+        HtmlFetcher fetcher = service.getFetcher();
+
+        // ===== SITE DA PRATICAGEM =====
+        metricas.histograma(
+            "praticagem_fetch_tentativa_segundos",
+            "Duração de cada tentativa HTTP ao site, por resultado",
+            "resultado", fetcher::getLatenciaTentativas
+        );
+        metricas.contador(
+            "praticagem_fetch_retentativas_total",
+            "Tentativas repetidas após falha de rede ou status inesperado",
+            fetcher::getRetentativas
+        );
+        metricas.contador(
+            "praticagem_fetch_bytes_total",
+            "Bytes de corpo baixados do site (respostas 200)",
+            fetcher::getBytesBaixados
+        );
+        metricas.contador(
+            "praticagem_fetch_evitado_total",
+            "Buscas cujo parse foi evitado, por motivo",
+            "motivo", Map.of(
+                "nao_modificado", service::getRespostasNaoModificadas,
+                "hash_igual", service::getHashAcertos
+            )
+        );
+
+        // ===== PARSE =====
+        metricas.histograma(
+            "praticagem_parse_segundos",
+            "Duração do parse da tabela de movimentação",
+            service.getDuracaoParse()
+        );
+        metricas.medidor(
+            "praticagem_parse_linhas",
+            "Linhas extraídas pelo último parse",
+            () -> service.getLinhasUltimoParse() < 0 ? Double.NaN : service.getLinhasUltimoParse()
+        );
+        metricas.contador(
+            "praticagem_parse_linhas_total",
+            "Linhas extraídas por todos os parses",
+            service::getLinhasParseadas
+        );
+        metricas.medidor(
+            "praticagem_pool_textos_taxa_acerto",
+            "Fração das células reaproveitadas do pool de textos",
+            () -> PoolTextos.estatisticas().taxaAcerto()
+        );
+        metricas.medidor(
+            "praticagem_pool_textos_bytes_poupados",
+            "Heap estimado que a lista do último parse poupa com o pool de textos",
+            () -> service.getBytesPoupadosUltimoParse() < 0 ? Double.NaN : service.getBytesPoupadosUltimoParse()
+        );
+
+        // ===== ATENDIMENTO =====
+        metricas.medidor(
+            "praticagem_snapshot_idade_segundos",
+            "Idade do snapshot servido (desde a coleta)",
+            () -> service.snapshotAtual()
+                .map(s -> (System.currentTimeMillis() - s.obtidoEm()) / 1000.0)
+                .orElse(Double.NaN)
+        );
+        metricas.medidor(
+            "praticagem_snapshot_versao",
+            "Versão do snapshot servido",
+            () -> service.snapshotAtual().map(s -> (double) s.versao()).orElse(Double.NaN)
+        );
+        metricas.contador(
+            "praticagem_cache_leituras_total",
+            "Leituras do snapshot em memória, por resultado",
+            "resultado", Map.of(
+                "acerto", service::getLeiturasAcerto,
+                "obsoleto", service::getLeiturasObsoletas,
+                "falta", service::getLeiturasFalta
+            )
+        );
+        metricas.medidor(
+            "praticagem_cache_taxa_acerto",
+            "Fração das leituras servidas da memória (acerto + obsoleto)",
+            () -> {
+                double servidas = service.getLeiturasAcerto() + service.getLeiturasObsoletas();
+                double total = servidas + service.getLeiturasFalta();
+                return total == 0 ? Double.NaN : servidas / total;
+            }
+        );
+        metricas.histograma(
+            "praticagem_http_requisicao_segundos",
+            "Latência das requisições HTTP, por rota",
+            "rota", metricasHttp::porRota
+        );
+        metricas.medidor(
+            "praticagem_clientes_sse",
+            "Clientes conectados em /movimentacoes/stream",
+            difusor::getClientesConectados
+        );
+        metricas.contador(
+            "praticagem_clientes_sse_descartados_total",
+            "Clientes SSE desconectados por ficarem para trás",
+            difusor::getClientesDescartados
+        );
+        metricas.medidor(
+            "praticagem_clientes_ws",
+            "Clientes conectados em /movimentacoes/ws",
+            hub::getClientesConectados
+        );
+        metricas.contador(
+            "praticagem_clientes_ws_descartados_total",
+            "Sessões WebSocket fechadas por ficarem para trás",
+            hub::getSessoesDescartadas
+        );
+        metricas.contador(
+            "praticagem_busca_navios_total",
+            "Consultas em /navios/busca",
+            indiceNavios::getConsultas
+        );
+        if (historico != null) {
+            metricas.contador(
+                "praticagem_historico_versoes_total",
+                "Versões gravadas no histórico em disco",
+                historico::getVersoesGravadas
+            );
+        }
+
+        return metricas;
+    }
+
+    /**
+     * Cria o parser conforme {@code praticagem.parser.modo}.
+     *
+     * <ul>
+     *   <li><b>dom:</b> {@link HtmlParser}, constrói o documento com Jsoup (padrão)</li>
+     *   <li><b>streaming:</b> {@link StreamingHtmlParser}, varre o HTML sem DOM
+     *       e para no fim da tabela de movimentação</li>
+     * </ul>
+     *
+     * <p>Valores desconhecidos são logados e tratados como {@code dom}.</p>
+     *
+     * @param modo Valor da configuração
+     * @return Parser correspondente
+     */
+    private static HtmlParser criarParser(String modo) {
+
+        if ("streaming".equalsIgnoreCase(modo.trim())) {
+            return new StreamingHtmlParser();
+        }
+
+        if (!"dom".equalsIgnoreCase(modo.trim())) {
+            logger.warn("praticagem.parser.modo desconhecido '{}'. Usando 'dom'", modo);
+        }
+        return new HtmlParser();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package br.dev.marcus.praticagem.busca;
+
+/**
+ * Um navio encontrado por {@link IndiceNavios#buscar(String, int)}.
+ *
+ * <pre>
+ * {"navio":"MSC CARLOTTA","tipo":"PREFIXO","similaridade":1.0,"movimentacoes":2}
+ * </pre>
+ *
+ * @param navio Nome como publicado pelo site
+ * @param tipo Como o nome casou com a consulta (a ordem do enum é a ordem de relevância)
+ * @param similaridade Fração dos trigramas da consulta presentes no nome (0 a 1)
+ * @param movimentacoes Linhas do snapshot atual com esse navio
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+public record CorrespondenciaNavio(
+    String navio,
+    Tipo tipo,
+    double similaridade,
+    int movimentacoes
+) {
+
+    /**
+     * Tipo de correspondência, do mais para o menos relevante.
+     */
+    public enum Tipo {
+        /** Nome idêntico à consulta (depois de normalizados). */
+        EXATO,
+        /** Nome começa com a consulta. */
+        PREFIXO,
+        /** Cada palavra da consulta começa uma palavra do nome, na ordem. */
+        PALAVRAS,
+        /** Trigramas suficientes em comum (erro de digitação). */
+        APROXIMADO
+    }
+}
@@ -0,0 +1,392 @@
+package br.dev.marcus.praticagem.busca;
+
+import br.dev.marcus.praticagem.diff.ConjuntoMudancas;
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+import br.dev.marcus.praticagem.parser.NormalizadorTexto;
+import br.dev.marcus.praticagem.service.MovimentacaoService;
+import br.dev.marcus.praticagem.service.MovimentacaoSnapshot;
+import br.dev.marcus.praticagem.service.OuvinteSnapshot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Índice de busca por nome de navio, tolerante a acento, caixa, nome
+ * incompleto e erro de digitação ({@code GET /navios/busca?q=}).
+ *
+ * <h2>Trigramas</h2>
+ * <p>Cada nome normalizado (mesmas regras do parser, via
+ * {@link NormalizadorTexto}) é quebrado em trigramas, com dois espaços no
+ * início e um no fim para valorizar o começo do nome:</p>
+ *
+ * <pre>
+ *  "msc marina" → "  m", " ms", "msc", "sc ", "c m", " ma", "mar", "ari", "rin", "ina", "na "
+ *
+ *  trigrama → nomes            "mar" → { "msc marina", "maersk ..." }
+ * </pre>
+ *
+ * <p>A consulta recebe o mesmo tratamento (sem o espaço final, já que
+ * costuma ser um nome pela metade), soma quantos trigramas cada nome
+ * compartilha e classifica:</p>
+ *
+ * <ol>
+ *   <li>{@link CorrespondenciaNavio.Tipo#EXATO EXATO}: o nome inteiro</li>
+ *   <li>{@link CorrespondenciaNavio.Tipo#PREFIXO PREFIXO}: o nome começa com a consulta ("msc mar")</li>
+ *   <li>{@link CorrespondenciaNavio.Tipo#PALAVRAS PALAVRAS}: cada palavra da consulta começa
+ *       uma palavra do nome, na ordem ("marina", "msc mna")</li>
+ *   <li>{@link CorrespondenciaNavio.Tipo#APROXIMADO APROXIMADO}: pelo menos
+ *       {@link #SIMILARIDADE_MINIMA} dos trigramas da consulta ("msc marna")</li>
+ * </ol>
+ *
+ * <h2>Atualização Incremental</h2>
+ * <p>O índice é um {@link OuvinteSnapshot}. A cada versão nova, aplica só o
+ * {@link ConjuntoMudancas} do snapshot: linhas adicionadas somam uma
+ * referência ao nome, removidas subtraem, e um nome só sai do índice (com
+ * seus trigramas) quando a última linha dele some. A reconstrução completa
+ * só acontece quando o snapshot anterior não é o que o índice conhece
+ * (primeira publicação ou snapshot restaurado do histórico).</p>
+ *
+ * <p>Publicações e consultas são sincronizadas no próprio índice: com
+ * algumas centenas de nomes, uma consulta leva microssegundos.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see CorrespondenciaNavio
+ */
+public class IndiceNavios implements OuvinteSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(IndiceNavios.class);
+
+    /**
+     * Fração mínima dos trigramas da consulta que um nome precisa ter para
+     * entrar como {@link CorrespondenciaNavio.Tipo#APROXIMADO}.
+     */
+    public static final double SIMILARIDADE_MINIMA = 0.5;
+
+    /**
+     * Maior consulta aceita, em caracteres.
+     */
+    public static final int TAMANHO_MAXIMO_CONSULTA = 100;
+
+    /**
+     * Resultados devolvidos quando {@code limit} não é informado.
+     */
+    public static final int LIMITE_PADRAO = 10;
+
+    /**
+     * Maior {@code limit} aceito.
+     */
+    public static final int LIMITE_MAXIMO = 50;
+
+    /**
+     * Espaços internos repetidos, compilada uma única vez.
+     */
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+
+    private static final Comparator<CorrespondenciaNavio> RELEVANCIA = Comparator
+        .comparing(CorrespondenciaNavio::tipo)
+        .thenComparing(Comparator.comparingDouble(CorrespondenciaNavio::similaridade).reversed())
+        .thenComparingInt(c -> c.navio().length())
+        .thenComparing(CorrespondenciaNavio::navio);
+
+    private final MovimentacaoService service;
+
+    /**
+     * Nome normalizado → entrada (nome publicado e linhas que o citam).
+     */
+    private final Map<String, Entrada> nomes = new HashMap<>();
+
+    /**
+     * Trigrama → nomes normalizados que o contêm.
+     */
+    private final Map<String, Set<String>> trigramas = new HashMap<>();
+
+    /**
+     * Último snapshot aplicado (renovados substituem sem mexer no índice).
+     */
+    private MovimentacaoSnapshot base;
+
+    private final LongAdder consultas = new LongAdder();
+    private final LongAdder atualizacoes = new LongAdder();
+    private final LongAdder reconstrucoes = new LongAdder();
+
+    /**
+     * Cria o índice. Nada é indexado até {@link #iniciar()}.
+     *
+     * @param service Serviço de onde vêm os snapshots
+     */
+    public IndiceNavios(MovimentacaoService service) {
+        this.service = service;
+    }
+
+    /**
+     * Passa a acompanhar as publicações e indexa o snapshot atual, se houver.
+     */
+    public void iniciar() {
+        // Registra antes de ler o estado atual: nenhuma publicação se perde
+        service.adicionarOuvinte(this);
+        service.snapshotAtual().ifPresent(atual -> snapshotPublicado(null, atual));
+        logger.info("Índice de navios iniciado ({} nomes)", getNavios());
+    }
+
+    @Override
+    public synchronized void snapshotPublicado(MovimentacaoSnapshot anterior, MovimentacaoSnapshot novo) {
+
+        if (base != null && novo.versao() <= base.versao()) {
+            if (novo.versao() == base.versao()) {
+                // Renovado: mesmos dados
+                base = novo;
+            }
+            return;
+        }
+
+        if (base != null && anterior == base) {
+            aplicar(novo.mudancas());
+            atualizacoes.increment();
+        } else {
+            reconstruir(novo.movimentacoes());
+            reconstrucoes.increment();
+        }
+        base = novo;
+    }
+
+    /**
+     * Busca navios pelo nome.
+     *
+     * @param consulta Texto digitado (qualquer caixa, com ou sem acento)
+     * @param limite Máximo de resultados
+     * @return Navios encontrados, do mais relevante para o menos
+     * @throws IllegalArgumentException se a consulta for vazia ou longa demais,
+     *         ou o limite estiver fora de {@code 1..}{@link #LIMITE_MAXIMO}
+     */
+    public List<CorrespondenciaNavio> buscar(String consulta, int limite) {
+
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new IllegalArgumentException("limit deve estar entre 1 e " + LIMITE_MAXIMO + ": " + limite);
+        }
+        String termo = normalizar(consulta);
+        if (termo.isEmpty()) {
+            throw new IllegalArgumentException("q não pode ser vazio");
+        }
+        if (termo.length() > TAMANHO_MAXIMO_CONSULTA) {
+            throw new IllegalArgumentException("q deve ter no máximo " + TAMANHO_MAXIMO_CONSULTA + " caracteres");
+        }
+        consultas.increment();
+
+        Set<String> trigramasConsulta = trigramas(termo, false);
+        String[] palavras = termo.split(" ");
+
+        List<CorrespondenciaNavio> resultado = new ArrayList<>();
+        synchronized (this) {
+            Map<String, Integer> compartilhados = new HashMap<>();
+            for (String trigrama : trigramasConsulta) {
+                for (String nome : trigramas.getOrDefault(trigrama, Set.of())) {
+                    compartilhados.merge(nome, 1, Integer::sum);
+                }
+            }
+
+            for (Map.Entry<String, Integer> candidato : compartilhados.entrySet()) {
+                String nome = candidato.getKey();
+                double similaridade = (double) candidato.getValue() / trigramasConsulta.size();
+                CorrespondenciaNavio.Tipo tipo = classificar(nome, termo, palavras, similaridade);
+                if (tipo != null) {
+                    Entrada entrada = nomes.get(nome);
+                    resultado.add(new CorrespondenciaNavio(entrada.publicado, tipo, similaridade, entrada.referencias));
+                }
+            }
+        }
+
+        resultado.sort(RELEVANCIA);
+        return resultado.size() > limite ? List.copyOf(resultado.subList(0, limite)) : resultado;
+    }
+
+    /**
+     * Quantidade de nomes distintos indexados.
+     *
+     * @return Total de navios no índice
+     */
+    public synchronized int getNavios() {
+        return nomes.size();
+    }
+
+    /**
+     * Quantidade de trigramas distintos indexados.
+     *
+     * @return Total de listas de trigramas
+     */
+    public synchronized int getTrigramas() {
+        return trigramas.size();
+    }
+
+    /**
+     * Buscas respondidas desde a inicialização.
+     *
+     * @return Quantidade de buscas
+     */
+    public long getConsultas() {
+        return consultas.sum();
+    }
+
+    /**
+     * Versões aplicadas a partir do conjunto de mudanças, sem reconstruir.
+     *
+     * @return Quantidade de atualizações incrementais
+     */
+    public long getAtualizacoesIncrementais() {
+        return atualizacoes.sum();
+    }
+
+    /**
+     * Vezes em que o índice foi montado do zero.
+     *
+     * @return Quantidade de reconstruções
+     */
+    public long getReconstrucoes() {
+        return reconstrucoes.sum();
+    }
+
+    // ===== MANUTENÇÃO (sob a trava do índice) =====
+
+    /**
+     * Soma antes de subtrair: um navio que troca de linha (removida e
+     * adicionada na mesma versão) não sai do índice nem tem os trigramas refeitos.
+     */
+    private void aplicar(ConjuntoMudancas mudancas) {
+        mudancas.adicionadas().forEach(this::adicionar);
+        mudancas.alteradas().forEach(this::adicionar);
+        mudancas.removidas().forEach(this::remover);
+        mudancas.alteradasAntes().forEach(this::remover);
+    }
+
+    private void reconstruir(List<NavioMovimentacao> movimentacoes) {
+        nomes.clear();
+        trigramas.clear();
+        movimentacoes.forEach(this::adicionar);
+    }
+
+    private void adicionar(NavioMovimentacao movimentacao) {
+
+        String nome = normalizar(movimentacao.navio());
+        if (nome.isEmpty()) {
+            return;
+        }
+
+        Entrada entrada = nomes.get(nome);
+        if (entrada != null) {
+            entrada.referencias++;
+            return;
+        }
+
+        nomes.put(nome, new Entrada(movimentacao.navio().strip()));
+        for (String trigrama : trigramas(nome, true)) {
+            trigramas.computeIfAbsent(trigrama, t -> new HashSet<>(4)).add(nome);
+        }
+    }
+
+    private void remover(NavioMovimentacao movimentacao) {
+
+        String nome = normalizar(movimentacao.navio());
+        Entrada entrada = nomes.get(nome);
+        if (entrada == null || --entrada.referencias > 0) {
+            return;
+        }
+
+        nomes.remove(nome);
+        for (String trigrama : trigramas(nome, true)) {
+            Set<String> lista = trigramas.get(trigrama);
+            if (lista != null && lista.remove(nome) && lista.isEmpty()) {
+                trigramas.remove(trigrama);
+            }
+        }
+    }
+
+    // ===== TEXTO =====
+
+    /**
+     * Classifica um candidato, ou {@code null} se ele não é relevante.
+     */
+    private static CorrespondenciaNavio.Tipo classificar(
+        String nome, String termo, String[] palavras, double similaridade
+    ) {
+        if (nome.equals(termo)) {
+            return CorrespondenciaNavio.Tipo.EXATO;
+        }
+        if (nome.startsWith(termo)) {
+            return CorrespondenciaNavio.Tipo.PREFIXO;
+        }
+        if (palavrasEmOrdem(nome, palavras)) {
+            return CorrespondenciaNavio.Tipo.PALAVRAS;
+        }
+        return similaridade >= SIMILARIDADE_MINIMA ? CorrespondenciaNavio.Tipo.APROXIMADO : null;
+    }
+
+    /**
+     * Cada palavra da consulta começa alguma palavra do nome, na mesma ordem.
+     */
+    private static boolean palavrasEmOrdem(String nome, String[] palavras) {
+        int desde = 0;
+        for (String palavra : palavras) {
+            int posicao = inicioDePalavra(nome, palavra, desde);
+            if (posicao < 0) {
+                return false;
+            }
+            desde = posicao + palavra.length();
+        }
+        return true;
+    }
+
+    private static int inicioDePalavra(String nome, String palavra, int desde) {
+        for (int i = nome.indexOf(palavra, desde); i >= 0; i = nome.indexOf(palavra, i + 1)) {
+            if (i == 0 || nome.charAt(i - 1) == ' ') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Trigramas distintos do texto normalizado, com dois espaços à esquerda
+     * e, para nomes completos, um à direita.
+     */
+    static Set<String> trigramas(String normalizado, boolean completo) {
+        String texto = "  " + normalizado + (completo ? " " : "");
+        Set<String> resultado = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= texto.length(); i++) {
+            resultado.add(texto.substring(i, i + 3));
+        }
+        return resultado;
+    }
+
+    /**
+     * Normalização do parser (sem acento, minúsculas) com espaços internos colapsados.
+     */
+    static String normalizar(String texto) {
+        return ESPACOS.matcher(NormalizadorTexto.dobrar(texto)).replaceAll(" ");
+    }
+
+    /**
+     * Nome como publicado e quantas linhas do snapshot o citam.
+     */
+    private static final class Entrada {
+
+        private final String publicado;
+        private int referencias = 1;
+
+        private Entrada(String publicado) {
+            this.publicado = publicado;
+        }
+    }
+}
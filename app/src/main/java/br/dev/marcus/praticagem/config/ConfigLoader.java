@@ -37,6 +37,8 @@ import java.util.Properties;
  * int port = config.getInt("server.port", 7000);
  * int maxRetries = config.getInt("praticagem.maxRetries", 3);
  * int retryBackoff = config.getInt("praticagem.retryBackoff", 2000);
+ * boolean cache = config.getBoolean("praticagem.cache.enabled", true);
+ * long cacheTtl = config.getLong("praticagem.cache.ttlMs", 60000);
  * 
  * // Em produção, sobrescrever via env var:
  * // export PRATICAGEM_URL=https://outro-site.com
@@ -191,6 +193,32 @@ public class ConfigLoader {
         }
     }
 
+    /**
+     * Busca valor inteiro longo com valor padrão.
+     * 
+     * <p>Útil para durações em milissegundos (ex: {@code praticagem.cache.ttlMs}).</p>
+     * 
+     * @param key Chave da propriedade
+     * @param defaultValue Valor padrão se não encontrar ou não for número válido
+     * @return Valor long parseado ou defaultValue
+     */
+    public long getLong(String key, long defaultValue) {
+        String value = get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn(
+                "Valor inválido para '{}': '{}'. Usando padrão: {}",
+                key, value, defaultValue
+            );
+            return defaultValue;
+        }
+    }
+
     /**
      * Busca valor booleano com valor padrão.
      * 
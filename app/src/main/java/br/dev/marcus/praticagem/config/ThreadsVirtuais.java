@@ -0,0 +1,117 @@
+package br.dev.marcus.praticagem.config;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Acesso às virtual threads (Java 21) a partir de código compilado para Java 17.
+ *
+ * <p>O projeto ainda compila com toolchain 17, onde {@code Thread.ofVirtual()}
+ * não existe. A API é localizada por reflexão uma única vez: rodando em um
+ * JDK 21 (ou 19/20 com {@code --enable-preview}), {@link #disponiveis()} é
+ * {@code true}; em JDKs anteriores, quem pediu o modo
+ * {@code server.virtualThreads} recebe o aviso e segue com threads de plataforma.</p>
+ *
+ * <pre>{@code
+ * if (ThreadsVirtuais.disponiveis()) {
+ *     Executor executor = ThreadsVirtuais.executorPorTarefa("http-");
+ *     executor.execute(() -> ...);   // uma virtual thread nova por tarefa
+ * }
+ * }</pre>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+public final class ThreadsVirtuais {
+
+    /**
+     * {@code Thread.ofVirtual()}, ou {@code null} se o JDK não tiver virtual threads.
+     */
+    private static final MethodHandle OF_VIRTUAL;
+
+    /**
+     * {@code Thread.Builder.name(String, long)}.
+     */
+    private static final MethodHandle NOME;
+
+    /**
+     * {@code Thread.Builder.factory()}.
+     */
+    private static final MethodHandle FABRICA;
+
+    static {
+        MethodHandle ofVirtual = null;
+        MethodHandle nome = null;
+        MethodHandle fabrica = null;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(
+                Class.forName("java.lang.Thread$Builder$OfVirtual")
+            ));
+            nome = lookup.findVirtual(builder, "name", MethodType.methodType(builder, String.class, long.class));
+            fabrica = lookup.findVirtual(builder, "factory", MethodType.methodType(ThreadFactory.class));
+
+            // Em 19/20 sem --enable-preview o método existe, mas lança na chamada
+            ofVirtual.invoke();
+
+        } catch (Throwable e) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        NOME = nome;
+        FABRICA = fabrica;
+    }
+
+    private ThreadsVirtuais() {
+    }
+
+    /**
+     * @return {@code true} se o JDK em execução cria virtual threads
+     */
+    public static boolean disponiveis() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Fábrica de virtual threads nomeadas {@code prefixo0}, {@code prefixo1}, ...
+     *
+     * @param prefixo Prefixo do nome das threads
+     * @return Fábrica de virtual threads
+     * @throws IllegalStateException se o JDK não tiver virtual threads
+     */
+    public static ThreadFactory fabrica(String prefixo) {
+
+        if (!disponiveis()) {
+            throw new IllegalStateException(
+                "Virtual threads indisponíveis no Java " + Runtime.version().feature()
+                    + " (requer Java 21, ou 19/20 com --enable-preview)"
+            );
+        }
+
+        try {
+            Object builder = OF_VIRTUAL.invoke();
+            return (ThreadFactory) FABRICA.invoke(NOME.invoke(builder, prefixo, 0L));
+
+        } catch (Throwable e) {
+            throw new IllegalStateException("Falha ao criar fábrica de virtual threads", e);
+        }
+    }
+
+    /**
+     * Executor que inicia uma virtual thread nova para cada tarefa, sem pool
+     * (virtual threads são baratas demais para valer a pena reaproveitar).
+     *
+     * @param prefixo Prefixo do nome das threads
+     * @return Executor de virtual threads
+     * @throws IllegalStateException se o JDK não tiver virtual threads
+     */
+    public static Executor executorPorTarefa(String prefixo) {
+        ThreadFactory fabrica = fabrica(prefixo);
+        return tarefa -> fabrica.newThread(tarefa).start();
+    }
+}
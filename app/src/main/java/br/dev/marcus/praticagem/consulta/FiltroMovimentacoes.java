@@ -0,0 +1,247 @@
+package br.dev.marcus.praticagem.consulta;
+
+import br.dev.marcus.praticagem.historico.ConsultaHistorico;
+import br.dev.marcus.praticagem.model.MovimentacaoTipada;
+import br.dev.marcus.praticagem.model.SituacaoMovimentacao;
+import br.dev.marcus.praticagem.model.TipoManobra;
+import br.dev.marcus.praticagem.parser.NormalizadorTexto;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Filtros, ordenação e paginação de {@code GET /movimentacoes}.
+ *
+ * <pre>
+ *  ?berco=PNAVE 01                 berço exato (sem diferenciar caixa/acento)
+ *  ?navio=msc                      navios cujo nome começa com "msc"
+ *  ?manobra=saida                  enum ou texto do site ("Saída")
+ *  ?situacao=atracado
+ *  ?de=2026-02-22&amp;ate=23/02/2026   período da movimentação (mesmos formatos do histórico)
+ *  ?sort=-data                     site (padrão), data, navio ou berco; "-" inverte
+ *  ?limit=20&amp;offset=40             paginação
+ * </pre>
+ *
+ * <p>Textos já chegam normalizados ({@link NormalizadorTexto}) e o período
+ * já convertido para a escala de {@link MovimentacaoTipada#minuto()}: a
+ * consulta no índice não interpreta mais nada.</p>
+ *
+ * @param berco Berço normalizado, ou {@code null}
+ * @param navio Prefixo normalizado do nome do navio, ou {@code null}
+ * @param manobra Tipo de manobra, ou {@code null}
+ * @param situacao Situação, ou {@code null}
+ * @param de Início do período em minutos epoch (inclusivo), ou {@link Integer#MIN_VALUE}
+ * @param ate Fim do período em minutos epoch (inclusivo), ou {@link Integer#MAX_VALUE}
+ * @param ordenacao Campo de ordenação
+ * @param decrescente Inverte a ordenação
+ * @param limit Máximo de movimentações na página, ou {@code null} para todas
+ * @param offset Movimentações a pular antes da página
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see IndiceMovimentacoes#consultar(FiltroMovimentacoes)
+ */
+public record FiltroMovimentacoes(
+    String berco,
+    String navio,
+    TipoManobra manobra,
+    SituacaoMovimentacao situacao,
+    int de,
+    int ate,
+    Ordenacao ordenacao,
+    boolean decrescente,
+    Integer limit,
+    int offset
+) {
+
+    /**
+     * Filtro sem efeito: lista completa, na ordem do site.
+     */
+    public static final FiltroMovimentacoes NENHUM = new FiltroMovimentacoes(
+        null, null, null, null, Integer.MIN_VALUE, Integer.MAX_VALUE, Ordenacao.SITE, false, null, 0
+    );
+
+    /**
+     * Campos pelos quais a resposta pode ser ordenada.
+     */
+    public enum Ordenacao {
+        /** Ordem em que o site publica as linhas. */
+        SITE,
+        /** Ordem cronológica ({@link MovimentacaoTipada#CRONOLOGICA}). */
+        DATA,
+        /** Nome do navio normalizado. */
+        NAVIO,
+        /** Berço normalizado. */
+        BERCO
+    }
+
+    /**
+     * Construtor canônico: valida período e paginação.
+     *
+     * @throws IllegalArgumentException se {@code de} for posterior a {@code ate},
+     *         {@code limit} não for positivo ou {@code offset} for negativo
+     */
+    public FiltroMovimentacoes {
+        if (de > ate) {
+            throw new IllegalArgumentException("Período inválido: de é posterior a ate");
+        }
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("limit deve ser maior que zero: " + limit);
+        }
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset não pode ser negativo: " + offset);
+        }
+        if (ordenacao == null) {
+            ordenacao = Ordenacao.SITE;
+        }
+    }
+
+    /**
+     * Monta o filtro a partir dos parâmetros da requisição.
+     *
+     * @param parametro Busca um parâmetro pelo nome ({@code ctx::queryParam}); devolve {@code null} se ausente
+     * @return Filtro pronto (ou {@link #NENHUM} sem parâmetros)
+     * @throws IllegalArgumentException se algum parâmetro for inválido
+     */
+    public static FiltroMovimentacoes de(Function<String, String> parametro) {
+
+        String berco = texto(parametro.apply("berco"));
+        String navio = texto(parametro.apply("navio"));
+        String de = parametro.apply("de");
+        String ate = parametro.apply("ate");
+        String sort = parametro.apply("sort");
+
+        boolean decrescente = false;
+        Ordenacao ordenacao = Ordenacao.SITE;
+        if (!vazio(sort)) {
+            String campo = sort.trim();
+            decrescente = campo.startsWith("-");
+            try {
+                ordenacao = Ordenacao.valueOf(campo.substring(decrescente ? 1 : 0).toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("sort deve ser site, data, navio ou berco (\"-\" inverte): " + sort);
+            }
+        }
+
+        return new FiltroMovimentacoes(
+            berco,
+            navio,
+            enumerado("manobra", parametro.apply("manobra"), TipoManobra.class,
+                TipoManobra::de, TipoManobra.DESCONHECIDA),
+            enumerado("situacao", parametro.apply("situacao"), SituacaoMovimentacao.class,
+                SituacaoMovimentacao::de, SituacaoMovimentacao.DESCONHECIDA),
+            vazio(de) ? Integer.MIN_VALUE : MovimentacaoTipada.minutoDe(ConsultaHistorico.instante("de", de, false)),
+            vazio(ate) ? Integer.MAX_VALUE : MovimentacaoTipada.minutoDe(ConsultaHistorico.instante("ate", ate, true)),
+            ordenacao,
+            decrescente,
+            vazio(parametro.apply("limit")) ? null : inteiro("limit", parametro.apply("limit")),
+            vazio(parametro.apply("offset")) ? 0 : inteiro("offset", parametro.apply("offset"))
+        );
+    }
+
+    /**
+     * Indica se o filtro não muda nada na lista: sem filtros, na ordem do
+     * site e sem paginação. Nesse caso a rota serve o JSON pré-serializado.
+     *
+     * @return {@code true} se a resposta seria a lista completa
+     */
+    public boolean semEfeito() {
+        return !filtra() && ordenacao == Ordenacao.SITE && !decrescente && limit == null && offset == 0;
+    }
+
+    /**
+     * Indica se algum filtro (berço, navio, manobra, situação ou período) foi informado.
+     *
+     * @return {@code true} se nem toda movimentação é aceita
+     */
+    public boolean filtra() {
+        return berco != null || navio != null || manobra != null || situacao != null || temPeriodo();
+    }
+
+    /**
+     * Indica se há filtro de período.
+     *
+     * @return {@code true} se {@code de} ou {@code ate} foi informado
+     */
+    public boolean temPeriodo() {
+        return de != Integer.MIN_VALUE || ate != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Verifica se uma movimentação passa em todos os filtros.
+     *
+     * <p>Sem horário ("TBC"), a movimentação ocupa o dia inteiro e entra no
+     * período se o dia tiver alguma interseção com ele. Sem data, nunca entra
+     * em um período.</p>
+     *
+     * @param tipada Movimentação interpretada
+     * @param codigoBerco Código do berço filtrado em {@link br.dev.marcus.praticagem.model.TabelaBercos}
+     * @param nomeNavio Nome do navio normalizado (só consultado se há filtro de navio)
+     * @return {@code true} se a movimentação deve estar no resultado
+     */
+    boolean aceita(MovimentacaoTipada tipada, int codigoBerco, String nomeNavio) {
+
+        if (berco != null && tipada.berco() != codigoBerco) {
+            return false;
+        }
+        if (manobra != null && tipada.manobra() != manobra) {
+            return false;
+        }
+        if (situacao != null && tipada.situacao() != situacao) {
+            return false;
+        }
+        if (navio != null && !nomeNavio.startsWith(navio)) {
+            return false;
+        }
+        if (!temPeriodo()) {
+            return true;
+        }
+        if (!tipada.temData()) {
+            return false;
+        }
+        long inicio = tipada.minuto();
+        long fim = tipada.horarioDefinido() ? inicio : inicio + MovimentacaoTipada.MINUTOS_DIA - 1;
+        return inicio <= ate && fim >= de;
+    }
+
+    private static <E extends Enum<E>> E enumerado(
+        String nome,
+        String valor,
+        Class<E> tipo,
+        Function<String, E> reconhecer,
+        E desconhecida
+    ) {
+        if (vazio(valor)) {
+            return null;
+        }
+
+        // Nome do enum ("SAIDA", "em_andamento") ou texto como o site publica ("Saída")
+        try {
+            return Enum.valueOf(tipo, valor.trim().toUpperCase(Locale.ROOT).replace(' ', '_'));
+        } catch (IllegalArgumentException e) {
+            E reconhecido = reconhecer.apply(valor);
+            if (reconhecido == desconhecida) {
+                throw new IllegalArgumentException(nome + " não reconhecida: " + valor);
+            }
+            return reconhecido;
+        }
+    }
+
+    private static int inteiro(String nome, String valor) {
+        try {
+            return Integer.parseInt(valor.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(nome + " deve ser um número inteiro: " + valor);
+        }
+    }
+
+    private static String texto(String valor) {
+        return vazio(valor) ? null : NormalizadorTexto.dobrar(valor);
+    }
+
+    private static boolean vazio(String valor) {
+        return valor == null || valor.isBlank();
+    }
+}
@@ -0,0 +1,321 @@
+package br.dev.marcus.praticagem.consulta;
+
+import br.dev.marcus.praticagem.model.MovimentacaoTipada;
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+import br.dev.marcus.praticagem.model.SituacaoMovimentacao;
+import br.dev.marcus.praticagem.model.TabelaBercos;
+import br.dev.marcus.praticagem.model.TipoManobra;
+import br.dev.marcus.praticagem.parser.NormalizadorTexto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Índices secundários de um snapshot, montados uma vez na publicação e
+ * usados para responder {@code GET /movimentacoes} com filtros.
+ *
+ * <pre>
+ *  posições na lista do snapshot: 0..n-1
+ *
+ *  porBerco     código do berço → [posições]         HashMap
+ *  porSituacao  situação        → [posições]         EnumMap
+ *  porManobra   manobra         → [posições]         EnumMap
+ *  porTempo     [posições em ordem cronológica]      + chaves (minuto) para busca binária
+ *  navios       prefixo do nome → [posições]         {@link TrieNavios}
+ *  ordens       posição → colocação por data/navio/berço (para ordenar o resultado)
+ * </pre>
+ *
+ * <h2>Custo por Requisição</h2>
+ * <p>Cada filtro informado aponta uma lista de candidatas já pronta (a faixa
+ * do período sai de duas buscas binárias). A consulta percorre apenas a
+ * <b>menor</b> delas, conferindo os demais filtros linha a linha, e ordena
+ * só o que passou. O custo é proporcional ao resultado do filtro mais
+ * seletivo, não ao tamanho do snapshot. Sem filtros, a página sai direto
+ * da ordem pré-calculada, sem percorrer a lista.</p>
+ *
+ * <p>Imutável depois de montado: compartilhado por todas as requisições
+ * sem sincronização, como o próprio snapshot.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see br.dev.marcus.praticagem.service.MovimentacaoSnapshot#indice()
+ */
+public final class IndiceMovimentacoes {
+
+    private static final int[] NENHUMA = new int[0];
+
+    private final List<MovimentacaoTipada> tipadas;
+    private final String[] navios;
+
+    private final Map<Integer, int[]> porBerco;
+    private final Map<SituacaoMovimentacao, int[]> porSituacao;
+    private final Map<TipoManobra, int[]> porManobra;
+    private final TrieNavios trie;
+
+    private final int[] porTempo;
+    private final int[] chavesTempo;
+    private final int[] porNavio;
+    private final int[] porBercoOrdenado;
+
+    private final int[] colocacaoTempo;
+    private final int[] colocacaoNavio;
+    private final int[] colocacaoBerco;
+
+    private IndiceMovimentacoes(List<MovimentacaoTipada> tipadas) {
+
+        int n = tipadas.size();
+        this.tipadas = List.copyOf(tipadas);
+        this.navios = new String[n];
+
+        Map<Integer, List<Integer>> bercos = new HashMap<>();
+        Map<SituacaoMovimentacao, List<Integer>> situacoes = new EnumMap<>(SituacaoMovimentacao.class);
+        Map<TipoManobra, List<Integer>> manobras = new EnumMap<>(TipoManobra.class);
+        String[] nomesBerco = new String[n];
+
+        for (int i = 0; i < n; i++) {
+            MovimentacaoTipada tipada = tipadas.get(i);
+            navios[i] = NormalizadorTexto.dobrar(tipada.movimentacao().navio());
+            String berco = tipada.bercoNormalizado();
+            nomesBerco[i] = berco != null ? berco : NormalizadorTexto.dobrar(tipada.movimentacao().berco());
+
+            bercos.computeIfAbsent(tipada.berco(), k -> new ArrayList<>()).add(i);
+            situacoes.computeIfAbsent(tipada.situacao(), k -> new ArrayList<>()).add(i);
+            manobras.computeIfAbsent(tipada.manobra(), k -> new ArrayList<>()).add(i);
+        }
+
+        this.porBerco = compactar(bercos, new HashMap<>());
+        this.porSituacao = compactar(situacoes, new EnumMap<>(SituacaoMovimentacao.class));
+        this.porManobra = compactar(manobras, new EnumMap<>(TipoManobra.class));
+        this.trie = new TrieNavios(navios);
+
+        // Desempates: cronológico e, por fim, a ordem do site
+        Comparator<Integer> cronologica = Comparator.comparingInt(i -> tipadas.get(i).minutoOrdenacao());
+        this.porTempo = ordenar(n, cronologica);
+        this.porNavio = ordenar(n, Comparator.<Integer, String>comparing(i -> navios[i]).thenComparing(cronologica));
+        this.porBercoOrdenado = ordenar(n, Comparator.<Integer, String>comparing(i -> nomesBerco[i]).thenComparing(cronologica));
+
+        this.chavesTempo = new int[n];
+        for (int i = 0; i < n; i++) {
+            chavesTempo[i] = tipadas.get(porTempo[i]).minutoOrdenacao();
+        }
+        this.colocacaoTempo = inverter(porTempo);
+        this.colocacaoNavio = inverter(porNavio);
+        this.colocacaoBerco = inverter(porBercoOrdenado);
+    }
+
+    /**
+     * Monta os índices de uma lista tipada.
+     *
+     * @param tipadas Movimentações interpretadas, na ordem do site
+     * @return Índices prontos para consulta
+     */
+    public static IndiceMovimentacoes construir(List<MovimentacaoTipada> tipadas) {
+        return new IndiceMovimentacoes(tipadas);
+    }
+
+    /**
+     * Movimentações interpretadas, na ordem do site.
+     *
+     * @return Lista imutável
+     */
+    public List<MovimentacaoTipada> tipadas() {
+        return tipadas;
+    }
+
+    /**
+     * Responde uma consulta.
+     *
+     * @param filtro Filtros, ordenação e paginação
+     * @return Página com o total de movimentações que passaram nos filtros
+     */
+    public PaginaMovimentacoes consultar(FiltroMovimentacoes filtro) {
+
+        int n = tipadas.size();
+        int[] ordem = ordem(filtro.ordenacao());
+
+        if (!filtro.filtra()) {
+            // Tudo passa: a página sai direto da ordem pré-calculada
+            return pagina(filtro, ordem, n);
+        }
+
+        int codigoBerco = TabelaBercos.SEM_CODIGO;
+        if (filtro.berco() != null) {
+            codigoBerco = TabelaBercos.buscar(filtro.berco());
+            if (codigoBerco == TabelaBercos.SEM_CODIGO) {
+                return pagina(filtro, NENHUMA, 0);
+            }
+        }
+
+        // Escolhe a menor lista de candidatas entre os filtros informados
+        int[] fonte = null;
+        int inicio = 0;
+        int fim = n;
+        if (filtro.berco() != null) {
+            fonte = porBerco.getOrDefault(codigoBerco, NENHUMA);
+            fim = fonte.length;
+        }
+        if (filtro.situacao() != null) {
+            int[] lista = porSituacao.getOrDefault(filtro.situacao(), NENHUMA);
+            if (lista.length < fim - inicio) {
+                fonte = lista;
+                inicio = 0;
+                fim = lista.length;
+            }
+        }
+        if (filtro.manobra() != null) {
+            int[] lista = porManobra.getOrDefault(filtro.manobra(), NENHUMA);
+            if (lista.length < fim - inicio) {
+                fonte = lista;
+                inicio = 0;
+                fim = lista.length;
+            }
+        }
+        if (filtro.navio() != null) {
+            int[] lista = trie.buscar(filtro.navio());
+            if (lista.length < fim - inicio) {
+                fonte = lista;
+                inicio = 0;
+                fim = lista.length;
+            }
+        }
+        boolean fonteCronologica = false;
+        if (filtro.temPeriodo()) {
+            // Sem horário, a chave é o fim do dia: o dia entra se terminar depois de "de"
+            // e começar até "ate" (chave <= ate + 1 dia). Sem data, a chave é MAX_VALUE.
+            long limite = Math.min((long) filtro.ate() + MovimentacaoTipada.MINUTOS_DIA - 1, Integer.MAX_VALUE - 1L);
+            int primeira = primeiraChave(filtro.de());
+            int ultima = primeiraChave(limite + 1);
+            if (ultima - primeira < fim - inicio) {
+                fonte = porTempo;
+                inicio = primeira;
+                fim = ultima;
+                fonteCronologica = true;
+            }
+        }
+
+        int[] aceitas = new int[fim - inicio];
+        int total = 0;
+        for (int i = inicio; i < fim; i++) {
+            int posicao = fonte == null ? i : fonte[i];
+            if (filtro.aceita(tipadas.get(posicao), codigoBerco, navios[posicao])) {
+                aceitas[total++] = posicao;
+            }
+        }
+
+        // Listas por berço/situação/manobra/navio já estão na ordem do site,
+        // a faixa do período já está em ordem cronológica
+        boolean ordenadas = fonteCronologica
+            ? filtro.ordenacao() == FiltroMovimentacoes.Ordenacao.DATA
+            : filtro.ordenacao() == FiltroMovimentacoes.Ordenacao.SITE;
+        if (!ordenadas) {
+            ordenarPorColocacao(aceitas, total, filtro.ordenacao());
+        }
+
+        return pagina(filtro, aceitas, total);
+    }
+
+    /**
+     * Posições na ordem do campo, ou {@code null} para a ordem do site.
+     */
+    private int[] ordem(FiltroMovimentacoes.Ordenacao ordenacao) {
+        return switch (ordenacao) {
+            case SITE -> null;
+            case DATA -> porTempo;
+            case NAVIO -> porNavio;
+            case BERCO -> porBercoOrdenado;
+        };
+    }
+
+    /**
+     * Reordena as posições aceitas trocando cada uma pela sua colocação no
+     * campo, ordenando os inteiros e voltando para posições.
+     */
+    private void ordenarPorColocacao(int[] posicoes, int total, FiltroMovimentacoes.Ordenacao ordenacao) {
+
+        int[] colocacao = switch (ordenacao) {
+            case SITE -> null;
+            case DATA -> colocacaoTempo;
+            case NAVIO -> colocacaoNavio;
+            case BERCO -> colocacaoBerco;
+        };
+
+        if (colocacao == null) {
+            Arrays.sort(posicoes, 0, total);
+            return;
+        }
+
+        int[] ordem = ordem(ordenacao);
+        for (int i = 0; i < total; i++) {
+            posicoes[i] = colocacao[posicoes[i]];
+        }
+        Arrays.sort(posicoes, 0, total);
+        for (int i = 0; i < total; i++) {
+            posicoes[i] = ordem[posicoes[i]];
+        }
+    }
+
+    /**
+     * Recorta a página de {@code posicoes[0..total)} (ou da ordem do site,
+     * se {@code posicoes} for {@code null}).
+     */
+    private PaginaMovimentacoes pagina(FiltroMovimentacoes filtro, int[] posicoes, int total) {
+
+        int inicio = Math.min(filtro.offset(), total);
+        int fim = filtro.limit() == null ? total : (int) Math.min((long) inicio + filtro.limit(), total);
+
+        List<NavioMovimentacao> movimentacoes = new ArrayList<>(fim - inicio);
+        for (int i = inicio; i < fim; i++) {
+            int indice = filtro.decrescente() ? total - 1 - i : i;
+            int posicao = posicoes == null ? indice : posicoes[indice];
+            movimentacoes.add(tipadas.get(posicao).movimentacao());
+        }
+
+        return new PaginaMovimentacoes(total, filtro.offset(), filtro.limit(), movimentacoes);
+    }
+
+    /**
+     * Primeiro índice de {@link #porTempo} com chave {@code >= minuto}.
+     */
+    private int primeiraChave(long minuto) {
+        int baixo = 0;
+        int alto = chavesTempo.length;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (chavesTempo[meio] < minuto) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        return baixo;
+    }
+
+    private static <K> Map<K, int[]> compactar(Map<K, List<Integer>> listas, Map<K, int[]> destino) {
+        listas.forEach((chave, posicoes) -> destino.put(chave, posicoes.stream().mapToInt(Integer::intValue).toArray()));
+        return destino;
+    }
+
+    /**
+     * Posições {@code 0..n-1} ordenadas pelo comparador (estável: empates
+     * mantêm a ordem do site).
+     */
+    private static int[] ordenar(int n, Comparator<Integer> comparador) {
+        return IntStream.range(0, n).boxed().sorted(comparador).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] inverter(int[] ordem) {
+        int[] colocacao = new int[ordem.length];
+        for (int i = 0; i < ordem.length; i++) {
+            colocacao[ordem[i]] = i;
+        }
+        return colocacao;
+    }
+}
@@ -0,0 +1,31 @@
+package br.dev.marcus.praticagem.consulta;
+
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+
+import java.util.List;
+
+/**
+ * Resposta de {@code GET /movimentacoes} com filtros, ordenação ou paginação.
+ *
+ * <pre>
+ * {"total":42,"offset":20,"limit":10,"movimentacoes":[...]}
+ * </pre>
+ *
+ * @param total Movimentações que passaram nos filtros (antes da paginação)
+ * @param offset Movimentações puladas antes da página
+ * @param limit Tamanho máximo da página, ou {@code null} se não informado
+ * @param movimentacoes Movimentações da página, na ordem pedida
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see IndiceMovimentacoes#consultar(FiltroMovimentacoes)
+ */
+public record PaginaMovimentacoes(
+    int total,
+    int offset,
+    Integer limit,
+    List<NavioMovimentacao> movimentacoes
+) {
+}
@@ -0,0 +1,93 @@
+package br.dev.marcus.praticagem.consulta;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Árvore de prefixos sobre os nomes normalizados dos navios.
+ *
+ * <p>Cada nó guarda as posições (na lista do snapshot) de todas as linhas
+ * cujo nome começa com o prefixo daquele nó. Buscar um prefixo é descer
+ * {@code prefixo.length()} nós e devolver a lista pronta, já em ordem
+ * crescente de posição:</p>
+ *
+ * <pre>
+ *  (raiz) ─ m ─ s ─ c ─ ␣ ─ c ─ ...   "msc "  → [3, 7, 12]
+ *           │           └─ f ─ ...   "msc f" → [7]
+ *           └─ y ─ d ─ ...            "myd"   → [5]
+ * </pre>
+ *
+ * <p>A memória é proporcional à soma dos tamanhos dos nomes, o que num
+ * snapshot de algumas centenas de linhas é desprezível. A árvore é montada
+ * uma vez e depois só lida, então pode ser compartilhada entre threads.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see IndiceMovimentacoes
+ */
+final class TrieNavios {
+
+    private static final int[] NENHUMA = new int[0];
+
+    private final No raiz = new No();
+
+    /**
+     * Monta a árvore.
+     *
+     * @param nomes Nomes normalizados, indexados pela posição da linha
+     */
+    TrieNavios(String[] nomes) {
+
+        for (int posicao = 0; posicao < nomes.length; posicao++) {
+            No no = raiz;
+            String nome = nomes[posicao];
+            for (int i = 0; i < nome.length(); i++) {
+                no = no.filhos.computeIfAbsent(nome.charAt(i), c -> new No());
+                no.adicionar(posicao);
+            }
+        }
+        raiz.compactar();
+    }
+
+    /**
+     * Posições das linhas cujo nome começa com o prefixo.
+     *
+     * @param prefixo Prefixo normalizado (não vazio)
+     * @return Posições em ordem crescente; não deve ser alterado
+     */
+    int[] buscar(String prefixo) {
+
+        No no = raiz;
+        for (int i = 0; i < prefixo.length() && no != null; i++) {
+            no = no.filhos.get(prefixo.charAt(i));
+        }
+        return no == null ? NENHUMA : no.posicoes;
+    }
+
+    private static final class No {
+
+        private final Map<Character, No> filhos = new HashMap<>(4);
+        private int[] posicoes = new int[2];
+        private int tamanho;
+
+        private void adicionar(int posicao) {
+            if (tamanho == posicoes.length) {
+                posicoes = Arrays.copyOf(posicoes, tamanho * 2);
+            }
+            posicoes[tamanho++] = posicao;
+        }
+
+        /**
+         * Corta as listas no tamanho exato, para que {@link #buscar} as devolva sem cópia.
+         */
+        private void compactar() {
+            posicoes = tamanho == 0 ? NENHUMA : Arrays.copyOf(posicoes, tamanho);
+            for (No filho : filhos.values()) {
+                filho.compactar();
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package br.dev.marcus.praticagem.diff;
+
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+
+/**
+ * Identidade estável de uma movimentação entre duas coletas.
+ *
+ * <p>O site não publica nenhum identificador por linha. Uma manobra é
+ * reconhecida de uma coleta para a outra pelo trio <b>navio + manobra + data</b>,
+ * que não muda quando o horário, o berço ou a situação são atualizados. Assim,
+ * "ALFA, Entrada, 21/02" com horário 10:00 e depois 10:30 é a <i>mesma</i>
+ * movimentação, alterada, e não uma remoção seguida de uma adição.</p>
+ *
+ * <h2>Duplicatas</h2>
+ * <p>Se a tabela trouxer duas linhas com o mesmo trio (ex: duas entradas do
+ * mesmo navio no mesmo dia), elas são diferenciadas pelo {@code ordinal}: a
+ * ordem de aparição entre as linhas de mesmo trio. A primeira ocorrência de
+ * uma coleta é comparada com a primeira da outra, e assim por diante.</p>
+ *
+ * @param navio Nome do navio
+ * @param manobra Tipo de manobra
+ * @param data Data da movimentação
+ * @param ordinal Ocorrência do trio na lista (0 para a primeira)
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see DiffMovimentacoes
+ */
+public record ChaveMovimentacao(String navio, String manobra, String data, int ordinal) {
+
+    /**
+     * Chave da primeira ocorrência do trio da movimentação.
+     *
+     * @param movimentacao Movimentação
+     * @return Chave com ordinal 0
+     */
+    public static ChaveMovimentacao de(NavioMovimentacao movimentacao) {
+        return new ChaveMovimentacao(movimentacao.navio(), movimentacao.manobra(), movimentacao.data(), 0);
+    }
+
+    /**
+     * Mesma chave, com outro ordinal.
+     *
+     * @param novoOrdinal Ocorrência do trio
+     * @return Chave com o ordinal informado
+     */
+    public ChaveMovimentacao comOrdinal(int novoOrdinal) {
+        return novoOrdinal == ordinal ? this : new ChaveMovimentacao(navio, manobra, data, novoOrdinal);
+    }
+}
@@ -0,0 +1,86 @@
+package br.dev.marcus.praticagem.diff;
+
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.List;
+
+/**
+ * O que mudou entre duas coletas: movimentações adicionadas, removidas e alteradas.
+ *
+ * <p>É o formato publicado junto com cada snapshot e enviado aos clientes de
+ * push. Só as linhas que mudaram são carregadas; as que continuaram iguais
+ * não aparecem.</p>
+ *
+ * <pre>{@code
+ * {"adicionadas":[{...}],"removidas":[{...}],"alteradas":[{...}]}
+ * }</pre>
+ *
+ * <p>Uma movimentação alterada (mesma {@link ChaveMovimentacao}, outro
+ * conteúdo) aparece em {@code alteradas} com os valores novos. Os valores
+ * antigos ficam em {@code alteradasAntes}, na mesma posição; não são
+ * serializados, mas permitem, por exemplo, avisar quem acompanhava o berço de
+ * onde o navio saiu.</p>
+ *
+ * @param adicionadas Movimentações que não existiam (ordem da lista nova)
+ * @param removidas Movimentações que deixaram de existir (ordem da lista anterior)
+ * @param alteradas Movimentações alteradas, com os valores novos (ordem da lista nova)
+ * @param alteradasAntes Valores anteriores de cada item de {@code alteradas}
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see DiffMovimentacoes#calcular(List, List)
+ */
+public record ConjuntoMudancas(
+    List<NavioMovimentacao> adicionadas,
+    List<NavioMovimentacao> removidas,
+    List<NavioMovimentacao> alteradas,
+    @JsonIgnore List<NavioMovimentacao> alteradasAntes
+) {
+
+    /**
+     * Nenhuma mudança.
+     */
+    public static final ConjuntoMudancas VAZIO = new ConjuntoMudancas(List.of(), List.of(), List.of(), List.of());
+
+    /**
+     * Construtor canônico: listas imutáveis e {@code alteradasAntes} alinhada a {@code alteradas}.
+     *
+     * @throws IllegalArgumentException se {@code alteradas} e {@code alteradasAntes}
+     *                                  tiverem tamanhos diferentes
+     */
+    public ConjuntoMudancas {
+        adicionadas = List.copyOf(adicionadas);
+        removidas = List.copyOf(removidas);
+        alteradas = List.copyOf(alteradas);
+        alteradasAntes = List.copyOf(alteradasAntes);
+
+        if (alteradas.size() != alteradasAntes.size()) {
+            throw new IllegalArgumentException(
+                "alteradas e alteradasAntes devem ter o mesmo tamanho: "
+                    + alteradas.size() + " != " + alteradasAntes.size()
+            );
+        }
+    }
+
+    /**
+     * Indica se não houve nenhuma mudança.
+     *
+     * @return {@code true} se as três listas estão vazias
+     */
+    public boolean vazio() {
+        return adicionadas.isEmpty() && removidas.isEmpty() && alteradas.isEmpty();
+    }
+
+    /**
+     * Total de linhas afetadas.
+     *
+     * @return Adicionadas + removidas + alteradas
+     */
+    public int total() {
+        return adicionadas.size() + removidas.size() + alteradas.size();
+    }
+}
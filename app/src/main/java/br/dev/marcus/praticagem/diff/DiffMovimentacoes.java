@@ -0,0 +1,106 @@
+package br.dev.marcus.praticagem.diff;
+
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Calcula o {@link ConjuntoMudancas} entre duas listas de movimentações.
+ *
+ * <p>O algoritmo é linear: a lista anterior é indexada por
+ * {@link ChaveMovimentacao} em um mapa de hash, e cada linha da lista nova é
+ * procurada nele uma única vez. Nenhum par de linhas é comparado fora da
+ * própria chave.</p>
+ *
+ * <pre>
+ *  anteriores ──indexar──► { chave → movimentação }        O(n)
+ *  novas ──para cada──► remove(chave)                      O(m)
+ *          ├─ ausente           → adicionada
+ *          ├─ presente e igual  → (sem mudança)
+ *          └─ presente e outra  → alterada
+ *  sobras do mapa               → removidas
+ * </pre>
+ *
+ * <p>Se as listas forem a mesma instância (site respondeu 304 ou hash
+ * idêntico) ou iguais elemento a elemento, o resultado é
+ * {@link ConjuntoMudancas#VAZIO}, sem montar nenhum mapa.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see ChaveMovimentacao
+ */
+public final class DiffMovimentacoes {
+
+    private DiffMovimentacoes() {
+        // Classe utilitária
+    }
+
+    /**
+     * Calcula o que mudou de {@code anteriores} para {@code novas}.
+     *
+     * @param anteriores Lista publicada antes (vazia na primeira coleta)
+     * @param novas Lista recém-obtida
+     * @return Mudanças entre as listas
+     */
+    public static ConjuntoMudancas calcular(
+        List<NavioMovimentacao> anteriores,
+        List<NavioMovimentacao> novas
+    ) {
+
+        if (anteriores == novas || anteriores.equals(novas)) {
+            return ConjuntoMudancas.VAZIO;
+        }
+
+        // Ocorrências por trio, para diferenciar linhas duplicadas
+        Map<ChaveMovimentacao, Integer> ocorrencias = new HashMap<>(capacidade(anteriores.size()));
+
+        Map<ChaveMovimentacao, NavioMovimentacao> porChave = new LinkedHashMap<>(capacidade(anteriores.size()));
+        for (NavioMovimentacao movimentacao : anteriores) {
+            porChave.put(chave(movimentacao, ocorrencias), movimentacao);
+        }
+
+        ocorrencias.clear();
+        List<NavioMovimentacao> adicionadas = new ArrayList<>();
+        List<NavioMovimentacao> alteradas = new ArrayList<>();
+        List<NavioMovimentacao> alteradasAntes = new ArrayList<>();
+
+        for (NavioMovimentacao movimentacao : novas) {
+            NavioMovimentacao antiga = porChave.remove(chave(movimentacao, ocorrencias));
+            if (antiga == null) {
+                adicionadas.add(movimentacao);
+            } else if (!antiga.equals(movimentacao)) {
+                alteradas.add(movimentacao);
+                alteradasAntes.add(antiga);
+            }
+        }
+
+        return new ConjuntoMudancas(
+            adicionadas, new ArrayList<>(porChave.values()), alteradas, alteradasAntes
+        );
+    }
+
+    /**
+     * Chave da movimentação, com o ordinal da sua ocorrência na lista atual.
+     */
+    private static ChaveMovimentacao chave(
+        NavioMovimentacao movimentacao,
+        Map<ChaveMovimentacao, Integer> ocorrencias
+    ) {
+        ChaveMovimentacao base = ChaveMovimentacao.de(movimentacao);
+        int ordinal = ocorrencias.merge(base, 1, Integer::sum) - 1;
+        return base.comOrdinal(ordinal);
+    }
+
+    /**
+     * Capacidade inicial que evita rehash para {@code quantidade} entradas.
+     */
+    private static int capacidade(int quantidade) {
+        return (int) (quantidade / 0.75f) + 1;
+    }
+}
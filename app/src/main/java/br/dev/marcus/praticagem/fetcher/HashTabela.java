@@ -0,0 +1,116 @@
+package br.dev.marcus.praticagem.fetcher;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+
+/**
+ * Hash rápido da região de tabelas de uma página HTML, calculado sobre os bytes crus.
+ *
+ * <p>Muitos servidores não enviam {@code ETag} nem {@code Last-Modified} úteis, e a
+ * página da praticagem contém trechos que mudam a cada requisição (nonces de
+ * scripts, timestamps do WordPress). Por isso o hash considera apenas a
+ * <b>região das tabelas</b>: do primeiro {@code <table} até o último
+ * {@code </table>}. Se essa região não mudou, as movimentações também não mudaram.</p>
+ *
+ * <pre>
+ *  &lt;html&gt;&lt;head&gt;...scripts com nonce...&lt;/head&gt;     ← ignorado
+ *  &lt;table&gt; ... &lt;/table&gt; ... &lt;table&gt; ... &lt;/table&gt;  ← hash
+ *  ...rodapé, scripts...&lt;/html&gt;                        ← ignorado
+ * </pre>
+ *
+ * <h2>Por que CRC32C + CRC32?</h2>
+ * <p>Ambos são intrínsecos na JVM (instruções de hardware em x86 e ARM) e rodam
+ * a vários GB/s, sem dependência externa. Combinar os dois polinômios em 64 bits
+ * reduz a chance de colisão para a ordem de 1 em 2<sup>64</sup>, o suficiente
+ * para decidir se vale a pena refazer o parse.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see ResultadoFetch#hashTabela()
+ */
+public final class HashTabela {
+
+    private static final byte[] ABERTURA = "<table".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FECHAMENTO = "</table>".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Classe utilitária: não deve ser instanciada.
+     */
+    private HashTabela() {
+    }
+
+    /**
+     * Calcula o hash de 64 bits da região de tabelas do HTML.
+     *
+     * <p>Se o HTML não contém nenhuma tabela, o hash cobre o corpo inteiro.</p>
+     *
+     * @param html Bytes crus da resposta HTTP
+     * @return Hash combinando CRC32C (32 bits altos) e CRC32 (32 bits baixos)
+     */
+    public static long calcular(byte[] html) {
+
+        int inicio = indexOfIgnoreCase(html, ABERTURA, 0);
+        int fim = html.length;
+
+        if (inicio < 0) {
+            inicio = 0;
+        } else {
+            int ultimoFechamento = lastIndexOfIgnoreCase(html, FECHAMENTO);
+            if (ultimoFechamento > inicio) {
+                fim = ultimoFechamento + FECHAMENTO.length;
+            }
+        }
+
+        CRC32C crc32c = new CRC32C();
+        crc32c.update(html, inicio, fim - inicio);
+
+        CRC32 crc32 = new CRC32();
+        crc32.update(html, inicio, fim - inicio);
+
+        return (crc32c.getValue() << 32) | crc32.getValue();
+    }
+
+    /**
+     * Busca a primeira ocorrência do padrão (ASCII, sem diferenciar maiúsculas).
+     */
+    static int indexOfIgnoreCase(byte[] dados, byte[] padrao, int desde) {
+        int limite = dados.length - padrao.length;
+        for (int i = desde; i <= limite; i++) {
+            if (casaEm(dados, padrao, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Busca a última ocorrência do padrão (ASCII, sem diferenciar maiúsculas).
+     */
+    static int lastIndexOfIgnoreCase(byte[] dados, byte[] padrao) {
+        for (int i = dados.length - padrao.length; i >= 0; i--) {
+            if (casaEm(dados, padrao, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compara o padrão (já em minúsculas) com os dados a partir da posição dada.
+     */
+    private static boolean casaEm(byte[] dados, byte[] padrao, int posicao) {
+        for (int j = 0; j < padrao.length; j++) {
+            byte b = dados[posicao + j];
+            if (b >= 'A' && b <= 'Z') {
+                b = (byte) (b + ('a' - 'A'));
+            }
+            if (b != padrao[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,15 +1,36 @@
 package br.dev.marcus.praticagem.fetcher;
 
-import org.jsoup.Jsoup;
+import org.jsoup.HttpStatusException;
 import org.jsoup.nodes.Document;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+import br.dev.marcus.praticagem.metricas.Histograma;
 
 /**
- * Cliente HTTP resiliente para busca de páginas HTML usando Jsoup.
+ * Cliente HTTP resiliente para busca de páginas HTML.
  * 
  * <p>Esta classe é responsável por fazer requisições HTTP ao site de praticagem
  * e retornar o documento HTML parseado. Implementa estratégias de resiliência
@@ -21,6 +42,8 @@ import java.io.IOException;
  *   <li><b>Backoff entre tentativas:</b> Aguarda 2 segundos antes de retentar</li>
  *   <li><b>Timeout configurável:</b> Evita travamento em conexões lentas</li>
  *   <li><b>User-Agent customizado:</b> Identifica o bot para o servidor</li>
+ *   <li><b>Sem bloqueio:</b> {@link #fetchCondicionalAsync()} usa {@link HttpClient}
+ *       (HTTP/2, conexões reaproveitadas) e agenda as retentativas em um timer</li>
  *   <li><b>Tratamento de erros diferenciado:</b> URL inválida falha imediatamente</li>
  * </ul>
  * 
@@ -95,7 +118,7 @@ import java.io.IOException;
  * @version 1.0
  * @since 2026-02-23
  * 
- * @see org.jsoup.Jsoup
+ * @see HttpClient
  * @see org.jsoup.nodes.Document
  */
 public class HtmlFetcher {
@@ -150,6 +173,63 @@ public class HtmlFetcher {
  */
     private static final String USER_AGENT = "GVI-Itajaí-Bot/1.0 (Contact: marcus-silva.ms@marinha.mil.br)";
 
+    /**
+     * Status HTTP 304 (Not Modified).
+     */
+    private static final int HTTP_NOT_MODIFIED = 304;
+
+    /**
+     * Parâmetro {@code charset} do header {@code Content-Type}.
+     */
+    private static final Pattern CHARSET = Pattern.compile("(?i)charset=([^;]+)");
+
+    /**
+     * Cliente HTTP das buscas assíncronas, compartilhado entre todas as
+     * buscas deste fetcher: mantém as conexões abertas (keep-alive, ou uma
+     * única conexão HTTP/2 multiplexada) em vez de reconectar a cada poll.
+     */
+    private final HttpClient cliente;
+
+    /**
+     * Validadores HTTP da última resposta 200 confirmada por quem chamou
+     * ({@link #confirmarValidadores(ResultadoFetch)}).
+     *
+     * <p>{@code volatile} porque o fetcher pode ser chamado por threads diferentes
+     * (poller, revalidação em background, handlers).</p>
+     */
+    private volatile Validadores validadores = Validadores.NENHUM;
+
+    /**
+     * Duração de cada tentativa HTTP (não da operação inteira com retries),
+     * separada por resultado: {@code sucesso} ou {@code falha}.
+     */
+    private final Map<String, Histograma> latenciaTentativas = Map.of(
+        "sucesso", new Histograma(Histograma.LATENCIA_SITE),
+        "falha", new Histograma(Histograma.LATENCIA_SITE)
+    );
+
+    /**
+     * Tentativas repetidas após uma falha de rede (a primeira não conta).
+     */
+    private final LongAdder retentativas = new LongAdder();
+
+    /**
+     * Bytes de corpo recebidos em respostas 200 (respostas 304 não têm corpo).
+     */
+    private final LongAdder bytesBaixados = new LongAdder();
+
+    /**
+     * Par de validadores HTTP usados no GET condicional.
+     *
+     * @param etag Valor do header {@code ETag}, ou {@code null}
+     * @param lastModified Valor do header {@code Last-Modified}, ou {@code null}
+     */
+    private record Validadores(String etag, String lastModified) {
+
+        /** Nenhum validador conhecido: a busca será incondicional. */
+        static final Validadores NENHUM = new Validadores(null, null);
+    }
+
     /**
      * Constrói um novo fetcher configurado para uma URL específica.
      * 
@@ -165,44 +245,65 @@ public class HtmlFetcher {
      * @see #fetch()
      */
     public HtmlFetcher(String url, int timeout, int maxRetries, int retryBackoff) {
+        this(url, timeout, maxRetries, retryBackoff, null);
+    }
+
+    /**
+     * Constrói um fetcher cujo {@link HttpClient} roda no executor informado.
+     *
+     * <p>O executor recebe o processamento das respostas e as continuações dos
+     * futures das buscas assíncronas. Com {@code server.virtualThreads=true},
+     * é um executor de virtual threads
+     * ({@link br.dev.marcus.praticagem.config.ThreadsVirtuais#executorPorTarefa(String)}).</p>
+     *
+     * @param url URL completa do site a ser acessado
+     * @param timeout Timeout em milissegundos para a requisição HTTP
+     * @param maxRetries Número máximo de tentativas antes de desistir
+     * @param retryBackoff Tempo de espera entre tentativas, em milissegundos
+     * @param executor Executor do {@link HttpClient}, ou {@code null} para o padrão do JDK
+     */
+    public HtmlFetcher(String url, int timeout, int maxRetries, int retryBackoff, Executor executor) {
         this.url = url;
         this.timeout = timeout;
         this.maxRetries = maxRetries;
         this.retryBackoff = retryBackoff;
+
+        HttpClient.Builder construtor = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)   // cai para HTTP/1.1 se o site não suportar
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(Duration.ofMillis(Math.max(1, timeout)));
+        if (executor != null) {
+            construtor.executor(executor);
+        }
+        this.cliente = construtor.build();
     }
 
     /**
      * Busca e parseia o HTML da URL configurada, com retry automático.
      * 
-     * <p>Este método implementa a lógica de retry com backoff exponencial.
-     * Em caso de falhas temporárias (rede, timeout), faz até 3 tentativas
-     * com intervalo de 2 segundos entre elas.</p>
+     * <p>Versão bloqueante de {@link #fetchAsync()}: mesma requisição pelo
+     * {@link HttpClient} do fetcher (GET incondicional, gzip, prazo de
+     * {@code timeout} ms para a resposta inteira) e mesmas métricas de
+     * latência, retentativas e bytes das buscas condicionais. A thread que
+     * chama espera o resultado, mas nenhuma thread dorme durante o backoff.</p>
      * 
      * <h4>Algoritmo de Retry</h4>
      * <pre>
-     * Para cada tentativa (1 a 3):
-     *   1. Tenta conectar via Jsoup
-     *   2. Se sucesso → retorna Document
-     *   3. Se falha de rede/timeout:
+     * Para cada tentativa (1 a maxRetries):
+     *   1. Envia o GET pelo HttpClient
+     *   2. Se 2xx → retorna Document
+     *   3. Se falha de rede, timeout ou status fora de 2xx:
      *      a. Loga o erro
-     *      b. Se não é última tentativa → aguarda 2s e retenta
-     *      c. Se é última tentativa → lança exceção
+     *      b. Se não é última tentativa → agenda a próxima para daqui a retryBackoff ms
+     *      c. Se é última tentativa → falha com IllegalStateException
      *   4. Se URL inválida → falha imediatamente (erro de config)
      * </pre>
      * 
-     * <h4>Configuração da Requisição</h4>
-     * <ul>
-     *   <li><b>Timeout:</b> Valor configurado no construtor</li>
-     *   <li><b>User-Agent:</b> "Mozilla/5.0" (identifica o cliente)</li>
-     *   <li><b>Método HTTP:</b> GET</li>
-     *   <li><b>Follow redirects:</b> Sim (comportamento padrão do Jsoup)</li>
-     * </ul>
-     * 
      * <h4>Tratamento de Erros</h4>
      * <table border="1">
      * <caption>Tratamento de Erros</caption>
      *   <tr>
-     *     <th>Exceção Capturada</th>
+     *     <th>Erro</th>
      *     <th>Causa Comum</th>
      *     <th>Ação</th>
      *   </tr>
@@ -212,19 +313,19 @@ public class HtmlFetcher {
      *     <td>Falha imediata (não retenta)</td>
      *   </tr>
      *   <tr>
-     *     <td>IOException (timeout)</td>
+     *     <td>HttpTimeoutException</td>
      *     <td>Servidor demorou demais</td>
-     *     <td>Aguarda 2s e retenta</td>
+     *     <td>Retenta após o backoff</td>
      *   </tr>
      *   <tr>
-     *     <td>IOException (conexão recusada)</td>
+     *     <td>IOException (conexão recusada, DNS)</td>
      *     <td>Servidor fora do ar</td>
-     *     <td>Aguarda 2s e retenta</td>
+     *     <td>Retenta após o backoff</td>
      *   </tr>
      *   <tr>
-     *     <td>IOException (host não encontrado)</td>
-     *     <td>DNS falhou / site não existe</td>
-     *     <td>Aguarda 2s e retenta</td>
+     *     <td>HttpStatusException</td>
+     *     <td>Status fora da faixa 2xx (ex: 503)</td>
+     *     <td>Retenta após o backoff</td>
      *   </tr>
      * </table>
      * 
@@ -238,117 +339,371 @@ public class HtmlFetcher {
      * @return Documento HTML parseado pelo Jsoup, pronto para ser processado
      *         pelo {@link br.dev.marcus.praticagem.parser.HtmlParser}
      * 
-     * @throws IllegalStateException se a URL for inválida (erro de configuração)
-     *         ou se todas as tentativas de conexão falharem (erro de rede/disponibilidade)
+     * @throws IllegalStateException se a URL for inválida (erro de configuração),
+     *         se todas as tentativas de conexão falharem (erro de rede/disponibilidade)
+     *         ou se a thread for interrompida durante a espera
      * 
-     * @see org.jsoup.Jsoup#connect(String)
      * @see br.dev.marcus.praticagem.parser.HtmlParser#parse(Document)
      */
     public Document fetch() {
+        return aguardar(fetchAsync());
+    }
+
+    /**
+     * Busca o HTML com GET condicional (ETag / Last-Modified), com retry automático.
+     *
+     * <p>Uma resposta 200 traz os headers {@code ETag} e {@code Last-Modified}
+     * no resultado; depois de aproveitar o corpo, quem chama os confirma com
+     * {@link #confirmarValidadores(ResultadoFetch)}. Nas buscas seguintes, o
+     * fetcher envia {@code If-None-Match} e {@code If-Modified-Since}; se a página não mudou,
+     * o site responde 304 sem corpo e este método devolve
+     * {@link ResultadoFetch#naoModificado()} &mdash; sem download e sem parse.</p>
+     *
+     * <h4>Fluxo</h4>
+     * <pre>
+     * 1ª busca:   GET                               → 200 + ETag "abc"  → modificado(doc)
+     *             parse ok → confirmarValidadores(resultado)
+     * 2ª busca:   GET If-None-Match: "abc"          → 304               → naoModificado()
+     * 3ª busca:   GET If-None-Match: "abc"          → 200 + ETag "def"  → modificado(doc)
+     *             parse falha → nada confirmado
+     * 4ª busca:   GET If-None-Match: "abc"          → 200 + ETag "def"  → modificado(doc)
+     * </pre>
+     *
+     * <p>Respostas fora da faixa 2xx (exceto 304) são tratadas como falha de
+     * rede e seguem a mesma política de retry de {@link #fetch()}.</p>
+     *
+     * <p>Em respostas 200, o corpo <b>não</b> é parseado aqui: o resultado guarda
+     * os bytes crus e o {@link HashTabela hash} da região de tabelas, para que
+     * quem chama decida se o parse é necessário.</p>
+     *
+     * <p>Versão bloqueante de {@link #fetchCondicionalAsync()}: a thread que
+     * chama espera o resultado, mas nenhuma thread dorme durante o backoff.</p>
+     *
+     * @return Resultado com o corpo novo, ou "não modificado"
+     * @throws IllegalStateException nas mesmas condições de {@link #fetch()},
+     *         ou se a thread for interrompida durante a espera
+     *
+     * @see #limparValidadores()
+     */
+    public ResultadoFetch fetchCondicional() {
+        return aguardar(fetchCondicionalAsync());
+    }
 
-        int tentativaAtual = 0;
+    /**
+     * Busca o HTML com GET condicional sem bloquear a thread que chama.
+     *
+     * <p>Usa o {@link HttpClient} do fetcher (HTTP/2 quando o site suporta,
+     * conexões reaproveitadas entre buscas). As tentativas seguem a política
+     * de {@link #fetchCondicional()}, mas o backoff é agendado em um timer
+     * ({@link CompletableFuture#delayedExecutor}) em vez de
+     * {@link Thread#sleep(long)}:</p>
+     *
+     * <pre>
+     *  chamador ──fetchCondicionalAsync()──► future (devolvido na hora)
+     *                 │
+     *  HttpClient     ├─ tentativa 1 ──► 503
+     *  timer          ├─ ...retryBackoff ms (nenhuma thread esperando)...
+     *  HttpClient     └─ tentativa 2 ──► 200 ──► future.complete(resultado)
+     * </pre>
+     *
+     * <p>O {@code timeout} vale para a tentativa inteira, incluindo a leitura
+     * do corpo: um servidor que envia a resposta aos poucos não segura a
+     * busca além do prazo. Cancelar o future devolvido interrompe as
+     * tentativas seguintes.</p>
+     *
+     * @return Future com o resultado, ou completado com
+     *         {@link IllegalStateException} se a URL for inválida ou todas
+     *         as tentativas falharem
+     */
+    public CompletableFuture<ResultadoFetch> fetchCondicionalAsync() {
 
-        // Loop de retry: tenta até maxRetries vezes
-        while (tentativaAtual < maxRetries) {
+        return executarComRetryAsync(() -> {
 
-            try {
-                tentativaAtual++;
+            Validadores atuais = validadores;
 
-                logger.info(
-                    "Tentativa {}/{} de buscar HTML da URL: {}",
-                    tentativaAtual, maxRetries, url
-                );
+            return enviar(atuais).thenCompose(resposta -> {
+                int status = resposta.statusCode();
+
+                // ===== 304: NADA MUDOU =====
+                if (status == HTTP_NOT_MODIFIED) {
+                    logger.info("Página não modificada (304). Download e parse evitados");
+                    return CompletableFuture.completedFuture(ResultadoFetch.naoModificado());
+                }
+
+                // ===== 200: DEVOLVE O CORPO E OS VALIDADORES (AINDA NÃO CONFIRMADOS) =====
+                // Guarda os bytes crus: o parse do DOM só acontece se o conteúdo mudou
+                return corpo(resposta).thenApply(corpo -> ResultadoFetch.modificado(
+                    corpo,
+                    charset(resposta),
+                    url,
+                    resposta.headers().firstValue("ETag").orElse(null),
+                    resposta.headers().firstValue("Last-Modified").orElse(null)
+                ));
+            });
+        });
+    }
 
-                // ===== EXECUÇÃO DA REQUISIÇÃO HTTP =====
-                // Jsoup.connect() cria a conexão e .get() executa a requisição
-                Document document = Jsoup.connect(url)
-                    .timeout(timeout)          // Timeout configurável
-                    .userAgent(USER_AGENT)           // Identifica o cliente
-                    .get();                          // Executa GET e parseia HTML
-                
-                // Se chegamos aqui, a requisição foi bem-sucedida!
-                logger.info("HTML obtido com sucesso na tentativa {}", tentativaAtual);
-                return document;
-            
-            } catch (IllegalArgumentException e) {
-                // ===== ERRO DE CONFIGURAÇÃO: URL INVÁLIDA =====
-                // Este erro indica problema no código/config, não no servidor
-                // Não adianta fazer retry, então falhamos imediatamente
+    /**
+     * Busca e parseia o HTML sem bloquear a thread que chama (GET incondicional).
+     *
+     * <p>Mesma política de retry e timeout de {@link #fetchCondicionalAsync()};
+     * não lê nem altera os validadores do GET condicional.</p>
+     *
+     * @return Future com o documento, ou completado com {@link IllegalStateException}
+     */
+    public CompletableFuture<Document> fetchAsync() {
+        return executarComRetryAsync(() -> enviar(Validadores.NENHUM)
+            .thenCompose(resposta -> corpo(resposta).thenApply(
+                corpo -> ResultadoFetch.modificado(corpo, charset(resposta), url).documento()
+            ))
+        );
+    }
+
+    /**
+     * Passa a usar os validadores de uma resposta 200 nas próximas buscas condicionais.
+     *
+     * <p>Chame só depois de extrair os dados do corpo com sucesso: a partir daqui
+     * o site responde 304 enquanto a página não mudar, e quem chama precisa ter
+     * os dados correspondentes em memória. Resultados "não modificado" são ignorados.</p>
+     *
+     * @param resultado Resultado de {@link #fetchCondicional()} já aproveitado
+     */
+    public void confirmarValidadores(ResultadoFetch resultado) {
+        if (!resultado.modificado()) {
+            return;
+        }
+        validadores = new Validadores(resultado.etag(), resultado.lastModified());
+        logger.debug(
+            "Validadores atualizados: ETag={}, Last-Modified={}",
+            resultado.etag(), resultado.lastModified()
+        );
+    }
+
+    /**
+     * Esquece os validadores guardados; a próxima busca condicional será incondicional.
+     *
+     * <p>Útil quando quem chama perdeu os dados correspondentes ao último 200
+     * (ex: reinício do cache) e precisa do corpo completo novamente.</p>
+     */
+    public void limparValidadores() {
+        validadores = Validadores.NENHUM;
+    }
+
+    /**
+     * Executa uma operação HTTP com a política de retry deste fetcher (ver a
+     * tabela de tratamento de erros em {@link #fetch()}): cada tentativa
+     * devolve um future, e a próxima é agendada no timer depois de
+     * {@code retryBackoff} ms, sem {@link Thread#sleep(long)}.
+     *
+     * @param <T> Tipo do resultado da operação
+     * @param operacao Cria a requisição de uma tentativa
+     * @return Future com o resultado da primeira tentativa bem-sucedida
+     */
+    private <T> CompletableFuture<T> executarComRetryAsync(Supplier<CompletableFuture<T>> operacao) {
+        CompletableFuture<T> resultado = new CompletableFuture<>();
+        tentar(operacao, 1, resultado);
+        return resultado;
+    }
+
+    /**
+     * Executa uma tentativa e, em falha de rede, agenda a seguinte.
+     *
+     * @param <T> Tipo do resultado da operação
+     * @param operacao Cria a requisição de uma tentativa
+     * @param tentativa Número desta tentativa (a partir de 1)
+     * @param resultado Future devolvido a quem chamou
+     */
+    private <T> void tentar(
+        Supplier<CompletableFuture<T>> operacao, int tentativa, CompletableFuture<T> resultado
+    ) {
+
+        // Quem chamou cancelou (ou desistiu): não inicia outra tentativa
+        if (resultado.isDone()) {
+            return;
+        }
+
+        if (tentativa > 1) {
+            retentativas.increment();
+        }
+        logger.info("Tentativa {}/{} de buscar HTML da URL: {}", tentativa, maxRetries, url);
+
+        long inicioTentativa = System.nanoTime();
+        CompletableFuture<T> envio;
+        try {
+            envio = operacao.get();
+
+        } catch (IllegalArgumentException e) {
+            // ===== ERRO DE CONFIGURAÇÃO: URL INVÁLIDA (não adianta retentar) =====
+            logger.error(
+                "URL malformada ou inválida: '{}'. Verifique a configuração da aplicação.",
+                url, e
+            );
+            resultado.completeExceptionally(
+                new IllegalStateException("URL configurada é inválida: " + url, e)
+            );
+            return;
+        }
+
+        envio.whenComplete((valor, erro) -> {
+
+            if (erro == null) {
+                latenciaTentativas.get("sucesso").registrar(System.nanoTime() - inicioTentativa);
+                logger.info("HTML obtido com sucesso na tentativa {}", tentativa);
+                resultado.complete(valor);
+                return;
+            }
+
+            Throwable causa = erro instanceof CompletionException && erro.getCause() != null
+                ? erro.getCause()
+                : erro;
+
+            // Bug ou erro inesperado (não é rede): repassa sem retentar
+            if (!(causa instanceof IOException)) {
+                resultado.completeExceptionally(causa);
+                return;
+            }
+
+            latenciaTentativas.get("falha").registrar(System.nanoTime() - inicioTentativa);
+            logger.warn(
+                "Falha na tentativa {}/{}: {} - {}",
+                tentativa, maxRetries, causa.getClass().getSimpleName(), causa.getMessage()
+            );
+
+            if (tentativa >= maxRetries) {
                 logger.error(
-                    "URL malformada ou inválida: '{}'. " +
-                    "Verifique a configuração da aplicação.",
-                    url, e
-                );
-                
-                // Lançamos IllegalStateException para indicar erro de estado/config
-                throw new IllegalStateException(
-                    "URL configurada é inválida: " + url,
-                    e
+                    "Todas as {} tentativas falharam para URL: {}. " +
+                    "Possíveis causas: site fora do ar, problema de rede, firewall, timeout muito curto.",
+                    maxRetries, url
                 );
+                resultado.completeExceptionally(new IllegalStateException(
+                    String.format("Falha ao conectar após %d tentativas: %s", maxRetries, causa.getMessage()),
+                    causa
+                ));
+                return;
+            }
 
-            } catch (IOException e) {
-                // ===== ERRO DE REDE/CONEXÃO =====
-                // Pode ser timeout, servidor fora do ar, problema de rede, etc.
-                // Estes erros são temporários, então vale a pena retentar
-                
-                logger.warn(
-                    "Falha na tentativa {}/{}: {} - {}",
-                    tentativaAtual, maxRetries,
-                    e.getClass().getSimpleName(), e.getMessage()
-                );
+            // ===== BACKOFF NO TIMER: nenhuma thread fica dormindo =====
+            logger.info("Próxima tentativa agendada para daqui a {}ms", retryBackoff);
+            CompletableFuture.delayedExecutor(retryBackoff, TimeUnit.MILLISECONDS)
+                .execute(() -> tentar(operacao, tentativa + 1, resultado));
+        });
+    }
 
-                // Se foi a última tentativa, não adianta mais retentar
-                if (tentativaAtual >= maxRetries) {
-                    logger.error(
-                        "Todas as {} tentativas falharam para URL: {}. " +
-                        "Possíveis causas: site fora do ar, problema de rede, firewall, timeout muito curto.",
-                        maxRetries, url
-                    );
+    /**
+     * Envia um GET com os validadores informados e prazo de {@code timeout} ms
+     * para a resposta completa (headers e corpo).
+     *
+     * @param atuais Validadores do GET condicional ({@link Validadores#NENHUM} para incondicional)
+     * @return Future da resposta; falha com {@link HttpTimeoutException} se o prazo estourar
+     * @throws IllegalArgumentException se a URL for inválida
+     */
+    private CompletableFuture<HttpResponse<byte[]>> enviar(Validadores atuais) {
 
-                    throw new IllegalStateException(
-                        String.format(
-                            "Falha ao conectar após %d tentativas: %s",
-                            maxRetries, e.getMessage()
-                        ),
-                        e
-                    );
-                }
+        HttpRequest.Builder requisicao = HttpRequest.newBuilder(URI.create(url))
+            .timeout(Duration.ofMillis(timeout))
+            .header("User-Agent", USER_AGENT)
+            .header("Accept-Encoding", "gzip")
+            .GET();
 
-                // ===== BACKOFF: AGUARDA ANTES DE RETENTAR =====
-                // Espera 2 segundos antes da próxima tentativa
-                // Isso dá tempo para problemas temporários se resolverem
-                try {
-                    logger.info(
-                        "Aguardando {}ms antes da próxima tentativa...",
-                        retryBackoff
-                    );
-                    Thread.sleep(retryBackoff);
-
-                } catch (InterruptedException ie) {
-                    // Se a thread for interrompida durante o sleep,
-                    // restauramos o flag de interrupção e continuamos
-                    Thread.currentThread().interrupt();
-                    
-                    logger.warn(
-                        "Espera entre tentativas foi interrompida. " +
-                        "Prosseguindo para próxima tentativa imediatamente."
+        if (atuais.etag() != null) {
+            requisicao.header("If-None-Match", atuais.etag());
+        }
+        if (atuais.lastModified() != null) {
+            requisicao.header("If-Modified-Since", atuais.lastModified());
+        }
+
+        CompletableFuture<HttpResponse<byte[]>> envio =
+            cliente.sendAsync(requisicao.build(), HttpResponse.BodyHandlers.ofByteArray());
+
+        // O timeout da requisição só cobre os headers: o prazo do corpo é este.
+        // Cancelar o envio original aborta a troca e libera a conexão
+        return envio.copy()
+            .orTimeout(timeout, TimeUnit.MILLISECONDS)
+            .exceptionallyCompose(erro -> {
+                if (erro instanceof TimeoutException) {
+                    envio.cancel(true);
+                    return CompletableFuture.failedFuture(
+                        new HttpTimeoutException("Resposta não concluída em " + timeout + "ms")
                     );
                 }
-            }
+                return CompletableFuture.failedFuture(erro);
+            });
+    }
+
+    /**
+     * Corpo de uma resposta 2xx, descompactado se veio em gzip.
+     *
+     * @param resposta Resposta do site
+     * @return Future com o corpo; falha com {@link HttpStatusException} fora da faixa 2xx
+     */
+    private CompletableFuture<byte[]> corpo(HttpResponse<byte[]> resposta) {
+
+        int status = resposta.statusCode();
+
+        // ===== ERRO HTTP: mesma política de retry do fetch() =====
+        if (status < 200 || status >= 300) {
+            return CompletableFuture.failedFuture(
+                new HttpStatusException("Status HTTP inesperado: " + status, status, url)
+            );
         }
 
-        // ===== FALLBACK DE SEGURANÇA =====
-        // Este código só é alcançado se o loop terminar sem return nem throw
-        // (não deveria acontecer, mas é uma proteção extra)
+        byte[] recebido = resposta.body();
+        bytesBaixados.add(recebido.length);
 
-        logger.error(
-            "Saída inesperada do loop de retry. " +
-            "Isto indica um bug no código do fetcher."
-        );
+        boolean gzip = resposta.headers().firstValue("Content-Encoding")
+            .map(codificacao -> codificacao.equalsIgnoreCase("gzip"))
+            .orElse(false);
+        if (!gzip) {
+            return CompletableFuture.completedFuture(recebido);
+        }
 
-        throw new IllegalStateException(
-            "Erro inesperado no fetch: loop terminou sem resultado"
-        );
+        try (GZIPInputStream entrada = new GZIPInputStream(new ByteArrayInputStream(recebido))) {
+            return CompletableFuture.completedFuture(entrada.readAllBytes());
+
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Charset declarado no {@code Content-Type} da resposta.
+     *
+     * @param resposta Resposta do site
+     * @return Nome do charset, ou {@code null} se o header não declarar
+     *         (o parser decide pelo {@code <meta>} ou usa UTF-8)
+     */
+    static String charset(HttpResponse<?> resposta) {
+        return resposta.headers().firstValue("Content-Type")
+            .map(CHARSET::matcher)
+            .filter(Matcher::find)
+            .map(encontrado -> encontrado.group(1).replace("\"", "").trim())
+            .orElse(null);
+    }
+
+    /**
+     * Espera um future deste fetcher na thread atual.
+     *
+     * @param <T> Tipo do resultado
+     * @param future Busca em andamento
+     * @return Resultado da busca
+     * @throws IllegalStateException se a busca falhar ou a thread for interrompida
+     */
+    private static <T> T aguardar(CompletableFuture<T> future) {
+        try {
+            return future.get();
+
+        } catch (InterruptedException e) {
+            // Encerramento do poller, por exemplo: desiste das próximas tentativas
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Busca interrompida", e);
+
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new IllegalStateException("Falha inesperada no fetch", e.getCause());
+        }
     }
 
     // ===== MÉTODOS AUXILIARES (GETTERS) =====
@@ -390,5 +745,32 @@ public class HtmlFetcher {
         return retryBackoff;
     }
 
+    /**
+     * Histogramas da duração de cada tentativa HTTP, por resultado.
+     *
+     * @return Mapa imutável {@code "sucesso"|"falha"} → histograma (segundos)
+     */
+    public Map<String, Histograma> getLatenciaTentativas() {
+        return latenciaTentativas;
+    }
+
+    /**
+     * Retorna quantas tentativas foram repetidas após falha.
+     *
+     * @return Total de retentativas desde o início
+     */
+    public long getRetentativas() {
+        return retentativas.sum();
+    }
+
+    /**
+     * Retorna quantos bytes de corpo foram baixados do site.
+     *
+     * @return Soma dos corpos das respostas 200
+     */
+    public long getBytesBaixados() {
+        return bytesBaixados.sum();
+    }
+
 }
 
@@ -0,0 +1,211 @@
+package br.dev.marcus.praticagem.fetcher;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+
+/**
+ * Resultado de uma busca condicional feita por {@link HtmlFetcher#fetchCondicional()}.
+ *
+ * <p>Uma busca condicional pode terminar de duas formas:</p>
+ * <ul>
+ *   <li><b>Modificado (200):</b> o site devolveu uma página; o resultado guarda
+ *       os <b>bytes crus</b> do corpo e o {@link HashTabela hash} da região de
+ *       tabelas. O DOM só é construído se alguém chamar {@link #documento()}</li>
+ *   <li><b>Não modificado (304):</b> a página é a mesma da última busca; não há
+ *       corpo. Quem chamou pode reaproveitar os dados já extraídos</li>
+ * </ul>
+ *
+ * <h2>Parse sob demanda</h2>
+ * <p>Construir o DOM com Jsoup é a parte cara do processo. Guardando os bytes,
+ * o {@link br.dev.marcus.praticagem.service.MovimentacaoService} pode comparar
+ * {@link #hashTabela()} com o da busca anterior e pular o parse inteiro quando
+ * o conteúdo relevante não mudou.</p>
+ *
+ * <h2>Validadores</h2>
+ * <p>Um resultado "modificado" carrega o {@code ETag} e o {@code Last-Modified}
+ * da resposta, mas o fetcher <b>não</b> passa a usá-los sozinho: quem chama
+ * confirma com {@link HtmlFetcher#confirmarValidadores(ResultadoFetch)} depois
+ * de extrair os dados com sucesso. Se o parse falhar, a próxima busca continua
+ * condicional aos validadores antigos e recebe a página nova outra vez, em vez
+ * de um 304 para dados que nunca foram aproveitados.</p>
+ *
+ * <p>Instâncias são imutáveis; o array de bytes não é copiado e não deve ser
+ * alterado por quem o obtém em {@link #corpo()}.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see HtmlFetcher#fetchCondicional()
+ * @see HashTabela
+ */
+public final class ResultadoFetch {
+
+    private static final ResultadoFetch NAO_MODIFICADO =
+        new ResultadoFetch(false, null, null, null, 0L, null, null);
+
+    private final boolean modificado;
+    private final byte[] corpo;
+    private final String charset;
+    private final String baseUri;
+    private final long hashTabela;
+    private final String etag;
+    private final String lastModified;
+
+    private ResultadoFetch(
+        boolean modificado,
+        byte[] corpo,
+        String charset,
+        String baseUri,
+        long hashTabela,
+        String etag,
+        String lastModified
+    ) {
+        this.modificado = modificado;
+        this.corpo = corpo;
+        this.charset = charset;
+        this.baseUri = baseUri;
+        this.hashTabela = hashTabela;
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Cria um resultado para resposta 200, calculando o hash da região de tabelas.
+     *
+     * @param corpo Bytes crus do corpo da resposta
+     * @param charset Nome do charset declarado pelo servidor, ou {@code null}
+     *                (o Jsoup detecta pelo {@code <meta charset>})
+     * @param baseUri URL de origem, para resolver links relativos no DOM
+     * @return Resultado "modificado"
+     */
+    public static ResultadoFetch modificado(byte[] corpo, String charset, String baseUri) {
+        return modificado(corpo, charset, baseUri, null, null);
+    }
+
+    /**
+     * Cria um resultado para resposta 200 com os validadores HTTP da resposta.
+     *
+     * @param corpo Bytes crus do corpo da resposta
+     * @param charset Nome do charset declarado pelo servidor, ou {@code null}
+     * @param baseUri URL de origem, para resolver links relativos no DOM
+     * @param etag Header {@code ETag} da resposta, ou {@code null}
+     * @param lastModified Header {@code Last-Modified} da resposta, ou {@code null}
+     * @return Resultado "modificado"
+     */
+    public static ResultadoFetch modificado(
+        byte[] corpo,
+        String charset,
+        String baseUri,
+        String etag,
+        String lastModified
+    ) {
+        return new ResultadoFetch(true, corpo, charset, baseUri, HashTabela.calcular(corpo), etag, lastModified);
+    }
+
+    /**
+     * Cria um resultado para resposta 304 (Not Modified).
+     *
+     * @return Resultado "não modificado", sem corpo
+     */
+    public static ResultadoFetch naoModificado() {
+        return NAO_MODIFICADO;
+    }
+
+    /**
+     * Indica se o site devolveu conteúdo (200) ou não (304).
+     *
+     * @return {@code true} se há corpo disponível
+     */
+    public boolean modificado() {
+        return modificado;
+    }
+
+    /**
+     * Bytes crus do corpo da resposta.
+     *
+     * @return Corpo da resposta, ou {@code null} quando não modificado
+     */
+    public byte[] corpo() {
+        return corpo;
+    }
+
+    /**
+     * Charset do corpo, conforme o header {@code Content-Type}.
+     *
+     * <p>Quando o servidor não declara charset (ou declara um desconhecido),
+     * devolve {@code null}: os parsers detectam pelo BOM ou pelo
+     * {@code <meta charset>} da página e, sem nenhum dos dois, usam UTF-8,
+     * como o Jsoup faz.</p>
+     *
+     * @return Charset declarado, ou {@code null} para detectar pelo conteúdo
+     */
+    public Charset charset() {
+        try {
+            if (charset != null && Charset.isSupported(charset)) {
+                return Charset.forName(charset);
+            }
+        } catch (IllegalArgumentException e) {
+            // Nome de charset inválido no header: detecta pelo conteúdo
+        }
+        return null;
+    }
+
+    /**
+     * Hash de 64 bits da região de tabelas do corpo.
+     *
+     * @return Hash calculado por {@link HashTabela#calcular(byte[])}, ou 0 quando não modificado
+     */
+    public long hashTabela() {
+        return hashTabela;
+    }
+
+    /**
+     * Header {@code ETag} da resposta 200.
+     *
+     * @return ETag, ou {@code null} se o servidor não enviou ou se não modificado
+     */
+    public String etag() {
+        return etag;
+    }
+
+    /**
+     * Header {@code Last-Modified} da resposta 200.
+     *
+     * @return Last-Modified, ou {@code null} se o servidor não enviou ou se não modificado
+     */
+    public String lastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Constrói o DOM Jsoup a partir dos bytes do corpo.
+     *
+     * <p>Cada chamada refaz o parse; chame apenas quando o hash indicar mudança.</p>
+     *
+     * @return Documento HTML parseado
+     * @throws IllegalStateException se o resultado for "não modificado"
+     */
+    public Document documento() {
+
+        if (!modificado) {
+            throw new IllegalStateException("Resultado não modificado (304) não possui corpo");
+        }
+
+        try {
+            Charset declarado = charset();
+            return Jsoup.parse(
+                new ByteArrayInputStream(corpo), declarado == null ? null : declarado.name(), baseUri
+            );
+
+        } catch (IOException e) {
+            // Leitura de array em memória não falha na prática
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package br.dev.marcus.praticagem.historico;
+
+import br.dev.marcus.praticagem.diff.ConjuntoMudancas;
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+import br.dev.marcus.praticagem.parser.PoolTextos;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Formato binário dos registros do histórico.
+ *
+ * <p>Cada registro é autocontido e protegido por CRC32. Os campos fixos
+ * (tipo, versão e instante) ficam no início, em posições conhecidas, para
+ * que um leitor possa indexar o arquivo lendo só os cabeçalhos.</p>
+ *
+ * <pre>
+ *  ┌──────────┬──────────┬──────┬─────────┬──────────┬───────────────┐
+ *  │ tamanho  │ crc32    │ tipo │ versao  │ obtidoEm │ corpo         │
+ *  │ int (4)  │ int (4)  │ (1)  │ long(8) │ long (8) │ tamanho - 17  │
+ *  └──────────┴──────────┴──────┴─────────┴──────────┴───────────────┘
+ *               └── CRC de tipo até o fim do corpo (tamanho bytes) ──┘
+ *
+ *  CHECKPOINT: int n, n × movimentação
+ *  MUDANCAS:   int a, a × movimentação           (adicionadas)
+ *              int r, r × movimentação           (removidas)
+ *              int c, c × (antes, depois)        (alteradas)
+ *              int p, p × int                    (posições das adicionadas; ausente em registros antigos)
+ *  movimentação: 6 × (short tamanho, bytes UTF-8)
+ *                data, horario, manobra, berco, navio, situacao
+ * </pre>
+ *
+ * <p>Inteiros em big-endian. Um registro cortado no meio (queda durante a
+ * escrita) ou com CRC divergente é reconhecido por {@link #ler(ByteBuffer)}
+ * e tratado como fim do arquivo.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see RegistroHistorico
+ */
+public final class CodecRegistro {
+
+    /**
+     * Bytes antes do trecho coberto pelo CRC: tamanho e crc32.
+     */
+    public static final int PREFIXO = 8;
+
+    /**
+     * Bytes fixos cobertos pelo CRC: tipo, versão e instante.
+     */
+    public static final int CABECALHO = 17;
+
+    /**
+     * Posição do tipo, relativa ao início do registro.
+     */
+    public static final int POSICAO_TIPO = PREFIXO;
+
+    /**
+     * Posição da versão, relativa ao início do registro.
+     */
+    public static final int POSICAO_VERSAO = PREFIXO + 1;
+
+    /**
+     * Posição do instante da coleta, relativa ao início do registro.
+     */
+    public static final int POSICAO_OBTIDO_EM = PREFIXO + 9;
+
+    /**
+     * Campos de cada movimentação, na ordem gravada.
+     */
+    static final int CAMPOS_MOVIMENTACAO = 6;
+
+    /**
+     * Índice do berço entre os campos da movimentação.
+     */
+    static final int CAMPO_BERCO = 3;
+
+    /**
+     * Maior registro aceito na leitura. Protege contra um tamanho corrompido
+     * que faria alocar memória demais.
+     */
+    public static final int TAMANHO_MAXIMO = 64 << 20;
+
+    private CodecRegistro() {
+        // Classe utilitária
+    }
+
+    /**
+     * Codifica um registro, já com tamanho e CRC.
+     *
+     * @param registro Registro a gravar
+     * @return Bytes prontos para anexar ao segmento
+     */
+    public static byte[] codificar(RegistroHistorico registro) {
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+        try (DataOutputStream saida = new DataOutputStream(buffer)) {
+            // Reserva o prefixo; preenchido depois que o tamanho é conhecido
+            saida.writeLong(0);
+            saida.writeByte(registro.tipo().codigo());
+            saida.writeLong(registro.versao());
+            saida.writeLong(registro.obtidoEm());
+
+            if (registro.tipo() == RegistroHistorico.Tipo.CHECKPOINT) {
+                escreverLista(saida, registro.estado());
+            } else {
+                ConjuntoMudancas mudancas = registro.mudancas();
+                escreverLista(saida, mudancas.adicionadas());
+                escreverLista(saida, mudancas.removidas());
+                saida.writeInt(mudancas.alteradas().size());
+                for (int i = 0; i < mudancas.alteradas().size(); i++) {
+                    escrever(saida, mudancas.alteradasAntes().get(i));
+                    escrever(saida, mudancas.alteradas().get(i));
+                }
+                saida.writeInt(registro.posicoesAdicionadas().size());
+                for (int posicao : registro.posicoesAdicionadas()) {
+                    saida.writeInt(posicao);
+                }
+            }
+
+        } catch (IOException e) {
+            // ByteArrayOutputStream não lança IOException
+            throw new UncheckedIOException(e);
+        }
+
+        byte[] bytes = buffer.toByteArray();
+        int tamanho = bytes.length - PREFIXO;
+
+        CRC32 crc = new CRC32();
+        crc.update(bytes, PREFIXO, tamanho);
+
+        ByteBuffer.wrap(bytes).putInt(tamanho).putInt((int) crc.getValue());
+        return bytes;
+    }
+
+    /**
+     * Lê o registro na posição atual do buffer, avançando a posição até o fim dele.
+     *
+     * <p>Se o registro estiver incompleto ou corrompido, devolve {@code null}
+     * e não altera a posição.</p>
+     *
+     * @param buffer Buffer posicionado no início de um registro
+     * @return Registro lido, ou {@code null} se não houver um registro válido
+     */
+    public static RegistroHistorico ler(ByteBuffer buffer) {
+
+        int inicio = buffer.position();
+        int tamanho = tamanhoValido(buffer);
+        if (tamanho < 0) {
+            return null;
+        }
+
+        ByteBuffer corpo = buffer.duplicate();
+        corpo.position(inicio + PREFIXO).limit(inicio + PREFIXO + tamanho);
+
+        try {
+            RegistroHistorico registro = decodificar(corpo);
+            if (registro == null || corpo.hasRemaining()) {
+                return null;
+            }
+            buffer.position(inicio + PREFIXO + tamanho);
+            return registro;
+
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Valida o registro na posição atual (tamanho e CRC), sem decodificar o corpo.
+     *
+     * <p>Não altera a posição do buffer.</p>
+     *
+     * @param buffer Buffer posicionado no início de um registro
+     * @return Tamanho do trecho coberto pelo CRC, ou {@code -1} se o registro
+     *         estiver incompleto ou corrompido
+     */
+    public static int tamanhoValido(ByteBuffer buffer) {
+
+        int inicio = buffer.position();
+        if (buffer.remaining() < PREFIXO + CABECALHO) {
+            return -1;
+        }
+
+        int tamanho = buffer.getInt(inicio);
+        if (tamanho < CABECALHO || tamanho > TAMANHO_MAXIMO || tamanho > buffer.remaining() - PREFIXO) {
+            return -1;
+        }
+
+        ByteBuffer trecho = buffer.duplicate();
+        trecho.position(inicio + PREFIXO).limit(inicio + PREFIXO + tamanho);
+        CRC32 crc = new CRC32();
+        crc.update(trecho);
+
+        return (int) crc.getValue() == buffer.getInt(inicio + 4) ? tamanho : -1;
+    }
+
+    private static RegistroHistorico decodificar(ByteBuffer corpo) {
+
+        RegistroHistorico.Tipo tipo = RegistroHistorico.Tipo.deCodigo(corpo.get());
+        if (tipo == null) {
+            return null;
+        }
+        long versao = corpo.getLong();
+        long obtidoEm = corpo.getLong();
+
+        if (tipo == RegistroHistorico.Tipo.CHECKPOINT) {
+            return RegistroHistorico.checkpoint(versao, obtidoEm, lerLista(corpo));
+        }
+
+        List<NavioMovimentacao> adicionadas = lerLista(corpo);
+        List<NavioMovimentacao> removidas = lerLista(corpo);
+        int quantidade = lerQuantidade(corpo);
+        List<NavioMovimentacao> antes = new ArrayList<>(quantidade);
+        List<NavioMovimentacao> depois = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            antes.add(lerMovimentacao(corpo));
+            depois.add(lerMovimentacao(corpo));
+        }
+
+        // Registros gravados antes das posições terminam nas alteradas
+        List<Integer> posicoes = new ArrayList<>();
+        if (corpo.hasRemaining()) {
+            int total = corpo.getInt();
+            if (total < 0 || total > corpo.remaining() / 4) {
+                throw new IllegalArgumentException("Quantidade inválida de posições: " + total);
+            }
+            for (int i = 0; i < total; i++) {
+                posicoes.add(corpo.getInt());
+            }
+        }
+
+        return RegistroHistorico.mudancas(
+            versao, obtidoEm, new ConjuntoMudancas(adicionadas, removidas, depois, antes), posicoes
+        );
+    }
+
+    private static void escreverLista(DataOutputStream saida, List<NavioMovimentacao> lista) throws IOException {
+        saida.writeInt(lista.size());
+        for (NavioMovimentacao movimentacao : lista) {
+            escrever(saida, movimentacao);
+        }
+    }
+
+    private static void escrever(DataOutputStream saida, NavioMovimentacao movimentacao) throws IOException {
+        escrever(saida, movimentacao.data());
+        escrever(saida, movimentacao.horario());
+        escrever(saida, movimentacao.manobra());
+        escrever(saida, movimentacao.berco());
+        escrever(saida, movimentacao.navio());
+        escrever(saida, movimentacao.situacao());
+    }
+
+    private static void escrever(DataOutputStream saida, String texto) throws IOException {
+        byte[] bytes = (texto == null ? "" : texto).getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Campo longo demais para o histórico: " + bytes.length + " bytes");
+        }
+        saida.writeShort(bytes.length);
+        saida.write(bytes);
+    }
+
+    private static List<NavioMovimentacao> lerLista(ByteBuffer corpo) {
+        int quantidade = lerQuantidade(corpo);
+        List<NavioMovimentacao> lista = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            lista.add(lerMovimentacao(corpo));
+        }
+        return lista;
+    }
+
+    /**
+     * Lê uma quantidade, rejeitando valores impossíveis para o que resta do corpo
+     * (cada movimentação ocupa ao menos 12 bytes).
+     */
+    private static int lerQuantidade(ByteBuffer corpo) {
+        int quantidade = corpo.getInt();
+        if (quantidade < 0 || quantidade > corpo.remaining() / 12) {
+            throw new IllegalArgumentException("Quantidade inválida no registro: " + quantidade);
+        }
+        return quantidade;
+    }
+
+    /**
+     * Lê uma movimentação na posição atual do buffer.
+     *
+     * <p>Os textos passam pelo {@link PoolTextos}: registros restaurados
+     * compartilham as mesmas instâncias das coletas e uns dos outros.</p>
+     *
+     * @param corpo Buffer posicionado no início de uma movimentação
+     * @return Movimentação lida
+     */
+    static NavioMovimentacao lerMovimentacao(ByteBuffer corpo) {
+        return new NavioMovimentacao(
+            lerCanonico(corpo), lerCanonico(corpo), lerCanonico(corpo),
+            lerCanonico(corpo), lerCanonico(corpo), lerCanonico(corpo)
+        );
+    }
+
+    private static String lerCanonico(ByteBuffer corpo) {
+        return PoolTextos.canonico(lerTexto(corpo));
+    }
+
+    /**
+     * Avança o buffer sobre um campo de texto, sem decodificá-lo.
+     *
+     * @param corpo Buffer posicionado no início do campo
+     */
+    static void pularTexto(ByteBuffer corpo) {
+        int tamanho = Short.toUnsignedInt(corpo.getShort());
+        corpo.position(corpo.position() + tamanho);
+    }
+
+    /**
+     * Lê um campo de texto na posição atual do buffer.
+     *
+     * @param corpo Buffer posicionado no início do campo
+     * @return Texto decodificado
+     */
+    static String lerTexto(ByteBuffer corpo) {
+
+        int tamanho = Short.toUnsignedInt(corpo.getShort());
+        if (tamanho > corpo.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
+        if (corpo.hasArray()) {
+            int inicio = corpo.arrayOffset() + corpo.position();
+            corpo.position(corpo.position() + tamanho);
+            return new String(corpo.array(), inicio, tamanho, StandardCharsets.UTF_8);
+        }
+
+        byte[] bytes = new byte[tamanho];
+        corpo.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
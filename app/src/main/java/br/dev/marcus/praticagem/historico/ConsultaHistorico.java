@@ -0,0 +1,135 @@
+package br.dev.marcus.praticagem.historico;
+
+import br.dev.marcus.praticagem.model.MovimentacaoTipada;
+import br.dev.marcus.praticagem.parser.NormalizadorTexto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Parâmetros de {@code GET /movimentacoes/historico}: período e berço.
+ *
+ * <p>Os instantes aceitam epoch em milissegundos, data/hora ISO-8601 (com ou
+ * sem fuso) ou apenas a data, em ISO ({@code 2026-02-21}) ou no formato do
+ * site ({@code 21/02/2026}). Sem fuso, vale o horário de Itajaí. Uma data sem
+ * hora cobre o dia inteiro: início do dia em {@code de}, fim do dia em {@code ate}.</p>
+ *
+ * <pre>
+ *  ?de=2026-02-21&amp;ate=2026-02-21          → o dia 21 inteiro
+ *  ?de=2026-02-21T08:00&amp;ate=2026-02-21T12:00
+ *  ?de=1771671600000&amp;berco=201
+ *  (sem parâmetros)                      → últimas 24 horas
+ * </pre>
+ *
+ * @param de Início do período (epoch ms, inclusivo)
+ * @param ate Fim do período (epoch ms, inclusivo)
+ * @param berco Berço como informado, ou {@code null} para todos
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see LeitorHistorico
+ */
+public record ConsultaHistorico(long de, long ate, String berco) {
+
+    /**
+     * Fuso usado quando o instante não informa um.
+     */
+    public static final ZoneId FUSO = MovimentacaoTipada.FUSO;
+
+    /**
+     * Período padrão quando {@code de} não é informado.
+     */
+    public static final long PERIODO_PADRAO_MS = 24L * 60 * 60 * 1000;
+
+    private static final DateTimeFormatter DATA_SITE = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+
+    /**
+     * Construtor canônico: valida o período.
+     *
+     * @throws IllegalArgumentException se {@code de} for posterior a {@code ate}
+     */
+    public ConsultaHistorico {
+        if (de > ate) {
+            throw new IllegalArgumentException("Período inválido: de (" + de + ") é posterior a ate (" + ate + ")");
+        }
+        if (berco != null && berco.isBlank()) {
+            berco = null;
+        }
+    }
+
+    /**
+     * Monta a consulta a partir dos parâmetros da requisição.
+     *
+     * @param de Valor de {@code de}, ou {@code null}
+     * @param ate Valor de {@code ate}, ou {@code null}
+     * @param berco Valor de {@code berco}, ou {@code null}
+     * @param agora Instante atual (epoch ms), usado quando {@code ate} falta
+     * @return Consulta pronta
+     * @throws IllegalArgumentException se algum instante não puder ser interpretado
+     */
+    public static ConsultaHistorico de(String de, String ate, String berco, long agora) {
+        long fim = vazio(ate) ? agora : instante("ate", ate, true);
+        long inicio = vazio(de) ? fim - PERIODO_PADRAO_MS : instante("de", de, false);
+        return new ConsultaHistorico(inicio, fim, berco);
+    }
+
+    /**
+     * Berço normalizado, para comparar com as listas de postagem.
+     *
+     * @return Berço normalizado, ou {@code null} se a consulta não filtra por berço
+     */
+    public String bercoNormalizado() {
+        return berco == null ? null : NormalizadorTexto.normalizar(berco);
+    }
+
+    /**
+     * Interpreta um instante informado como parâmetro de consulta.
+     *
+     * <p>Também usado pelos filtros de período de {@code GET /movimentacoes},
+     * para que as duas rotas aceitem os mesmos formatos.</p>
+     *
+     * @param parametro Nome do parâmetro, usado na mensagem de erro
+     * @param valor Epoch em ms, data/hora ISO-8601 ou data (ISO ou dd/MM/aaaa)
+     * @param fimDoDia Se {@code valor} for só uma data, usar o último milissegundo do dia
+     * @return Instante em epoch ms
+     * @throws IllegalArgumentException se o valor não puder ser interpretado
+     */
+    public static long instante(String parametro, String valor, boolean fimDoDia) {
+
+        String texto = valor.trim();
+        try {
+            if (texto.chars().allMatch(Character::isDigit)) {
+                return Long.parseLong(texto);
+            }
+
+            if (texto.contains("T")) {
+                boolean comFuso = texto.endsWith("Z") || texto.lastIndexOf('+') > texto.indexOf('T')
+                    || texto.lastIndexOf('-') > texto.indexOf('T');
+                return comFuso
+                    ? OffsetDateTime.parse(texto).toInstant().toEpochMilli()
+                    : LocalDateTime.parse(texto).atZone(FUSO).toInstant().toEpochMilli();
+            }
+
+            LocalDate data = texto.contains("/") ? LocalDate.parse(texto, DATA_SITE) : LocalDate.parse(texto);
+            if (fimDoDia) {
+                return data.plusDays(1).atStartOfDay(FUSO).toInstant().toEpochMilli() - 1;
+            }
+            return data.atStartOfDay(FUSO).toInstant().toEpochMilli();
+
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException(
+                parametro + " deve ser epoch em ms, data ISO-8601 ou dd/MM/aaaa: " + valor, e
+            );
+        }
+    }
+
+    private static boolean vazio(String valor) {
+        return valor == null || valor.isBlank();
+    }
+}
@@ -0,0 +1,707 @@
+package br.dev.marcus.praticagem.historico;
+
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+import br.dev.marcus.praticagem.service.MovimentacaoSnapshot;
+import br.dev.marcus.praticagem.service.OuvinteSnapshot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Histórico persistente, somente de acréscimo, de todas as versões publicadas.
+ *
+ * <p>Registrado como {@link OuvinteSnapshot}: a cada versão nova, anexa ao
+ * segmento atual um registro com as mudanças da coleta e o instante em que
+ * ela foi feita. A cada {@code intervaloCheckpoint} registros (e no início
+ * de cada segmento) grava antes dele um checkpoint com a lista completa, para
+ * que a reconstrução de qualquer versão leia poucos registros. As consultas
+ * por período ficam com o {@link LeitorHistorico}.</p>
+ *
+ * <h2>Arquivos</h2>
+ * <pre>
+ *  historico/
+ *  ├── 00000000000000000001.hist   ← segmento: cabeçalho + registros (até ~64 MB)
+ *  ├── 00000000000000000001.idx    ← índice dos checkpoints do segmento
+ *  ├── 00000000000000052210.hist   ← nome = versão do primeiro registro
+ *  └── 00000000000000052210.idx
+ *
+ *  .hist: int magia "PHST", short versão do formato, registros ({@link CodecRegistro})
+ *  .idx:  entradas de 24 bytes: long obtidoEm, long versao, long posição no .hist
+ * </pre>
+ *
+ * <h2>Recuperação</h2>
+ * <p>Na abertura, o último segmento é lido a partir do último checkpoint do
+ * índice, aplicando as mudanças seguintes até o fim ou até o primeiro
+ * registro inválido (CRC divergente ou cortado por uma queda). O arquivo é
+ * truncado nesse ponto e os novos registros continuam de lá. Se o índice
+ * faltar ou não bater, o segmento é varrido desde o início e o índice é
+ * refeito. O estado reconstruído fica em {@link #ultimoEstado()}, para o
+ * serviço publicá-lo antes do primeiro acesso ao site.</p>
+ *
+ * <h2>Durabilidade</h2>
+ * <p>Cada registro é forçado para o disco ({@link FileChannel#force(boolean)})
+ * antes de o próximo ser escrito. Com um poll por minuto, isso custa uma
+ * sincronização por minuto, e só quando os dados mudam.</p>
+ *
+ * <h2>Concorrência</h2>
+ * <p>Escrita apenas por quem publica snapshots; os métodos que tocam os
+ * arquivos são sincronizados para cobrir também o encerramento.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see RegistroHistorico
+ * @see CodecRegistro
+ */
+public class HistoricoMovimentacoes implements OuvinteSnapshot, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(HistoricoMovimentacoes.class);
+
+    /**
+     * Tamanho a partir do qual um novo segmento é iniciado.
+     */
+    public static final long TAMANHO_SEGMENTO_PADRAO = 64L << 20;
+
+    /**
+     * Registros de mudanças entre dois checkpoints.
+     */
+    public static final int INTERVALO_CHECKPOINT_PADRAO = 100;
+
+    /**
+     * "PHST" em ASCII, no início de cada segmento.
+     */
+    static final int MAGIA = 0x50485354;
+
+    /**
+     * Versão do formato dos registros.
+     */
+    static final short VERSAO_FORMATO = 1;
+
+    /**
+     * Bytes do cabeçalho do segmento: magia e versão do formato.
+     */
+    static final int CABECALHO_SEGMENTO = 6;
+
+    /**
+     * Bytes de cada entrada do índice: obtidoEm, versão e posição.
+     */
+    static final int ENTRADA_INDICE = 24;
+
+    static final String EXTENSAO_SEGMENTO = ".hist";
+    static final String EXTENSAO_INDICE = ".idx";
+
+    private final Path diretorio;
+    private final long tamanhoMaximoSegmento;
+    private final int intervaloCheckpoint;
+
+    private FileChannel segmento;
+    private FileChannel indice;
+    private long tamanhoSegmento;
+    private boolean segmentoVazio;
+    private int mudancasDesdeCheckpoint;
+    private long ultimaVersao;
+    private boolean encerrado;
+
+    /**
+     * Lista da última versão gravada, para conferir se as mudanças da
+     * próxima a reproduzem; {@code null} se desconhecida.
+     */
+    private List<NavioMovimentacao> ultimaLista;
+
+    /**
+     * Estado reconstruído na abertura, ou {@code null} se o histórico estava vazio.
+     */
+    private final RegistroHistorico restaurado;
+
+    private final LongAdder versoesGravadas = new LongAdder();
+    private final LongAdder checkpointsGravados = new LongAdder();
+
+    private HistoricoMovimentacoes(Path diretorio, long tamanhoMaximoSegmento, int intervaloCheckpoint)
+        throws IOException {
+
+        this.diretorio = diretorio;
+        this.tamanhoMaximoSegmento = tamanhoMaximoSegmento;
+        this.intervaloCheckpoint = intervaloCheckpoint;
+
+        Files.createDirectories(diretorio);
+        this.restaurado = recuperar(listarSegmentos(diretorio));
+        this.ultimaVersao = restaurado == null ? 0 : restaurado.versao();
+        this.ultimaLista = restaurado == null ? null : restaurado.estado();
+    }
+
+    /**
+     * Abre (ou cria) o histórico no diretório, com os valores padrão.
+     *
+     * @param diretorio Diretório dos segmentos
+     * @return Histórico pronto para gravar
+     * @throws IllegalStateException se o diretório não puder ser lido ou criado
+     */
+    public static HistoricoMovimentacoes abrir(Path diretorio) {
+        return abrir(diretorio, TAMANHO_SEGMENTO_PADRAO, INTERVALO_CHECKPOINT_PADRAO);
+    }
+
+    /**
+     * Abre (ou cria) o histórico no diretório.
+     *
+     * @param diretorio Diretório dos segmentos
+     * @param tamanhoMaximoSegmento Tamanho, em bytes, a partir do qual um segmento é fechado
+     * @param intervaloCheckpoint Registros de mudanças entre dois checkpoints
+     * @return Histórico pronto para gravar, com o último estado recuperado
+     * @throws IllegalArgumentException se tamanho ou intervalo não forem positivos
+     * @throws IllegalStateException se o diretório não puder ser lido ou criado
+     */
+    public static HistoricoMovimentacoes abrir(Path diretorio, long tamanhoMaximoSegmento, int intervaloCheckpoint) {
+
+        if (tamanhoMaximoSegmento <= 0 || intervaloCheckpoint <= 0) {
+            throw new IllegalArgumentException(
+                "Tamanho de segmento e intervalo de checkpoint devem ser positivos: "
+                    + tamanhoMaximoSegmento + ", " + intervaloCheckpoint
+            );
+        }
+
+        try {
+            return new HistoricoMovimentacoes(diretorio, tamanhoMaximoSegmento, intervaloCheckpoint);
+
+        } catch (IOException e) {
+            throw new IllegalStateException("Falha ao abrir histórico em " + diretorio, e);
+        }
+    }
+
+    /**
+     * Último estado gravado, reconstruído na abertura.
+     *
+     * @return Checkpoint com a lista, a versão e o instante da última coleta
+     *         gravada, ou vazio se o histórico estava vazio
+     */
+    public Optional<RegistroHistorico> ultimoEstado() {
+        return Optional.ofNullable(restaurado);
+    }
+
+    /**
+     * Grava cada versão nova publicada. Renovações (mesma versão) são ignoradas.
+     */
+    @Override
+    public void snapshotPublicado(MovimentacaoSnapshot anterior, MovimentacaoSnapshot novo) {
+        gravar(novo);
+    }
+
+    /**
+     * Anexa a versão do snapshot ao histórico, se ainda não estiver gravada.
+     *
+     * <p>Toda versão gera um registro de mudanças, que é o que as consultas
+     * por período leem. Antes dele vai um checkpoint da mesma versão no início
+     * de um segmento, a cada {@code intervaloCheckpoint} registros, sempre
+     * que houver um buraco de versões (uma gravação anterior falhou), já que
+     * as mudanças do snapshot só valem sobre a versão imediatamente anterior,
+     * e quando aplicar as mudanças à lista anterior não reproduz a lista nova
+     * (o site só reordenou linhas). Os dois registros são escritos e forçados
+     * para o disco juntos.</p>
+     *
+     * @param snapshot Snapshot publicado
+     * @throws IllegalStateException se a escrita falhar
+     */
+    public synchronized void gravar(MovimentacaoSnapshot snapshot) {
+
+        if (encerrado || snapshot.versao() <= ultimaVersao) {
+            if (!encerrado && snapshot.versao() < ultimaVersao) {
+                logger.warn(
+                    "Versão {} é anterior à última gravada no histórico ({}). Ignorando",
+                    snapshot.versao(), ultimaVersao
+                );
+            }
+            return;
+        }
+
+        long posicao = tamanhoSegmento;
+        long fimIndice = -1;
+        try {
+            if (segmento == null || tamanhoSegmento >= tamanhoMaximoSegmento) {
+                iniciarSegmento(snapshot.versao());
+                posicao = tamanhoSegmento;
+            }
+            fimIndice = indice.size();
+
+            RegistroHistorico registroMudancas = RegistroHistorico.mudancas(
+                snapshot.versao(),
+                snapshot.obtidoEm(),
+                snapshot.mudancas(),
+                RegistroHistorico.posicoes(snapshot.mudancas().adicionadas(), snapshot.movimentacoes())
+            );
+            boolean checkpoint = segmentoVazio
+                || mudancasDesdeCheckpoint >= intervaloCheckpoint
+                || snapshot.versao() != ultimaVersao + 1
+                || !reproduz(registroMudancas, snapshot.movimentacoes());
+
+            byte[] mudancas = CodecRegistro.codificar(registroMudancas);
+            RegistroHistorico registroCheckpoint = null;
+            ByteBuffer dados = ByteBuffer.wrap(mudancas);
+            if (checkpoint) {
+                registroCheckpoint = RegistroHistorico.checkpoint(
+                    snapshot.versao(), snapshot.obtidoEm(), snapshot.movimentacoes()
+                );
+                byte[] bytesCheckpoint = CodecRegistro.codificar(registroCheckpoint);
+                dados = ByteBuffer.allocate(bytesCheckpoint.length + mudancas.length)
+                    .put(bytesCheckpoint)
+                    .put(mudancas)
+                    .flip();
+            }
+
+            int tamanhoDados = dados.remaining();
+            escrever(segmento, dados, posicao);
+            segmento.force(false);
+            tamanhoSegmento = posicao + tamanhoDados;
+
+            if (checkpoint) {
+                indexar(registroCheckpoint, posicao);
+                mudancasDesdeCheckpoint = 0;
+                checkpointsGravados.increment();
+            } else {
+                mudancasDesdeCheckpoint++;
+            }
+
+            segmentoVazio = false;
+            ultimaVersao = snapshot.versao();
+            ultimaLista = snapshot.movimentacoes();
+            versoesGravadas.increment();
+
+        } catch (IOException e) {
+            // A próxima escrita vai para um segmento novo e sai como checkpoint
+            descartarDesde(posicao, fimIndice);
+            throw new IllegalStateException(
+                "Falha ao gravar a versão " + snapshot.versao() + " no histórico", e
+            );
+        }
+    }
+
+    /**
+     * Fecha os arquivos abertos. Gravações posteriores são ignoradas.
+     */
+    @Override
+    public synchronized void close() {
+
+        encerrado = true;
+        fechar(segmento);
+        fechar(indice);
+        segmento = null;
+        indice = null;
+    }
+
+    /**
+     * Diretório dos segmentos.
+     *
+     * @return Caminho do diretório
+     */
+    public Path getDiretorio() {
+        return diretorio;
+    }
+
+    /**
+     * Última versão gravada (ou recuperada).
+     *
+     * @return Versão, ou {@code 0} se nada foi gravado
+     */
+    public synchronized long getUltimaVersao() {
+        return ultimaVersao;
+    }
+
+    /**
+     * Versões gravadas desde a abertura.
+     *
+     * @return Quantidade de versões
+     */
+    public long getVersoesGravadas() {
+        return versoesGravadas.sum();
+    }
+
+    /**
+     * Checkpoints gravados desde a abertura.
+     *
+     * @return Quantidade de checkpoints
+     */
+    public long getCheckpointsGravados() {
+        return checkpointsGravados.sum();
+    }
+
+    // ===== ESCRITA =====
+
+    /**
+     * Confere se as mudanças, aplicadas à última lista gravada, reconstroem a lista nova.
+     */
+    private boolean reproduz(RegistroHistorico mudancas, List<NavioMovimentacao> lista) {
+        if (ultimaLista == null) {
+            return false;
+        }
+        RegistroHistorico anterior = RegistroHistorico.checkpoint(ultimaVersao, 0, ultimaLista);
+        return anterior.aplicar(mudancas).estado().equals(lista);
+    }
+
+    private void iniciarSegmento(long primeiraVersao) throws IOException {
+
+        fechar(segmento);
+        fechar(indice);
+
+        Path arquivo = diretorio.resolve(nomeSegmento(primeiraVersao) + EXTENSAO_SEGMENTO);
+        if (Files.exists(arquivo) && Files.size(arquivo) <= CABECALHO_SEGMENTO) {
+            // Sobra de uma gravação da mesma versão que falhou: sem nenhum registro
+            Files.delete(arquivo);
+        }
+        segmento = FileChannel.open(
+            arquivo, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE
+        );
+        indice = abrirIndice(arquivo);
+        indice.truncate(0);
+
+        escrever(segmento, cabecalhoSegmento(), 0);
+        tamanhoSegmento = CABECALHO_SEGMENTO;
+        segmentoVazio = true;
+        mudancasDesdeCheckpoint = 0;
+
+        logger.info("Novo segmento de histórico: {}", arquivo.getFileName());
+    }
+
+    private void indexar(RegistroHistorico checkpoint, long posicao) throws IOException {
+        ByteBuffer entrada = ByteBuffer.allocate(ENTRADA_INDICE)
+            .putLong(checkpoint.obtidoEm())
+            .putLong(checkpoint.versao())
+            .putLong(posicao)
+            .flip();
+        escrever(indice, entrada, indice.size());
+    }
+
+    /**
+     * Desfaz uma gravação que falhou e fecha o segmento.
+     *
+     * <p>Segmento e índice são truncados de volta ao fim válido: um registro
+     * que chegou inteiro ao arquivo, mas cuja gravação falhou (ex: no
+     * {@code force}), não pode aparecer em consultas nem na recuperação. Em
+     * seguida o segmento é fechado e a próxima gravação abre outro, de modo
+     * que um arquivo só encolhe uma vez, nunca volta a crescer sobre bytes que
+     * um leitor já indexou, e o {@link SegmentoMapeado} percebe a redução e
+     * refaz seus índices. Se o truncamento também falhar, o trecho inválido
+     * fica no fim do segmento fechado e é descartado na próxima recuperação.</p>
+     *
+     * @param posicao Fim válido do segmento
+     * @param fimIndice Fim válido do índice, ou {@code -1} se desconhecido
+     */
+    private void descartarDesde(long posicao, long fimIndice) {
+        try {
+            if (segmento != null && segmento.size() > posicao) {
+                segmento.truncate(posicao);
+            }
+            if (indice != null && fimIndice >= 0 && indice.size() > fimIndice) {
+                indice.truncate(fimIndice);
+            }
+
+        } catch (IOException e) {
+            logger.warn("Falha ao truncar segmento do histórico após erro de gravação: {}", e.getMessage());
+        }
+
+        fechar(segmento);
+        fechar(indice);
+        segmento = null;
+        indice = null;
+        tamanhoSegmento = posicao;
+    }
+
+    // ===== RECUPERAÇÃO =====
+
+    /**
+     * Reabre o último segmento para escrita e reconstrói o último estado,
+     * recuando para segmentos anteriores se o último não tiver checkpoint válido.
+     */
+    private RegistroHistorico recuperar(List<Path> segmentos) throws IOException {
+
+        RegistroHistorico estado = null;
+
+        for (int i = segmentos.size() - 1; i >= 0 && estado == null; i--) {
+            Path arquivo = segmentos.get(i);
+            boolean ultimo = i == segmentos.size() - 1;
+
+            FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            FileChannel canalIndice = abrirIndice(arquivo);
+            try {
+                Varredura varredura = varrerSegmento(arquivo, canal, canalIndice);
+                estado = varredura.estado();
+
+                if (ultimo) {
+                    // Continua escrevendo no último segmento, a partir do fim válido
+                    segmento = canal;
+                    indice = canalIndice;
+                    tamanhoSegmento = varredura.fimValido();
+                    segmentoVazio = varredura.estado() == null;
+                    mudancasDesdeCheckpoint = varredura.mudancasDesdeCheckpoint();
+                    canal = null;
+                    canalIndice = null;
+                }
+
+            } finally {
+                fechar(canal);
+                fechar(canalIndice);
+            }
+        }
+
+        if (estado != null) {
+            logger.info(
+                "Histórico recuperado: versão {} com {} movimentação(ões), obtida em {}",
+                estado.versao(), estado.estado().size(), estado.obtidoEm()
+            );
+        }
+        return estado;
+    }
+
+    /**
+     * Lê um segmento a partir do último checkpoint indexado, trunca registros
+     * inválidos no fim e completa o índice com checkpoints que faltarem.
+     */
+    private static Varredura varrerSegmento(Path arquivo, FileChannel canal, FileChannel canalIndice)
+        throws IOException {
+
+        if (canal.size() < CABECALHO_SEGMENTO) {
+            // Queda logo após a criação: nenhum registro chegou a ser gravado
+            logger.warn("Segmento {} sem cabeçalho completo. Reiniciando o arquivo", arquivo.getFileName());
+            canal.truncate(0);
+            escrever(canal, cabecalhoSegmento(), 0);
+            canalIndice.truncate(0);
+            return new Varredura(null, CABECALHO_SEGMENTO, 0, List.of());
+        }
+
+        if (!cabecalhoValido(canal)) {
+            throw new IOException(
+                arquivo.getFileName() + " não é um segmento de histórico compatível (formato " + VERSAO_FORMATO + ")"
+            );
+        }
+
+        // Índice: última entrada que aponta para dentro do arquivo
+        long[] posicoes = lerIndice(canalIndice, canal.size());
+        Varredura varredura = null;
+        int entradasValidas = posicoes.length;
+
+        while (entradasValidas > 0 && varredura == null) {
+            Varredura tentativa = varrer(canal, posicoes[entradasValidas - 1]);
+            if (tentativa.estado() != null && tentativa.checkpoints().get(0) == posicoes[entradasValidas - 1]) {
+                varredura = tentativa;
+            } else {
+                entradasValidas--;
+            }
+        }
+
+        if (varredura == null || entradasValidas != posicoes.length) {
+            // Índice ausente ou divergente: varre o segmento inteiro e refaz o índice
+            if (posicoes.length > 0) {
+                logger.warn("Índice de {} divergente. Refazendo", arquivo.getFileName());
+            }
+            varredura = varrer(canal, CABECALHO_SEGMENTO);
+            canalIndice.truncate(0);
+            entradasValidas = 0;
+        }
+
+        if (canal.size() > varredura.fimValido()) {
+            logger.warn(
+                "Segmento {}: {} byte(s) inválidos no fim descartados",
+                arquivo.getFileName(), canal.size() - varredura.fimValido()
+            );
+            canal.truncate(varredura.fimValido());
+        }
+
+        // Completa o índice com checkpoints gravados depois da última entrada
+        canalIndice.truncate((long) entradasValidas * ENTRADA_INDICE);
+        for (Long posicao : varredura.checkpoints()) {
+            if (entradasValidas == 0 || posicao > posicoes[entradasValidas - 1]) {
+                RegistroHistorico checkpoint = lerRegistro(canal, posicao);
+                ByteBuffer entrada = ByteBuffer.allocate(ENTRADA_INDICE)
+                    .putLong(checkpoint.obtidoEm())
+                    .putLong(checkpoint.versao())
+                    .putLong(posicao)
+                    .flip();
+                escrever(canalIndice, entrada, canalIndice.size());
+            }
+        }
+
+        return varredura;
+    }
+
+    /**
+     * Lê registros a partir de {@code inicio} até o fim do arquivo ou até o
+     * primeiro inválido, reconstruindo o estado a partir dos checkpoints.
+     */
+    private static Varredura varrer(FileChannel canal, long inicio) throws IOException {
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.max(0, canal.size() - inicio));
+        lerTudo(canal, buffer, inicio);
+        buffer.flip();
+
+        RegistroHistorico estado = null;
+        int mudancas = 0;
+        List<Long> checkpoints = new ArrayList<>();
+
+        while (buffer.hasRemaining()) {
+            int posicaoRelativa = buffer.position();
+            RegistroHistorico registro = CodecRegistro.ler(buffer);
+            if (registro == null) {
+                break;
+            }
+
+            if (registro.tipo() == RegistroHistorico.Tipo.CHECKPOINT) {
+                estado = registro;
+                mudancas = 0;
+                checkpoints.add(inicio + posicaoRelativa);
+
+            } else if (estado != null && registro.versao() == estado.versao()) {
+                // Mudanças da própria versão do checkpoint: já estão nele
+
+            } else if (estado != null && registro.versao() == estado.versao() + 1) {
+                estado = estado.aplicar(registro);
+                mudancas++;
+
+            } else if (estado != null) {
+                // Sequência quebrada: o que vem depois não é confiável
+                buffer.position(posicaoRelativa);
+                break;
+            }
+        }
+
+        return new Varredura(estado, inicio + buffer.position(), mudancas, checkpoints);
+    }
+
+    private static RegistroHistorico lerRegistro(FileChannel canal, long posicao) throws IOException {
+        ByteBuffer prefixo = ByteBuffer.allocate(CodecRegistro.PREFIXO);
+        lerTudo(canal, prefixo, posicao);
+        ByteBuffer registro = ByteBuffer.allocate(CodecRegistro.PREFIXO + prefixo.getInt(0));
+        lerTudo(canal, registro, posicao);
+        return CodecRegistro.ler(registro.flip());
+    }
+
+    /**
+     * Posições dos checkpoints no índice, ignorando uma entrada final incompleta
+     * e entradas que apontem para fora do segmento.
+     */
+    private static long[] lerIndice(FileChannel canalIndice, long tamanhoSegmento) throws IOException {
+
+        int entradas = (int) (canalIndice.size() / ENTRADA_INDICE);
+        ByteBuffer buffer = ByteBuffer.allocate(entradas * ENTRADA_INDICE);
+        lerTudo(canalIndice, buffer, 0);
+        buffer.flip();
+
+        long[] posicoes = new long[entradas];
+        int validas = 0;
+        long anterior = -1;
+        for (int i = 0; i < entradas; i++) {
+            long posicao = buffer.getLong(i * ENTRADA_INDICE + 16);
+            if (posicao < CABECALHO_SEGMENTO || posicao >= tamanhoSegmento || posicao <= anterior) {
+                break;
+            }
+            posicoes[validas++] = posicao;
+            anterior = posicao;
+        }
+        return Arrays.copyOf(posicoes, validas);
+    }
+
+    // ===== UTILITÁRIOS DE ARQUIVO =====
+
+    /**
+     * Segmentos do diretório, em ordem de versão.
+     *
+     * @param diretorio Diretório do histórico
+     * @return Caminhos dos arquivos {@code .hist}, do mais antigo ao mais novo
+     * @throws IOException se o diretório não puder ser listado
+     */
+    static List<Path> listarSegmentos(Path diretorio) throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos
+                .filter(arquivo -> arquivo.getFileName().toString().endsWith(EXTENSAO_SEGMENTO))
+                .sorted()
+                .toList();
+        }
+    }
+
+    /**
+     * Caminho do índice de um segmento.
+     *
+     * @param segmento Caminho do arquivo {@code .hist}
+     * @return Caminho do arquivo {@code .idx} correspondente
+     */
+    static Path caminhoIndice(Path segmento) {
+        String nome = segmento.getFileName().toString();
+        return segmento.resolveSibling(
+            nome.substring(0, nome.length() - EXTENSAO_SEGMENTO.length()) + EXTENSAO_INDICE
+        );
+    }
+
+    private static FileChannel abrirIndice(Path segmento) throws IOException {
+        return FileChannel.open(
+            caminhoIndice(segmento),
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE
+        );
+    }
+
+    private static String nomeSegmento(long primeiraVersao) {
+        return String.format("%020d", primeiraVersao);
+    }
+
+    private static ByteBuffer cabecalhoSegmento() {
+        return ByteBuffer.allocate(CABECALHO_SEGMENTO).putInt(MAGIA).putShort(VERSAO_FORMATO).flip();
+    }
+
+    private static boolean cabecalhoValido(FileChannel canal) throws IOException {
+        ByteBuffer cabecalho = ByteBuffer.allocate(CABECALHO_SEGMENTO);
+        lerTudo(canal, cabecalho, 0);
+        return cabecalho.getInt(0) == MAGIA && cabecalho.getShort(4) == VERSAO_FORMATO;
+    }
+
+    private static void escrever(FileChannel canal, ByteBuffer dados, long posicao) throws IOException {
+        while (dados.hasRemaining()) {
+            posicao += canal.write(dados, posicao);
+        }
+    }
+
+    private static void lerTudo(FileChannel canal, ByteBuffer destino, long posicao) throws IOException {
+        while (destino.hasRemaining()) {
+            int lidos = canal.read(destino, posicao);
+            if (lidos < 0) {
+                break;
+            }
+            posicao += lidos;
+        }
+    }
+
+    private static void fechar(FileChannel canal) {
+        if (canal == null) {
+            return;
+        }
+        try {
+            canal.close();
+        } catch (IOException e) {
+            logger.warn("Falha ao fechar arquivo do histórico: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Resultado da leitura de um segmento.
+     *
+     * @param estado Estado da última versão válida, ou {@code null} sem checkpoint
+     * @param fimValido Posição logo após o último registro válido
+     * @param mudancasDesdeCheckpoint Registros de mudanças após o último checkpoint
+     * @param checkpoints Posições dos checkpoints encontrados
+     */
+    private record Varredura(
+        RegistroHistorico estado,
+        long fimValido,
+        int mudancasDesdeCheckpoint,
+        List<Long> checkpoints
+    ) {
+    }
+}
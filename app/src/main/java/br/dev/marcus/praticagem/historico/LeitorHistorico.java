@@ -0,0 +1,400 @@
+package br.dev.marcus.praticagem.historico;
+
+import br.dev.marcus.praticagem.parser.NormalizadorTexto;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Consultas por período sobre o histórico, para {@code GET /movimentacoes/historico}.
+ *
+ * <p>Os segmentos gravados por {@link HistoricoMovimentacoes} são mapeados em
+ * memória ({@link SegmentoMapeado}) e nunca carregados no heap. Uma consulta
+ * localiza o início do período pelo índice esparso de tempo (ou, com
+ * {@code berco}, pela lista de postagem do berço) e percorre os registros no
+ * lugar, escrevendo cada campo direto no {@link JsonGenerator}:</p>
+ *
+ * <pre>
+ *  páginas mapeadas ──bytes UTF-8──► rascunho (64 KB, reaproveitado) ──► JsonGenerator ──► resposta
+ *                    (sem String, sem NavioMovimentacao, sem lista intermediária)
+ * </pre>
+ *
+ * <p>O Jackson precisa de um {@code byte[]} para {@code writeUTF8String}, por
+ * isso cada campo passa por um único buffer de rascunho por consulta; nenhum
+ * objeto é criado por registro. A resposta sai em streaming: o primeiro
+ * registro chega ao cliente antes de o último ser lido.</p>
+ *
+ * <h2>Resposta</h2>
+ * <pre>{@code
+ * {"de":1771642800000,"ate":1771729199999,"berco":"201","registros":[
+ *   {"versao":42,"obtidoEm":1771650000000,
+ *    "adicionadas":[{...}],"removidas":[],"alteradas":[{...}],"alteradasAntes":[{...}]}
+ * ],"total":1}
+ * }</pre>
+ *
+ * <p>Com {@code berco}, cada registro traz só as movimentações daquele berço;
+ * uma alteração entra se o berço antigo ou o novo for o pedido. Os instantes
+ * de coleta crescem ao longo dos arquivos, o que permite parar a varredura no
+ * primeiro registro depois de {@code ate}.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see ConsultaHistorico
+ * @see SegmentoMapeado
+ */
+public class LeitorHistorico implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeitorHistorico.class);
+
+    /**
+     * Fábrica sem fechar a saída: o stream é da resposta HTTP.
+     */
+    private static final JsonFactory JSON = JsonFactory.builder()
+        .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+        .build();
+
+    private static final SerializableString[] CAMPOS = {
+        new SerializedString("data"),
+        new SerializedString("horario"),
+        new SerializedString("manobra"),
+        new SerializedString("berco"),
+        new SerializedString("navio"),
+        new SerializedString("situacao")
+    };
+
+    private static final SerializableString VERSAO = new SerializedString("versao");
+    private static final SerializableString OBTIDO_EM = new SerializedString("obtidoEm");
+    private static final SerializableString ADICIONADAS = new SerializedString("adicionadas");
+    private static final SerializableString REMOVIDAS = new SerializedString("removidas");
+    private static final SerializableString ALTERADAS = new SerializedString("alteradas");
+    private static final SerializableString ALTERADAS_ANTES = new SerializedString("alteradasAntes");
+
+    private final Path diretorio;
+
+    /**
+     * Segmentos já mapeados, por caminho.
+     */
+    private final Map<Path, SegmentoMapeado> segmentos = new ConcurrentHashMap<>();
+
+    private final LongAdder consultas = new LongAdder();
+    private final LongAdder registrosEscritos = new LongAdder();
+
+    /**
+     * Cria o leitor sobre o diretório do histórico.
+     *
+     * @param diretorio Diretório dos segmentos
+     */
+    public LeitorHistorico(Path diretorio) {
+        this.diretorio = diretorio;
+    }
+
+    /**
+     * Escreve em {@code saida} o JSON com os registros de mudanças do período.
+     *
+     * @param consulta Período e berço
+     * @param saida Stream da resposta (não é fechado)
+     * @return Quantidade de registros escritos
+     * @throws IOException se a escrita na saída falhar (cliente desconectou)
+     */
+    public long escrever(ConsultaHistorico consulta, OutputStream saida) throws IOException {
+
+        consultas.increment();
+        String berco = consulta.bercoNormalizado();
+        byte[] rascunho = new byte[0xFFFF];
+        long total = 0;
+
+        try (JsonGenerator json = JSON.createGenerator(saida)) {
+            json.writeStartObject();
+            json.writeNumberField("de", consulta.de());
+            json.writeNumberField("ate", consulta.ate());
+            json.writeStringField("berco", consulta.berco());
+            json.writeArrayFieldStart("registros");
+
+            for (SegmentoMapeado segmento : segmentosAtualizados()) {
+                SegmentoMapeado.Visao visao = segmento.visao(berco);
+                if (visao == null || !visao.cobre(consulta.de(), consulta.ate())) {
+                    continue;
+                }
+                total += berco == null
+                    ? varrer(json, visao, consulta, rascunho)
+                    : varrerPostagens(json, visao, consulta, berco, rascunho);
+            }
+
+            json.writeEndArray();
+            json.writeNumberField("total", total);
+            json.writeEndObject();
+        }
+
+        registrosEscritos.add(total);
+        return total;
+    }
+
+    /**
+     * Consultas atendidas desde a inicialização.
+     *
+     * @return Quantidade de consultas
+     */
+    public long getConsultas() {
+        return consultas.sum();
+    }
+
+    /**
+     * Registros escritos em respostas desde a inicialização.
+     *
+     * @return Quantidade de registros
+     */
+    public long getRegistrosEscritos() {
+        return registrosEscritos.sum();
+    }
+
+    /**
+     * Fecha os segmentos mapeados.
+     */
+    @Override
+    public void close() {
+        segmentos.values().forEach(LeitorHistorico::fechar);
+        segmentos.clear();
+    }
+
+    // ===== VARREDURA =====
+
+    /**
+     * Sem filtro: começa pela entrada do índice esparso anterior a {@code de}
+     * e segue registro a registro até passar de {@code ate}.
+     */
+    private static long varrer(
+        JsonGenerator json,
+        SegmentoMapeado.Visao visao,
+        ConsultaHistorico consulta,
+        byte[] rascunho
+    ) throws IOException {
+
+        ByteBuffer mapa = visao.mapa();
+        long escritos = 0;
+
+        for (int posicao = visao.inicioVarredura(consulta.de());
+             posicao < visao.fim();
+             posicao = SegmentoMapeado.proximo(mapa, posicao)) {
+
+            long tempo = SegmentoMapeado.tempo(mapa, posicao);
+            if (tempo > consulta.ate()) {
+                break;
+            }
+            if (tempo >= consulta.de() && SegmentoMapeado.mudancas(mapa, posicao)) {
+                escreverRegistro(json, mapa, posicao, null, rascunho);
+                escritos++;
+            }
+        }
+        return escritos;
+    }
+
+    /**
+     * Com berço: percorre só os registros da lista de postagem do berço.
+     */
+    private static long varrerPostagens(
+        JsonGenerator json,
+        SegmentoMapeado.Visao visao,
+        ConsultaHistorico consulta,
+        String berco,
+        byte[] rascunho
+    ) throws IOException {
+
+        ByteBuffer mapa = visao.mapa();
+        long escritos = 0;
+
+        for (int i = visao.primeiraPostagem(consulta.de()); i < visao.totalPostagens(); i++) {
+            int posicao = visao.postagens()[i];
+            if (SegmentoMapeado.tempo(mapa, posicao) > consulta.ate()) {
+                break;
+            }
+            escreverRegistro(json, mapa, posicao, berco, rascunho);
+            escritos++;
+        }
+        return escritos;
+    }
+
+    // ===== ESCRITA JSON =====
+
+    private static void escreverRegistro(
+        JsonGenerator json,
+        ByteBuffer mapa,
+        int posicao,
+        String berco,
+        byte[] rascunho
+    ) throws IOException {
+
+        json.writeStartObject();
+        json.writeFieldName(VERSAO);
+        json.writeNumber(mapa.getLong(posicao + CodecRegistro.POSICAO_VERSAO));
+        json.writeFieldName(OBTIDO_EM);
+        json.writeNumber(SegmentoMapeado.tempo(mapa, posicao));
+
+        ByteBuffer cursor = mapa.duplicate();
+        cursor.position(posicao + CodecRegistro.PREFIXO + CodecRegistro.CABECALHO);
+
+        json.writeFieldName(ADICIONADAS);
+        escreverLista(json, cursor, berco, rascunho);
+        json.writeFieldName(REMOVIDAS);
+        escreverLista(json, cursor, berco, rascunho);
+
+        // Pares (antes, depois): uma passada para cada lado
+        int pares = cursor.getInt();
+        int inicioPares = cursor.position();
+        json.writeFieldName(ALTERADAS);
+        escreverPares(json, cursor, inicioPares, pares, 1, berco, rascunho);
+        json.writeFieldName(ALTERADAS_ANTES);
+        escreverPares(json, cursor, inicioPares, pares, 0, berco, rascunho);
+
+        json.writeEndObject();
+    }
+
+    private static void escreverLista(
+        JsonGenerator json,
+        ByteBuffer cursor,
+        String berco,
+        byte[] rascunho
+    ) throws IOException {
+
+        int linhas = cursor.getInt();
+        json.writeStartArray();
+        for (int i = 0; i < linhas; i++) {
+            if (berco == null || corresponde(cursor, cursor.position(), berco)) {
+                escreverMovimentacao(json, cursor, rascunho);
+            } else {
+                SegmentoMapeado.pularMovimentacao(cursor);
+            }
+        }
+        json.writeEndArray();
+    }
+
+    /**
+     * Escreve um lado dos pares de alteradas: {@code 0} = antes, {@code 1} = depois.
+     * Deixa o cursor no fim dos pares.
+     */
+    private static void escreverPares(
+        JsonGenerator json,
+        ByteBuffer cursor,
+        int inicioPares,
+        int pares,
+        int lado,
+        String berco,
+        byte[] rascunho
+    ) throws IOException {
+
+        cursor.position(inicioPares);
+        json.writeStartArray();
+        for (int i = 0; i < pares; i++) {
+            int antes = cursor.position();
+            SegmentoMapeado.pularMovimentacao(cursor);
+            int depois = cursor.position();
+            SegmentoMapeado.pularMovimentacao(cursor);
+            int fim = cursor.position();
+
+            if (berco == null || corresponde(cursor, antes, berco) || corresponde(cursor, depois, berco)) {
+                cursor.position(lado == 0 ? antes : depois);
+                escreverMovimentacao(json, cursor, rascunho);
+            }
+            cursor.position(fim);
+        }
+        json.writeEndArray();
+    }
+
+    /**
+     * Compara o berço da movimentação em {@code inicio} com o berço pedido.
+     * Deixa o cursor de volta em {@code inicio}.
+     */
+    private static boolean corresponde(ByteBuffer cursor, int inicio, String berco) {
+        cursor.position(inicio);
+        boolean igual = berco.equals(NormalizadorTexto.normalizar(SegmentoMapeado.lerBerco(cursor)));
+        cursor.position(inicio);
+        return igual;
+    }
+
+    /**
+     * Copia cada campo das páginas mapeadas para o rascunho e o entrega ao
+     * gerador como UTF-8 já codificado (o Jackson só escapa o necessário).
+     */
+    private static void escreverMovimentacao(
+        JsonGenerator json,
+        ByteBuffer cursor,
+        byte[] rascunho
+    ) throws IOException {
+
+        json.writeStartObject();
+        for (SerializableString campo : CAMPOS) {
+            int tamanho = Short.toUnsignedInt(cursor.getShort());
+            cursor.get(rascunho, 0, tamanho);
+            json.writeFieldName(campo);
+            json.writeUTF8String(rascunho, 0, tamanho);
+        }
+        json.writeEndObject();
+    }
+
+    // ===== SEGMENTOS =====
+
+    /**
+     * Segmentos do diretório, em ordem, mapeados e com índices em dia.
+     * Segmentos que falharem são logados e deixados de fora da consulta.
+     */
+    private List<SegmentoMapeado> segmentosAtualizados() throws IOException {
+
+        List<Path> arquivos = HistoricoMovimentacoes.listarSegmentos(diretorio);
+        segmentos.keySet().removeIf(arquivo -> {
+            if (arquivos.contains(arquivo)) {
+                return false;
+            }
+            fechar(segmentos.get(arquivo));
+            return true;
+        });
+
+        List<SegmentoMapeado> atualizados = new ArrayList<>(arquivos.size());
+        for (Path arquivo : arquivos) {
+            try {
+                SegmentoMapeado segmento = segmentos.get(arquivo);
+                if (segmento == null) {
+                    segmento = new SegmentoMapeado(arquivo);
+                    SegmentoMapeado existente = segmentos.putIfAbsent(arquivo, segmento);
+                    if (existente != null) {
+                        fechar(segmento);
+                        segmento = existente;
+                    }
+                }
+                segmento.atualizar();
+                atualizados.add(segmento);
+
+            } catch (IOException e) {
+                logger.warn("Segmento de histórico {} ignorado: {}", arquivo.getFileName(), e.getMessage());
+            }
+        }
+        return atualizados;
+    }
+
+    private static void fechar(SegmentoMapeado segmento) {
+        if (segmento == null) {
+            return;
+        }
+        try {
+            segmento.close();
+        } catch (IOException e) {
+            logger.warn("Falha ao fechar segmento do histórico: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package br.dev.marcus.praticagem.historico;
+
+import java.util.Arrays;
+
+/**
+ * Lista de postagem: posições de registros, em ordem crescente, sem boxing.
+ *
+ * <p>Só cresce. Quem lê guarda o array e o tamanho do momento (sob a mesma
+ * trava de quem escreve) e enxerga um prefixo estável: acréscimos posteriores
+ * escrevem além desse tamanho ou em um array novo.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+final class ListaPosicoes {
+
+    private int[] valores = new int[8];
+    private int tamanho;
+
+    /**
+     * Acrescenta uma posição, ignorando repetição da última.
+     *
+     * @param posicao Posição do registro no segmento
+     */
+    void adicionar(int posicao) {
+        if (tamanho > 0 && valores[tamanho - 1] == posicao) {
+            return;
+        }
+        if (tamanho == valores.length) {
+            valores = Arrays.copyOf(valores, tamanho * 2);
+        }
+        valores[tamanho++] = posicao;
+    }
+
+    int[] valores() {
+        return valores;
+    }
+
+    int tamanho() {
+        return tamanho;
+    }
+}
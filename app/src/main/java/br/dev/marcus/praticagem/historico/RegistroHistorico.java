@@ -0,0 +1,289 @@
+package br.dev.marcus.praticagem.historico;
+
+import br.dev.marcus.praticagem.diff.ConjuntoMudancas;
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Um registro do histórico: o estado completo (checkpoint) ou as mudanças de uma coleta.
+ *
+ * <p>O histórico é uma sequência de registros em ordem de versão. Toda
+ * versão tem um {@link Tipo#MUDANCAS}, com o {@link ConjuntoMudancas} da
+ * coleta, incluindo os valores anteriores das linhas alteradas. De tempos em
+ * tempos, um {@link Tipo#CHECKPOINT} com a lista inteira é gravado antes do
+ * registro de mudanças da mesma versão e serve de ponto de partida.</p>
+ *
+ * <pre>
+ *  [CHECKPOINT v40] [MUDANCAS v40] [MUDANCAS v41] [MUDANCAS v42] ... [CHECKPOINT v140] [MUDANCAS v140] ...
+ *         └── estado(v42) = estado(v40) + mudanças(v41) + mudanças(v42)
+ * </pre>
+ *
+ * @param tipo Tipo do registro
+ * @param versao Versão do snapshot gravado
+ * @param obtidoEm Instante (epoch ms) da coleta
+ * @param estado Lista completa (apenas em checkpoints; vazia nos demais)
+ * @param mudancas Mudanças da versão (apenas em registros de mudanças; vazio nos demais)
+ * @param posicoesAdicionadas Posição de cada item de {@code mudancas.adicionadas()}
+ *                            na lista da versão (vazia se desconhecida)
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see CodecRegistro
+ */
+public record RegistroHistorico(
+    Tipo tipo,
+    long versao,
+    long obtidoEm,
+    List<NavioMovimentacao> estado,
+    ConjuntoMudancas mudancas,
+    List<Integer> posicoesAdicionadas
+) {
+
+    /**
+     * Tipo de registro, com o código gravado em disco.
+     */
+    public enum Tipo {
+
+        /** Lista completa de movimentações. */
+        CHECKPOINT(1),
+
+        /** Mudanças em relação à versão anterior. */
+        MUDANCAS(2);
+
+        private final byte codigo;
+
+        Tipo(int codigo) {
+            this.codigo = (byte) codigo;
+        }
+
+        /**
+         * Código gravado no registro.
+         *
+         * @return Código do tipo
+         */
+        public byte codigo() {
+            return codigo;
+        }
+
+        /**
+         * Tipo correspondente a um código lido do disco.
+         *
+         * @param codigo Código lido
+         * @return Tipo, ou {@code null} se o código for desconhecido
+         */
+        public static Tipo deCodigo(byte codigo) {
+            for (Tipo tipo : values()) {
+                if (tipo.codigo == codigo) {
+                    return tipo;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Construtor canônico: garante listas imutáveis.
+     */
+    public RegistroHistorico {
+        estado = List.copyOf(estado);
+        posicoesAdicionadas = List.copyOf(posicoesAdicionadas);
+    }
+
+    /**
+     * Cria um checkpoint com a lista completa.
+     *
+     * @param versao Versão do snapshot
+     * @param obtidoEm Instante da coleta
+     * @param estado Lista completa
+     * @return Registro de checkpoint
+     */
+    public static RegistroHistorico checkpoint(long versao, long obtidoEm, List<NavioMovimentacao> estado) {
+        return new RegistroHistorico(Tipo.CHECKPOINT, versao, obtidoEm, estado, ConjuntoMudancas.VAZIO, List.of());
+    }
+
+    /**
+     * Aplica um registro de mudanças a este estado, produzindo o estado da versão dele.
+     *
+     * <p>Removidas e alteradas são localizadas por igualdade de valor (os
+     * valores anteriores das alteradas estão no registro), em um mapa
+     * valor → posições montado com uma passada pela lista, então o custo é
+     * O(n + mudanças) e o resultado é exato mesmo com linhas duplicadas.
+     * Linhas alteradas ficam na mesma posição e as demais mantêm a ordem;
+     * adicionadas voltam para as posições gravadas no registro (ou vão para o
+     * fim, em registros sem posições).</p>
+     *
+     * <p>Uma coleta que só reordena linhas não é reproduzível por mudanças;
+     * o {@link HistoricoMovimentacoes} grava um checkpoint nesses casos.</p>
+     *
+     * @param proximo Registro de mudanças da versão seguinte
+     * @return Checkpoint com o estado da versão de {@code proximo}
+     * @throws IllegalArgumentException se este registro não for um checkpoint
+     *                                  ou {@code proximo} não for de mudanças
+     */
+    public RegistroHistorico aplicar(RegistroHistorico proximo) {
+
+        if (tipo != Tipo.CHECKPOINT || proximo.tipo() != Tipo.MUDANCAS) {
+            throw new IllegalArgumentException(
+                "Só é possível aplicar mudanças a um checkpoint: " + tipo + " + " + proximo.tipo()
+            );
+        }
+
+        ConjuntoMudancas delta = proximo.mudancas();
+
+        // Posições, neste estado, dos valores que saem ou mudam
+        Map<NavioMovimentacao, ArrayDeque<Integer>> posicoes = new HashMap<>();
+        for (NavioMovimentacao removida : delta.removidas()) {
+            posicoes.putIfAbsent(removida, new ArrayDeque<>());
+        }
+        for (NavioMovimentacao antes : delta.alteradasAntes()) {
+            posicoes.putIfAbsent(antes, new ArrayDeque<>());
+        }
+        if (!posicoes.isEmpty()) {
+            for (int i = 0; i < estado.size(); i++) {
+                ArrayDeque<Integer> fila = posicoes.get(estado.get(i));
+                if (fila != null) {
+                    fila.add(i);
+                }
+            }
+        }
+
+        NavioMovimentacao[] linhas = estado.toArray(new NavioMovimentacao[0]);
+        for (NavioMovimentacao removida : delta.removidas()) {
+            Integer posicao = posicoes.get(removida).poll();
+            if (posicao != null) {
+                linhas[posicao] = null;
+            }
+        }
+        List<NavioMovimentacao> semPosicao = new ArrayList<>();
+        for (int i = 0; i < delta.alteradas().size(); i++) {
+            Integer posicao = posicoes.get(delta.alteradasAntes().get(i)).poll();
+            if (posicao != null) {
+                linhas[posicao] = delta.alteradas().get(i);
+            } else {
+                semPosicao.add(delta.alteradas().get(i));
+            }
+        }
+
+        List<NavioMovimentacao> mantidas = new ArrayList<>(linhas.length + semPosicao.size());
+        for (NavioMovimentacao linha : linhas) {
+            if (linha != null) {
+                mantidas.add(linha);
+            }
+        }
+        mantidas.addAll(semPosicao);
+
+        return checkpoint(proximo.versao(), proximo.obtidoEm(), intercalar(mantidas, proximo));
+    }
+
+    /**
+     * Intercala as adicionadas de um registro nas posições gravadas nele.
+     * Sem posições (registros antigos), as adicionadas vão para o fim.
+     */
+    private static List<NavioMovimentacao> intercalar(List<NavioMovimentacao> mantidas, RegistroHistorico registro) {
+
+        List<NavioMovimentacao> adicionadas = registro.mudancas().adicionadas();
+        List<Integer> posicoes = registro.posicoesAdicionadas();
+        if (adicionadas.isEmpty()) {
+            return mantidas;
+        }
+
+        NavioMovimentacao[] novo = new NavioMovimentacao[mantidas.size() + adicionadas.size()];
+        boolean posicoesValidas = posicoes.size() == adicionadas.size();
+        for (int i = 0; i < adicionadas.size() && posicoesValidas; i++) {
+            int posicao = posicoes.get(i);
+            posicoesValidas = posicao >= 0 && posicao < novo.length && novo[posicao] == null;
+            if (posicoesValidas) {
+                novo[posicao] = adicionadas.get(i);
+            }
+        }
+        if (!posicoesValidas) {
+            mantidas.addAll(adicionadas);
+            return mantidas;
+        }
+
+        // As mantidas ocupam, em ordem, as posições que sobraram
+        int proxima = 0;
+        for (int i = 0; i < novo.length; i++) {
+            if (novo[i] == null) {
+                novo[i] = mantidas.get(proxima++);
+            }
+        }
+        return Arrays.asList(novo);
+    }
+
+    /**
+     * Cria um registro de mudanças.
+     *
+     * @param versao Versão do snapshot
+     * @param obtidoEm Instante da coleta
+     * @param mudancas Mudanças em relação à versão anterior
+     * @return Registro de mudanças
+     */
+    public static RegistroHistorico mudancas(long versao, long obtidoEm, ConjuntoMudancas mudancas) {
+        return mudancas(versao, obtidoEm, mudancas, List.of());
+    }
+
+    /**
+     * Cria um registro de mudanças com as posições das adicionadas.
+     *
+     * @param versao Versão do snapshot
+     * @param obtidoEm Instante da coleta
+     * @param mudancas Mudanças em relação à versão anterior
+     * @param posicoesAdicionadas Posição de cada adicionada na lista da versão
+     * @return Registro de mudanças
+     */
+    public static RegistroHistorico mudancas(
+        long versao,
+        long obtidoEm,
+        ConjuntoMudancas mudancas,
+        List<Integer> posicoesAdicionadas
+    ) {
+        return new RegistroHistorico(Tipo.MUDANCAS, versao, obtidoEm, List.of(), mudancas, posicoesAdicionadas);
+    }
+
+    /**
+     * Posição de cada adicionada na lista da versão.
+     *
+     * <p>Valores iguais são intercambiáveis: a k-ésima adicionada com um dado
+     * valor fica com a k-ésima ocorrência dele na lista.</p>
+     *
+     * @param adicionadas Movimentações adicionadas (ordem da lista)
+     * @param lista Lista completa da versão
+     * @return Posição de cada adicionada, ou vazia se alguma não estiver na lista
+     */
+    public static List<Integer> posicoes(List<NavioMovimentacao> adicionadas, List<NavioMovimentacao> lista) {
+
+        if (adicionadas.isEmpty()) {
+            return List.of();
+        }
+
+        Map<NavioMovimentacao, ArrayDeque<Integer>> ocorrencias = new HashMap<>();
+        for (NavioMovimentacao adicionada : adicionadas) {
+            ocorrencias.putIfAbsent(adicionada, new ArrayDeque<>());
+        }
+        for (int i = 0; i < lista.size(); i++) {
+            ArrayDeque<Integer> fila = ocorrencias.get(lista.get(i));
+            if (fila != null) {
+                fila.add(i);
+            }
+        }
+
+        List<Integer> posicoes = new ArrayList<>(adicionadas.size());
+        for (NavioMovimentacao adicionada : adicionadas) {
+            Integer posicao = ocorrencias.get(adicionada).poll();
+            if (posicao == null) {
+                return List.of();
+            }
+            posicoes.add(posicao);
+        }
+        return posicoes;
+    }
+}
@@ -0,0 +1,324 @@
+package br.dev.marcus.praticagem.historico;
+
+import br.dev.marcus.praticagem.parser.NormalizadorTexto;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Um segmento do histórico mapeado em memória, com seus índices de consulta.
+ *
+ * <p>O arquivo nunca é copiado para o heap: os registros são lidos direto
+ * das páginas mapeadas. Em memória ficam apenas dois índices compactos,
+ * montados uma vez lendo os cabeçalhos dos registros:</p>
+ *
+ * <pre>
+ *  índice esparso de tempo (1 entrada a cada 64 registros)
+ *    tempos:    [ t0,   t64,   t128, ... ]     long[]
+ *    posicoes:  [ 6,    9120,  18344, ... ]    int[]  → busca binária por "de"
+ *
+ *  listas de postagem por berço (registros de mudanças que citam o berço)
+ *    "201"  → [ 6, 512, 9120, ... ]            int[] crescente
+ *    "tvip" → [ 230, 4410, ... ]
+ * </pre>
+ *
+ * <p>O segmento ativo continua crescendo enquanto é consultado: a cada
+ * {@link #atualizar()} o mapeamento é refeito se o arquivo cresceu e só os
+ * registros novos são indexados. Um registro ainda incompleto no fim (CRC
+ * divergente) marca o limite indexado e é relido na próxima atualização.
+ * Se o arquivo encolher (o {@link HistoricoMovimentacoes} trunca o que uma
+ * gravação com falha deixou), o mapeamento é refeito no tamanho novo e, se
+ * registros já indexados sumiram, os índices são montados de novo.</p>
+ *
+ * <p>As posições são {@code int}: um segmento passa pouco de
+ * {@link HistoricoMovimentacoes#TAMANHO_SEGMENTO_PADRAO}, bem abaixo de 2 GB.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see LeitorHistorico
+ */
+final class SegmentoMapeado implements AutoCloseable {
+
+    /**
+     * Registros entre duas entradas do índice esparso de tempo.
+     */
+    static final int INTERVALO_INDICE = 64;
+
+    private final Path arquivo;
+    private final FileChannel canal;
+
+    private MappedByteBuffer mapa;
+    private int fimIndexado = HistoricoMovimentacoes.CABECALHO_SEGMENTO;
+    private int registros;
+    private long ultimoTempo = Long.MIN_VALUE;
+
+    private long[] tempos = new long[16];
+    private int[] posicoes = new int[16];
+    private int entradas;
+
+    private final Map<String, ListaPosicoes> porBerco = new HashMap<>();
+
+    /**
+     * Abre o segmento para leitura. O mapeamento acontece no primeiro {@link #atualizar()}.
+     *
+     * @param arquivo Caminho do arquivo {@code .hist}
+     * @throws IOException se o arquivo não puder ser aberto
+     */
+    SegmentoMapeado(Path arquivo) throws IOException {
+        this.arquivo = arquivo;
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.READ);
+    }
+
+    /**
+     * Remapeia o arquivo se ele cresceu ou encolheu e indexa os registros novos.
+     *
+     * @throws IOException se o arquivo não puder ser mapeado ou não for um segmento
+     */
+    synchronized void atualizar() throws IOException {
+
+        long tamanho = Math.min(canal.size(), Integer.MAX_VALUE);
+        if (tamanho < fimIndexado) {
+            // Registros indexados foram descartados pelo escritor
+            reiniciarIndices();
+        }
+        if (tamanho < HistoricoMovimentacoes.CABECALHO_SEGMENTO) {
+            mapa = null;
+            return;
+        }
+
+        // Ler além do fim de um arquivo que encolheu falha: remapeia também nesse caso
+        if (mapa == null || tamanho != mapa.capacity()) {
+            mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamanho);
+            if (mapa.getInt(0) != HistoricoMovimentacoes.MAGIA
+                || mapa.getShort(4) != HistoricoMovimentacoes.VERSAO_FORMATO) {
+                throw new IOException(arquivo.getFileName() + " não é um segmento de histórico compatível");
+            }
+        }
+
+        ByteBuffer buffer = mapa.duplicate();
+        int posicao = fimIndexado;
+        while (posicao < buffer.capacity()) {
+            buffer.position(posicao);
+            int tamanhoRegistro = CodecRegistro.tamanhoValido(buffer);
+            if (tamanhoRegistro < 0) {
+                break;
+            }
+
+            long tempo = tempo(mapa, posicao);
+            if (registros % INTERVALO_INDICE == 0) {
+                adicionarEntrada(tempo, posicao);
+            }
+            if (mudancas(mapa, posicao)) {
+                indexarBercos(buffer, posicao);
+            }
+            ultimoTempo = Math.max(ultimoTempo, tempo);
+            registros++;
+            posicao += CodecRegistro.PREFIXO + tamanhoRegistro;
+        }
+        fimIndexado = posicao;
+    }
+
+    /**
+     * Descarta os índices; a próxima leitura recomeça do cabeçalho.
+     * Visões já capturadas guardam os arrays antigos e não são afetadas.
+     */
+    private void reiniciarIndices() {
+        fimIndexado = HistoricoMovimentacoes.CABECALHO_SEGMENTO;
+        registros = 0;
+        ultimoTempo = Long.MIN_VALUE;
+        tempos = new long[16];
+        posicoes = new int[16];
+        entradas = 0;
+        porBerco.clear();
+    }
+
+    /**
+     * Captura o estado atual dos índices para uma consulta.
+     *
+     * <p>A visão continua válida enquanto o segmento recebe registros novos:
+     * ela só enxerga o que já estava indexado no momento da captura.</p>
+     *
+     * @param berco Berço normalizado, ou {@code null} para a visão sem filtro
+     * @return Visão imutável do segmento, ou {@code null} se ainda não há registros
+     */
+    synchronized Visao visao(String berco) {
+
+        if (mapa == null || registros == 0) {
+            return null;
+        }
+
+        ListaPosicoes postagens = berco == null ? null : porBerco.get(berco);
+        return new Visao(
+            mapa.duplicate(),
+            fimIndexado,
+            tempos,
+            posicoes,
+            entradas,
+            ultimoTempo,
+            postagens == null ? null : postagens.valores(),
+            postagens == null ? 0 : postagens.tamanho()
+        );
+    }
+
+    /**
+     * Fecha o canal. O mapeamento é liberado pelo coletor de lixo.
+     */
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    /**
+     * Instante da coleta do registro em {@code posicao}, lido direto do cabeçalho.
+     */
+    static long tempo(ByteBuffer mapa, int posicao) {
+        return mapa.getLong(posicao + CodecRegistro.POSICAO_OBTIDO_EM);
+    }
+
+    /**
+     * Indica se o registro em {@code posicao} é de mudanças.
+     */
+    static boolean mudancas(ByteBuffer mapa, int posicao) {
+        return mapa.get(posicao + CodecRegistro.POSICAO_TIPO) == RegistroHistorico.Tipo.MUDANCAS.codigo();
+    }
+
+    /**
+     * Posição seguinte ao registro em {@code posicao}.
+     */
+    static int proximo(ByteBuffer mapa, int posicao) {
+        return posicao + CodecRegistro.PREFIXO + mapa.getInt(posicao);
+    }
+
+    private void adicionarEntrada(long tempo, int posicao) {
+        if (entradas == tempos.length) {
+            tempos = Arrays.copyOf(tempos, entradas * 2);
+            posicoes = Arrays.copyOf(posicoes, entradas * 2);
+        }
+        tempos[entradas] = tempo;
+        posicoes[entradas] = posicao;
+        entradas++;
+    }
+
+    /**
+     * Acrescenta o registro às listas dos berços citados em adicionadas,
+     * removidas e alteradas (valores anteriores e novos).
+     */
+    private void indexarBercos(ByteBuffer buffer, int posicao) {
+
+        buffer.position(posicao + CodecRegistro.PREFIXO + CodecRegistro.CABECALHO);
+        for (int lista = 0; lista < 3; lista++) {
+            int linhas = buffer.getInt();
+            // Alteradas guardam pares (antes, depois)
+            int movimentacoes = lista == 2 ? linhas * 2 : linhas;
+            for (int i = 0; i < movimentacoes; i++) {
+                String berco = lerBerco(buffer);
+                porBerco.computeIfAbsent(NormalizadorTexto.normalizar(berco), k -> new ListaPosicoes())
+                    .adicionar(posicao);
+            }
+        }
+    }
+
+    /**
+     * Lê o berço de uma movimentação e deixa o buffer no início da próxima.
+     *
+     * @param buffer Buffer posicionado no início de uma movimentação
+     * @return Berço como gravado
+     */
+    static String lerBerco(ByteBuffer buffer) {
+        String berco = null;
+        for (int campo = 0; campo < CodecRegistro.CAMPOS_MOVIMENTACAO; campo++) {
+            if (campo == CodecRegistro.CAMPO_BERCO) {
+                berco = CodecRegistro.lerTexto(buffer);
+            } else {
+                CodecRegistro.pularTexto(buffer);
+            }
+        }
+        return berco;
+    }
+
+    /**
+     * Avança o buffer sobre uma movimentação, sem decodificar nenhum campo.
+     *
+     * @param buffer Buffer posicionado no início de uma movimentação
+     */
+    static void pularMovimentacao(ByteBuffer buffer) {
+        for (int campo = 0; campo < CodecRegistro.CAMPOS_MOVIMENTACAO; campo++) {
+            CodecRegistro.pularTexto(buffer);
+        }
+    }
+
+    /**
+     * Estado dos índices capturado para uma consulta.
+     *
+     * @param mapa Páginas do arquivo (cópia independente de posição/limite)
+     * @param fim Posição após o último registro indexado
+     * @param tempos Instantes do índice esparso
+     * @param posicoes Posições do índice esparso
+     * @param entradas Entradas válidas do índice esparso
+     * @param ultimoTempo Maior instante indexado
+     * @param postagens Posições dos registros que citam o berço (ou {@code null})
+     * @param totalPostagens Entradas válidas em {@code postagens}
+     */
+    record Visao(
+        ByteBuffer mapa,
+        int fim,
+        long[] tempos,
+        int[] posicoes,
+        int entradas,
+        long ultimoTempo,
+        int[] postagens,
+        int totalPostagens
+    ) {
+
+        /**
+         * Indica se o segmento pode ter registros no período.
+         */
+        boolean cobre(long de, long ate) {
+            return tempos[0] <= ate && ultimoTempo >= de;
+        }
+
+        /**
+         * Posição de onde a varredura sem filtro deve começar: a última
+         * entrada do índice esparso anterior a {@code de}.
+         */
+        int inicioVarredura(long de) {
+            int baixo = 0;
+            int alto = entradas;
+            while (baixo < alto) {
+                int meio = (baixo + alto) >>> 1;
+                if (tempos[meio] < de) {
+                    baixo = meio + 1;
+                } else {
+                    alto = meio;
+                }
+            }
+            return posicoes[Math.max(0, baixo - 1)];
+        }
+
+        /**
+         * Primeira entrada da lista de postagem com instante {@code >= de}.
+         */
+        int primeiraPostagem(long de) {
+            int baixo = 0;
+            int alto = totalPostagens;
+            while (baixo < alto) {
+                int meio = (baixo + alto) >>> 1;
+                if (tempo(mapa, postagens[meio]) < de) {
+                    baixo = meio + 1;
+                } else {
+                    alto = meio;
+                }
+            }
+            return baixo;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package br.dev.marcus.praticagem.metricas;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de durações com faixas fixas, no modelo do Prometheus.
+ *
+ * <p>Cada faixa é um {@link LongAdder}: {@link #registrar(long)} não trava
+ * nem disputa a mesma linha de cache entre threads, então pode ficar no
+ * caminho de toda requisição. A contagem acumulada ({@code le}) só é
+ * calculada na exportação.</p>
+ *
+ * <pre>
+ *  limites:   0.005   0.01   0.025  ...   5    +Inf
+ *  faixas:   [  3  ] [ 10 ] [ 41 ]  ... [ 0 ] [ 0 ]     (não acumuladas)
+ *  _bucket:     3      13     54    ...  120   120      (acumuladas, na exportação)
+ * </pre>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see RegistroMetricas#histograma(String, String, String, java.util.function.Supplier)
+ */
+public final class Histograma {
+
+    /**
+     * Faixas para requisições servidas da memória (segundos).
+     */
+    public static final double[] LATENCIA_HTTP = {
+        0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5
+    };
+
+    /**
+     * Faixas para chamadas ao site e parse (segundos).
+     */
+    public static final double[] LATENCIA_SITE = {
+        0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30
+    };
+
+    private final double[] limites;
+    private final LongAdder[] faixas;
+    private final LongAdder somaNanos = new LongAdder();
+
+    /**
+     * Cria um histograma vazio.
+     *
+     * @param limites Limites superiores das faixas em segundos, em ordem crescente
+     * @throws IllegalArgumentException se os limites estiverem vazios ou fora de ordem
+     */
+    public Histograma(double[] limites) {
+
+        if (limites.length == 0) {
+            throw new IllegalArgumentException("Histograma sem faixas");
+        }
+        for (int i = 1; i < limites.length; i++) {
+            if (limites[i] <= limites[i - 1]) {
+                throw new IllegalArgumentException("Limites fora de ordem: " + Arrays.toString(limites));
+            }
+        }
+
+        this.limites = limites.clone();
+        this.faixas = new LongAdder[limites.length + 1];
+        for (int i = 0; i < faixas.length; i++) {
+            faixas[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Registra uma duração.
+     *
+     * @param nanos Duração em nanossegundos
+     */
+    public void registrar(long nanos) {
+
+        double segundos = nanos / 1e9;
+        int faixa = 0;
+        while (faixa < limites.length && segundos > limites[faixa]) {
+            faixa++;
+        }
+
+        faixas[faixa].increment();
+        somaNanos.add(nanos);
+    }
+
+    /**
+     * Contagens acumuladas por limite ({@code le}); a última posição é {@code +Inf}.
+     *
+     * @return Uma posição a mais que {@link #limites()}
+     */
+    public long[] acumuladas() {
+        long[] acumuladas = new long[faixas.length];
+        long total = 0;
+        for (int i = 0; i < faixas.length; i++) {
+            total += faixas[i].sum();
+            acumuladas[i] = total;
+        }
+        return acumuladas;
+    }
+
+    /**
+     * @return Limites superiores das faixas, em segundos (cópia)
+     */
+    public double[] limites() {
+        return limites.clone();
+    }
+
+    /**
+     * @return Quantidade de durações registradas
+     */
+    public long contagem() {
+        long total = 0;
+        for (LongAdder faixa : faixas) {
+            total += faixa.sum();
+        }
+        return total;
+    }
+
+    /**
+     * @return Soma das durações registradas, em segundos
+     */
+    public double somaSegundos() {
+        return somaNanos.sum() / 1e9;
+    }
+}
@@ -0,0 +1,87 @@
+package br.dev.marcus.praticagem.metricas;
+
+import io.javalin.Javalin;
+import io.javalin.http.Context;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latência das requisições HTTP por rota, medida por handlers
+ * {@code before}/{@code after} do Javalin.
+ *
+ * <p>O rótulo é o <b>padrão</b> da rota ({@link Context#endpointHandlerPath()},
+ * ex: {@code /movimentacoes}), não o caminho pedido: a quantidade de séries
+ * fica limitada às rotas registradas. Requisições que não casaram com
+ * nenhuma rota (404) vão para {@value #ROTA_OUTRAS}.</p>
+ *
+ * <p>Rotas de conexão longa (SSE) devem ser ignoradas: a "latência" delas é
+ * o tempo que o cliente ficou conectado.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+public final class MetricasHttp {
+
+    /**
+     * Rótulo das requisições que não casaram com nenhuma rota.
+     */
+    public static final String ROTA_OUTRAS = "outras";
+
+    /**
+     * Atributo da requisição com o {@link System#nanoTime()} de entrada.
+     */
+    private static final String ATRIBUTO_INICIO = "metricas.inicio";
+
+    private final Set<String> rotasIgnoradas;
+
+    private final Map<String, Histograma> porRota = new ConcurrentHashMap<>();
+
+    /**
+     * @param rotasIgnoradas Padrões de rota que não devem ser medidos
+     */
+    public MetricasHttp(Set<String> rotasIgnoradas) {
+        this.rotasIgnoradas = Set.copyOf(rotasIgnoradas);
+    }
+
+    /**
+     * Registra os handlers {@code before}/{@code after} no servidor.
+     *
+     * @param app Servidor Javalin
+     */
+    public void instalar(Javalin app) {
+        app.before(ctx -> ctx.attribute(ATRIBUTO_INICIO, System.nanoTime()));
+        app.after(this::concluir);
+    }
+
+    private void concluir(Context ctx) {
+        Long inicio = ctx.attribute(ATRIBUTO_INICIO);
+        if (inicio != null) {
+            registrar(ctx.endpointHandlerPath(), System.nanoTime() - inicio);
+        }
+    }
+
+    /**
+     * Registra a duração de uma requisição.
+     *
+     * @param rota Padrão da rota; vazio ou {@code null} conta como {@value #ROTA_OUTRAS}
+     * @param nanos Duração em nanossegundos
+     */
+    void registrar(String rota, long nanos) {
+        String rotulo = rota == null || rota.isEmpty() ? ROTA_OUTRAS : rota;
+        if (rotasIgnoradas.contains(rotulo)) {
+            return;
+        }
+        porRota.computeIfAbsent(rotulo, r -> new Histograma(Histograma.LATENCIA_HTTP)).registrar(nanos);
+    }
+
+    /**
+     * @return Visão somente leitura de rota → histograma (segundos)
+     */
+    public Map<String, Histograma> porRota() {
+        return Collections.unmodifiableMap(porRota);
+    }
+}
@@ -0,0 +1,214 @@
+package br.dev.marcus.praticagem.metricas;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Métricas da aplicação, exportadas no formato texto do Prometheus
+ * ({@code GET /metrics}).
+ *
+ * <p>O registro não guarda valores: cada métrica é uma função que lê, na
+ * hora da exportação, os contadores que os componentes já mantêm
+ * ({@link java.util.concurrent.atomic.LongAdder}, {@link Histograma}). O
+ * caminho quente só incrementa o próprio contador; todo o custo de formatar
+ * fica no scrape, que acontece a cada 15-60 s.</p>
+ *
+ * <pre>
+ * # HELP praticagem_fetch_bytes_total Bytes baixados do site da praticagem
+ * # TYPE praticagem_fetch_bytes_total counter
+ * praticagem_fetch_bytes_total 4471092
+ * # HELP praticagem_http_requisicao_segundos Latência das requisições por rota
+ * # TYPE praticagem_http_requisicao_segundos histogram
+ * praticagem_http_requisicao_segundos_bucket{rota="/movimentacoes",le="0.0005"} 812
+ * ...
+ * </pre>
+ *
+ * <p>As métricas são registradas na inicialização ({@code Main}); a
+ * exportação pode rodar em paralelo com elas, por isso os métodos são
+ * sincronizados.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see <a href="https://prometheus.io/docs/instrumenting/exposition_formats/">Formato de exposição</a>
+ */
+public final class RegistroMetricas {
+
+    /**
+     * Content-Type da exportação (formato texto 0.0.4).
+     */
+    public static final String TIPO_CONTEUDO = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final Pattern NOME_VALIDO = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+
+    /**
+     * Uma família de métricas (mesmo nome, HELP e TYPE) e quem escreve suas amostras.
+     */
+    private record Familia(String nome, String ajuda, String tipo, Escritor escritor) {
+    }
+
+    @FunctionalInterface
+    private interface Escritor {
+        void escrever(String nome, StringBuilder saida);
+    }
+
+    private final List<Familia> familias = new ArrayList<>();
+
+    /**
+     * Registra um contador (valor só cresce).
+     *
+     * @param nome Nome da métrica (terminado em {@code _total} por convenção)
+     * @param ajuda Descrição curta
+     * @param valor Leitura do contador
+     */
+    public void contador(String nome, String ajuda, LongSupplier valor) {
+        adicionar(nome, ajuda, "counter", (n, saida) -> amostra(saida, n, null, null, valor.getAsLong()));
+    }
+
+    /**
+     * Registra um contador com um rótulo (ex: {@code resultado="acerto"}).
+     *
+     * @param nome Nome da métrica
+     * @param ajuda Descrição curta
+     * @param rotulo Nome do rótulo
+     * @param valores Valor do rótulo → leitura do contador
+     */
+    public void contador(String nome, String ajuda, String rotulo, Map<String, LongSupplier> valores) {
+        exigirNome(rotulo);
+        adicionar(nome, ajuda, "counter", (n, saida) -> new TreeMap<>(valores).forEach(
+            (valorRotulo, valor) -> amostra(saida, n, rotulo, valorRotulo, valor.getAsLong())
+        ));
+    }
+
+    /**
+     * Registra um medidor (valor que sobe e desce). Valores {@code NaN} não são exportados.
+     *
+     * @param nome Nome da métrica
+     * @param ajuda Descrição curta
+     * @param valor Leitura do valor atual
+     */
+    public void medidor(String nome, String ajuda, DoubleSupplier valor) {
+        adicionar(nome, ajuda, "gauge", (n, saida) -> {
+            double atual = valor.getAsDouble();
+            if (!Double.isNaN(atual)) {
+                amostra(saida, n, null, null, atual);
+            }
+        });
+    }
+
+    /**
+     * Registra um histograma sem rótulos.
+     *
+     * @param nome Nome da métrica (terminado na unidade, ex: {@code _segundos})
+     * @param ajuda Descrição curta
+     * @param histograma Histograma mantido pelo componente
+     */
+    public void histograma(String nome, String ajuda, Histograma histograma) {
+        adicionar(nome, ajuda, "histogram", (n, saida) -> escreverHistograma(saida, n, null, null, histograma));
+    }
+
+    /**
+     * Registra um histograma por valor de rótulo. O mapa é lido a cada
+     * exportação, então pode ganhar entradas depois do registro (ex: rotas);
+     * as séries saem em ordem alfabética do rótulo.
+     *
+     * @param nome Nome da métrica
+     * @param ajuda Descrição curta
+     * @param rotulo Nome do rótulo
+     * @param histogramas Leitura de valor do rótulo → histograma
+     */
+    public void histograma(
+        String nome, String ajuda, String rotulo, Supplier<Map<String, Histograma>> histogramas
+    ) {
+        exigirNome(rotulo);
+        adicionar(nome, ajuda, "histogram", (n, saida) -> new TreeMap<>(histogramas.get()).forEach(
+            (valorRotulo, histograma) -> escreverHistograma(saida, n, rotulo, valorRotulo, histograma)
+        ));
+    }
+
+    /**
+     * Exporta todas as métricas no formato texto do Prometheus.
+     *
+     * @return Texto da exportação, terminado em quebra de linha
+     */
+    public synchronized String exportar() {
+        StringBuilder saida = new StringBuilder(8192);
+        for (Familia familia : familias) {
+            saida.append("# HELP ").append(familia.nome()).append(' ').append(escaparAjuda(familia.ajuda())).append('\n');
+            saida.append("# TYPE ").append(familia.nome()).append(' ').append(familia.tipo()).append('\n');
+            familia.escritor().escrever(familia.nome(), saida);
+        }
+        return saida.toString();
+    }
+
+    private synchronized void adicionar(String nome, String ajuda, String tipo, Escritor escritor) {
+        exigirNome(nome);
+        for (Familia familia : familias) {
+            if (familia.nome().equals(nome)) {
+                throw new IllegalArgumentException("Métrica já registrada: " + nome);
+            }
+        }
+        familias.add(new Familia(nome, ajuda, tipo, escritor));
+    }
+
+    private static void escreverHistograma(
+        StringBuilder saida, String nome, String rotulo, String valorRotulo, Histograma histograma
+    ) {
+        double[] limites = histograma.limites();
+        long[] acumuladas = histograma.acumuladas();
+
+        for (int i = 0; i <= limites.length; i++) {
+            saida.append(nome).append("_bucket{");
+            if (rotulo != null) {
+                saida.append(rotulo).append("=\"").append(escaparRotulo(valorRotulo)).append("\",");
+            }
+            saida.append("le=\"").append(i < limites.length ? numero(limites[i]) : "+Inf").append("\"} ")
+                .append(acumuladas[i]).append('\n');
+        }
+        amostra(saida, nome + "_sum", rotulo, valorRotulo, histograma.somaSegundos());
+        amostra(saida, nome + "_count", rotulo, valorRotulo, acumuladas[limites.length]);
+    }
+
+    private static void amostra(StringBuilder saida, String nome, String rotulo, String valorRotulo, double valor) {
+        saida.append(nome);
+        if (rotulo != null) {
+            saida.append('{').append(rotulo).append("=\"").append(escaparRotulo(valorRotulo)).append("\"}");
+        }
+        saida.append(' ').append(numero(valor)).append('\n');
+    }
+
+    /**
+     * Número no formato do Prometheus: inteiros sem casa decimal, ponto como separador.
+     */
+    static String numero(double valor) {
+        if (Double.isInfinite(valor)) {
+            return valor > 0 ? "+Inf" : "-Inf";
+        }
+        if (valor == Math.rint(valor) && Math.abs(valor) < 1e15) {
+            return Long.toString((long) valor);
+        }
+        return BigDecimal.valueOf(valor).stripTrailingZeros().toPlainString();
+    }
+
+    private static String escaparRotulo(String valor) {
+        return valor.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String escaparAjuda(String ajuda) {
+        return ajuda.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+
+    private static void exigirNome(String nome) {
+        if (nome == null || !NOME_VALIDO.matcher(nome).matches()) {
+            throw new IllegalArgumentException("Nome de métrica inválido: " + nome);
+        }
+    }
+}
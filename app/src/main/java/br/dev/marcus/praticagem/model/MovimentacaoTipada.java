@@ -0,0 +1,244 @@
+package br.dev.marcus.praticagem.model;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Representação tipada de uma {@link NavioMovimentacao}, montada uma única
+ * vez quando o snapshot é criado.
+ *
+ * <p>O site publica data e horário como texto ("23/02/2026", "08:00 ETB",
+ * "TBC"). Ordenar ou filtrar por tempo direto nesses campos exige
+ * reinterpretar as strings a cada requisição. Aqui elas são interpretadas
+ * uma vez e viram números e enums:</p>
+ *
+ * <table border="1">
+ *   <caption>Campos tipados</caption>
+ *   <tr><th>Campo</th><th>Origem</th><th>Exemplo</th></tr>
+ *   <tr><td>minuto</td><td>data + horario</td><td>"23/02/2026" + "08:00 ETB" → 29_530_740</td></tr>
+ *   <tr><td>horarioDefinido</td><td>horario</td><td>"TBC" → {@code false}</td></tr>
+ *   <tr><td>manobra</td><td>manobra</td><td>"Saída" → {@link TipoManobra#SAIDA}</td></tr>
+ *   <tr><td>situacao</td><td>situacao</td><td>"Atracados" → {@link SituacaoMovimentacao#ATRACADO}</td></tr>
+ *   <tr><td>berco</td><td>berco</td><td>"PNAVE 01" → código em {@link TabelaBercos}</td></tr>
+ * </table>
+ *
+ * <h2>Minuto</h2>
+ * <p>{@code minuto} é o instante da movimentação em minutos desde a época
+ * Unix (cabe em {@code int} até o ano 6053), com data e hora interpretadas no
+ * fuso do porto ({@link #FUSO}). Assim ele pode ser comparado direto com
+ * instantes em milissegundos divididos por 60.000. Sem horário ("TBC"), o
+ * minuto é o início do dia e {@code horarioDefinido} fica {@code false}; sem
+ * data válida, o minuto é {@link #SEM_DATA}.</p>
+ *
+ * <p>O texto original continua em {@link #movimentacao()}: é ele que vai no
+ * JSON e na comparação de snapshots.</p>
+ *
+ * @param movimentacao Movimentação como publicada pelo site
+ * @param minuto Instante em minutos desde a época Unix, ou {@link #SEM_DATA}
+ * @param horarioDefinido {@code false} se o horário não foi informado ou não pôde ser lido
+ * @param manobra Tipo de manobra reconhecido
+ * @param situacao Situação reconhecida
+ * @param berco Código do berço em {@link TabelaBercos}
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see br.dev.marcus.praticagem.service.MovimentacaoSnapshot#tipadas()
+ */
+public record MovimentacaoTipada(
+    NavioMovimentacao movimentacao,
+    int minuto,
+    boolean horarioDefinido,
+    TipoManobra manobra,
+    SituacaoMovimentacao situacao,
+    int berco
+) {
+
+    /**
+     * Fuso horário do porto, usado para interpretar data e horário.
+     */
+    public static final ZoneId FUSO = ZoneId.of("America/Sao_Paulo");
+
+    /**
+     * Minuto das movimentações sem data válida.
+     */
+    public static final int SEM_DATA = Integer.MIN_VALUE;
+
+    /**
+     * Minutos em um dia.
+     */
+    public static final int MINUTOS_DIA = 24 * 60;
+
+    /**
+     * Ordem cronológica: por instante; sem horário vai para o fim do dia e
+     * sem data vai para o fim da lista. Empates mantêm a ordem do site
+     * (a ordenação de {@link List#sort} é estável).
+     */
+    public static final Comparator<MovimentacaoTipada> CRONOLOGICA =
+        Comparator.comparingInt(MovimentacaoTipada::minutoOrdenacao);
+
+    /**
+     * Interpreta uma movimentação.
+     *
+     * @param movimentacao Movimentação como publicada
+     * @return Representação tipada
+     */
+    public static MovimentacaoTipada de(NavioMovimentacao movimentacao) {
+
+        LocalDate dia = data(movimentacao.data());
+        int hora = dia == null ? -1 : minutoDoHorario(movimentacao.horario());
+        // Sem horário: início do dia
+        int minutos = Math.max(hora, 0);
+
+        return new MovimentacaoTipada(
+            movimentacao,
+            dia == null ? SEM_DATA : minutoEpoch(dia.atTime(minutos / 60, minutos % 60)),
+            hora >= 0,
+            TipoManobra.de(movimentacao.manobra()),
+            SituacaoMovimentacao.de(movimentacao.situacao()),
+            TabelaBercos.codigo(movimentacao.berco())
+        );
+    }
+
+    /**
+     * Interpreta uma lista de movimentações, mantendo a ordem.
+     *
+     * @param movimentacoes Movimentações como publicadas
+     * @return Lista imutável, na mesma ordem
+     */
+    public static List<MovimentacaoTipada> tipar(List<NavioMovimentacao> movimentacoes) {
+        List<MovimentacaoTipada> tipadas = new ArrayList<>(movimentacoes.size());
+        for (NavioMovimentacao movimentacao : movimentacoes) {
+            tipadas.add(de(movimentacao));
+        }
+        return List.copyOf(tipadas);
+    }
+
+    /**
+     * Converte um instante em milissegundos para a escala de {@link #minuto()}.
+     *
+     * @param epochMs Instante em milissegundos desde a época Unix
+     * @return Minuto que contém o instante
+     */
+    public static int minutoDe(long epochMs) {
+        return (int) Math.floorDiv(epochMs, 60_000L);
+    }
+
+    /**
+     * Chave usada por {@link #CRONOLOGICA}.
+     *
+     * @return Minuto; último minuto do dia se não há horário; {@link Integer#MAX_VALUE} se não há data
+     */
+    public int minutoOrdenacao() {
+        if (minuto == SEM_DATA) {
+            return Integer.MAX_VALUE;
+        }
+        return horarioDefinido ? minuto : minuto + MINUTOS_DIA - 1;
+    }
+
+    /**
+     * Indica se a data foi lida.
+     *
+     * @return {@code true} se {@link #minuto()} é um instante válido
+     */
+    public boolean temData() {
+        return minuto != SEM_DATA;
+    }
+
+    /**
+     * Data e hora locais (fuso do porto).
+     *
+     * @return Data e hora, ou {@code null} sem data válida
+     */
+    public LocalDateTime dataHora() {
+        return temData()
+            ? LocalDateTime.ofInstant(Instant.ofEpochSecond(minuto * 60L), FUSO)
+            : null;
+    }
+
+    /**
+     * Berço normalizado, sempre a mesma instância para o mesmo berço.
+     *
+     * @return Nome do berço em {@link TabelaBercos}, ou {@code null} se a tabela estava cheia
+     */
+    public String bercoNormalizado() {
+        return TabelaBercos.nome(berco);
+    }
+
+    /**
+     * Converte data e hora locais (fuso do porto) para a escala de {@link #minuto()}.
+     *
+     * @param dataHora Data e hora no fuso do porto
+     * @return Minutos desde a época Unix
+     */
+    public static int minutoEpoch(LocalDateTime dataHora) {
+        return (int) Math.floorDiv(dataHora.atZone(FUSO).toEpochSecond(), 60L);
+    }
+
+    /**
+     * Data "dd/MM/aaaa", ou {@code null} se o texto não for uma data válida.
+     */
+    private static LocalDate data(String texto) {
+
+        if (texto == null || texto.length() < 10 || texto.charAt(2) != '/' || texto.charAt(5) != '/') {
+            return null;
+        }
+        int dia = digitos(texto, 0, 2);
+        int mes = digitos(texto, 3, 5);
+        int ano = digitos(texto, 6, 10);
+        if (dia < 1 || dia > 31 || mes < 1 || mes > 12 || ano < 1970) {
+            return null;
+        }
+
+        try {
+            return LocalDate.of(ano, mes, dia);
+        } catch (DateTimeException e) {
+            // 31/02 e afins
+            return null;
+        }
+    }
+
+    /**
+     * Minutos desde a meia-noite de um horário "HH:mm" (com ou sem sufixo,
+     * como "08:00 ETB"), ou {@code -1} se não houver horário legível.
+     */
+    private static int minutoDoHorario(String horario) {
+
+        if (horario == null) {
+            return -1;
+        }
+        String texto = horario.strip();
+        int doisPontos = texto.indexOf(':');
+        if (doisPontos < 1 || doisPontos > 2 || texto.length() < doisPontos + 3) {
+            return -1;
+        }
+        int hora = digitos(texto, 0, doisPontos);
+        int minuto = digitos(texto, doisPontos + 1, doisPontos + 3);
+        if (hora < 0 || hora > 23 || minuto < 0 || minuto > 59) {
+            return -1;
+        }
+        return hora * 60 + minuto;
+    }
+
+    /**
+     * Valor dos dígitos em {@code [inicio, fim)}, ou {@code -1} se algum não for dígito.
+     */
+    private static int digitos(String texto, int inicio, int fim) {
+        int valor = 0;
+        for (int i = inicio; i < fim; i++) {
+            char c = texto.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            valor = valor * 10 + (c - '0');
+        }
+        return valor;
+    }
+}
@@ -0,0 +1,57 @@
+package br.dev.marcus.praticagem.model;
+
+import br.dev.marcus.praticagem.parser.NormalizadorTexto;
+
+/**
+ * Situação de uma movimentação, reconhecida a partir do texto do site.
+ *
+ * <p>Assim como em {@link TipoManobra}, o texto é normalizado e comparado
+ * pelo início: "Navegando para Itajaí" vira {@link #NAVEGANDO},
+ * "Atracados" vira {@link #ATRACADO}. O que não for reconhecido vira
+ * {@link #DESCONHECIDA}, sem perder o texto original.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see MovimentacaoTipada
+ */
+public enum SituacaoMovimentacao {
+
+    PROGRAMADO("programad"),
+    CONFIRMADO("confirmad"),
+    NAVEGANDO("navegando"),
+    FUNDEADO("fundead"),
+    DRIFTING("drifting"),
+    MANOBRANDO("manobrando"),
+    EM_ANDAMENTO("em andamento"),
+    ATRACADO("atracad"),
+    DESCONHECIDA(null);
+
+    private static final SituacaoMovimentacao[] RECONHECIVEIS = {
+        PROGRAMADO, CONFIRMADO, NAVEGANDO, FUNDEADO, DRIFTING, MANOBRANDO, EM_ANDAMENTO, ATRACADO
+    };
+
+    private final String prefixo;
+
+    SituacaoMovimentacao(String prefixo) {
+        this.prefixo = prefixo;
+    }
+
+    /**
+     * Reconhece a situação de um texto do site.
+     *
+     * @param texto Situação como publicada (ex: "Navegando para Itajaí")
+     * @return Situação reconhecida, ou {@link #DESCONHECIDA}
+     */
+    public static SituacaoMovimentacao de(String texto) {
+
+        String normalizado = NormalizadorTexto.normalizar(texto);
+        for (SituacaoMovimentacao situacao : RECONHECIVEIS) {
+            if (normalizado.startsWith(situacao.prefixo)) {
+                return situacao;
+            }
+        }
+        return DESCONHECIDA;
+    }
+}
@@ -0,0 +1,121 @@
+package br.dev.marcus.praticagem.model;
+
+import br.dev.marcus.praticagem.parser.NormalizadorTexto;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tabela de internação dos berços: cada berço normalizado recebe um código
+ * {@code int} estável durante a vida do processo.
+ *
+ * <p>O porto tem poucas dezenas de berços, que se repetem em todo snapshot.
+ * Com o código, filtros e índices comparam inteiros em vez de strings, e o
+ * nome normalizado é sempre a mesma instância:</p>
+ *
+ * <pre>
+ *  "PNAVE 01" ─┐
+ *  "pnave 01" ─┼─ normalizar ─→ "pnave 01" ─→ código 3 ─→ nomes[3]
+ *  " Pnave 01"─┘
+ * </pre>
+ *
+ * <p>A leitura ({@link #codigo(String)} de um berço já conhecido e
+ * {@link #nome(int)}) não trava. Só a atribuição de um código novo é
+ * sincronizada. A tabela é limitada a {@link #LIMITE} berços para não
+ * crescer sem controle se o site publicar lixo na coluna; acima disso o
+ * berço recebe {@link #SEM_CODIGO}.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see MovimentacaoTipada#berco()
+ */
+public final class TabelaBercos {
+
+    /**
+     * Código devolvido quando a tabela está cheia.
+     */
+    public static final int SEM_CODIGO = -1;
+
+    /**
+     * Máximo de berços distintos internados.
+     */
+    public static final int LIMITE = 4096;
+
+    private static final Map<String, Integer> CODIGOS = new ConcurrentHashMap<>();
+
+    private static volatile String[] nomes = new String[64];
+    private static int total;
+
+    private TabelaBercos() {
+        // Classe utilitária
+    }
+
+    /**
+     * Código do berço, atribuindo um novo na primeira vez que ele aparece.
+     *
+     * @param berco Berço como publicado (pode ser {@code null})
+     * @return Código do berço normalizado, ou {@link #SEM_CODIGO} se a tabela estiver cheia
+     */
+    public static int codigo(String berco) {
+
+        String normalizado = NormalizadorTexto.normalizar(berco);
+        Integer codigo = CODIGOS.get(normalizado);
+        return codigo != null ? codigo : atribuir(normalizado);
+    }
+
+    /**
+     * Código de um berço já conhecido, sem atribuir um novo.
+     *
+     * @param berco Berço como publicado ou já normalizado
+     * @return Código do berço, ou {@link #SEM_CODIGO} se ele nunca apareceu
+     */
+    public static int buscar(String berco) {
+        // Sem cache: o valor costuma vir de um parâmetro de requisição
+        Integer codigo = CODIGOS.get(NormalizadorTexto.dobrar(berco));
+        return codigo != null ? codigo : SEM_CODIGO;
+    }
+
+    /**
+     * Nome normalizado de um código.
+     *
+     * @param codigo Código devolvido por {@link #codigo(String)}
+     * @return Berço normalizado (sempre a mesma instância), ou {@code null} se o código não existe
+     */
+    public static String nome(int codigo) {
+        String[] atuais = nomes;
+        return codigo >= 0 && codigo < atuais.length ? atuais[codigo] : null;
+    }
+
+    /**
+     * Quantidade de berços internados até agora.
+     *
+     * @return Total de códigos atribuídos
+     */
+    public static int tamanho() {
+        return CODIGOS.size();
+    }
+
+    private static synchronized int atribuir(String normalizado) {
+
+        Integer existente = CODIGOS.get(normalizado);
+        if (existente != null) {
+            return existente;
+        }
+        if (total == LIMITE) {
+            return SEM_CODIGO;
+        }
+
+        String[] atuais = nomes;
+        if (total == atuais.length) {
+            atuais = Arrays.copyOf(atuais, total * 2);
+        }
+        atuais[total] = normalizado;
+        // Publica o array antes do código: quem vê o código já enxerga o nome
+        nomes = atuais;
+        CODIGOS.put(normalizado, total);
+        return total++;
+    }
+}
@@ -0,0 +1,55 @@
+package br.dev.marcus.praticagem.model;
+
+import br.dev.marcus.praticagem.parser.NormalizadorTexto;
+
+/**
+ * Tipo de manobra de uma movimentação, reconhecido a partir do texto do site.
+ *
+ * <p>O site publica a manobra como texto livre ("Entrada", "Saída",
+ * "entrada"...). O texto é normalizado e comparado pelo início, então
+ * variações de caixa, acento ou complemento caem no mesmo código. Textos
+ * não reconhecidos viram {@link #DESCONHECIDA}; o texto original continua
+ * disponível em {@link NavioMovimentacao#manobra()}.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see MovimentacaoTipada
+ */
+public enum TipoManobra {
+
+    ENTRADA("entrada"),
+    SAIDA("saida"),
+    ATRACACAO("atracacao"),
+    DESATRACACAO("desatracacao"),
+    MUDANCA("mudanca"),
+    DESCONHECIDA(null);
+
+    private static final TipoManobra[] RECONHECIVEIS = {
+        ENTRADA, SAIDA, ATRACACAO, DESATRACACAO, MUDANCA
+    };
+
+    private final String prefixo;
+
+    TipoManobra(String prefixo) {
+        this.prefixo = prefixo;
+    }
+
+    /**
+     * Reconhece o tipo de manobra de um texto do site.
+     *
+     * @param texto Manobra como publicada (ex: "Saída")
+     * @return Tipo reconhecido, ou {@link #DESCONHECIDA}
+     */
+    public static TipoManobra de(String texto) {
+
+        String normalizado = NormalizadorTexto.normalizar(texto);
+        for (TipoManobra tipo : RECONHECIVEIS) {
+            if (normalizado.startsWith(tipo.prefixo)) {
+                return tipo;
+            }
+        }
+        return DESCONHECIDA;
+    }
+}
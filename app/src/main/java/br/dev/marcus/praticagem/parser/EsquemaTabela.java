@@ -0,0 +1,129 @@
+package br.dev.marcus.praticagem.parser;
+
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Layout de colunas da tabela de movimentação, resolvido a partir do cabeçalho.
+ *
+ * <p>Guarda, para cada coluna essencial, o índice da célula correspondente.
+ * O esquema é identificado pela <b>assinatura</b>: a lista dos textos crus dos
+ * {@code <th>} da primeira linha. Enquanto o site mantiver o mesmo cabeçalho,
+ * a assinatura se repete e o {@link HtmlParser} reaproveita o esquema já
+ * resolvido, sem normalizar textos nem procurar palavras-chave de novo.</p>
+ *
+ * <pre>
+ *  assinatura: [Data, Horário, Manobra, Berço, Bordo, Navio, Rota, Loa, Boca, Calado, Situação]
+ *  esquema:    data=0 horario=1 manobra=2 berco=3 navio=5 situacao=10
+ * </pre>
+ *
+ * <h2>Resolução de Colunas</h2>
+ * <p>Cada coluna essencial é associada ao <b>primeiro</b> cabeçalho (da esquerda
+ * para a direita) cujo texto normalizado contém a palavra-chave. Assim
+ * "Horário Previsto" ainda casa com "horario", e o resultado é determinístico
+ * mesmo que duas colunas contenham a mesma palavra.</p>
+ *
+ * @param assinatura Textos crus dos cabeçalhos, na ordem da tabela
+ * @param data Índice da coluna de data
+ * @param horario Índice da coluna de horário
+ * @param manobra Índice da coluna de manobra
+ * @param berco Índice da coluna de berço
+ * @param navio Índice da coluna de navio
+ * @param situacao Índice da coluna de situação
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see HtmlParser#esquemaPara(List)
+ */
+public record EsquemaTabela(
+    List<String> assinatura,
+    int data,
+    int horario,
+    int manobra,
+    int berco,
+    int navio,
+    int situacao
+) {
+
+    /**
+     * Palavras-chave das colunas essenciais (já normalizadas).
+     */
+    static final List<String> COLUNAS_ESSENCIAIS = List.of(
+        "data", "horario", "manobra", "berco", "navio", "situacao"
+    );
+
+    /**
+     * Construtor canônico: garante assinatura imutável.
+     */
+    public EsquemaTabela {
+        assinatura = List.copyOf(assinatura);
+    }
+
+    /**
+     * Resolve o esquema a partir dos textos dos cabeçalhos.
+     *
+     * @param cabecalhos Textos crus dos {@code <th>} da primeira linha
+     * @return Esquema resolvido, ou {@code null} se alguma coluna essencial
+     *         não existir (a tabela não é a de movimentação)
+     */
+    public static EsquemaTabela descobrir(List<String> cabecalhos) {
+
+        List<String> normalizados = new ArrayList<>(cabecalhos.size());
+        for (String cabecalho : cabecalhos) {
+            normalizados.add(NormalizadorTexto.normalizar(cabecalho));
+        }
+
+        int[] indices = new int[COLUNAS_ESSENCIAIS.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = primeiroIndiceContendo(normalizados, COLUNAS_ESSENCIAIS.get(i));
+            if (indices[i] < 0) {
+                return null;
+            }
+        }
+
+        return new EsquemaTabela(
+            cabecalhos,
+            indices[0], indices[1], indices[2], indices[3], indices[4], indices[5]
+        );
+    }
+
+    /**
+     * Monta a movimentação de uma linha de dados.
+     *
+     * <p>Índices além do número de células resultam em string vazia, como o
+     * {@code pegarPorIndice} original. Cada texto passa pelo {@link PoolTextos},
+     * para que valores repetidos entre linhas e coletas sejam a mesma instância.</p>
+     *
+     * @param quantidadeCelulas Número de {@code <td>} da linha
+     * @param textoDaCelula Texto (já limpo) da célula no índice informado
+     * @return Movimentação da linha
+     */
+    public NavioMovimentacao montar(int quantidadeCelulas, IntFunction<String> textoDaCelula) {
+        return new NavioMovimentacao(
+            celula(data, quantidadeCelulas, textoDaCelula),
+            celula(horario, quantidadeCelulas, textoDaCelula),
+            celula(manobra, quantidadeCelulas, textoDaCelula),
+            celula(berco, quantidadeCelulas, textoDaCelula),
+            celula(navio, quantidadeCelulas, textoDaCelula),
+            celula(situacao, quantidadeCelulas, textoDaCelula)
+        );
+    }
+
+    private static String celula(int indice, int quantidade, IntFunction<String> texto) {
+        return indice < quantidade ? PoolTextos.canonico(texto.apply(indice)) : "";
+    }
+
+    private static int primeiroIndiceContendo(List<String> nomes, String palavraChave) {
+        for (int i = 0; i < nomes.size(); i++) {
+            if (nomes.get(i).contains(palavraChave)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -2,6 +2,7 @@ package br.dev.marcus.praticagem.parser;
 
 import br.dev.marcus.praticagem.model.NavioMovimentacao;
 
+import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
@@ -9,14 +10,16 @@ import org.jsoup.select.Elements;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.text.Normalizer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Parser HTML resiliente para extração de dados de movimentação de navios.
@@ -31,7 +34,7 @@ import java.util.Set;
  * <ol>
  *   <li>Localiza a tabela correta verificando a presença de colunas essenciais</li>
  *   <li>Lê o cabeçalho (elementos &lt;th&gt;) da tabela</li>
- *   <li>Cria um mapa dinâmico: nome-da-coluna → índice-da-coluna</li>
+ *   <li>Resolve (ou reaproveita) o esquema dinâmico: nome-da-coluna → índice-da-coluna</li>
  *   <li>Extrai os dados das linhas usando o mapeamento dinâmico</li>
  * </ol>
  * 
@@ -68,11 +71,23 @@ import java.util.Set;
  *   <li><b>situacao:</b> Status da movimentação</li>
  * </ul>
  * 
+ * <h2>Modos de Parsing</h2>
+ * <p>Esta classe é o modo {@code dom}: constrói o documento inteiro e navega
+ * nele com seletores. O modo {@code streaming} ({@link StreamingHtmlParser})
+ * reaproveita o mesmo {@link EsquemaTabela}, mas varre o HTML sem construir o
+ * DOM. A escolha é feita por {@code praticagem.parser.modo}.</p>
+ *
+ * <h2>Esquema em Cache</h2>
+ * <p>O mapeamento coluna → índice é resolvido uma vez por layout de cabeçalho
+ * e reaproveitado enquanto o site mantiver o mesmo cabeçalho
+ * (ver {@link #esquemaPara(List)}).</p>
+ *
  * @author Marcus
  * @version 1.0
  * @since 2026-02-23
- * 
+ *
  * @see NavioMovimentacao
+ * @see StreamingHtmlParser
  * @see org.jsoup.nodes.Document
  */
 public class HtmlParser {
@@ -84,6 +99,18 @@ public class HtmlParser {
     private static final Logger logger =
         LoggerFactory.getLogger(HtmlParser.class);
 
+    /**
+     * Quantidade máxima de assinaturas de cabeçalho guardadas.
+     */
+    private static final int LIMITE_ESQUEMAS = 64;
+
+    /**
+     * Esquemas já resolvidos, por assinatura de cabeçalho. {@code Optional.empty()}
+     * indica uma tabela que não é a de movimentação.
+     */
+    private final Map<List<String>, Optional<EsquemaTabela>> esquemas =
+        new ConcurrentHashMap<>();
+
     /**
      * Processa o documento HTML e extrai lista de movimentações de navios.
      * 
@@ -129,6 +156,34 @@ public class HtmlParser {
         }
     }
 
+    /**
+     * Processa os bytes crus da resposta HTTP e extrai as movimentações.
+     *
+     * <p>No modo DOM, os bytes são convertidos em {@link Document} pelo Jsoup
+     * e o processamento segue por {@link #parse(Document)}. Subclasses podem
+     * sobrescrever este método para evitar a construção do DOM.</p>
+     *
+     * @param html Bytes do corpo da resposta
+     * @param charset Charset declarado pelo servidor, ou {@code null} para o
+     *                Jsoup detectar pelo BOM ou pelo {@code <meta charset>}
+     * @return Lista de movimentações encontradas
+     * @throws IllegalStateException se a tabela não for encontrada ou se a
+     *                               estrutura da tabela mudou significativamente
+     */
+    public List<NavioMovimentacao> parse(byte[] html, Charset charset) {
+
+        Document document;
+        try {
+            document = Jsoup.parse(new ByteArrayInputStream(html), charset == null ? null : charset.name(), "");
+
+        } catch (IOException e) {
+            // Leitura de array em memória não falha na prática
+            throw new UncheckedIOException(e);
+        }
+
+        return parse(document);
+    }
+
     /**
      * Implementação interna do parsing.
      * 
@@ -137,11 +192,11 @@ public class HtmlParser {
      * 
      * <h3>Algoritmo de Parsing</h3>
      * <ol>
-     *   <li>Localiza a tabela correta usando {@link #encontrarTabelaMovimentacao}</li>
-     *   <li>Extrai cabeçalhos e cria mapa nome→índice</li>
-     *   <li>Valida presença de todas as colunas essenciais</li>
+     *   <li>Localiza a tabela correta e seu {@link EsquemaTabela} usando
+     *       {@link #encontrarTabelaMovimentacao}</li>
      *   <li>Itera sobre as linhas de dados e extrai informações</li>
-     *   <li>Cria objetos {@link NavioMovimentacao} para cada linha</li>
+     *   <li>Cria objetos {@link NavioMovimentacao} para cada linha, usando os
+     *       índices do esquema</li>
      * </ol>
      * 
      * @param document Documento HTML a ser processado
@@ -153,17 +208,19 @@ public class HtmlParser {
         // Lista que acumula todas as movimentações encontradas
         List<NavioMovimentacao> movimentacoes = new ArrayList<>();
 
-        // ===== PASSO 1: Encontrar a tabela correta =====
-        Element tabela = encontrarTabelaMovimentacao(document);
+        // ===== PASSO 1: Encontrar a tabela correta (e seu esquema) =====
+        TabelaEncontrada encontrada = encontrarTabelaMovimentacao(document);
 
-        // Se não encontramos a tabela de movimentação, retornamos lista vazia
-        if (tabela == null) {
+        // Nenhuma tabela tem todas as colunas essenciais: a estrutura mudou
+        if (encontrada == null) {
             logger.error("Tabela de movimentação não encontrada no HTML recebido");
             throw new IllegalStateException("Tabela de movimentação não encontrada");
         }
 
+        EsquemaTabela esquema = encontrada.esquema();
+
         // ===== PASSO 2: Extrair todas as linhas (tr) da tabela =====
-        Elements linhas = tabela.select("tr");
+        Elements linhas = encontrada.tabela().select("tr");
 
         // Validação básica: precisa ter pelo menos 2 linhas (cabeçalho + 1 dado)
         if (linhas.size() < 2) {
@@ -171,50 +228,8 @@ public class HtmlParser {
             return movimentacoes; // Retorna lista vazia
         }
 
-        // ===== PASSO 3: Mapear cabeçalho da tabela =====
-        // Primeira linha sempre contém os headers (th)
-        Element headerRow = linhas.get(0);
-        Elements headers = headerRow.select("th");
-
-        // Mapa que relaciona: nome-normalizado-da-coluna → índice-da-coluna
-        // Exemplo: "data" → 0, "horario" → 1, "manobra" → 2, etc.
-        Map<String, Integer> indiceColunas = new HashMap<>();
-
-        for (int i = 0; i < headers.size(); i++) {
-            String nomeColuna = normalizar(headers.get(i).text());
-            indiceColunas.put(nomeColuna, i);
-            logger.debug("Coluna mapeada: '{}' → índice {}", nomeColuna, i);
-        }
-
-        // ===== PASSO 4: Validar presença de colunas essenciais =====
-        // Usamos busca por palavra-chave para ser mais tolerante a variações
-        // Ex: "horário previsto" ainda vai casar com "horario"
-        Integer idxData = encontrarIndicePorPalavra(indiceColunas, "data");
-        Integer idxHorario = encontrarIndicePorPalavra(indiceColunas, "horario");
-        Integer idxManobra = encontrarIndicePorPalavra(indiceColunas, "manobra");
-        Integer idxBerco = encontrarIndicePorPalavra(indiceColunas, "berco");
-        Integer idxNavio = encontrarIndicePorPalavra(indiceColunas, "navio");
-        Integer idxSituacao = encontrarIndicePorPalavra(indiceColunas, "situacao");
-
-        // Se qualquer coluna essencial não foi encontrada, a estrutura mudou
-        if (idxData == null || idxHorario == null || idxManobra == null ||
-            idxBerco == null || idxNavio == null || idxSituacao == null) {
-
-            logger.error(
-                "Mudança crítica detectada na estrutura da tabela. " +
-                "Headers encontrados: {}. " +
-                "Índices: data={}, horario={}, manobra={}, berco={}, navio={}, situacao={}",
-                indiceColunas.keySet(),
-                idxData, idxHorario, idxManobra, idxBerco, idxNavio, idxSituacao
-            );
-
-            throw new IllegalStateException(
-                "Estrutura da tabela mudou. Colunas esperadas não foram encontradas."
-            );
-        }
-            
-        // ===== PASSO 5: Ler linhas de dados =====
-        // Começamos em i=1 porque i=0 é o cabeçalho
+        // ===== PASSO 3: Ler linhas de dados =====
+        // Começamos em i=1 porque i=0 é o cabeçalho (já resolvido no esquema)
         for (int i = 1; i < linhas.size(); i++) {
 
             // Extrai todas as células (td) da linha atual
@@ -226,30 +241,17 @@ public class HtmlParser {
                 continue;
             }
 
-            // Extrai dados de cada coluna usando os índices mapeados
-            // Se índice for inválido, pegarPorIndice retorna string vazia
-            String data = pegarPorIndice(colunas, idxData);
-            String horario = pegarPorIndice(colunas, idxHorario);
-            String manobra = pegarPorIndice(colunas, idxManobra);
-            String berco = pegarPorIndice(colunas, idxBerco);
-            String navio = pegarPorIndice(colunas, idxNavio);
-            String situacao = pegarPorIndice(colunas, idxSituacao);
-
-            // Cria objeto de movimentação e adiciona à lista
-            NavioMovimentacao movimentacao = new NavioMovimentacao(
-                data,
-                horario,
-                manobra,
-                berco,
-                navio,
-                situacao
+            // Índices além do número de células viram string vazia
+            NavioMovimentacao movimentacao = esquema.montar(
+                colunas.size(),
+                indice -> colunas.get(indice).text().trim()
             );
 
             movimentacoes.add(movimentacao);
 
             logger.debug(
                     "Linha {} processada: Navio={}, Berço={}, Situação={}",
-                    i, navio, berco, situacao
+                    i, movimentacao.navio(), movimentacao.berco(), movimentacao.situacao()
             );
         }
 
@@ -258,30 +260,38 @@ public class HtmlParser {
 
     }
 
+    /**
+     * Tabela de movimentação localizada no documento, junto com seu esquema.
+     */
+    record TabelaEncontrada(Element tabela, EsquemaTabela esquema) {
+    }
+
     /**
      * Busca a tabela de movimentação dentro do documento HTML.
      * 
      * <p>Como a página pode conter múltiplas tabelas (menu, rodapé, etc),
      * precisamos identificar qual é a tabela correta. A estratégia é procurar
-     * por uma tabela que contenha TODAS as colunas essenciais no cabeçalho.</p>
+     * por uma tabela cujo cabeçalho contenha TODAS as colunas essenciais.</p>
      * 
      * <h3>Algoritmo de Identificação</h3>
      * <ol>
      *   <li>Seleciona todas as tags &lt;table&gt; do documento</li>
-     *   <li>Para cada tabela, extrai os headers (&lt;th&gt;)</li>
-     *   <li>Verifica se contém todas as 6 colunas essenciais</li>
-     *   <li>Retorna a primeira tabela que atende aos critérios</li>
+     *   <li>Para cada tabela, lê os textos dos &lt;th&gt; da primeira linha
+     *       (a assinatura do cabeçalho)</li>
+     *   <li>Obtém o esquema da assinatura com {@link #esquemaPara(List)}, que
+     *       só resolve colunas quando a assinatura é nova</li>
+     *   <li>Retorna a primeira tabela com esquema válido</li>
      * </ol>
      * 
      * <p><b>Vantagem desta abordagem:</b> Mesmo se adicionarem outras tabelas
      * na página, continuaremos encontrando a tabela correta.</p>
      * 
+     * <p>Visível no pacote para os benchmarks do módulo {@code jmh}.</p>
+     *
      * @param document Documento HTML a ser pesquisado
-     * @return Elemento &lt;table&gt; da movimentação, ou {@code null} se não encontrada
-     * 
-     * @see #contemColuna(Set, String)
+     * @return Tabela da movimentação e seu esquema, ou {@code null} se não encontrada
      */
-    private Element encontrarTabelaMovimentacao(Document document) {
+    TabelaEncontrada encontrarTabelaMovimentacao(Document document) {
 
         // Seleciona todas as tabelas da página (pode haver várias)
         Elements tabelas = document.select("table");
@@ -291,29 +301,26 @@ public class HtmlParser {
         // Testa cada tabela para ver se é a que queremos
         for (Element tabela : tabelas) {
 
-            // Extrai todos os headers desta tabela
-            Elements headers = tabela.select("th");
-            
-            // Cria conjunto com nomes normalizados dos headers
-            Set<String> nomes = new HashSet<>();
-            for (Element th : headers) {
-                nomes.add(normalizar(th.text()));
+            // O cabeçalho é sempre a primeira linha
+            Element cabecalho = tabela.selectFirst("tr");
+            if (cabecalho == null) {
+                continue;
             }
 
-            logger.debug("Testando tabela com headers: {}", nomes);
+            // Assinatura: textos crus dos <th> da primeira linha
+            List<String> assinatura = new ArrayList<>();
+            for (Element celula : cabecalho.children()) {
+                if (celula.normalName().equals("th")) {
+                    assinatura.add(celula.text());
+                }
+            }
 
-            // Verificamos se contém TODAS as colunas essenciais
-            // Se sim, esta é nossa tabela!
-            if (contemColuna(nomes, "data") &&
-                contemColuna(nomes, "horario") &&
-                contemColuna(nomes, "manobra") &&
-                contemColuna(nomes, "berco") &&
-                contemColuna(nomes, "navio") &&
-                contemColuna(nomes, "situacao")) {
+            logger.debug("Testando tabela com headers: {}", assinatura);
 
+            EsquemaTabela esquema = esquemaPara(assinatura);
+            if (esquema != null) {
                 logger.info("Tabela de movimentação identificada com sucesso");
-                return tabela;
-
+                return new TabelaEncontrada(tabela, esquema);
             }
         }
 
@@ -325,159 +332,39 @@ public class HtmlParser {
     }
 
     /**
-     * Normaliza texto para comparação consistente.
-     * 
-     * <p>Processo de normalização aplicado:</p>
-     * <ol>
-     *   <li>Remove acentuação (á→a, ç→c, ô→o, etc.)</li>
-     *   <li>Converte para minúsculas (A→a, B→b, etc.)</li>
-     *   <li>Remove espaços em branco extras no início e fim</li>
-     * </ol>
-     * 
-     * <h3>Por que normalizar?</h3>
-     * <p>Exemplos de variações que a normalização resolve:</p>
-     * <ul>
-     *   <li>"Horário" e "horario" → ambos viram "horario"</li>
-     *   <li>"BERÇO" e "berço" → ambos viram "berco"</li>
-     *   <li>" Situação " e "situacao" → ambos viram "situacao"</li>
-     * </ul>
-     * 
-     * <p><b>Importante:</b> Esta normalização é aplicada tanto nos headers da
-     * tabela quanto nas palavras-chave de busca, garantindo matching consistente.</p>
-     * 
-     * @param texto String a ser normalizada (pode ser {@code null})
-     * @return String normalizada (sem acentos, minúsculas, sem espaços extras).
-     *         Retorna string vazia se entrada for {@code null}
-     * 
-     * @see java.text.Normalizer
+     * Obtém o esquema de colunas para uma assinatura de cabeçalho.
+     *
+     * <p>O resultado é guardado por assinatura, inclusive quando a tabela
+     * <b>não</b> é a de movimentação, para que as outras tabelas da página
+     * também não sejam reavaliadas a cada parse. A descoberta
+     * ({@link EsquemaTabela#descobrir(List)}) só roda quando o layout muda.</p>
+     *
+     * <p>Usado pelos dois modos de parsing (DOM e streaming).</p>
+     *
+     * @param assinatura Textos crus dos {@code <th>} da primeira linha
+     * @return Esquema resolvido, ou {@code null} se a tabela não tem as colunas essenciais
      */
-    private String normalizar(String texto) {
-        
-        // Proteção contra null
-        if (texto == null) {
-            return "";
-        }
-
-        // Decomposição Unicode seguida de remoção de marcas diacríticas
-        // NFD = Canonical Decomposition (á vira a + ́ )
-        // Regex remove os combining marks (os acentos separados)
-        String semAcento = Normalizer.normalize(texto, Normalizer.Form.NFD)
-            .replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
-
-        // Remove espaços extras e converte para minúsculas
-        return semAcento.trim().toLowerCase();
-    }
+    EsquemaTabela esquemaPara(List<String> assinatura) {
 
-    /**
-     * Procura o índice de uma coluna que contenha a palavra-chave especificada.
-     * 
-     * <p>Esta busca é <b>case-insensitive</b> e <b>sem acentos</b>, usando o
-     * método {@link #normalizar(String)}. Além disso, usa busca por substring
-     * (contains) ao invés de match exato, tornando o parser mais tolerante.</p>
-     * 
-     * <h3>Exemplos de Matching</h3>
-     * <table border="1">
-     *   <tr>
-     *     <th>Palavra-chave</th>
-     *     <th>Nome da Coluna</th>
-     *     <th>Match?</th>
-     *   </tr>
-     *   <tr><td>"horario"</td><td>"Horário Previsto"</td><td>✅ Sim</td></tr>
-     *   <tr><td>"horario"</td><td>"horario"</td><td>✅ Sim</td></tr>
-     *   <tr><td>"situacao"</td><td>"Situação da Manobra"</td><td>✅ Sim</td></tr>
-     *   <tr><td>"berco"</td><td>"Porto"</td><td>❌ Não</td></tr>
-     * </table>
-     * 
-     * <p><b>Vantagem:</b> Se o site mudar "Horário" para "Horário Previsto",
-     * o parser continua funcionando sem modificações.</p>
-     * 
-     * @param mapa Mapeamento nome-da-coluna → índice (já normalizado)
-     * @param palavraChave Palavra a buscar dentro dos nomes das colunas
-     * @return Índice da primeira coluna que contém a palavra-chave,
-     *         ou {@code null} se não encontrada
-     * 
-     * @see #normalizar(String)
-     */
-    private Integer encontrarIndicePorPalavra(
-        Map<String, Integer> mapa,
-        String palavraChave
-    ) {
-        for (Map.Entry<String, Integer> entry : mapa.entrySet()) {
-
-            String nomeColuna = entry.getKey();
-
-            // Usa 'contains' ao invés de 'equals' para ser mais tolerante
-            // Ex: "horario" casa com "horario previsto"
-            if (nomeColuna.contains(palavraChave)) {
-                logger.debug(
-                    "Palavra-chave '{}' encontrada na coluna '{}' (índice {})",
-                    palavraChave, nomeColuna, entry.getValue()
-                );
-                return entry.getValue();
-            }
+        Optional<EsquemaTabela> conhecido = esquemas.get(assinatura);
+        if (conhecido != null) {
+            return conhecido.orElse(null);
         }
 
-        return null;
-    }
-
-    /**
-     * Extrai valor de uma célula da tabela de forma segura.
-     * 
-     * <p>Método utilitário que acessa uma coluna específica pelo índice,
-     * com proteção contra índices inválidos.</p>
-     * 
-     * <h3>Proteções Implementadas</h3>
-     * <ul>
-     *   <li>Verifica se índice não é {@code null}</li>
-     *   <li>Verifica se índice está dentro dos limites da lista</li>
-     *   <li>Remove espaços em branco extras do texto</li>
-     *   <li>Retorna string vazia em caso de problema (fail-safe)</li>
-     * </ul>
-     * 
-     * @param colunas Lista de elementos &lt;td&gt; da linha atual
-     * @param indice Índice da coluna desejada (pode ser {@code null})
-     * @return Texto da célula (trimmed), ou string vazia se índice inválido
-     */
-    private String pegarPorIndice(Elements colunas, Integer indice) {
-
-        // Proteção: índice null ou fora dos limites da lista
-        if (indice == null || indice >= colunas.size()) {
-            logger.debug(
-                "Índice inválido {} para lista de {} colunas",
-                indice, colunas.size()
+        EsquemaTabela descoberto = EsquemaTabela.descobrir(assinatura);
+        if (descoberto != null) {
+            logger.info(
+                "Novo layout de tabela: data={}, horario={}, manobra={}, berco={}, navio={}, situacao={}",
+                descoberto.data(), descoberto.horario(), descoberto.manobra(),
+                descoberto.berco(), descoberto.navio(), descoberto.situacao()
             );
-            return ""; // Retorna vazio em vez de quebrar
         }
-        
-        // Extrai texto da célula e remove espaços extras
-        String valor = colunas.get(indice).text().trim();
-        return valor;
-    }
 
-    /**
-     * Verifica se um conjunto de nomes contém determinada palavra-chave.
-     * 
-     * <p>Similar ao {@link #encontrarIndicePorPalavra}, mas trabalha com
-     * {@link Set} ao invés de {@link Map}, e retorna boolean ao invés de índice.</p>
-     * 
-     * <p>Usada durante a identificação da tabela correta em
-     * {@link #encontrarTabelaMovimentacao(Document)}.</p>
-     * 
-     * @param nomes Conjunto de nomes de colunas (já normalizados)
-     * @param palavraChave Palavra a procurar (será usada com 'contains')
-     * @return {@code true} se algum nome contém a palavra-chave,
-     *         {@code false} caso contrário
-     * 
-     * @see #encontrarTabelaMovimentacao(Document)
-     */
-    private boolean contemColuna(Set<String> nomes, String palavraChave) {
-        for (String nome : nomes) {
-            if (nome.contains(palavraChave)) {
-                return true;
-            }
+        // Limite protege contra páginas com cabeçalhos sempre diferentes
+        if (esquemas.size() < LIMITE_ESQUEMAS) {
+            esquemas.putIfAbsent(List.copyOf(assinatura), Optional.ofNullable(descoberto));
         }
-
-        return false;
+        return descoberto;
     }
 
 }
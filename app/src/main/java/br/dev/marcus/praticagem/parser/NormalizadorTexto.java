@@ -0,0 +1,169 @@
+package br.dev.marcus.praticagem.parser;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Normalização de texto (sem acentos, minúsculas, sem espaços nas pontas)
+ * otimizada para os cabeçalhos e valores da tabela da praticagem.
+ *
+ * <p>A implementação original fazia, a cada {@code <th>} de cada tabela em
+ * cada requisição, um {@link Normalizer#normalize} seguido de
+ * {@code String.replaceAll}, que recompila a regex em toda chamada. Aqui o
+ * mesmo resultado é obtido em três níveis:</p>
+ * <ol>
+ *   <li><b>Cache:</b> texto cru do cabeçalho → chave normalizada. Os
+ *       cabeçalhos se repetem em toda página, então quase sempre é um acerto</li>
+ *   <li><b>Caminho rápido:</b> se todos os caracteres são Latin-1 (o caso do
+ *       português), cada um é convertido por uma tabela de 256 posições, sem
+ *       alocar nada além da string final</li>
+ *   <li><b>Caminho lento:</b> qualquer outro caractere usa NFD com um
+ *       {@link Pattern} pré-compilado, como antes</li>
+ * </ol>
+ *
+ * <h2>Equivalência</h2>
+ * <p>A tabela Latin-1 é gerada na inicialização da classe aplicando o próprio
+ * caminho lento a cada caractere, então os dois caminhos produzem sempre o
+ * mesmo resultado ("Horário" → "horario", "BERÇO" → "berco").</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see EsquemaTabela#descobrir(java.util.List)
+ */
+public final class NormalizadorTexto {
+
+    /**
+     * Marcas diacríticas combinantes, compilada uma única vez.
+     */
+    private static final Pattern MARCAS_DIACRITICAS =
+        Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
+
+    /**
+     * Limite de entradas do cache. Uma página tem algumas dezenas de
+     * cabeçalhos distintos; o limite só protege contra texto arbitrário.
+     */
+    static final int LIMITE_CACHE = 1024;
+
+    /**
+     * Marca, na tabela, caracteres que não viram exatamente um caractere.
+     */
+    private static final char SEM_MAPEAMENTO = '\uffff';
+
+    /**
+     * Caractere Latin-1 → caractere normalizado (sem acento, minúsculo).
+     * Marcas combinantes não são Latin-1, então são tratadas à parte.
+     */
+    private static final char[] TABELA_LATIN1 = new char[256];
+
+    static {
+        for (char c = 0; c < TABELA_LATIN1.length; c++) {
+            String normalizado = removerAcentosLento(String.valueOf(c)).toLowerCase(Locale.ROOT);
+            TABELA_LATIN1[c] = normalizado.length() == 1 ? normalizado.charAt(0) : SEM_MAPEAMENTO;
+        }
+    }
+
+    /**
+     * Cache texto cru → texto normalizado.
+     */
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Classe utilitária: não deve ser instanciada.
+     */
+    private NormalizadorTexto() {
+    }
+
+    /**
+     * Normaliza um texto que se repete entre requisições (cabeçalhos), usando o cache.
+     *
+     * @param texto Texto a normalizar (pode ser {@code null})
+     * @return Texto sem acentos, minúsculo e sem espaços nas pontas;
+     *         string vazia se a entrada for {@code null}
+     */
+    public static String normalizar(String texto) {
+
+        if (texto == null) {
+            return "";
+        }
+
+        String normalizado = CACHE.get(texto);
+        if (normalizado != null) {
+            return normalizado;
+        }
+
+        normalizado = dobrar(texto);
+        if (CACHE.size() < LIMITE_CACHE) {
+            CACHE.putIfAbsent(texto, normalizado);
+        }
+        return normalizado;
+    }
+
+    /**
+     * Normaliza sem passar pelo cache. Indicado para valores de células,
+     * que variam demais para valer a pena guardar.
+     *
+     * @param texto Texto a normalizar (pode ser {@code null})
+     * @return Texto sem acentos, minúsculo e sem espaços nas pontas;
+     *         string vazia se a entrada for {@code null}
+     */
+    public static String dobrar(String texto) {
+
+        if (texto == null) {
+            return "";
+        }
+
+        char[] saida = new char[texto.length()];
+        int tamanho = 0;
+        int tamanhoSemEspacoFinal = 0;
+
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+
+            // Acento já decomposto (ex: "a" + U+0301): apenas descarta
+            if (c >= '\u0300' && c <= '\u036f') {
+                continue;
+            }
+
+            char convertido = c < TABELA_LATIN1.length ? TABELA_LATIN1[c] : SEM_MAPEAMENTO;
+            if (convertido == SEM_MAPEAMENTO) {
+                return dobrarLento(texto);
+            }
+
+            // Equivalente ao trim(): ignora espaços/controles no início
+            if (convertido <= ' ' && tamanho == 0) {
+                continue;
+            }
+
+            saida[tamanho++] = convertido;
+            if (convertido > ' ') {
+                tamanhoSemEspacoFinal = tamanho;
+            }
+        }
+
+        return new String(saida, 0, tamanhoSemEspacoFinal);
+    }
+
+    /**
+     * Caminho lento, para textos com caracteres fora do Latin-1.
+     */
+    private static String dobrarLento(String texto) {
+        return removerAcentosLento(texto).trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String removerAcentosLento(String texto) {
+        String decomposto = Normalizer.normalize(texto, Normalizer.Form.NFD);
+        return MARCAS_DIACRITICAS.matcher(decomposto).replaceAll("");
+    }
+
+    /**
+     * Tamanho atual do cache, para testes.
+     */
+    static int tamanhoCache() {
+        return CACHE.size();
+    }
+}
@@ -0,0 +1,213 @@
+package br.dev.marcus.praticagem.parser;
+
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool de canonicalização dos textos das células: valores iguais passam a
+ * ser a mesma instância de {@link String}.
+ *
+ * <p>Berços, manobras, situações, datas e nomes de navio se repetem em toda
+ * coleta e em todo registro do histórico, mas cada parse cria strings novas
+ * ({@code Element.text().trim()} no DOM, {@code StringBuilder} no streaming,
+ * UTF-8 decodificado no histórico). Passando cada célula por
+ * {@link #canonico(String)}, a string recém-criada vira lixo de vida curta e
+ * o que fica retido nos snapshots e no histórico é uma única cópia de cada
+ * valor.</p>
+ *
+ * <h2>Limite</h2>
+ * <p>Datas e navios mudam ao longo dos dias, então o pool não pode só
+ * crescer. Ao atingir {@link #LIMITE} entradas ele é esvaziado e recomeça:
+ * as instâncias já compartilhadas continuam válidas, e os valores ainda em
+ * uso voltam ao pool na coleta seguinte. É mais simples que um LRU e não
+ * trava a leitura.</p>
+ *
+ * <h2>Métricas</h2>
+ * <p>{@link #estatisticas()} informa consultas, acertos, entradas e
+ * descartes, acumulados desde o início do processo. O heap poupado não é
+ * acumulado: cada acerto descarta uma string que de qualquer forma seria
+ * coletada quando o snapshot fosse trocado. {@link #bytesPoupados(List)}
+ * estima a economia que importa, a de uma lista retida em memória (o
+ * snapshot atual), no layout de uma JVM 64 bits com compressed oops.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see EsquemaTabela#montar(int, java.util.function.IntFunction)
+ */
+public final class PoolTextos {
+
+    /**
+     * Máximo de valores distintos antes de esvaziar o pool. Uma coleta tem
+     * algumas centenas de valores distintos; o limite cobre semanas de
+     * histórico e só protege contra texto arbitrário.
+     */
+    static final int LIMITE = 16_384;
+
+    /**
+     * Cabeçalho do objeto {@code String} (12) + hash (4) + referência ao
+     * array (4) + coder e flags, alinhado a 8.
+     */
+    private static final int BYTES_STRING = 24;
+
+    /**
+     * Cabeçalho do {@code byte[]} (12) + tamanho (4).
+     */
+    private static final int BYTES_CABECALHO_ARRAY = 16;
+
+    private static final Map<String, String> POOL = new ConcurrentHashMap<>();
+
+    private static final LongAdder consultas = new LongAdder();
+    private static final LongAdder acertos = new LongAdder();
+    private static final LongAdder descartes = new LongAdder();
+
+    /**
+     * Classe utilitária: não deve ser instanciada.
+     */
+    private PoolTextos() {
+    }
+
+    /**
+     * Retorna a instância compartilhada de um texto, registrando-o se for novo.
+     *
+     * @param texto Texto da célula (pode ser {@code null})
+     * @return Instância canônica igual a {@code texto}; {@code null} se a entrada for {@code null}
+     */
+    public static String canonico(String texto) {
+
+        if (texto == null) {
+            return null;
+        }
+        if (texto.isEmpty()) {
+            return "";
+        }
+
+        consultas.increment();
+        String existente = POOL.get(texto);
+        if (existente != null) {
+            acertos.increment();
+            return existente;
+        }
+
+        if (POOL.size() >= LIMITE) {
+            POOL.clear();
+            descartes.increment();
+        }
+
+        existente = POOL.putIfAbsent(texto, texto);
+        if (existente != null) {
+            // Outra thread registrou o mesmo valor entre o get e o put
+            acertos.increment();
+            return existente;
+        }
+        return texto;
+    }
+
+    /**
+     * Fotografia das métricas do pool.
+     *
+     * @return Contadores acumulados desde o início do processo
+     */
+    public static Estatisticas estatisticas() {
+        return new Estatisticas(
+            consultas.sum(),
+            acertos.sum(),
+            POOL.size(),
+            descartes.sum()
+        );
+    }
+
+    /**
+     * Estima quantos bytes de heap a lista deixa de reter por compartilhar
+     * os textos das células.
+     *
+     * <p>Sem o pool, cada célula seria uma string própria. Cada referência
+     * repetida à mesma instância é, portanto, uma string a menos em memória.
+     * Textos iguais em instâncias diferentes (ex: pool esvaziado no meio da
+     * coleta) não contam.</p>
+     *
+     * @param movimentacoes Lista retida (ex: a do snapshot publicado)
+     * @return Bytes estimados poupados pelas instâncias compartilhadas
+     */
+    public static long bytesPoupados(List<NavioMovimentacao> movimentacoes) {
+
+        Set<String> vistas = Collections.newSetFromMap(new IdentityHashMap<>());
+        long poupados = 0;
+        for (NavioMovimentacao movimentacao : movimentacoes) {
+            poupados += repetida(vistas, movimentacao.data())
+                + repetida(vistas, movimentacao.horario())
+                + repetida(vistas, movimentacao.manobra())
+                + repetida(vistas, movimentacao.berco())
+                + repetida(vistas, movimentacao.navio())
+                + repetida(vistas, movimentacao.situacao());
+        }
+        return poupados;
+    }
+
+    private static long repetida(Set<String> vistas, String texto) {
+        if (texto == null || texto.isEmpty() || vistas.add(texto)) {
+            return 0;
+        }
+        return tamanhoEstimado(texto);
+    }
+
+    /**
+     * Bytes de heap ocupados por uma string (objeto + array), alinhados a 8.
+     *
+     * <p>Com compact strings, textos só com Latin-1 usam um byte por
+     * caractere; os demais, dois.</p>
+     */
+    static long tamanhoEstimado(String texto) {
+
+        int bytesPorCaractere = 1;
+        for (int i = 0; i < texto.length(); i++) {
+            if (texto.charAt(i) > 0xff) {
+                bytesPorCaractere = 2;
+                break;
+            }
+        }
+
+        long array = BYTES_CABECALHO_ARRAY + (long) texto.length() * bytesPorCaractere;
+        return BYTES_STRING + ((array + 7) & ~7L);
+    }
+
+    /**
+     * Esvazia o pool, para testes. Os contadores são mantidos.
+     */
+    static void limpar() {
+        POOL.clear();
+    }
+
+    /**
+     * Métricas acumuladas do pool.
+     *
+     * @param consultas Textos não vazios canonicalizados
+     * @param acertos Consultas que devolveram uma instância já existente
+     * @param entradas Valores distintos no pool agora
+     * @param descartes Vezes em que o pool atingiu o limite e foi esvaziado
+     */
+    public record Estatisticas(
+        long consultas,
+        long acertos,
+        int entradas,
+        long descartes
+    ) {
+
+        /**
+         * Fração das consultas que foram acertos.
+         *
+         * @return Taxa de acerto entre 0 e 1 (0 sem consultas)
+         */
+        public double taxaAcerto() {
+            return consultas == 0 ? 0 : (double) acertos / consultas;
+        }
+    }
+}
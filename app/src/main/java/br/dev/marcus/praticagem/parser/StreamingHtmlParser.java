@@ -0,0 +1,540 @@
+package br.dev.marcus.praticagem.parser;
+
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+
+import org.jsoup.parser.Parser;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parser em modo streaming: extrai as movimentações varrendo o HTML uma única
+ * vez, sem construir o DOM.
+ *
+ * <p>O {@link HtmlParser} (modo DOM) constrói o documento inteiro e depois
+ * executa {@code select("table")}, {@code select("th")} e {@code select("tr")},
+ * cada um percorrendo a árvore e alocando listas de {@code Elements}. Como só
+ * precisamos de uma tabela, este parser funciona como um tokenizer:</p>
+ *
+ * <pre>
+ *  &lt;html&gt;...&lt;table&gt;&lt;tr&gt;&lt;th&gt;Data&lt;/th&gt;...&lt;/tr&gt;  ← cabeçalho: é a tabela certa?
+ *     &lt;tr&gt;&lt;td&gt;21/02&lt;/td&gt;...&lt;/tr&gt;                 ← linha emitida ao fechar o &lt;/tr&gt;
+ *     ...
+ *  &lt;/table&gt;                                          ← varredura termina aqui
+ *  ...resto da página nunca é lido
+ * </pre>
+ *
+ * <h2>Identificação da Tabela</h2>
+ * <p>A primeira linha de cada tabela é tratada como cabeçalho. Se os
+ * {@code <th>} dela contêm todas as colunas essenciais, a tabela é a de
+ * movimentação; caso contrário, a tabela inteira é ignorada e a varredura
+ * segue para a próxima. O esquema de colunas vem do mesmo cache do modo DOM
+ * ({@link HtmlParser#esquemaPara(java.util.List)}), então um layout já
+ * conhecido não é resolvido de novo.</p>
+ *
+ * <h2>Texto das Células</h2>
+ * <p>O texto segue as regras de {@code Element.text()} do Jsoup: entidades são
+ * decodificadas, espaços em sequência (incluindo {@code &nbsp;}) viram um só,
+ * {@code <br>} e tags de bloco separam palavras e tags inline (como
+ * {@code <span>}) são descartadas.
+ * Conteúdo de {@code <script>}, {@code <style>} e comentários é ignorado.</p>
+ *
+ * <h2>Limitações</h2>
+ * <p>Não há correção de HTML malformado como no Jsoup. Tags de fechamento
+ * omitidas de {@code <td>}/{@code <tr>} são tratadas (o HTML permite omiti-las),
+ * mas tabelas aninhadas dentro da tabela de movimentação têm apenas o texto
+ * aproveitado na célula externa.</p>
+ *
+ * <p>Selecionado com {@code praticagem.parser.modo=streaming}.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see HtmlParser
+ */
+public class StreamingHtmlParser extends HtmlParser {
+
+    /**
+     * Logger para registrar eventos e erros durante o parsing.
+     */
+    private static final Logger logger =
+        LoggerFactory.getLogger(StreamingHtmlParser.class);
+
+    /**
+     * Quantos bytes do início da página são examinados atrás do {@code <meta charset>}
+     * (o mesmo limite do Jsoup).
+     */
+    private static final int LIMITE_DETECCAO = 5 * 1024;
+
+    /**
+     * {@code <meta charset="...">} ou {@code <meta http-equiv="Content-Type" content="...; charset=...">}.
+     */
+    private static final Pattern META_CHARSET = Pattern.compile(
+        "(?i)<meta\\b[^>]*?charset\\s*=\\s*[\"']?\\s*([\\w.:-]+)"
+    );
+
+    /**
+     * Processa os bytes da resposta sem construir o DOM.
+     *
+     * <p>Mesmo contrato de {@link HtmlParser#parse(org.jsoup.nodes.Document)}:
+     * erros estruturais propagam como {@link IllegalStateException} e erros
+     * inesperados resultam em lista vazia.</p>
+     *
+     * @param html Bytes do corpo da resposta
+     * @param charset Charset declarado pelo servidor, ou {@code null} para
+     *                detectar como o Jsoup ({@link #detectarCharset(byte[])})
+     * @return Lista de movimentações encontradas
+     * @throws IllegalStateException se a tabela de movimentação não for encontrada
+     */
+    @Override
+    public List<NavioMovimentacao> parse(byte[] html, Charset charset) {
+
+        List<NavioMovimentacao> movimentacoes = new ArrayList<>();
+
+        try {
+            extrair(new String(html, charset != null ? charset : detectarCharset(html)), movimentacoes::add);
+
+        } catch (IllegalStateException e) {
+            // Erros estruturais continuam propagando, como no modo DOM
+            throw e;
+
+        } catch (Exception e) {
+            logger.error("Erro ao processar HTML da praticagem (streaming)", e);
+            return Collections.emptyList();
+        }
+
+        logger.info(
+            "Parsing (streaming) concluído. {} movimentações encontradas",
+            movimentacoes.size()
+        );
+        return movimentacoes;
+    }
+
+    /**
+     * Detecta o charset da página como o Jsoup faz quando o servidor não
+     * declara: BOM, depois {@code <meta charset>} no início da página e, sem
+     * nenhum dos dois (ou com um nome desconhecido), UTF-8.
+     *
+     * @param html Bytes do corpo da resposta
+     * @return Charset para decodificar os bytes
+     */
+    static Charset detectarCharset(byte[] html) {
+
+        if (html.length >= 3 && (html[0] & 0xFF) == 0xEF && (html[1] & 0xFF) == 0xBB && (html[2] & 0xFF) == 0xBF) {
+            return StandardCharsets.UTF_8;
+        }
+        if (html.length >= 2 && (html[0] & 0xFF) == 0xFE && (html[1] & 0xFF) == 0xFF) {
+            return StandardCharsets.UTF_16BE;
+        }
+        if (html.length >= 2 && (html[0] & 0xFF) == 0xFF && (html[1] & 0xFF) == 0xFE) {
+            return StandardCharsets.UTF_16LE;
+        }
+
+        // As tags são ASCII: ISO-8859-1 lê o início sem depender do charset real
+        String inicio = new String(html, 0, Math.min(html.length, LIMITE_DETECCAO), StandardCharsets.ISO_8859_1);
+        Matcher meta = META_CHARSET.matcher(inicio);
+        if (meta.find()) {
+            try {
+                if (Charset.isSupported(meta.group(1))) {
+                    return Charset.forName(meta.group(1));
+                }
+            } catch (IllegalArgumentException e) {
+                // Nome inválido no meta: usa o padrão
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    /**
+     * Varre o HTML e entrega cada movimentação ao destino assim que a linha termina.
+     *
+     * <p>A varredura para no fechamento da tabela de movimentação; o restante
+     * do HTML não é lido.</p>
+     *
+     * @param html HTML já decodificado
+     * @param destino Recebe as movimentações na ordem em que aparecem na tabela
+     * @throws IllegalStateException se a tabela de movimentação não for encontrada
+     */
+    public void extrair(String html, Consumer<NavioMovimentacao> destino) {
+        new Varredura(this, html, destino).executar();
+    }
+
+    /**
+     * Estado de uma varredura. Não é thread-safe: cada chamada cria a sua.
+     */
+    private static final class Varredura {
+
+        private static final int TAG_TABLE = 1;
+        private static final int TAG_TR = 2;
+        private static final int TAG_CELULA_TD = 3;
+        private static final int TAG_CELULA_TH = 4;
+        private static final int TAG_QUEBRA = 5;
+        private static final int TAG_RAW = 6;
+        private static final int TAG_OUTRA = 0;
+
+        /**
+         * Tags que, como no {@code Element.text()} do Jsoup, separam palavras.
+         */
+        private static final String[] TAGS_QUEBRA = {
+            "br", "p", "div", "li", "ul", "ol", "hr", "h1", "h2", "h3", "h4", "h5", "h6"
+        };
+
+        private final HtmlParser parser;
+        private final String html;
+        private final int tamanho;
+        private final Consumer<NavioMovimentacao> destino;
+
+        private int pos;
+        private int profundidade;
+        private boolean ignorarTabela;
+        private EsquemaTabela esquema;
+        private boolean linhaAberta;
+        private boolean emCelula;
+        private boolean celulaTh;
+        private int linhasEmitidas;
+
+        private final List<String> cabecalhos = new ArrayList<>();
+        private final List<String> celulas = new ArrayList<>();
+        private final StringBuilder celula = new StringBuilder(64);
+        private final StringBuilder texto = new StringBuilder(64);
+
+        Varredura(HtmlParser parser, String html, Consumer<NavioMovimentacao> destino) {
+            this.parser = parser;
+            this.html = html;
+            this.tamanho = html.length();
+            this.destino = destino;
+        }
+
+        void executar() {
+
+            while (pos < tamanho) {
+
+                int menor = html.indexOf('<', pos);
+                int fimTexto = menor < 0 ? tamanho : menor;
+
+                // Texto entre tags só interessa dentro de uma célula
+                if (emCelula && fimTexto > pos) {
+                    celula.append(html, pos, fimTexto);
+                }
+
+                if (menor < 0) {
+                    break;
+                }
+
+                pos = menor;
+                if (processarMarcacao()) {
+                    logger.debug("Tabela de movimentação fechada após {} linha(s)", linhasEmitidas);
+                    return;
+                }
+            }
+
+            // Fim do HTML sem </table>: aproveita o que já foi lido
+            if (esquema != null) {
+                finalizarLinha();
+                return;
+            }
+
+            logger.error("Tabela de movimentação não encontrada no HTML recebido");
+            throw new IllegalStateException("Tabela de movimentação não encontrada");
+        }
+
+        /**
+         * Processa a marcação que começa em {@code pos} e avança até depois dela.
+         *
+         * @return {@code true} quando a tabela de movimentação acabou de ser fechada
+         */
+        private boolean processarMarcacao() {
+
+            if (html.startsWith("<!--", pos)) {
+                int fim = html.indexOf("-->", pos + 4);
+                pos = fim < 0 ? tamanho : fim + 3;
+                return false;
+            }
+
+            int i = pos + 1;
+            boolean fechamento = i < tamanho && html.charAt(i) == '/';
+            if (fechamento) {
+                i++;
+            }
+
+            int inicioNome = i;
+            while (i < tamanho && ehCaractereDeNome(html.charAt(i))) {
+                i++;
+            }
+
+            if (i == inicioNome) {
+                char c = i < tamanho ? html.charAt(i) : ' ';
+                if (!fechamento && (c == '!' || c == '?')) {
+                    // <!DOCTYPE ...> ou <?xml ...?>
+                    pos = fimDaTag(i);
+                } else {
+                    // '<' literal no texto
+                    if (emCelula) {
+                        celula.append('<');
+                    }
+                    pos++;
+                }
+                return false;
+            }
+
+            int tipo = tipoDaTag(inicioNome, i);
+            pos = fimDaTag(i);
+
+            if (tipo == TAG_RAW) {
+                if (!fechamento) {
+                    pularConteudoBruto(inicioNome, i - inicioNome);
+                }
+                return false;
+            }
+
+            return tratarTag(tipo, fechamento);
+        }
+
+        private boolean tratarTag(int tipo, boolean fechamento) {
+
+            if (tipo == TAG_TABLE) {
+                return tratarTabela(fechamento);
+            }
+
+            if (profundidade == 0 || ignorarTabela) {
+                return false;
+            }
+
+            // Dentro de tabela aninhada: só separa palavras da célula externa
+            if (profundidade > 1) {
+                if (tipo != TAG_OUTRA && emCelula) {
+                    celula.append(' ');
+                }
+                return false;
+            }
+
+            switch (tipo) {
+                case TAG_TR -> {
+                    finalizarLinha();
+                    linhaAberta = !fechamento;
+                }
+                case TAG_CELULA_TD, TAG_CELULA_TH -> {
+                    finalizarCelula();
+                    if (!fechamento) {
+                        linhaAberta = true;
+                        emCelula = true;
+                        celulaTh = tipo == TAG_CELULA_TH;
+                    }
+                }
+                case TAG_QUEBRA -> {
+                    if (emCelula) {
+                        celula.append(' ');
+                    }
+                }
+                default -> {
+                    // Tags inline: descartadas, o texto interno é mantido
+                }
+            }
+            return false;
+        }
+
+        private boolean tratarTabela(boolean fechamento) {
+
+            if (!fechamento) {
+                profundidade++;
+                if (profundidade == 1) {
+                    iniciarTabela();
+                } else if (emCelula) {
+                    celula.append(' ');
+                }
+                return false;
+            }
+
+            if (profundidade == 0) {
+                // </table> sem abertura correspondente
+                return false;
+            }
+
+            profundidade--;
+            if (profundidade > 0) {
+                if (emCelula) {
+                    celula.append(' ');
+                }
+                return false;
+            }
+
+            if (ignorarTabela) {
+                return false;
+            }
+
+            finalizarLinha();
+            return esquema != null;
+        }
+
+        private void iniciarTabela() {
+            ignorarTabela = false;
+            linhaAberta = false;
+            emCelula = false;
+            celula.setLength(0);
+            cabecalhos.clear();
+            celulas.clear();
+        }
+
+        private void finalizarCelula() {
+
+            if (!emCelula) {
+                return;
+            }
+
+            String valor = textoDaCelula();
+            if (celulaTh) {
+                cabecalhos.add(valor);
+            } else {
+                celulas.add(valor);
+            }
+
+            celula.setLength(0);
+            emCelula = false;
+        }
+
+        private void finalizarLinha() {
+
+            finalizarCelula();
+            if (!linhaAberta) {
+                return;
+            }
+            linhaAberta = false;
+
+            if (esquema == null) {
+                // Primeira linha da tabela: decide se é a tabela de movimentação
+                esquema = parser.esquemaPara(cabecalhos);
+                ignorarTabela = esquema == null;
+                if (esquema != null) {
+                    logger.info("Tabela de movimentação identificada com sucesso (streaming)");
+                }
+
+            } else if (!celulas.isEmpty()) {
+                destino.accept(esquema.montar(celulas.size(), celulas::get));
+                linhasEmitidas++;
+
+            } else {
+                logger.debug("Linha sem <td> ignorada");
+            }
+
+            cabecalhos.clear();
+            celulas.clear();
+        }
+
+        /**
+         * Texto da célula com entidades decodificadas e espaços normalizados,
+         * equivalente a {@code Element.text()}.
+         */
+        private String textoDaCelula() {
+
+            CharSequence bruto = celula;
+            if (celula.indexOf("&") >= 0) {
+                bruto = Parser.unescapeEntities(celula.toString(), false);
+            }
+
+            texto.setLength(0);
+            boolean espacoPendente = false;
+
+            for (int i = 0; i < bruto.length(); i++) {
+                char c = bruto.charAt(i);
+                // Como no Jsoup, &nbsp; (U+00A0) também conta como espaço
+                if (c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == '\u00a0') {
+                    espacoPendente = true;
+                } else {
+                    if (espacoPendente && texto.length() > 0) {
+                        texto.append(' ');
+                    }
+                    espacoPendente = false;
+                    texto.append(c);
+                }
+            }
+
+            return texto.toString();
+        }
+
+        /**
+         * Classifica a tag sem alocar a string do nome.
+         */
+        private int tipoDaTag(int inicio, int fim) {
+
+            int tamanhoNome = fim - inicio;
+
+            if (nomeIgual(inicio, tamanhoNome, "table")) {
+                return TAG_TABLE;
+            }
+            if (nomeIgual(inicio, tamanhoNome, "tr")) {
+                return TAG_TR;
+            }
+            if (nomeIgual(inicio, tamanhoNome, "td")) {
+                return TAG_CELULA_TD;
+            }
+            if (nomeIgual(inicio, tamanhoNome, "th")) {
+                return TAG_CELULA_TH;
+            }
+            if (nomeIgual(inicio, tamanhoNome, "script") || nomeIgual(inicio, tamanhoNome, "style")) {
+                return TAG_RAW;
+            }
+            for (String quebra : TAGS_QUEBRA) {
+                if (nomeIgual(inicio, tamanhoNome, quebra)) {
+                    return TAG_QUEBRA;
+                }
+            }
+            return TAG_OUTRA;
+        }
+
+        private boolean nomeIgual(int inicio, int tamanhoNome, String nome) {
+            return tamanhoNome == nome.length()
+                && html.regionMatches(true, inicio, nome, 0, tamanhoNome);
+        }
+
+        /**
+         * Posição logo após o {@code >} que fecha a tag, respeitando aspas nos atributos.
+         */
+        private int fimDaTag(int desde) {
+
+            char aspas = 0;
+            for (int i = desde; i < tamanho; i++) {
+                char c = html.charAt(i);
+                if (aspas != 0) {
+                    if (c == aspas) {
+                        aspas = 0;
+                    }
+                } else if (c == '"' || c == '\'') {
+                    aspas = c;
+                } else if (c == '>') {
+                    return i + 1;
+                }
+            }
+            return tamanho;
+        }
+
+        /**
+         * Pula o conteúdo de {@code <script>}/{@code <style>} até a tag de fechamento.
+         */
+        private void pularConteudoBruto(int inicioNome, int tamanhoNome) {
+
+            int i = pos;
+            while ((i = html.indexOf("</", i)) >= 0) {
+                if (html.regionMatches(true, i + 2, html, inicioNome, tamanhoNome)) {
+                    pos = fimDaTag(i + 2 + tamanhoNome);
+                    return;
+                }
+                i += 2;
+            }
+            pos = tamanho;
+        }
+
+        private static boolean ehCaractereDeNome(char c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+        }
+    }
+}
@@ -0,0 +1,496 @@
+package br.dev.marcus.praticagem.push;
+
+import br.dev.marcus.praticagem.diff.ConjuntoMudancas;
+import br.dev.marcus.praticagem.diff.DiffMovimentacoes;
+import br.dev.marcus.praticagem.service.MovimentacaoService;
+import br.dev.marcus.praticagem.service.MovimentacaoSnapshot;
+import br.dev.marcus.praticagem.service.OuvinteSnapshot;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.javalin.http.sse.SseClient;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Difusor de Server-Sent Events para {@code GET /movimentacoes/stream}.
+ *
+ * <p>Cada cliente recebe o snapshot completo ao conectar e, depois, apenas as
+ * <b>mudanças</b> (movimentações adicionadas, removidas ou alteradas) sempre que
+ * o poller publica dados diferentes. Não há thread por cliente: as conexões
+ * ficam em modo assíncrono no Jetty ({@link SseClient#keepAlive()}), uma
+ * única thread decide o que enviar e as escritas saem por um
+ * {@link PoolEscrita} de {@value PoolEscrita#THREADS} threads fixas, que se
+ * revezam entre as filas dos clientes.</p>
+ *
+ * <pre>
+ *  Poller ─publicar─► SnapshotHolder ─aviso─► DifusorSse
+ *                                                 │ thread "sse-difusor"
+ *                                                 │ diff uma vez, JSON uma vez
+ *                       ┌─────────────┬───────────┴───┬──────────────┐
+ *                       ▼             ▼               ▼              ▼
+ *                    fila 1        fila 2     ...   fila N      (heartbeat)
+ *                       │             │               │
+ *                       ▼             ▼               ▼         threads "sse-escrita"
+ *                   cliente 1     cliente 2   ...  cliente N
+ * </pre>
+ *
+ * <h2>Eventos</h2>
+ * <ul>
+ *   <li><b>snapshot:</b> lista completa, mesmo JSON de {@code GET /movimentacoes}</li>
+ *   <li><b>mudancas:</b> {@code {"adicionadas":[...],"removidas":[...],"alteradas":[...]}}</li>
+ * </ul>
+ *
+ * <p>O evento {@code mudancas} é o {@link ConjuntoMudancas} publicado com o
+ * snapshot: movimentações são identificadas por navio + manobra + data, e uma
+ * movimentação com a mesma chave e outro conteúdo (ex: horário ou situação)
+ * aparece em {@code alteradas}, já com os valores novos.</p>
+ *
+ * <h2>Ordem e Consistência</h2>
+ * <p>Conexões, difusões e heartbeats rodam todos na mesma thread. Assim, o
+ * snapshot enviado a um cliente novo é sempre o último já difundido, e o
+ * próximo evento {@code mudancas} que ele recebe parte exatamente desse estado.</p>
+ *
+ * <h2>Heartbeat</h2>
+ * <p>Um comentário SSE é enviado periodicamente. Além de manter proxies e
+ * balanceadores sem fechar a conexão ociosa, é o que detecta clientes que
+ * sumiram sem fechar o socket: a escrita falha e o cliente é removido.</p>
+ *
+ * <h2>Clientes Lentos</h2>
+ * <p>A escrita no socket bloqueia quando a janela TCP do cliente enche. Por
+ * isso a thread do difusor nunca escreve: ela só enfileira o evento na fila
+ * do cliente (até {@value #LIMITE_PENDENTES} eventos) e as threads de
+ * escrita esvaziam as filas em rodízio. Um cliente lento ocupa no máximo
+ * uma thread de escrita, e só até ser descartado; o heartbeat e as difusões
+ * seguem no ritmo normal. Enquanto {@value PoolEscrita#THREADS} ou mais
+ * clientes estão com a escrita parada, os demais esperam a vez até esses
+ * serem descartados. O cliente é descartado (e a conexão fechada, o que
+ * também solta a escrita bloqueada) quando:</p>
+ * <ul>
+ *   <li>a fila enche: ele ficou {@value #LIMITE_PENDENTES} eventos para trás; ou</li>
+ *   <li>uma única escrita está parada há mais de um intervalo de heartbeat
+ *       (verificado a cada heartbeat).</li>
+ * </ul>
+ * <p>Um cliente descartado reconecta (o {@code EventSource} do navegador faz
+ * isso sozinho) e recebe o snapshot completo.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see OuvinteSnapshot
+ */
+public class DifusorSse implements OuvinteSnapshot {
+
+    /**
+     * Logger para registrar conexões e difusões.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(DifusorSse.class);
+
+    /**
+     * Nome do evento com a lista completa.
+     */
+    static final String EVENTO_SNAPSHOT = "snapshot";
+
+    /**
+     * Nome do evento com as mudanças em relação ao evento anterior.
+     */
+    static final String EVENTO_MUDANCAS = "mudancas";
+
+    /**
+     * Eventos que podem esperar na fila de um cliente antes que ele seja
+     * considerado para trás e descartado.
+     */
+    static final int LIMITE_PENDENTES = 64;
+
+    /**
+     * Mapper compartilhado. {@link ObjectMapper} é thread-safe após configurado.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Serviço cujos snapshots são difundidos.
+     */
+    private final MovimentacaoService service;
+
+    /**
+     * Intervalo entre heartbeats, em milissegundos.
+     */
+    private final long intervaloHeartbeatMs;
+
+    /**
+     * Clientes conectados.
+     */
+    private final Set<Cliente> clientes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Thread única (daemon) que decide o que enviar: conexões, difusões e heartbeats.
+     */
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Threads de escrita ({@value PoolEscrita#THREADS}, fixas) que se revezam
+     * entre as filas dos clientes.
+     */
+    private final PoolEscrita escrita = new PoolEscrita("sse-escrita", LIMITE_PENDENTES);
+
+    /**
+     * Último snapshot difundido. Acessado apenas pela thread do executor.
+     */
+    private MovimentacaoSnapshot ultimoDifundido;
+
+    /**
+     * JSON de {@link #ultimoDifundido}, já como texto para o evento {@code snapshot}.
+     */
+    private String jsonUltimoDifundido;
+
+    /**
+     * Eventos {@code mudancas} difundidos.
+     */
+    private final LongAdder difusoes = new LongAdder();
+
+    /**
+     * Clientes descartados por ficarem para trás (fila cheia ou escrita parada).
+     */
+    private final LongAdder descartados = new LongAdder();
+
+    /**
+     * Constrói o difusor. Nada é registrado até {@link #iniciar()}.
+     *
+     * @param service Serviço cujos snapshots serão difundidos
+     * @param intervaloHeartbeatMs Intervalo entre heartbeats (ex: 15000)
+     * @throws IllegalArgumentException se o intervalo não for positivo
+     */
+    public DifusorSse(MovimentacaoService service, long intervaloHeartbeatMs) {
+
+        if (intervaloHeartbeatMs <= 0) {
+            throw new IllegalArgumentException(
+                "Intervalo de heartbeat deve ser positivo: " + intervaloHeartbeatMs
+            );
+        }
+
+        this.service = service;
+        this.intervaloHeartbeatMs = intervaloHeartbeatMs;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-difusor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Passa a ouvir as publicações do serviço e agenda o heartbeat.
+     */
+    public void iniciar() {
+
+        // Registra antes de ler o estado atual: nenhuma publicação se perde
+        service.adicionarOuvinte(this);
+        executor.execute(() -> {
+            if (ultimoDifundido == null) {
+                service.snapshotAtual().ifPresent(this::definirUltimo);
+            }
+        });
+
+        executor.scheduleAtFixedRate(
+            this::enviarHeartbeat,
+            intervaloHeartbeatMs, intervaloHeartbeatMs, TimeUnit.MILLISECONDS
+        );
+        logger.info("Difusor SSE iniciado (heartbeat a cada {}ms)", intervaloHeartbeatMs);
+    }
+
+    /**
+     * Encerra o difusor. As conexões abertas são fechadas pelo Javalin ao parar.
+     */
+    public void encerrar() {
+        executor.shutdownNow();
+        escrita.encerrar();
+        clientes.clear();
+        logger.info("Difusor SSE encerrado");
+    }
+
+    /**
+     * Handler de {@code app.sse(...)}: mantém a conexão aberta e a registra.
+     *
+     * @param cliente Cliente SSE recém-conectado
+     */
+    public void conectar(SseClient cliente) {
+
+        // Conexão assíncrona: nenhuma thread do Jetty fica presa ao cliente
+        cliente.keepAlive();
+
+        Canal canal = new Canal() {
+            @Override
+            public void enviar(String evento, String dados) {
+                cliente.sendEvent(evento, dados);
+            }
+
+            @Override
+            public void comentar(String texto) {
+                cliente.sendComment(texto);
+            }
+
+            @Override
+            public void fechar() {
+                cliente.close();
+            }
+        };
+
+        conectar(canal, cliente::onClose);
+    }
+
+    /**
+     * Registra um canal e envia o último snapshot difundido, se houver.
+     *
+     * @param canal Destino dos eventos
+     */
+    void conectar(Canal canal) {
+        conectar(canal, aoFechar -> { });
+    }
+
+    /**
+     * Registra o cliente na thread do difusor.
+     *
+     * @param canal Destino dos eventos
+     * @param aoFechar Registra a ação a executar quando a conexão fechar
+     */
+    private void conectar(Canal canal, Consumer<Runnable> aoFechar) {
+
+        Cliente cliente = new Cliente(canal);
+        aoFechar.accept(() -> desconectar(cliente));
+        try {
+            executor.execute(() -> {
+                if (cliente.fechado) {
+                    return; // Fechou antes de ser registrado
+                }
+                // Snapshot entra na fila antes de qualquer difusão: a ordem se mantém
+                clientes.add(cliente);
+                if (jsonUltimoDifundido != null) {
+                    cliente.enfileirar(EVENTO_SNAPSHOT, jsonUltimoDifundido);
+                }
+                logger.debug("Cliente SSE conectado ({} no total)", clientes.size());
+            });
+
+        } catch (RejectedExecutionException e) {
+            // Difusor encerrado: a conexão não recebe nada
+        }
+    }
+
+    private void desconectar(Cliente cliente) {
+        cliente.fechado = true;
+        if (clientes.remove(cliente)) {
+            logger.debug("Cliente SSE desconectado ({} restantes)", clientes.size());
+        }
+    }
+
+    /**
+     * Remove um cliente que ficou para trás e fecha a conexão.
+     */
+    private void descartar(Cliente cliente, String motivo) {
+        cliente.fechado = true;
+        if (!clientes.remove(cliente)) {
+            return;
+        }
+        cliente.fila.fechar();
+        descartados.increment();
+        logger.warn("Cliente SSE descartado ({}). {} restantes", motivo, clientes.size());
+        try {
+            cliente.canal.fechar();
+        } catch (RuntimeException e) {
+            logger.debug("Falha ao fechar conexão SSE: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recebe o aviso do {@link br.dev.marcus.praticagem.service.SnapshotHolder}
+     * e repassa a difusão para a thread do difusor.
+     */
+    @Override
+    public void snapshotPublicado(MovimentacaoSnapshot anterior, MovimentacaoSnapshot novo) {
+        try {
+            executor.execute(() -> difundir(anterior, novo));
+
+        } catch (RejectedExecutionException e) {
+            // Difusor encerrado
+        }
+    }
+
+    /**
+     * Compara com o último snapshot difundido e envia o evento correspondente.
+     *
+     * <p>A base é o último difundido: é o estado que os clientes conectados de
+     * fato têm. Quando ele é o mesmo {@code anterior} do aviso (o caso normal),
+     * o {@link ConjuntoMudancas} já calculado na publicação é reaproveitado.</p>
+     */
+    private void difundir(MovimentacaoSnapshot anteriorPublicado, MovimentacaoSnapshot novo) {
+
+        MovimentacaoSnapshot anterior = ultimoDifundido;
+        if (anterior != null && anterior.versao() == novo.versao()) {
+            // Snapshot apenas renovado: nada muda para os clientes, mas o
+            // próximo aviso terá este como anterior
+            ultimoDifundido = novo;
+            return;
+        }
+        definirUltimo(novo);
+
+        if (anterior == null) {
+            // Primeiros dados: quem conectou antes recebe a lista completa
+            enviarATodos(EVENTO_SNAPSHOT, jsonUltimoDifundido);
+            return;
+        }
+
+        ConjuntoMudancas mudancas = anteriorPublicado == anterior
+            ? novo.mudancas()
+            : DiffMovimentacoes.calcular(anterior.movimentacoes(), novo.movimentacoes());
+        if (mudancas.vazio()) {
+            return;
+        }
+
+        String dados;
+        try {
+            dados = MAPPER.writeValueAsString(mudancas);
+
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar mudanças em JSON", e);
+        }
+
+        difusoes.increment();
+        logger.info(
+            "Difundindo mudanças para {} cliente(s): +{} -{} ~{}",
+            clientes.size(), mudancas.adicionadas().size(),
+            mudancas.removidas().size(), mudancas.alteradas().size()
+        );
+        enviarATodos(EVENTO_MUDANCAS, dados);
+    }
+
+    private void definirUltimo(MovimentacaoSnapshot snapshot) {
+        ultimoDifundido = snapshot;
+        jsonUltimoDifundido = new String(snapshot.json().bytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Descarta quem está com uma escrita parada há mais de um intervalo e
+     * enfileira o comentário de heartbeat para os demais.
+     */
+    private void enviarHeartbeat() {
+        long prazo = TimeUnit.MILLISECONDS.toNanos(intervaloHeartbeatMs);
+        long agora = System.nanoTime();
+        for (Cliente cliente : clientes) {
+            long parada = cliente.fila.escrevendoHaNanos(agora);
+            if (parada > prazo) {
+                descartar(cliente, "escrita parada há " + TimeUnit.NANOSECONDS.toMillis(parada) + "ms");
+            } else {
+                cliente.enfileirar(null, "ping");
+            }
+        }
+    }
+
+    private void enviarATodos(String evento, String dados) {
+        for (Cliente cliente : clientes) {
+            cliente.enfileirar(evento, dados);
+        }
+    }
+
+    /**
+     * Retorna quantos clientes estão conectados.
+     *
+     * @return Total de conexões SSE abertas
+     */
+    public int getClientesConectados() {
+        return clientes.size();
+    }
+
+    /**
+     * Retorna quantos clientes foram descartados por ficarem para trás.
+     *
+     * @return Total de clientes descartados (fila cheia ou escrita parada)
+     */
+    public long getClientesDescartados() {
+        return descartados.sum();
+    }
+
+    /**
+     * Retorna quantos eventos {@code mudancas} foram difundidos.
+     *
+     * @return Total de difusões com mudanças
+     */
+    public long getDifusoes() {
+        return difusoes.sum();
+    }
+
+    /**
+     * Destino de eventos de um cliente. Separa o difusor do {@link SseClient}
+     * (classe final do Javalin), o que também permite testá-lo sem servidor.
+     */
+    interface Canal {
+
+        /**
+         * Envia um evento SSE.
+         *
+         * @param evento Nome do evento
+         * @param dados Conteúdo (JSON)
+         */
+        void enviar(String evento, String dados);
+
+        /**
+         * Envia um comentário SSE (ignorado pelo {@code EventSource} do navegador).
+         *
+         * @param texto Texto do comentário
+         */
+        void comentar(String texto);
+
+        /**
+         * Fecha a conexão. Uma escrita bloqueada no canal deve falhar.
+         */
+        void fechar();
+    }
+
+    /**
+     * Um cliente conectado: o canal e a fila de escritas pendentes.
+     */
+    private final class Cliente {
+
+        private final Canal canal;
+
+        private final PoolEscrita.Fila fila;
+
+        /**
+         * A conexão fechou ou o cliente foi descartado.
+         */
+        private volatile boolean fechado;
+
+        private Cliente(Canal canal) {
+            this.canal = canal;
+            this.fila = escrita.novaFila(() -> desconectar(this));
+        }
+
+        /**
+         * Põe o evento na fila sem bloquear. Chamado só pela thread do difusor.
+         *
+         * @param nome Nome do evento, ou {@code null} para um comentário
+         * @param dados Conteúdo do evento ou texto do comentário
+         * @return {@code false} se a fila estava cheia e o cliente foi descartado
+         */
+        private boolean enfileirar(String nome, String dados) {
+            Runnable envio = nome == null
+                ? () -> canal.comentar(dados)
+                : () -> canal.enviar(nome, dados);
+            if (!fila.enfileirar(envio)) {
+                descartar(this, LIMITE_PENDENTES + " eventos pendentes");
+                return false;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,738 @@
+package br.dev.marcus.praticagem.push;
+
+import br.dev.marcus.praticagem.diff.ConjuntoMudancas;
+import br.dev.marcus.praticagem.diff.DiffMovimentacoes;
+import br.dev.marcus.praticagem.model.MovimentacaoTipada;
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+import br.dev.marcus.praticagem.parser.NormalizadorTexto;
+import br.dev.marcus.praticagem.service.MovimentacaoService;
+import br.dev.marcus.praticagem.service.MovimentacaoSnapshot;
+import br.dev.marcus.praticagem.service.OuvinteSnapshot;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.javalin.websocket.WsConfig;
+import io.javalin.websocket.WsContext;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hub WebSocket de {@code /movimentacoes/ws}: cada cliente assina berços e/ou
+ * navios e recebe apenas as mudanças que casam com suas assinaturas.
+ *
+ * <h2>Protocolo</h2>
+ * <p>Cliente → servidor:</p>
+ * <pre>{@code
+ * {"acao":"assinar",  "bercos":["201","TVIP"], "navios":["MSC MARINA"]}
+ * {"acao":"cancelar", "bercos":["TVIP"]}
+ * }</pre>
+ * <p>Servidor → cliente:</p>
+ * <pre>{@code
+ * {"tipo":"assinaturas","bercos":[...],"navios":[...],"movimentacoes":[...]}  // resposta a assinar/cancelar
+ * {"tipo":"mudancas","adicionadas":[...],"removidas":[...],"alteradas":[...]} // a cada publicação
+ * {"tipo":"erro","mensagem":"..."}
+ * }</pre>
+ *
+ * <p>Filtros são comparados sem acento e sem diferenciar maiúsculas
+ * ({@link NormalizadorTexto#normalizar(String)}) e devolvidos já normalizados.
+ * A resposta {@code assinaturas} traz as movimentações atuais que casam com o
+ * conjunto completo de filtros, para o cliente partir de um estado conhecido.</p>
+ *
+ * <h2>Índices</h2>
+ * <p>Nenhuma publicação compara todos os assinantes com todas as linhas.
+ * Há dois índices invertidos de assinaturas ({@code berço → sessões} e
+ * {@code navio → sessões}): para cada linha que mudou, duas consultas de hash
+ * dão exatamente as sessões interessadas. O custo de uma difusão é
+ * proporcional a linhas alteradas × assinantes que casam, e não ao total de
+ * conexões. Do lado dos dados, o último snapshot é indexado por berço e por
+ * navio, usado para responder a uma assinatura sem varrer a lista.</p>
+ *
+ * <pre>
+ *  mudança {berco=201, navio=ALFA}
+ *     ├─► assinantesPorBerco["201"]  = {s1, s7}
+ *     └─► assinantesPorNavio["alfa"] = {s7, s9}   ⇒ envia para s1, s7, s9 (s7 uma vez só)
+ * </pre>
+ *
+ * <p>Uma movimentação alterada é roteada tanto pelos valores novos quanto
+ * pelos antigos: quem assina o berço de onde o navio saiu também é avisado.</p>
+ *
+ * <h2>Threads</h2>
+ * <p>Como no {@link DifusorSse}, os índices e a decisão do que enviar
+ * pertencem a uma única thread; os handlers do Jetty só repassam eventos
+ * para ela. As conexões não ocupam threads, e os pings automáticos do
+ * Javalin mantêm conexões ociosas vivas.</p>
+ *
+ * <h2>Clientes Lentos</h2>
+ * <p>{@code WsContext.send} bloqueia enquanto o socket não aceita os bytes,
+ * então a thread do hub nunca escreve: cada sessão tem uma fila de até
+ * {@value #LIMITE_PENDENTES} mensagens, esvaziada por um {@link PoolEscrita}
+ * de threads fixas. Uma sessão lenta não atrasa difusões nem assinaturas das
+ * outras. A sessão é fechada quando a fila enche ou quando uma escrita fica
+ * parada por mais de {@value #PRAZO_ESCRITA_MS} ms; o cliente reconecta e
+ * assina de novo.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see ConjuntoMudancas
+ */
+public class HubWebSocket implements OuvinteSnapshot {
+
+    /**
+     * Logger para registrar conexões e difusões.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(HubWebSocket.class);
+
+    /**
+     * Máximo de filtros (berços + navios) por sessão.
+     */
+    static final int LIMITE_FILTROS = 64;
+
+    /**
+     * Mensagens que podem esperar na fila de uma sessão antes de ela ser fechada.
+     */
+    static final int LIMITE_PENDENTES = 64;
+
+    /**
+     * Tempo máximo de uma escrita parada antes de a sessão ser fechada.
+     */
+    static final long PRAZO_ESCRITA_MS = 15_000;
+
+    /**
+     * Mapper compartilhado. Campos desconhecidos nas mensagens são ignorados.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    /**
+     * Serviço cujos snapshots são difundidos.
+     */
+    private final MovimentacaoService service;
+
+    /**
+     * Thread única (daemon) dona dos índices e da decisão do que enviar.
+     */
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Threads fixas que esvaziam as filas das sessões.
+     */
+    private final PoolEscrita escrita = new PoolEscrita("ws-escrita", LIMITE_PENDENTES);
+
+    /**
+     * Prazo de uma escrita parada, em milissegundos.
+     */
+    private final long prazoEscritaMs;
+
+    /**
+     * Sessões por contexto do Javalin (os contextos de connect, message e
+     * close de uma mesma conexão são iguais entre si).
+     */
+    private final Map<WsContext, Sessao> sessoesPorContexto = new ConcurrentHashMap<>();
+
+    /**
+     * Sessões abertas.
+     */
+    private final Set<Sessao> sessoes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Índice de assinaturas por berço normalizado. Apenas a thread do executor.
+     */
+    private final Map<String, Set<Sessao>> assinantesPorBerco = new HashMap<>();
+
+    /**
+     * Índice de assinaturas por navio normalizado. Apenas a thread do executor.
+     */
+    private final Map<String, Set<Sessao>> assinantesPorNavio = new HashMap<>();
+
+    /**
+     * Último snapshot difundido. Apenas a thread do executor.
+     */
+    private MovimentacaoSnapshot ultimoDifundido;
+
+    /**
+     * Posições das linhas de {@link #ultimoDifundido} por berço normalizado.
+     */
+    private Map<String, List<Integer>> linhasPorBerco = Map.of();
+
+    /**
+     * Posições das linhas de {@link #ultimoDifundido} por navio normalizado.
+     */
+    private Map<String, List<Integer>> linhasPorNavio = Map.of();
+
+    /**
+     * Mensagens {@code mudancas} enviadas (uma por sessão interessada).
+     */
+    private final LongAdder mensagensMudancas = new LongAdder();
+
+    /**
+     * Sessões fechadas por ficarem para trás (fila cheia ou escrita parada).
+     */
+    private final LongAdder descartadas = new LongAdder();
+
+    /**
+     * Constrói o hub. Nada é registrado até {@link #iniciar()}.
+     *
+     * @param service Serviço cujos snapshots serão difundidos
+     */
+    public HubWebSocket(MovimentacaoService service) {
+        this(service, PRAZO_ESCRITA_MS);
+    }
+
+    /**
+     * @param service Serviço cujos snapshots serão difundidos
+     * @param prazoEscritaMs Tempo máximo de uma escrita parada
+     */
+    HubWebSocket(MovimentacaoService service, long prazoEscritaMs) {
+        this.service = service;
+        this.prazoEscritaMs = prazoEscritaMs;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ws-hub");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Passa a ouvir as publicações do serviço.
+     */
+    public void iniciar() {
+
+        // Registra antes de ler o estado atual: nenhuma publicação se perde
+        service.adicionarOuvinte(this);
+        executor.execute(() -> {
+            if (ultimoDifundido == null) {
+                service.snapshotAtual().ifPresent(this::indexar);
+            }
+        });
+
+        // Metade do prazo: uma escrita parada é detectada em até 1,5 prazo
+        long verificacao = Math.max(1, prazoEscritaMs / 2);
+        executor.scheduleAtFixedRate(this::verificarEscritas, verificacao, verificacao, TimeUnit.MILLISECONDS);
+        logger.info("Hub WebSocket iniciado");
+    }
+
+    /**
+     * Encerra o hub. As conexões abertas são fechadas pelo Javalin ao parar.
+     */
+    public void encerrar() {
+        executor.shutdownNow();
+        escrita.encerrar();
+        sessoes.clear();
+        sessoesPorContexto.clear();
+        logger.info("Hub WebSocket encerrado");
+    }
+
+    /**
+     * Handler de {@code app.ws(...)}: liga os eventos da conexão ao hub.
+     *
+     * @param ws Configuração do endpoint WebSocket
+     */
+    public void configurar(WsConfig ws) {
+
+        ws.onConnect(ctx -> {
+            ctx.enableAutomaticPings();
+            sessoesPorContexto.put(ctx, abrir(new Conexao() {
+                @Override
+                public void enviar(String mensagem) {
+                    ctx.send(mensagem);
+                }
+
+                @Override
+                public void fechar() {
+                    ctx.closeSession();
+                }
+            }));
+        });
+
+        ws.onMessage(ctx -> {
+            Sessao sessao = sessoesPorContexto.get(ctx);
+            if (sessao != null) {
+                receber(sessao, ctx.message());
+            }
+        });
+
+        ws.onClose(ctx -> {
+            Sessao sessao = sessoesPorContexto.remove(ctx);
+            if (sessao != null) {
+                fechar(sessao);
+            }
+        });
+
+        ws.onError(ctx -> {
+            Sessao sessao = sessoesPorContexto.remove(ctx);
+            if (sessao != null) {
+                fechar(sessao);
+            }
+        });
+    }
+
+    /**
+     * Abre uma sessão sem assinaturas.
+     *
+     * @param conexao Destino das mensagens
+     * @return Sessão registrada
+     */
+    Sessao abrir(Conexao conexao) {
+        Sessao sessao = new Sessao(conexao);
+        sessoes.add(sessao);
+        logger.debug("Cliente WebSocket conectado ({} no total)", sessoes.size());
+        return sessao;
+    }
+
+    /**
+     * Repassa uma mensagem do cliente para a thread do hub.
+     *
+     * @param sessao Sessão de origem
+     * @param mensagem Texto recebido
+     */
+    void receber(Sessao sessao, String mensagem) {
+        executar(() -> processar(sessao, mensagem));
+    }
+
+    /**
+     * Fecha a sessão e remove suas assinaturas dos índices.
+     *
+     * @param sessao Sessão encerrada
+     */
+    void fechar(Sessao sessao) {
+        sessao.fila.fechar();
+        if (sessoes.remove(sessao)) {
+            executar(() -> removerDosIndices(sessao));
+            logger.debug("Cliente WebSocket desconectado ({} restantes)", sessoes.size());
+        }
+    }
+
+    /**
+     * Recebe o aviso do {@link br.dev.marcus.praticagem.service.SnapshotHolder}
+     * e repassa a difusão para a thread do hub.
+     */
+    @Override
+    public void snapshotPublicado(MovimentacaoSnapshot anterior, MovimentacaoSnapshot novo) {
+        executar(() -> difundir(anterior, novo));
+    }
+
+    // ===== THREAD DO HUB =====
+
+    private void processar(Sessao sessao, String mensagem) {
+
+        if (!sessoes.contains(sessao)) {
+            return; // Fechou enquanto a mensagem estava na fila
+        }
+
+        Comando comando;
+        try {
+            comando = MAPPER.readValue(mensagem, Comando.class);
+
+        } catch (JsonProcessingException e) {
+            comando = null;
+        }
+
+        // JSON inválido ou o literal "null" (que o Jackson lê como null)
+        if (comando == null) {
+            enviar(sessao, new MensagemErro("Mensagem inválida: esperado JSON com \"acao\""));
+            return;
+        }
+
+        if ("assinar".equals(comando.acao())) {
+            if (sessao.totalFiltros() + tamanho(comando.bercos()) + tamanho(comando.navios()) > LIMITE_FILTROS) {
+                enviar(sessao, new MensagemErro("Limite de " + LIMITE_FILTROS + " filtros por conexão"));
+                return;
+            }
+            for (String berco : valores(comando.bercos())) {
+                assinar(sessao.bercos, assinantesPorBerco, NormalizadorTexto.normalizar(berco), sessao);
+            }
+            for (String navio : valores(comando.navios())) {
+                assinar(sessao.navios, assinantesPorNavio, NormalizadorTexto.normalizar(navio), sessao);
+            }
+
+        } else if ("cancelar".equals(comando.acao())) {
+            for (String berco : valores(comando.bercos())) {
+                cancelar(sessao.bercos, assinantesPorBerco, NormalizadorTexto.normalizar(berco), sessao);
+            }
+            for (String navio : valores(comando.navios())) {
+                cancelar(sessao.navios, assinantesPorNavio, NormalizadorTexto.normalizar(navio), sessao);
+            }
+
+        } else {
+            enviar(sessao, new MensagemErro("Ação desconhecida: " + comando.acao()));
+            return;
+        }
+
+        enviar(sessao, new MensagemAssinaturas(
+            sessao.bercos, sessao.navios, movimentacoesAssinadas(sessao)
+        ));
+    }
+
+    private void difundir(MovimentacaoSnapshot anteriorPublicado, MovimentacaoSnapshot novo) {
+
+        MovimentacaoSnapshot anterior = ultimoDifundido;
+        if (anterior != null && anterior.versao() == novo.versao()) {
+            // Mesmos dados: nada a difundir. As posições dos índices só valem
+            // para a lista de onde vieram; se a instância mudou (ex: snapshot
+            // restaurado do histórico), indexa de novo
+            if (novo.movimentacoes() == anterior.movimentacoes()) {
+                ultimoDifundido = novo;
+            } else {
+                indexar(novo);
+            }
+            return;
+        }
+        indexar(novo);
+
+        if (assinantesPorBerco.isEmpty() && assinantesPorNavio.isEmpty()) {
+            return;
+        }
+
+        // Reaproveita o conjunto publicado quando a base é a mesma. Sem dados
+        // anteriores, tudo é novidade para quem assinou antes da primeira coleta
+        ConjuntoMudancas mudancas = anteriorPublicado == anterior
+            ? novo.mudancas()
+            : DiffMovimentacoes.calcular(
+                anterior == null ? List.of() : anterior.movimentacoes(),
+                novo.movimentacoes()
+            );
+        if (mudancas.vazio()) {
+            return;
+        }
+
+        Map<Sessao, MensagemMudancas> destinos = new HashMap<>();
+        for (NavioMovimentacao movimentacao : mudancas.adicionadas()) {
+            for (Sessao sessao : assinantes(movimentacao, null)) {
+                destinos.computeIfAbsent(sessao, s -> new MensagemMudancas()).adicionadas().add(movimentacao);
+            }
+        }
+        for (NavioMovimentacao movimentacao : mudancas.removidas()) {
+            for (Sessao sessao : assinantes(movimentacao, null)) {
+                destinos.computeIfAbsent(sessao, s -> new MensagemMudancas()).removidas().add(movimentacao);
+            }
+        }
+        for (int i = 0; i < mudancas.alteradas().size(); i++) {
+            NavioMovimentacao movimentacao = mudancas.alteradas().get(i);
+            for (Sessao sessao : assinantes(movimentacao, mudancas.alteradasAntes().get(i))) {
+                destinos.computeIfAbsent(sessao, s -> new MensagemMudancas()).alteradas().add(movimentacao);
+            }
+        }
+
+        logger.debug("Mudanças roteadas para {} de {} sessão(ões)", destinos.size(), sessoes.size());
+        destinos.forEach(this::enviar);
+        mensagensMudancas.add(destinos.size());
+    }
+
+    /**
+     * Sessões que assinam o berço ou o navio da movimentação (e, se houver,
+     * da sua versão anterior), sem repetição.
+     */
+    private Set<Sessao> assinantes(NavioMovimentacao movimentacao, NavioMovimentacao antes) {
+
+        Set<Sessao> alvo = new HashSet<>();
+        coletar(alvo, movimentacao);
+        if (antes != null) {
+            coletar(alvo, antes);
+        }
+        return alvo;
+    }
+
+    private void coletar(Set<Sessao> alvo, NavioMovimentacao movimentacao) {
+        alvo.addAll(assinantesPorBerco.getOrDefault(NormalizadorTexto.normalizar(movimentacao.berco()), Set.of()));
+        alvo.addAll(assinantesPorNavio.getOrDefault(NormalizadorTexto.normalizar(movimentacao.navio()), Set.of()));
+    }
+
+    /**
+     * Indexa o snapshot por berço e por navio (posições na lista).
+     *
+     * <p>O berço vem já normalizado da lista tipada do snapshot; só o navio
+     * ainda passa pelo normalizador.</p>
+     */
+    private void indexar(MovimentacaoSnapshot snapshot) {
+
+        Map<String, List<Integer>> porBerco = new HashMap<>();
+        Map<String, List<Integer>> porNavio = new HashMap<>();
+        List<MovimentacaoTipada> tipadas = snapshot.tipadas();
+
+        for (int i = 0; i < tipadas.size(); i++) {
+            MovimentacaoTipada tipada = tipadas.get(i);
+            porBerco.computeIfAbsent(bercoNormalizado(tipada), k -> new ArrayList<>()).add(i);
+            porNavio.computeIfAbsent(NormalizadorTexto.normalizar(tipada.movimentacao().navio()), k -> new ArrayList<>()).add(i);
+        }
+
+        ultimoDifundido = snapshot;
+        linhasPorBerco = porBerco;
+        linhasPorNavio = porNavio;
+    }
+
+    /**
+     * Berço normalizado da linha, reaproveitando a instância internada.
+     */
+    private static String bercoNormalizado(MovimentacaoTipada tipada) {
+        String berco = tipada.bercoNormalizado();
+        // Tabela de berços cheia: cai no normalizador
+        return berco != null ? berco : NormalizadorTexto.normalizar(tipada.movimentacao().berco());
+    }
+
+    /**
+     * Movimentações atuais que casam com os filtros da sessão, na ordem do snapshot.
+     */
+    private List<NavioMovimentacao> movimentacoesAssinadas(Sessao sessao) {
+
+        if (ultimoDifundido == null) {
+            return List.of();
+        }
+
+        List<NavioMovimentacao> movimentacoes = ultimoDifundido.movimentacoes();
+        boolean[] marcadas = new boolean[movimentacoes.size()];
+        for (String berco : sessao.bercos) {
+            linhasPorBerco.getOrDefault(berco, List.of()).forEach(i -> marcadas[i] = true);
+        }
+        for (String navio : sessao.navios) {
+            linhasPorNavio.getOrDefault(navio, List.of()).forEach(i -> marcadas[i] = true);
+        }
+
+        List<NavioMovimentacao> resultado = new ArrayList<>();
+        for (int i = 0; i < marcadas.length; i++) {
+            if (marcadas[i]) {
+                resultado.add(movimentacoes.get(i));
+            }
+        }
+        return resultado;
+    }
+
+    private static void assinar(
+        Set<String> daSessao, Map<String, Set<Sessao>> indice, String chave, Sessao sessao
+    ) {
+        if (!chave.isEmpty() && daSessao.add(chave)) {
+            indice.computeIfAbsent(chave, k -> new HashSet<>()).add(sessao);
+        }
+    }
+
+    private static void cancelar(
+        Set<String> daSessao, Map<String, Set<Sessao>> indice, String chave, Sessao sessao
+    ) {
+        if (daSessao.remove(chave)) {
+            Set<Sessao> assinantes = indice.get(chave);
+            assinantes.remove(sessao);
+            if (assinantes.isEmpty()) {
+                indice.remove(chave);
+            }
+        }
+    }
+
+    private void removerDosIndices(Sessao sessao) {
+        for (String berco : List.copyOf(sessao.bercos)) {
+            cancelar(sessao.bercos, assinantesPorBerco, berco, sessao);
+        }
+        for (String navio : List.copyOf(sessao.navios)) {
+            cancelar(sessao.navios, assinantesPorNavio, navio, sessao);
+        }
+    }
+
+    /**
+     * Serializa e põe na fila da sessão. Se a fila estiver cheia, a sessão é fechada.
+     */
+    private void enviar(Sessao sessao, Object mensagem) {
+
+        String json;
+        try {
+            json = MAPPER.writeValueAsString(mensagem);
+
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar mensagem WebSocket", e);
+        }
+
+        if (!sessao.fila.enfileirar(() -> sessao.conexao.enviar(json)) && sessoes.contains(sessao)) {
+            descartar(sessao, LIMITE_PENDENTES + " mensagens pendentes");
+        }
+    }
+
+    /**
+     * Fecha as sessões com uma escrita parada além do prazo.
+     */
+    private void verificarEscritas() {
+        long prazo = TimeUnit.MILLISECONDS.toNanos(prazoEscritaMs);
+        long agora = System.nanoTime();
+        for (Sessao sessao : sessoes) {
+            long parada = sessao.fila.escrevendoHaNanos(agora);
+            if (parada > prazo) {
+                descartar(sessao, "escrita parada há " + TimeUnit.NANOSECONDS.toMillis(parada) + "ms");
+            }
+        }
+    }
+
+    /**
+     * Fecha uma sessão que ficou para trás. Apenas a thread do hub.
+     */
+    private void descartar(Sessao sessao, String motivo) {
+        sessao.fila.fechar();
+        if (!sessoes.remove(sessao)) {
+            return;
+        }
+        removerDosIndices(sessao);
+        descartadas.increment();
+        logger.warn("Sessão WebSocket descartada ({}). {} restantes", motivo, sessoes.size());
+        try {
+            sessao.conexao.fechar();
+        } catch (RuntimeException e) {
+            logger.debug("Falha ao fechar sessão WebSocket: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Escrita falhou (na thread de escrita): a conexão caiu.
+     */
+    private void escritaFalhou(Sessao sessao) {
+        executar(() -> {
+            if (sessoes.remove(sessao)) {
+                removerDosIndices(sessao);
+                logger.debug("Falha ao enviar mensagem WebSocket. Sessão fechada ({} restantes)", sessoes.size());
+            }
+        });
+    }
+
+    private void executar(Runnable tarefa) {
+        try {
+            executor.execute(tarefa);
+
+        } catch (RejectedExecutionException e) {
+            // Hub encerrado
+        }
+    }
+
+    private static List<String> valores(List<String> lista) {
+        return lista == null ? List.of() : lista;
+    }
+
+    private static int tamanho(List<String> lista) {
+        return lista == null ? 0 : lista.size();
+    }
+
+    // ===== MÉTRICAS =====
+
+    /**
+     * Retorna quantos clientes estão conectados.
+     *
+     * @return Total de sessões WebSocket abertas
+     */
+    public int getClientesConectados() {
+        return sessoes.size();
+    }
+
+    /**
+     * Retorna quantas mensagens {@code mudancas} foram enviadas.
+     *
+     * @return Total de mensagens de mudanças (uma por sessão interessada por publicação)
+     */
+    public long getMensagensMudancas() {
+        return mensagensMudancas.sum();
+    }
+
+    /**
+     * Retorna quantas sessões foram fechadas por ficarem para trás.
+     *
+     * @return Total de sessões descartadas (fila cheia ou escrita parada)
+     */
+    public long getSessoesDescartadas() {
+        return descartadas.sum();
+    }
+
+    // ===== TIPOS INTERNOS =====
+
+    /**
+     * Destino das mensagens de uma sessão. Separa o hub do {@link WsContext},
+     * o que também permite testá-lo sem servidor.
+     */
+    @FunctionalInterface
+    interface Conexao {
+
+        /**
+         * Envia uma mensagem de texto. Pode bloquear enquanto o socket não aceita os bytes.
+         *
+         * @param mensagem JSON a enviar
+         */
+        void enviar(String mensagem);
+
+        /**
+         * Fecha a conexão. Uma escrita bloqueada deve falhar.
+         */
+        default void fechar() {
+        }
+    }
+
+    /**
+     * Estado de uma conexão: destino, fila de envio e filtros assinados
+     * (normalizados). Filtros são alterados apenas pela thread do hub.
+     */
+    final class Sessao {
+
+        private final Conexao conexao;
+        private final PoolEscrita.Fila fila;
+        private final Set<String> bercos = new LinkedHashSet<>();
+        private final Set<String> navios = new LinkedHashSet<>();
+
+        private Sessao(Conexao conexao) {
+            this.conexao = conexao;
+            this.fila = escrita.novaFila(() -> escritaFalhou(this));
+        }
+
+        private int totalFiltros() {
+            return bercos.size() + navios.size();
+        }
+    }
+
+    /**
+     * Mensagem recebida do cliente.
+     */
+    private record Comando(String acao, List<String> bercos, List<String> navios) {
+    }
+
+    /**
+     * Resposta a {@code assinar}/{@code cancelar}.
+     */
+    private record MensagemAssinaturas(
+        String tipo, Set<String> bercos, Set<String> navios, List<NavioMovimentacao> movimentacoes
+    ) {
+        MensagemAssinaturas(Set<String> bercos, Set<String> navios, List<NavioMovimentacao> movimentacoes) {
+            this("assinaturas", bercos, navios, movimentacoes);
+        }
+    }
+
+    /**
+     * Mudanças que casam com as assinaturas de uma sessão.
+     */
+    private record MensagemMudancas(
+        String tipo,
+        List<NavioMovimentacao> adicionadas,
+        List<NavioMovimentacao> removidas,
+        List<NavioMovimentacao> alteradas
+    ) {
+        MensagemMudancas() {
+            this("mudancas", new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        }
+    }
+
+    /**
+     * Erro de protocolo.
+     */
+    private record MensagemErro(String tipo, String mensagem) {
+        MensagemErro(String mensagem) {
+            this("erro", mensagem);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package br.dev.marcus.praticagem.push;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Escritas nas conexões de push, fora da thread que decide o que enviar.
+ *
+ * <p>A escrita em um socket bloqueia quando a janela TCP do cliente enche.
+ * Para que um cliente lento não segure os demais, cada conexão tem uma
+ * {@link Fila} limitada de escritas pendentes, e um número <b>fixo</b> de
+ * threads se reveza entre as filas: cada vez que uma fila ganha a vez, no
+ * máximo {@value #LOTE} escritas são feitas e ela volta para o fim da fila
+ * do pool. O número de threads não cresce com o número de conexões.</p>
+ *
+ * <pre>
+ *  thread do difusor/hub ──enfileirar──► fila 1 ─┐
+ *                        ──enfileirar──► fila 2 ─┼─► THREADS threads "…-escrita"
+ *                        ──enfileirar──► fila N ─┘     (LOTE escritas por vez)
+ * </pre>
+ *
+ * <p>Quem usa o pool decide o que fazer com quem fica para trás:
+ * {@link Fila#enfileirar(Runnable)} devolve {@code false} quando a fila está
+ * cheia, e {@link Fila#escrevendoHaNanos(long)} mostra há quanto tempo uma
+ * escrita está parada. Fechar a conexão de uma escrita parada faz a escrita
+ * falhar e devolve a thread ao pool.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see DifusorSse
+ * @see HubWebSocket
+ */
+final class PoolEscrita {
+
+    private static final Logger logger = LoggerFactory.getLogger(PoolEscrita.class);
+
+    /**
+     * Threads de escrita por pool.
+     */
+    static final int THREADS = 4;
+
+    /**
+     * Escritas feitas de uma vez para a mesma fila antes de passar a vez.
+     */
+    static final int LOTE = 16;
+
+    private final ExecutorService executor;
+
+    private final int limitePendentes;
+
+    /**
+     * @param nomeThreads Nome das threads (ex: {@code sse-escrita})
+     * @param limitePendentes Escritas que podem esperar em cada fila
+     */
+    PoolEscrita(String nomeThreads, int limitePendentes) {
+        this.limitePendentes = limitePendentes;
+        this.executor = Executors.newFixedThreadPool(THREADS, runnable -> {
+            Thread thread = new Thread(runnable, nomeThreads);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Cria a fila de uma conexão.
+     *
+     * @param aoFalhar Executado (na thread de escrita) quando uma escrita lança exceção
+     * @return Fila vazia
+     */
+    Fila novaFila(Runnable aoFalhar) {
+        return new Fila(aoFalhar);
+    }
+
+    /**
+     * Interrompe as threads de escrita; escritas pendentes são abandonadas.
+     */
+    void encerrar() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Escritas pendentes de uma conexão. No máximo uma thread escreve em cada
+     * fila por vez, o que mantém a ordem.
+     */
+    final class Fila {
+
+        private final BlockingQueue<Runnable> pendentes = new ArrayBlockingQueue<>(limitePendentes);
+
+        private final Runnable aoFalhar;
+
+        /**
+         * A fila está na vez do pool (agendada ou sendo esvaziada).
+         */
+        private final AtomicBoolean agendada = new AtomicBoolean();
+
+        /**
+         * {@link System#nanoTime()} do início da escrita em andamento, ou 0.
+         */
+        private volatile long escrevendoDesde;
+
+        private volatile boolean fechada;
+
+        private Fila(Runnable aoFalhar) {
+            this.aoFalhar = aoFalhar;
+        }
+
+        /**
+         * Põe uma escrita na fila sem bloquear.
+         *
+         * @param escrita Escrita no socket (pode bloquear; falha com exceção)
+         * @return {@code false} se a fila estava cheia ou fechada
+         */
+        boolean enfileirar(Runnable escrita) {
+            if (fechada || !pendentes.offer(escrita)) {
+                return false;
+            }
+            agendar();
+            return true;
+        }
+
+        /**
+         * Há quanto tempo a escrita em andamento começou.
+         *
+         * @param agora {@link System#nanoTime()} atual
+         * @return Nanossegundos da escrita em andamento, ou 0 se nenhuma
+         */
+        long escrevendoHaNanos(long agora) {
+            long desde = escrevendoDesde;
+            return desde == 0 ? 0 : agora - desde;
+        }
+
+        /**
+         * Descarta as escritas pendentes e recusa as próximas.
+         */
+        void fechar() {
+            fechada = true;
+            pendentes.clear();
+        }
+
+        private void agendar() {
+            if (agendada.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::escrever);
+
+                } catch (RejectedExecutionException e) {
+                    // Pool encerrado
+                    agendada.set(false);
+                }
+            }
+        }
+
+        /**
+         * Faz até {@value #LOTE} escritas e devolve a vez. Roda no pool.
+         */
+        private void escrever() {
+            for (int i = 0; i < LOTE && !fechada; i++) {
+                Runnable escrita = pendentes.poll();
+                if (escrita == null) {
+                    break;
+                }
+                escrevendoDesde = System.nanoTime();
+                try {
+                    escrita.run();
+
+                } catch (RuntimeException e) {
+                    logger.debug("Falha de escrita. Fechando conexão: {}", e.getMessage());
+                    fechar();
+                    aoFalhar.run();
+
+                } finally {
+                    escrevendoDesde = 0;
+                }
+            }
+            agendada.set(false);
+
+            // Sobrou algo (lote cheio ou chegou durante a escrita): volta para o fim
+            if (!fechada && !pendentes.isEmpty()) {
+                agendar();
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package br.dev.marcus.praticagem.scheduler;
+
+import br.dev.marcus.praticagem.service.MovimentacaoService;
+import br.dev.marcus.praticagem.service.MovimentacaoSnapshot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agendador que busca o site da praticagem periodicamente, fora do caminho das requisições.
+ *
+ * <p>Com o poller ativo, o scraping deixa de acontecer dentro dos handlers HTTP.
+ * Uma thread dedicada busca o HTML, faz o parse e publica o resultado no
+ * {@link br.dev.marcus.praticagem.service.SnapshotHolder}. O endpoint
+ * {@code GET /movimentacoes} passa a ser apenas uma leitura em memória.</p>
+ *
+ * <pre>
+ *  ┌────────────── thread "movimentacao-poller" ──────────────┐
+ *  │  poll ─► fetch + parse ─► publicar(snapshot)             │
+ *  │    └── aguarda intervalo + jitter ──► poll ─► ...        │
+ *  └──────────────────────────────────────────────────────────┘
+ *                                   │
+ *  handlers HTTP ◄── snapshotAtual() (sem I/O, sem bloqueio)
+ * </pre>
+ *
+ * <h2>Intervalo com Jitter</h2>
+ * <p>Cada poll é agendado para {@code intervaloMs + aleatório[0, jitterMs]}
+ * após o término do anterior. O jitter evita que várias instâncias da
+ * aplicação batam no site sempre no mesmo segundo, e o agendamento após o
+ * término (em vez de taxa fixa) impede polls sobrepostos quando o site está lento.</p>
+ *
+ * <h2>Falhas</h2>
+ * <p>Uma falha de poll é apenas logada: o último snapshot bom continua publicado
+ * e o próximo poll é agendado normalmente.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see MovimentacaoService#atualizar()
+ */
+public class MovimentacaoPoller {
+
+    /**
+     * Logger para registrar polls e falhas.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(MovimentacaoPoller.class);
+
+    /**
+     * Serviço que executa fetch + parse e publica o snapshot.
+     */
+    private final MovimentacaoService service;
+
+    /**
+     * Intervalo base entre o fim de um poll e o início do próximo, em milissegundos.
+     */
+    private final long intervaloMs;
+
+    /**
+     * Atraso aleatório máximo somado ao intervalo, em milissegundos.
+     */
+    private final long jitterMs;
+
+    /**
+     * Executor de thread única (daemon) que roda os polls.
+     */
+    private final ScheduledExecutorService agendador;
+
+    /**
+     * Constrói o poller. Nenhum poll é feito até {@link #iniciar()}.
+     *
+     * @param service Serviço que busca e publica os dados
+     * @param intervaloMs Intervalo base entre polls (ex: 60000)
+     * @param jitterMs Jitter máximo somado ao intervalo (0 desativa)
+     * @throws IllegalArgumentException se o intervalo não for positivo ou o jitter for negativo
+     */
+    public MovimentacaoPoller(MovimentacaoService service, long intervaloMs, long jitterMs) {
+
+        if (intervaloMs <= 0 || jitterMs < 0) {
+            throw new IllegalArgumentException(
+                "Intervalo deve ser positivo e jitter não negativo: intervalo="
+                    + intervaloMs + ", jitter=" + jitterMs
+            );
+        }
+
+        this.service = service;
+        this.intervaloMs = intervaloMs;
+        this.jitterMs = jitterMs;
+        this.agendador = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "movimentacao-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Inicia o poller. O primeiro poll é executado imediatamente.
+     */
+    public void iniciar() {
+        logger.info(
+            "Poller iniciado (intervalo {}ms, jitter até {}ms)",
+            intervaloMs, jitterMs
+        );
+        agendar(0);
+    }
+
+    /**
+     * Encerra o poller, interrompendo um poll em andamento.
+     */
+    public void encerrar() {
+        agendador.shutdownNow();
+        logger.info("Poller encerrado");
+    }
+
+    /**
+     * Executa um poll e agenda o próximo.
+     */
+    private void executarPoll() {
+        try {
+            long inicio = System.nanoTime();
+            MovimentacaoSnapshot snapshot = service.atualizar();
+
+            logger.info(
+                "Poll concluído em {}ms: {} movimentação(ões) publicada(s)",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio),
+                snapshot.movimentacoes().size()
+            );
+
+        } catch (RuntimeException e) {
+            logger.warn(
+                "Falha no poll. Mantendo último snapshot publicado: {}",
+                e.getMessage()
+            );
+
+        } finally {
+            agendar(proximoAtraso());
+        }
+    }
+
+    /**
+     * Calcula o atraso até o próximo poll: intervalo + jitter aleatório.
+     *
+     * @return Atraso em milissegundos
+     */
+    long proximoAtraso() {
+        long jitter = jitterMs == 0 ? 0 : ThreadLocalRandom.current().nextLong(jitterMs + 1);
+        return intervaloMs + jitter;
+    }
+
+    /**
+     * Agenda um poll, ignorando silenciosamente se o poller já foi encerrado.
+     *
+     * @param atrasoMs Atraso em milissegundos
+     */
+    private void agendar(long atrasoMs) {
+        try {
+            agendador.schedule(this::executarPoll, atrasoMs, TimeUnit.MILLISECONDS);
+
+        } catch (RejectedExecutionException e) {
+            logger.debug("Poller encerrado; próximo poll não será agendado");
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package br.dev.marcus.praticagem.service;
+
+import br.dev.marcus.praticagem.diff.ConjuntoMudancas;
+import br.dev.marcus.praticagem.diff.DiffMovimentacoes;
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Buffer circular com as versões recentes, para responder {@code GET /movimentacoes?since=N}.
+ *
+ * <p>Guarda, para cada uma das últimas {@code capacidade} versões, a lista de
+ * movimentações e o {@link ConjuntoMudancas} que a produziu. Integrações que
+ * consultam a API a cada poucos segundos recebem só o que mudou desde a
+ * versão que já têm, em vez da lista inteira.</p>
+ *
+ * <pre>
+ *  slot:     0     1     2     3      (capacidade 4, slot = versão % 4)
+ *  versão:  v8    v9    v6    v7
+ *                  ▲ atual
+ *  since=7  → mudanças v7 → v9
+ *  since=9  → vazio
+ *  since=3  → saiu da janela: snapshot completo
+ * </pre>
+ *
+ * <h2>Resposta</h2>
+ * <pre>{@code
+ * {"versao":9,"desde":7,"completo":false,"mudancas":{"adicionadas":[...],"removidas":[...],"alteradas":[...]}}
+ * {"versao":9,"completo":true,"movimentacoes":[...]}
+ * }</pre>
+ *
+ * <h2>Custo</h2>
+ * <p>Para {@code since} igual à versão anterior, o conjunto publicado é usado
+ * direto. Para versões mais antigas, a lista guardada é comparada com a atual
+ * em O(n) ({@link DiffMovimentacoes}), o que é exato mesmo com linhas
+ * duplicadas, ao contrário de compor vários conjuntos. Em ambos os casos a
+ * resposta é serializada uma única vez por par (versão atual, {@code since})
+ * e reaproveitada pelos demais clientes; a resposta completa apenas embrulha
+ * os bytes JSON já prontos do snapshot, sem passar pelo Jackson.</p>
+ *
+ * <h2>Concorrência</h2>
+ * <p>Escrita apenas por quem publica snapshots (uma execução por vez, via
+ * {@link SingleFlight}); leitura por qualquer thread. Cada slot guarda sua
+ * versão, então um leitor nunca confunde uma versão com outra que a substituiu.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see MovimentacaoSnapshot#versao()
+ */
+public class JanelaMudancas {
+
+    /**
+     * Capacidade padrão: com poll a cada minuto, cobre cerca de uma hora de mudanças.
+     */
+    public static final int CAPACIDADE_PADRAO = 64;
+
+    /**
+     * Mapper compartilhado. {@link ObjectMapper} é thread-safe após configurado.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Chave de cache das respostas completas ({@code since} fora da janela).
+     */
+    private static final long COMPLETO = -1;
+
+    /**
+     * Versões recentes, no slot {@code versao % capacidade}.
+     */
+    private final AtomicReferenceArray<Entrada> entradas;
+
+    /**
+     * Respostas já serializadas para a versão atual, por {@code since}.
+     */
+    private volatile Respostas respostas = new Respostas(0);
+
+    /**
+     * Cria uma janela com a capacidade informada.
+     *
+     * @param capacidade Quantidade de versões mantidas (mínimo 1)
+     * @throws IllegalArgumentException se a capacidade não for positiva
+     */
+    public JanelaMudancas(int capacidade) {
+
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("Capacidade deve ser positiva: " + capacidade);
+        }
+
+        this.entradas = new AtomicReferenceArray<>(capacidade);
+    }
+
+    /**
+     * Registra uma nova versão, sobrescrevendo a mais antiga se a janela estiver cheia.
+     *
+     * @param snapshot Snapshot com versão ainda não registrada
+     */
+    public void registrar(MovimentacaoSnapshot snapshot) {
+        entradas.set(
+            slot(snapshot.versao()),
+            new Entrada(snapshot.versao(), snapshot.movimentacoes(), snapshot.mudancas())
+        );
+    }
+
+    /**
+     * JSON com as mudanças desde a versão informada, ou com a lista completa
+     * se ela não estiver mais na janela.
+     *
+     * @param desde Versão que o cliente já tem
+     * @param atual Snapshot publicado atualmente
+     * @return Bytes JSON (UTF-8) da resposta; não devem ser alterados
+     */
+    public byte[] jsonDesde(long desde, MovimentacaoSnapshot atual) {
+
+        Respostas cache = respostas;
+        if (cache.versao != atual.versao()) {
+            cache = new Respostas(atual.versao());
+            respostas = cache;
+        }
+
+        // Versões desconhecidas compartilham a mesma resposta completa
+        long chave = disponivel(desde, atual) ? desde : COMPLETO;
+        return cache.porDesde.computeIfAbsent(chave, d -> montar(desde, d, atual));
+    }
+
+    /**
+     * Verifica se as mudanças desde {@code versao} podem ser respondidas como delta.
+     *
+     * @param versao Versão informada pelo cliente
+     * @param atual Snapshot publicado atualmente
+     * @return {@code true} se a versão está na janela (ou é a atual)
+     */
+    public boolean disponivel(long versao, MovimentacaoSnapshot atual) {
+        return versao == atual.versao() || (versao < atual.versao() && entrada(versao) != null);
+    }
+
+    private byte[] montar(long desde, long chave, MovimentacaoSnapshot atual) {
+
+        if (chave == COMPLETO) {
+            return completo(atual);
+        }
+
+        ConjuntoMudancas mudancas;
+        Entrada base = entrada(desde);
+        Entrada daAtual = entrada(atual.versao());
+        if (desde == atual.versao()) {
+            mudancas = ConjuntoMudancas.VAZIO;
+        } else if (desde == atual.versao() - 1 && daAtual != null) {
+            mudancas = daAtual.mudancas();
+        } else if (base != null) {
+            mudancas = DiffMovimentacoes.calcular(base.movimentacoes(), atual.movimentacoes());
+        } else {
+            // Sobrescrita por uma versão mais nova depois da verificação
+            return completo(atual);
+        }
+
+        try {
+            return MAPPER.writeValueAsBytes(new Delta(atual.versao(), desde, false, mudancas));
+
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar mudanças em JSON", e);
+        }
+    }
+
+    /**
+     * Embrulha o JSON já pronto do snapshot, sem passar pelo Jackson.
+     */
+    private static byte[] completo(MovimentacaoSnapshot atual) {
+
+        byte[] lista = atual.json().bytes();
+        byte[] inicio = ("{\"versao\":" + atual.versao() + ",\"completo\":true,\"movimentacoes\":")
+            .getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(inicio.length + lista.length + 1);
+        saida.writeBytes(inicio);
+        saida.writeBytes(lista);
+        saida.write('}');
+        return saida.toByteArray();
+    }
+
+    private Entrada entrada(long versao) {
+        if (versao < MovimentacaoSnapshot.VERSAO_INICIAL) {
+            return null;
+        }
+        Entrada entrada = entradas.get(slot(versao));
+        return entrada != null && entrada.versao() == versao ? entrada : null;
+    }
+
+    private int slot(long versao) {
+        return (int) Math.floorMod(versao, (long) entradas.length());
+    }
+
+    /**
+     * Versão guardada na janela.
+     */
+    private record Entrada(long versao, List<NavioMovimentacao> movimentacoes, ConjuntoMudancas mudancas) {
+    }
+
+    /**
+     * Corpo da resposta delta.
+     */
+    private record Delta(long versao, long desde, boolean completo, ConjuntoMudancas mudancas) {
+    }
+
+    /**
+     * Respostas serializadas de uma versão. No máximo {@code capacidade + 1}
+     * chaves: as versões da janela e a resposta completa.
+     */
+    private static final class Respostas {
+
+        private final long versao;
+        private final Map<Long, byte[]> porDesde = new ConcurrentHashMap<>();
+
+        private Respostas(long versao) {
+            this.versao = versao;
+        }
+    }
+}
@@ -1,14 +1,23 @@
 package br.dev.marcus.praticagem.service;
 
 import br.dev.marcus.praticagem.fetcher.HtmlFetcher;
+import br.dev.marcus.praticagem.fetcher.ResultadoFetch;
+import br.dev.marcus.praticagem.metricas.Histograma;
 import br.dev.marcus.praticagem.parser.HtmlParser;
+import br.dev.marcus.praticagem.parser.PoolTextos;
 import br.dev.marcus.praticagem.model.NavioMovimentacao;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import org.jsoup.nodes.Document;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
 
 /**
  * Serviço de negócio responsável por coordenar a obtenção de dados de movimentação de navios.
@@ -94,31 +103,37 @@ import java.util.List;
  *   <li><b>IllegalStateException (HtmlParser):</b> Estrutura da tabela mudou</li>
  * </ul>
  * 
- * <h2>Performance e Caching</h2>
- * <p><b>Nota:</b> Atualmente a classe <b>não implementa cache</b>. Cada chamada a
- * {@link #buscarMovimentacoes()} faz uma nova requisição HTTP ao site.</p>
- * 
- * <p>Para adicionar cache no futuro (se necessário):</p>
- * <pre>{@code
- * // Opção 1: Cache simples com timestamp
- * private List<NavioMovimentacao> cache;
- * private long ultimaAtualizacao;
- * private static final long CACHE_TTL = 5 * 60 * 1000; // 5 minutos
- * 
- * // Opção 2: Usar biblioteca de cache (Caffeine, Guava)
- * private LoadingCache<String, List<NavioMovimentacao>> cache;
- * }</pre>
- * 
+ * <h2>Performance e Caching (Stale-While-Revalidate)</h2>
+ * <p>Com o cache habilitado ({@code praticagem.cache.enabled=true}), o serviço
+ * mantém em memória um {@link MovimentacaoSnapshot} imutável:</p>
+ * <ul>
+ *   <li><b>Sem snapshot:</b> a primeira chamada busca no site (bloqueante)</li>
+ *   <li><b>Snapshot fresco:</b> devolvido imediatamente, sem I/O</li>
+ *   <li><b>Snapshot expirado</b> (idade &ge; {@code praticagem.cache.ttlMs}):
+ *       devolvido imediatamente e <b>uma única</b> atualização é disparada
+ *       em background</li>
+ *   <li><b>Falha na atualização:</b> o último snapshot bom continua sendo servido</li>
+ *   <li><b>Página não modificada (304):</b> as buscas usam GET condicional
+ *       ({@link HtmlFetcher#fetchCondicional()}); se o site responder 304, a lista
+ *       anterior é reaproveitada sem parse e apenas o instante do snapshot é renovado</li>
+ *   <li><b>Conteúdo idêntico (200):</b> se o hash da região de tabelas
+ *       ({@link br.dev.marcus.praticagem.fetcher.HashTabela}) for igual ao da última
+ *       busca, o DOM nem é construído e a lista anterior é reaproveitada</li>
+ * </ul>
+ *
+ * <p>Com o cache desabilitado, cada chamada a {@link #buscarMovimentacoes()}
+ * faz uma nova requisição HTTP ao site (comportamento original).</p>
+ *
  * <h2>Thread Safety</h2>
  * <p>Esta classe é <b>thread-safe</b> pois:</p>
  * <ul>
- *   <li>Não possui estado mutável (dependências são {@code final})</li>
- *   <li>Não compartilha dados entre chamadas</li>
- *   <li>Cada chamada a {@link #buscarMovimentacoes()} é independente</li>
+ *   <li>Dependências são {@code final}</li>
+ *   <li>O snapshot é imutável e publicado via {@link SnapshotHolder} (troca atômica)</li>
+ *   <li>Um {@link AtomicBoolean} garante no máximo uma atualização em background</li>
+ *   <li>Um {@link SingleFlight} coalesce buscas simultâneas: o site recebe um
+ *       único GET, cujo resultado (ou exceção) é compartilhado por todas as threads</li>
  * </ul>
- * 
- * <p><b>Importante:</b> Se adicionar cache, será necessário sincronização!</p>
- * 
+ *
  * @author Marcus
  * @version 1.0
  * @since 2026-02-23
@@ -152,6 +167,111 @@ public class MovimentacaoService {
      */
     private final HtmlParser parser;
 
+    /**
+     * Indica se o cache de snapshot está ativo.
+     * Quando {@code false}, toda chamada vai ao site.
+     */
+    private final boolean cacheHabilitado;
+
+    /**
+     * Tempo de vida do snapshot, em milissegundos.
+     * Após esse tempo, o snapshot é servido "stale" enquanto é revalidado.
+     */
+    private final long cacheTtlMs;
+
+    /**
+     * Fonte de tempo (epoch ms). Injetável para testes.
+     */
+    private final LongSupplier relogio;
+
+    /**
+     * Versão do primeiro snapshot desta execução: o instante (epoch ms) da
+     * criação do serviço. Versões de execuções anteriores ficam abaixo dela.
+     */
+    private final long versaoInicial;
+
+    /**
+     * Último snapshot bom obtido do site, publicado por troca atômica de referência.
+     */
+    private final SnapshotHolder holder = new SnapshotHolder();
+
+    /**
+     * Versões recentes, para responder {@code ?since=N} com apenas as mudanças.
+     */
+    private final JanelaMudancas janela = new JanelaMudancas(JanelaMudancas.CAPACIDADE_PADRAO);
+
+    /**
+     * Garante que no máximo uma atualização em background esteja em andamento.
+     */
+    private final AtomicBoolean atualizando = new AtomicBoolean(false);
+
+    /**
+     * Executor de thread única (daemon) usado para as revalidações em background.
+     */
+    private final ExecutorService executorAtualizacao;
+
+    /**
+     * Coalesce buscas simultâneas ao site em uma única execução de fetch + parse.
+     */
+    private final SingleFlight<MovimentacaoSnapshot> singleFlight = new SingleFlight<>();
+
+    /**
+     * Quantidade de buscas respondidas com 304 (parse evitado).
+     */
+    private final LongAdder respostasNaoModificadas = new LongAdder();
+
+    /**
+     * Hash da região de tabelas do último corpo parseado com sucesso,
+     * ou {@code null} se ainda não houve parse.
+     */
+    private volatile Long hashUltimoConteudo;
+
+    /**
+     * Buscas cujo hash coincidiu com o anterior (parse evitado).
+     */
+    private final LongAdder hashAcertos = new LongAdder();
+
+    /**
+     * Buscas cujo hash diferiu do anterior (parse executado).
+     */
+    private final LongAdder hashFalhas = new LongAdder();
+
+    /**
+     * Duração de cada parse (DOM ou streaming, conforme o parser injetado).
+     */
+    private final Histograma duracaoParse = new Histograma(Histograma.LATENCIA_SITE);
+
+    /**
+     * Linhas extraídas pelo último parse, ou -1 se ainda não houve parse.
+     */
+    private volatile int linhasUltimoParse = -1;
+
+    /**
+     * Heap estimado que a lista do último parse poupa por compartilhar
+     * textos do {@link PoolTextos}, ou -1 se ainda não houve parse.
+     */
+    private volatile long bytesPoupadosUltimoParse = -1;
+
+    /**
+     * Soma das linhas extraídas por todos os parses.
+     */
+    private final LongAdder linhasParseadas = new LongAdder();
+
+    /**
+     * Leituras servidas de um snapshot fresco.
+     */
+    private final LongAdder leiturasAcerto = new LongAdder();
+
+    /**
+     * Leituras servidas de um snapshot expirado (revalidação em background).
+     */
+    private final LongAdder leiturasObsoletas = new LongAdder();
+
+    /**
+     * Leituras sem snapshot em memória (carga síncrona, ou 503 com o poller).
+     */
+    private final LongAdder leiturasFalta = new LongAdder();
+
     /**
      * Constrói um novo serviço de movimentação com as dependências especificadas.
      * 
@@ -195,10 +315,67 @@ public class MovimentacaoService {
      *                              (validação implícita ao usar as dependências)
      */
     public MovimentacaoService(HtmlFetcher fetcher, HtmlParser parser) {
+        this(fetcher, parser, false, 0L);
+    }
+
+    /**
+     * Constrói o serviço com cache de snapshot (stale-while-revalidate).
+     *
+     * <pre>{@code
+     * ConfigLoader config = new ConfigLoader();
+     * MovimentacaoService service = new MovimentacaoService(
+     *     fetcher, parser,
+     *     config.getBoolean("praticagem.cache.enabled", true),
+     *     config.getLong("praticagem.cache.ttlMs", 60000)
+     * );
+     * }</pre>
+     *
+     * @param fetcher Implementação de {@link HtmlFetcher} para buscar HTML
+     * @param parser Implementação de {@link HtmlParser} para extrair dados
+     * @param cacheHabilitado {@code true} para manter snapshot em memória
+     * @param cacheTtlMs Tempo de vida do snapshot, em milissegundos
+     */
+    public MovimentacaoService(
+        HtmlFetcher fetcher,
+        HtmlParser parser,
+        boolean cacheHabilitado,
+        long cacheTtlMs
+    ) {
+        this(fetcher, parser, cacheHabilitado, cacheTtlMs, System::currentTimeMillis);
+    }
+
+    /**
+     * Construtor completo, com relógio injetável (usado nos testes).
+     *
+     * @param fetcher Implementação de {@link HtmlFetcher} para buscar HTML
+     * @param parser Implementação de {@link HtmlParser} para extrair dados
+     * @param cacheHabilitado {@code true} para manter snapshot em memória
+     * @param cacheTtlMs Tempo de vida do snapshot, em milissegundos
+     * @param relogio Fonte de tempo em epoch ms
+     */
+    MovimentacaoService(
+        HtmlFetcher fetcher,
+        HtmlParser parser,
+        boolean cacheHabilitado,
+        long cacheTtlMs,
+        LongSupplier relogio
+    ) {
         this.fetcher = fetcher;
         this.parser = parser;
+        this.cacheHabilitado = cacheHabilitado;
+        this.cacheTtlMs = cacheTtlMs;
+        this.relogio = relogio;
+        this.versaoInicial = Math.max(MovimentacaoSnapshot.VERSAO_INICIAL, relogio.getAsLong());
+        this.executorAtualizacao = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "movimentacao-revalidacao");
+            thread.setDaemon(true);
+            return thread;
+        });
 
-        logger.debug("MovimentacaoService inicializado");
+        logger.debug(
+            "MovimentacaoService inicializado (cache={}, ttl={}ms)",
+            cacheHabilitado, cacheTtlMs
+        );
     }
 
     /**
@@ -226,7 +403,7 @@ public class MovimentacaoService {
      *     │     └─→ Jsoup.connect(url).get()  [Tentativa 3]
      *     │         └─ Se falhar: lança IllegalStateException
      *     │
-     *     ├─→ parser.parse(document)
+     *     ├─→ parser.parse(corpo, charset)
      *     │     │
      *     │     ├─→ Encontra tabela correta
      *     │     ├─→ Mapeia colunas dinamicamente
@@ -274,14 +451,16 @@ public class MovimentacaoService {
      *   <li><b>Melhor caso:</b> ~2-3 segundos (conexão rápida, site responsivo)</li>
      *   <li><b>Caso médio:</b> ~5-10 segundos (com 1-2 retries)</li>
      *   <li><b>Pior caso:</b> ~34 segundos (3 tentativas × 10s timeout + 2 × 2s backoff)</li>
+     *   <li><b>Com cache:</b> apenas a primeira chamada paga esse custo; as demais
+     *       leem o snapshot em memória (ver {@link #obterSnapshot()})</li>
      * </ul>
      * 
      * <h4>Comportamento em Caso de Lista Vazia:</h4>
      * <p>Se a tabela existir mas estiver vazia, retorna lista vazia (não é erro).</p>
      * 
      * <h4>Thread Safety:</h4>
-     * <p>Este método é thread-safe. Múltiplas threads podem chamá-lo simultaneamente
-     * pois não compartilha estado mutável entre chamadas.</p>
+     * <p>Este método é thread-safe. Múltiplas threads podem chamá-lo simultaneamente:
+     * o snapshot é imutável e a revalidação é serializada em uma única thread.</p>
      * 
      * @return Lista de {@link NavioMovimentacao} encontradas no site. Pode ser vazia
      *         se a tabela estiver vazia, mas nunca é {@code null}.
@@ -291,31 +470,313 @@ public class MovimentacaoService {
      *                               da tabela HTML tiver mudado significativamente
      *                               (lançada por {@link HtmlParser})
      * 
-     * @see HtmlFetcher#fetch()
-     * @see HtmlParser#parse(Document)
+     * @see HtmlFetcher#fetchCondicional()
+     * @see HtmlParser#parse(byte[], java.nio.charset.Charset)
      * @see NavioMovimentacao
      */
     public List<NavioMovimentacao> buscarMovimentacoes() {
+        return obterSnapshot().movimentacoes();
+    }
+
+    /**
+     * Retorna o snapshot atual, aplicando a política stale-while-revalidate.
+     *
+     * <ol>
+     *   <li>Cache desativado: carrega do site a cada chamada</li>
+     *   <li>Sem snapshot: carrega do site de forma síncrona (única situação bloqueante)</li>
+     *   <li>Snapshot expirado: dispara revalidação em background e devolve o atual</li>
+     *   <li>Snapshot fresco: devolve o atual</li>
+     * </ol>
+     *
+     * <p>Na carga síncrona, threads concorrentes são coalescidas pelo
+     * {@link SingleFlight}: apenas uma vai ao site e as demais reaproveitam
+     * o resultado (ou a exceção).</p>
+     *
+     * @return Snapshot mais recente disponível (nunca {@code null})
+     * @throws IllegalStateException se não houver snapshot e a carga inicial falhar
+     */
+    public MovimentacaoSnapshot obterSnapshot() {
+
+        if (!cacheHabilitado) {
+            // Mesmo sem cache, chamadas simultâneas compartilham um único fetch
+            leiturasFalta.increment();
+            return atualizarSnapshot();
+        }
+
+        MovimentacaoSnapshot atual = holder.atualOuNull();
+
+        if (atual == null) {
+            leiturasFalta.increment();
+            logger.info("Cache vazio. Carregando snapshot de forma síncrona");
+            return atualizarSnapshot();
+        }
+
+        if (atual.expirado(relogio.getAsLong(), cacheTtlMs)) {
+            leiturasObsoletas.increment();
+            dispararRevalidacao();
+        } else {
+            leiturasAcerto.increment();
+        }
+
+        return atual;
+    }
+
+    /**
+     * Lê o último snapshot publicado, sem nunca acessar o site.
+     *
+     * <p>Usado pelos handlers quando o {@link br.dev.marcus.praticagem.scheduler.MovimentacaoPoller}
+     * está ativo: a leitura é uma simples leitura de referência em memória.</p>
+     *
+     * @return Snapshot atual, ou vazio se o primeiro poll ainda não terminou
+     */
+    public Optional<MovimentacaoSnapshot> snapshotAtual() {
+        return holder.atual();
+    }
+
+    /**
+     * Como {@link #snapshotAtual()}, contando a leitura nas métricas de cache
+     * (acerto se houver snapshot, falta se não). Para os handlers HTTP com o
+     * poller ativo; componentes internos usam {@link #snapshotAtual()}.
+     *
+     * @return Snapshot atual, ou vazio se o primeiro poll ainda não terminou
+     */
+    public Optional<MovimentacaoSnapshot> lerSnapshotPublicado() {
+        Optional<MovimentacaoSnapshot> atual = holder.atual();
+        (atual.isPresent() ? leiturasAcerto : leiturasFalta).increment();
+        return atual;
+    }
+
+    /**
+     * JSON com o que mudou desde uma versão, para {@code GET /movimentacoes?since=N}.
+     *
+     * <p>Se a versão já saiu da janela de versões recentes (ou é desconhecida),
+     * a resposta traz a lista completa.</p>
+     *
+     * @param versao Versão que o cliente já tem
+     * @param atual Snapshot que está sendo servido
+     * @return Bytes JSON (UTF-8) da resposta
+     * @see JanelaMudancas#jsonDesde(long, MovimentacaoSnapshot)
+     */
+    public byte[] movimentacoesDesde(long versao, MovimentacaoSnapshot atual) {
+        return janela.jsonDesde(versao, atual);
+    }
+
+    /**
+     * Publica um snapshot recuperado do histórico em disco, antes da primeira coleta.
+     *
+     * <p>Chamado na inicialização: a primeira requisição depois de um deploy
+     * é respondida com a última versão gravada, sem esperar pelo site. Como o
+     * instante original é mantido, o snapshot já nasce expirado e a primeira
+     * leitura dispara a revalidação em background (ou o poller o substitui).
+     * A numeração de versões continua a partir da restaurada.</p>
+     *
+     * <p>Deve ser chamado antes de o poller ser iniciado.</p>
+     *
+     * @param movimentacoes Movimentações da última versão gravada
+     * @param obtidoEm Instante (epoch ms) da coleta gravada
+     * @param versao Versão gravada
+     * @return {@code true} se foi publicado; {@code false} se já havia snapshot
+     */
+    public boolean restaurar(List<NavioMovimentacao> movimentacoes, long obtidoEm, long versao) {
+
+        if (holder.atualOuNull() != null) {
+            return false;
+        }
+
+        MovimentacaoSnapshot restaurado = MovimentacaoSnapshot.restaurado(movimentacoes, obtidoEm, versao);
+        janela.registrar(restaurado);
+        holder.publicar(restaurado);
+        return true;
+    }
+
+    /**
+     * Registra um ouvinte avisado a cada snapshot publicado.
+     *
+     * <p>Usado pelo push em tempo real ({@code GET /movimentacoes/stream}).</p>
+     *
+     * @param ouvinte Ouvinte a registrar
+     * @see SnapshotHolder#adicionarOuvinte(OuvinteSnapshot)
+     */
+    public void adicionarOuvinte(OuvinteSnapshot ouvinte) {
+        holder.adicionarOuvinte(ouvinte);
+    }
+
+    /**
+     * Busca os dados no site agora e publica o novo snapshot.
+     *
+     * <p>Ponto de entrada do {@link br.dev.marcus.praticagem.scheduler.MovimentacaoPoller}.
+     * Passa pelo {@link SingleFlight}, então nunca roda em paralelo com uma
+     * carga inicial ou revalidação já em andamento.</p>
+     *
+     * @return Snapshot recém-publicado
+     * @throws IllegalStateException se o fetch ou o parse falharem
+     */
+    public MovimentacaoSnapshot atualizar() {
+        return atualizarSnapshot();
+    }
+
+    /**
+     * Executa fetch + parse através do {@link SingleFlight} e publica o resultado.
+     *
+     * <p>Se já houver uma execução em voo (carga inicial, revalidação em
+     * background ou poll), a chamada se anexa a ela em vez de gerar outro GET.</p>
+     *
+     * @return Snapshot recém-obtido do site
+     * @throws IllegalStateException se o fetch ou o parse falharem
+     */
+    private MovimentacaoSnapshot atualizarSnapshot() {
+        return singleFlight.executar(() -> {
+            MovimentacaoSnapshot anterior = holder.atualOuNull();
+            List<NavioMovimentacao> movimentacoes = carregarDoSite(anterior);
+
+            // Mesma lista (304 ou hash igual): reaproveita JSON e ETag sem serializar.
+            // Lista nova: serializa e calcula as mudanças em relação à anterior
+            MovimentacaoSnapshot novo;
+            if (anterior == null) {
+                novo = new MovimentacaoSnapshot(movimentacoes, relogio.getAsLong(), versaoInicial);
+            } else if (movimentacoes == anterior.movimentacoes()) {
+                novo = anterior.renovado(relogio.getAsLong());
+            } else {
+                novo = anterior.sucessor(movimentacoes, relogio.getAsLong());
+            }
+
+            // Registra a versão antes de publicar: quem vê o snapshot já acha o delta
+            if (anterior == null || novo.versao() != anterior.versao()) {
+                janela.registrar(novo);
+            }
+            holder.publicar(novo);
+            return novo;
+        });
+    }
+
+    /**
+     * Agenda uma revalidação em background, se nenhuma estiver em andamento.
+     *
+     * <p>Em caso de falha, o snapshot anterior é mantido (e continua sendo servido).</p>
+     */
+    private void dispararRevalidacao() {
+
+        if (!atualizando.compareAndSet(false, true)) {
+            return; // Já existe uma revalidação em andamento
+        }
+
+        logger.debug("Snapshot expirado. Disparando revalidação em background");
+
+        try {
+            executorAtualizacao.execute(() -> {
+                try {
+                    atualizarSnapshot();
+                    logger.info("Snapshot revalidado em background");
+
+                } catch (RuntimeException e) {
+                    logger.warn(
+                        "Falha ao revalidar snapshot. Mantendo dados anteriores: {}",
+                        e.getMessage()
+                    );
+
+                } finally {
+                    atualizando.set(false);
+                }
+            });
+
+        } catch (RejectedExecutionException e) {
+            // Serviço encerrado: não há mais revalidações
+            atualizando.set(false);
+        }
+    }
+
+    /**
+     * Encerra o executor de revalidação em background.
+     *
+     * <p>Chamado pelo shutdown hook em {@link br.dev.marcus.praticagem.Main}.</p>
+     */
+    public void encerrar() {
+        executorAtualizacao.shutdownNow();
+    }
+
+    /**
+     * Executa o fluxo completo fetch → parse, usando GET condicional.
+     *
+     * <p>Se o site responder 304 (página não modificada), a lista do snapshot
+     * anterior é reaproveitada sem nenhum parse.</p>
+     *
+     * @param anterior Snapshot publicado atualmente, ou {@code null}
+     * @return Lista de movimentações extraídas do site (ou reaproveitadas)
+     */
+    private List<NavioMovimentacao> carregarDoSite(MovimentacaoSnapshot anterior) {
 
         logger.info("Iniciando busca de movimentações");
         
-        // ===== ETAPA 1: BUSCAR HTML =====
-        // Delega para HtmlFetcher que implementa retry automático
+        // ===== ETAPA 1: BUSCAR HTML (CONDICIONAL) =====
+        // Delega para HtmlFetcher que implementa retry automático e ETag/Last-Modified
         // Pode lançar IllegalStateException se todas as tentativas falharem
         logger.debug("Buscando HTML do site...");
-        Document document = fetcher.fetch();
-        logger.debug("HTML obtido com sucesso");
+        ResultadoFetch resultado = fetcher.fetchCondicional();
+
+        if (!resultado.modificado()) {
+            if (anterior != null) {
+                respostasNaoModificadas.increment();
+                logger.info("Página não modificada. Reaproveitando {} movimentação(ões)",
+                    anterior.movimentacoes().size());
+                return anterior.movimentacoes();
+            }
+
+            // 304 sem dados em memória (não deveria acontecer): força busca completa
+            logger.warn("Resposta 304 sem snapshot anterior. Refazendo busca incondicional");
+            fetcher.limparValidadores();
+            resultado = fetcher.fetchCondicional();
+
+            if (!resultado.modificado()) {
+                throw new IllegalStateException(
+                    "Site respondeu 304 a uma requisição incondicional"
+                );
+            }
+        }
+
+        logger.debug("HTML obtido com sucesso ({} bytes)", resultado.corpo().length);
+
+        // ===== ETAPA 1.5: COMPARAR HASH DA REGIÃO DE TABELAS =====
+        // Mesmo sem 304, se a região das tabelas é idêntica à da última busca,
+        // a lista anterior continua válida: pulamos o DOM e o parse
+        Long hashAnterior = hashUltimoConteudo;
+        if (anterior != null && hashAnterior != null && hashAnterior == resultado.hashTabela()) {
+            hashAcertos.increment();
+            logger.info(
+                "Conteúdo idêntico (hash {}). Reaproveitando {} movimentação(ões) sem parse",
+                Long.toHexString(hashAnterior), anterior.movimentacoes().size()
+            );
+            fetcher.confirmarValidadores(resultado);
+            return anterior.movimentacoes();
+        }
+        hashFalhas.increment();
 
         // ===== ETAPA 2: PARSEAR HTML E EXTRAIR MOVIMENTAÇÕES =====
         // Delega para HtmlParser que extrai dados de forma resiliente
+        // (via DOM ou streaming, conforme praticagem.parser.modo)
         // Pode lançar IllegalStateException se estrutura da tabela mudou
         logger.debug("Parseando HTML e extraindo movimentações...");
-        List<NavioMovimentacao> movimentacoes = parser.parse(document);
+        long inicioParse = System.nanoTime();
+        List<NavioMovimentacao> movimentacoes = parser.parse(resultado.corpo(), resultado.charset());
+        duracaoParse.registrar(System.nanoTime() - inicioParse);
+        linhasUltimoParse = movimentacoes.size();
+        linhasParseadas.add(movimentacoes.size());
+        hashUltimoConteudo = resultado.hashTabela();
+
+        // Só agora os validadores valem: se o parse tivesse falhado, a próxima
+        // busca receberia 304 e a página nova nunca seria parseada
+        fetcher.confirmarValidadores(resultado);
         
         logger.info(
             "Busca concluída com sucesso. {} movimentação(ões) encontrada(s)",
             movimentacoes.size()
         );
+
+        bytesPoupadosUltimoParse = PoolTextos.bytesPoupados(movimentacoes);
+        PoolTextos.Estatisticas pool = PoolTextos.estatisticas();
+        logger.debug(
+            "Pool de textos: {} valor(es), {}% de acertos, ~{} KB poupados nesta lista",
+            pool.entradas(), Math.round(pool.taxaAcerto() * 100), bytesPoupadosUltimoParse / 1024
+        );
         
         return movimentacoes;
     }
@@ -323,6 +784,118 @@ public class MovimentacaoService {
     // ===== MÉTODOS AUXILIARES (GETTERS) =====
     // Úteis para testes e debugging
     
+    /**
+     * Retorna quantas buscas ao site foram de fato executadas.
+     *
+     * @return Total de execuções de fetch + parse
+     * @see SingleFlight#getExecutadas()
+     */
+    public long getBuscasExecutadas() {
+        return singleFlight.getExecutadas();
+    }
+
+    /**
+     * Retorna quantas chamadas reaproveitaram uma busca já em andamento.
+     *
+     * @return Total de chamadas coalescidas
+     * @see SingleFlight#getCoalescidas()
+     */
+    public long getBuscasCoalescidas() {
+        return singleFlight.getCoalescidas();
+    }
+
+    /**
+     * Retorna quantas buscas foram respondidas com 304 (Not Modified).
+     *
+     * @return Total de buscas em que o parse foi evitado por GET condicional
+     */
+    public long getRespostasNaoModificadas() {
+        return respostasNaoModificadas.sum();
+    }
+
+    /**
+     * Retorna quantas buscas tiveram o parse evitado por hash idêntico.
+     *
+     * @return Total de acertos do hash de conteúdo
+     * @see br.dev.marcus.praticagem.fetcher.HashTabela
+     */
+    public long getHashAcertos() {
+        return hashAcertos.sum();
+    }
+
+    /**
+     * Retorna quantas buscas precisaram de parse porque o hash mudou.
+     *
+     * @return Total de falhas do hash de conteúdo
+     */
+    public long getHashFalhas() {
+        return hashFalhas.sum();
+    }
+
+    /**
+     * Histograma da duração dos parses executados.
+     *
+     * @return Histograma em segundos
+     */
+    public Histograma getDuracaoParse() {
+        return duracaoParse;
+    }
+
+    /**
+     * Retorna quantas linhas o último parse extraiu.
+     *
+     * @return Linhas do último parse, ou -1 se ainda não houve parse
+     */
+    public int getLinhasUltimoParse() {
+        return linhasUltimoParse;
+    }
+
+    /**
+     * Retorna o heap estimado que a lista do último parse poupa com o pool de textos.
+     *
+     * @return Bytes poupados pela lista do último parse, ou -1 se ainda não houve parse
+     * @see PoolTextos#bytesPoupados(List)
+     */
+    public long getBytesPoupadosUltimoParse() {
+        return bytesPoupadosUltimoParse;
+    }
+
+    /**
+     * Retorna a soma das linhas extraídas por todos os parses.
+     *
+     * @return Total de linhas parseadas desde o início
+     */
+    public long getLinhasParseadas() {
+        return linhasParseadas.sum();
+    }
+
+    /**
+     * Retorna quantas leituras encontraram um snapshot fresco.
+     *
+     * @return Total de acertos do cache
+     */
+    public long getLeiturasAcerto() {
+        return leiturasAcerto.sum();
+    }
+
+    /**
+     * Retorna quantas leituras foram servidas de um snapshot expirado.
+     *
+     * @return Total de leituras obsoletas (stale-while-revalidate)
+     */
+    public long getLeiturasObsoletas() {
+        return leiturasObsoletas.sum();
+    }
+
+    /**
+     * Retorna quantas leituras não encontraram snapshot em memória.
+     *
+     * @return Total de faltas do cache
+     */
+    public long getLeiturasFalta() {
+        return leiturasFalta.sum();
+    }
+
     /**
      * Retorna a instância de {@link HtmlFetcher} usada por este serviço.
      * 
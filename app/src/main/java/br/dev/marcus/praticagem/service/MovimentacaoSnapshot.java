@@ -0,0 +1,235 @@
+package br.dev.marcus.praticagem.service;
+
+import br.dev.marcus.praticagem.consulta.IndiceMovimentacoes;
+import br.dev.marcus.praticagem.diff.ConjuntoMudancas;
+import br.dev.marcus.praticagem.diff.DiffMovimentacoes;
+import br.dev.marcus.praticagem.model.MovimentacaoTipada;
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+
+import java.util.List;
+
+/**
+ * Fotografia imutável das movimentações obtidas em um determinado instante.
+ *
+ * <p>É a unidade que o {@link MovimentacaoService} mantém em memória para
+ * responder às requisições sem ir ao site da praticagem a cada chamada.
+ * Como é imutável, pode ser compartilhada entre todas as threads do Javalin
+ * sem nenhuma sincronização: para "atualizar" o cache, o serviço simplesmente
+ * troca a referência por um novo snapshot.</p>
+ *
+ * <h2>Stale-While-Revalidate</h2>
+ * <pre>
+ *   obtidoEm            obtidoEm + TTL
+ *      │─────── fresco ───────│──────── expirado ────────→
+ *                             │ devolve este snapshot na hora
+ *                             │ e dispara UMA atualização em background
+ * </pre>
+ *
+ * <h2>Corpo Pré-Serializado</h2>
+ * <p>O snapshot já carrega o JSON da lista e seu ETag ({@link RepresentacaoJson}),
+ * calculados uma única vez na publicação. Quando o site não mudou,
+ * {@link #renovado(long)} reaproveita lista, JSON e ETag, trocando apenas o instante.</p>
+ *
+ * <h2>Mudanças</h2>
+ * <p>Cada snapshot também carrega o {@link ConjuntoMudancas} em relação ao
+ * snapshot publicado antes dele, calculado uma única vez pelo
+ * {@link MovimentacaoService}. Consumidores de push usam esse conjunto em vez
+ * de comparar listas por conta própria.</p>
+ *
+ * <h2>Representação Tipada e Índices</h2>
+ * <p>Junto com a lista crua, o snapshot guarda a mesma lista já interpretada
+ * ({@link MovimentacaoTipada}: instante em minutos, manobra e situação como
+ * enums, berço internado) e os índices secundários montados sobre ela
+ * ({@link IndiceMovimentacoes}). Os dois são montados uma vez, quando os
+ * dados chegam do site, e compartilhados pelos snapshots renovados.
+ * Ordenação e filtros no servidor usam só os índices, sem reinterpretar
+ * datas a cada requisição.</p>
+ *
+ * <h2>Versão</h2>
+ * <p>A {@code versao} só avança quando a lista muda (conteúdo ou ordem):
+ * snapshots renovados mantêm a versão do anterior. Clientes usam a versão
+ * para pedir apenas o que mudou ({@code GET /movimentacoes?since=N}).</p>
+ *
+ * <p>O {@link MovimentacaoService} começa a contagem no instante em que foi
+ * criado (epoch ms), e não em {@link #VERSAO_INICIAL}: sem histórico para
+ * restaurar, cada execução tem sua própria faixa de versões, e um
+ * {@code since} de uma execução anterior nunca coincide com uma versão
+ * desta (é desconhecido e recebe a lista completa).</p>
+ *
+ * @param movimentacoes Lista imutável de movimentações (cópia defensiva)
+ * @param obtidoEm Instante (epoch ms) em que os dados foram obtidos do site
+ * @param json Lista já serializada em JSON, com ETag
+ * @param mudancas Mudanças em relação ao snapshot anterior (vazio se renovado)
+ * @param versao Versão dos dados: cresce de 1 em 1 a cada publicação de uma lista diferente
+ * @param indice Movimentações interpretadas e índices para filtros
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see MovimentacaoService#obterSnapshot()
+ */
+public record MovimentacaoSnapshot(
+    List<NavioMovimentacao> movimentacoes,
+    long obtidoEm,
+    RepresentacaoJson json,
+    ConjuntoMudancas mudancas,
+    long versao,
+    IndiceMovimentacoes indice
+) {
+
+    /**
+     * Menor versão válida; versão do primeiro snapshot quando nenhuma é informada.
+     */
+    public static final long VERSAO_INICIAL = 1;
+
+    /**
+     * Garante a imutabilidade da lista recebida.
+     *
+     * <p>{@link List#copyOf} não copia se a lista já for imutável.</p>
+     */
+    public MovimentacaoSnapshot {
+        movimentacoes = List.copyOf(movimentacoes);
+    }
+
+    /**
+     * Cria o primeiro snapshot (versão 1): todas as movimentações contam como adicionadas.
+     *
+     * @param movimentacoes Movimentações obtidas do site
+     * @param obtidoEm Instante (epoch ms) em que os dados foram obtidos
+     */
+    public MovimentacaoSnapshot(List<NavioMovimentacao> movimentacoes, long obtidoEm) {
+        this(movimentacoes, obtidoEm, VERSAO_INICIAL);
+    }
+
+    /**
+     * Cria o primeiro snapshot de uma execução: todas as movimentações contam como adicionadas.
+     *
+     * @param movimentacoes Movimentações obtidas do site
+     * @param obtidoEm Instante (epoch ms) em que os dados foram obtidos
+     * @param versao Primeira versão da execução
+     * @throws IllegalArgumentException se a versão for menor que {@link #VERSAO_INICIAL}
+     */
+    public MovimentacaoSnapshot(List<NavioMovimentacao> movimentacoes, long obtidoEm, long versao) {
+        this(
+            movimentacoes,
+            obtidoEm,
+            RepresentacaoJson.serializar(movimentacoes),
+            DiffMovimentacoes.calcular(List.of(), movimentacoes),
+            validarVersao(versao),
+            indexar(movimentacoes)
+        );
+    }
+
+    /**
+     * Recria um snapshot gravado anteriormente (histórico em disco), mantendo a versão.
+     *
+     * <p>As mudanças ficam vazias: quem publica o snapshot restaurado não tem a
+     * versão anterior em memória, então clientes com {@code since} antigo
+     * recebem a lista completa.</p>
+     *
+     * @param movimentacoes Movimentações da versão gravada
+     * @param obtidoEm Instante (epoch ms) da coleta original
+     * @param versao Versão gravada
+     * @return Snapshot com o JSON já serializado
+     */
+    public static MovimentacaoSnapshot restaurado(
+        List<NavioMovimentacao> movimentacoes,
+        long obtidoEm,
+        long versao
+    ) {
+        return new MovimentacaoSnapshot(
+            movimentacoes,
+            obtidoEm,
+            RepresentacaoJson.serializar(movimentacoes),
+            ConjuntoMudancas.VAZIO,
+            versao,
+            indexar(movimentacoes)
+        );
+    }
+
+    /**
+     * Cria o snapshot que sucede este, com as mudanças calculadas a partir dele.
+     *
+     * <p>Se a lista for igual, o resultado é {@link #renovado(long)}: lista,
+     * versão, JSON e índices continuam os deste snapshot e nada é serializado
+     * nem interpretado de novo. Se o site só reordenou as linhas
+     * ({@link DiffMovimentacoes} ignora a ordem), o conjunto de mudanças fica
+     * vazio, mas a lista nova é publicada em uma versão nova, com JSON, ETag
+     * e índice próprios: quem mostra a lista na ordem do site passa a vê-la.</p>
+     *
+     * @param novas Movimentações recém-obtidas do site
+     * @param agora Instante (epoch ms) em que foram obtidas
+     * @return Novo snapshot, com versão incrementada se houve mudança
+     */
+    public MovimentacaoSnapshot sucessor(List<NavioMovimentacao> novas, long agora) {
+
+        ConjuntoMudancas mudancasNovas = DiffMovimentacoes.calcular(movimentacoes, novas);
+        if (mudancasNovas.vazio() && movimentacoes.equals(novas)) {
+            return renovado(agora);
+        }
+
+        return new MovimentacaoSnapshot(
+            novas,
+            agora,
+            RepresentacaoJson.serializar(novas),
+            mudancasNovas,
+            versao + 1,
+            indexar(novas)
+        );
+    }
+
+    /**
+     * Cria um snapshot com os mesmos dados (e o mesmo JSON), obtido em outro instante.
+     *
+     * <p>Usado quando o site confirma que nada mudou: não há nova serialização,
+     * a versão e o ETag continuam os mesmos, então clientes seguem recebendo 304.</p>
+     *
+     * @param agora Instante (epoch ms) da confirmação
+     * @return Novo snapshot com o instante atualizado
+     */
+    public MovimentacaoSnapshot renovado(long agora) {
+        return new MovimentacaoSnapshot(movimentacoes, agora, json, ConjuntoMudancas.VAZIO, versao, indice);
+    }
+
+    /**
+     * Movimentações interpretadas, na mesma ordem de {@link #movimentacoes()}.
+     *
+     * @return Lista tipada mantida pelo índice
+     */
+    public List<MovimentacaoTipada> tipadas() {
+        return indice.tipadas();
+    }
+
+    /**
+     * Calcula há quanto tempo os dados foram obtidos.
+     *
+     * @param agora Instante atual (epoch ms)
+     * @return Idade do snapshot em milissegundos
+     */
+    public long idadeMs(long agora) {
+        return agora - obtidoEm;
+    }
+
+    /**
+     * Verifica se o snapshot já passou do tempo de vida configurado.
+     *
+     * @param agora Instante atual (epoch ms)
+     * @param ttlMs Tempo de vida do cache, em milissegundos
+     * @return {@code true} se o snapshot deve ser revalidado
+     */
+    public boolean expirado(long agora, long ttlMs) {
+        return idadeMs(agora) >= ttlMs;
+    }
+
+    private static long validarVersao(long versao) {
+        if (versao < VERSAO_INICIAL) {
+            throw new IllegalArgumentException("Versão deve ser ao menos " + VERSAO_INICIAL + ": " + versao);
+        }
+        return versao;
+    }
+
+    private static IndiceMovimentacoes indexar(List<NavioMovimentacao> movimentacoes) {
+        return IndiceMovimentacoes.construir(MovimentacaoTipada.tipar(movimentacoes));
+    }
+}
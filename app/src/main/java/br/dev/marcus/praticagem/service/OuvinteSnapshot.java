@@ -0,0 +1,31 @@
+package br.dev.marcus.praticagem.service;
+
+/**
+ * Recebe aviso a cada snapshot publicado no {@link SnapshotHolder}.
+ *
+ * <p>É chamado na thread que publicou (poller ou revalidação), logo depois da
+ * troca de referência. Implementações devem retornar rápido: trabalho pesado
+ * (como escrever em conexões de clientes) deve ser repassado a um executor
+ * próprio, para não atrasar o próximo ciclo de busca.</p>
+ *
+ * <p>Também é chamado quando o snapshot apenas foi renovado (304 ou hash
+ * idêntico). Nesse caso {@code novo.json() == anterior.json()}, e quem só se
+ * interessa por mudanças pode ignorar o aviso.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see MovimentacaoService#adicionarOuvinte(OuvinteSnapshot)
+ */
+@FunctionalInterface
+public interface OuvinteSnapshot {
+
+    /**
+     * Avisa que um novo snapshot foi publicado.
+     *
+     * @param anterior Snapshot substituído, ou {@code null} na primeira publicação
+     * @param novo Snapshot recém-publicado
+     */
+    void snapshotPublicado(MovimentacaoSnapshot anterior, MovimentacaoSnapshot novo);
+}
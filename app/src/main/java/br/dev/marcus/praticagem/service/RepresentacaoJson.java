@@ -0,0 +1,212 @@
+package br.dev.marcus.praticagem.service;
+
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Corpo JSON de um snapshot, já serializado, com seu ETag.
+ *
+ * <p>Sem isso, cada {@code GET /movimentacoes} passaria a lista pelo Jackson
+ * (reflexão sobre o record {@link NavioMovimentacao}) mesmo quando os dados não
+ * mudaram. Serializando uma única vez, na publicação do snapshot, o handler só
+ * precisa escrever os bytes prontos.</p>
+ *
+ * <h2>ETag</h2>
+ * <p>O ETag é <b>forte</b> e derivado do conteúdo: os primeiros 128 bits do
+ * SHA-256 dos bytes JSON, em hexadecimal. Dados iguais geram sempre o mesmo
+ * ETag, inclusive entre reinícios da aplicação ou entre instâncias diferentes.</p>
+ *
+ * <pre>
+ *  cliente ── If-None-Match: "9f86d0818..." ──► /movimentacoes
+ *          ◄── 304 Not Modified (sem corpo) ──  se o ETag for o atual
+ * </pre>
+ *
+ * <h2>Variante gzip</h2>
+ * <p>O JSON também é comprimido com gzip (nível máximo) uma única vez, na
+ * publicação. O custo de CPU passa a ser por mudança nos dados, não por
+ * requisição, e o handler só escolhe qual array escrever conforme o
+ * {@code Accept-Encoding} ({@link #aceitaGzip(String)}). Como cada codificação
+ * é uma representação diferente, a variante gzip tem ETag próprio
+ * ({@link #etagGzip()}).</p>
+ *
+ * <p>Os arrays de bytes não são copiados e não devem ser alterados por quem os obtém.</p>
+ *
+ * @param bytes JSON da lista de movimentações (UTF-8)
+ * @param etag ETag forte, já entre aspas (ex: {@code "9f86d081884c7d65..."})
+ * @param gzip Os mesmos bytes JSON, comprimidos com gzip
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see MovimentacaoSnapshot#json()
+ */
+public record RepresentacaoJson(byte[] bytes, String etag, byte[] gzip) {
+
+    /**
+     * Mapper compartilhado. {@link ObjectMapper} é thread-safe após configurado.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Bytes do SHA-256 usados no ETag (128 bits são suficientes para evitar colisões).
+     */
+    private static final int BYTES_ETAG = 16;
+
+    /**
+     * Serializa a lista e calcula o ETag.
+     *
+     * @param movimentacoes Lista a serializar
+     * @return Representação pronta para ser enviada
+     * @throws IllegalStateException se a serialização falhar
+     */
+    public static RepresentacaoJson serializar(List<NavioMovimentacao> movimentacoes) {
+
+        byte[] json;
+        try {
+            json = MAPPER.writeValueAsBytes(movimentacoes);
+
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar movimentações em JSON", e);
+        }
+
+        return new RepresentacaoJson(json, calcularEtag(json), comprimir(json));
+    }
+
+    /**
+     * ETag da variante gzip: o mesmo hash, com sufixo {@code -gzip}.
+     *
+     * @return ETag forte da representação comprimida
+     */
+    public String etagGzip() {
+        return etag.substring(0, etag.length() - 1) + "-gzip\"";
+    }
+
+    /**
+     * Verifica se o valor de um header {@code If-None-Match} casa com este ETag.
+     *
+     * <p>Aceita {@code *}, listas separadas por vírgula e ETags fracos
+     * ({@code W/"..."}), já que {@code If-None-Match} usa comparação fraca.</p>
+     *
+     * <p>Tanto o ETag da variante identidade quanto o da variante gzip
+     * são aceitos: os dois representam os mesmos dados.</p>
+     *
+     * @param ifNoneMatch Valor do header, ou {@code null} se ausente
+     * @return {@code true} se o cliente já tem esta versão (responder 304)
+     */
+    public boolean correspondeA(String ifNoneMatch) {
+
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        for (String candidato : ifNoneMatch.split(",")) {
+            String valor = candidato.trim();
+            if (valor.equals("*")) {
+                return true;
+            }
+            if (valor.startsWith("W/")) {
+                valor = valor.substring(2);
+            }
+            if (valor.equals(etag) || valor.equals(etagGzip())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Verifica se o cliente aceita gzip, conforme o header {@code Accept-Encoding}.
+     *
+     * <p>Um {@code gzip} explícito prevalece sobre o curinga {@code *};
+     * {@code q=0} significa "não aceito".</p>
+     *
+     * @param acceptEncoding Valor do header, ou {@code null} se ausente
+     * @return {@code true} se a variante gzip pode ser enviada
+     */
+    public static boolean aceitaGzip(String acceptEncoding) {
+
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        Boolean curinga = null;
+        for (String item : acceptEncoding.split(",")) {
+            String[] partes = item.split(";");
+            String codificacao = partes[0].trim().toLowerCase(Locale.ROOT);
+            boolean aceito = qualidade(partes) > 0;
+
+            if (codificacao.equals("gzip") || codificacao.equals("x-gzip")) {
+                return aceito;
+            }
+            if (codificacao.equals("*")) {
+                curinga = aceito;
+            }
+        }
+
+        return curinga != null && curinga;
+    }
+
+    /**
+     * Lê o parâmetro {@code q} de um item de {@code Accept-Encoding} (padrão 1).
+     */
+    private static double qualidade(String[] partes) {
+        for (int i = 1; i < partes.length; i++) {
+            String parametro = partes[i].trim();
+            if (parametro.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parametro.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static byte[] comprimir(byte[] json) {
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(json.length / 4 + 64);
+
+        // Nível máximo: a compressão roda uma vez por mudança, não por requisição
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(json);
+
+        } catch (IOException e) {
+            // Escrita em memória não falha na prática
+            throw new UncheckedIOException(e);
+        }
+
+        return saida.toByteArray();
+    }
+
+    private static String calcularEtag(byte[] json) {
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return '"' + HexFormat.of().formatHex(digest, 0, BYTES_ETAG) + '"';
+
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 é obrigatório em toda JVM
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
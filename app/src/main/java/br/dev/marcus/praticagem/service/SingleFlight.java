@@ -0,0 +1,159 @@
+package br.dev.marcus.praticagem.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalescedor de chamadas concorrentes ("single-flight").
+ *
+ * <p>Quando várias threads pedem o mesmo resultado ao mesmo tempo, apenas a
+ * primeira (a <i>líder</i>) executa a operação. As demais se anexam ao
+ * {@link CompletableFuture} em voo e recebem o mesmo resultado &mdash; ou a
+ * mesma exceção.</p>
+ *
+ * <h2>Por que isso importa aqui?</h2>
+ * <p>Sem coalescência, 200 requisições simultâneas em um cache vazio geram 200
+ * GETs idênticos ao site da praticagem, cada um com seu próprio loop de retry
+ * e seus próprios {@code Thread.sleep}. Com esta classe, o site recebe um
+ * único GET e as 199 threads restantes apenas aguardam.</p>
+ *
+ * <pre>
+ *  Thread 1 ──executar()──► [líder] fetch + parse ──► resultado
+ *  Thread 2 ──executar()──► anexa ao future ────────► mesmo resultado
+ *  Thread N ──executar()──► anexa ao future ────────► mesmo resultado
+ * </pre>
+ *
+ * <h2>Contadores</h2>
+ * <ul>
+ *   <li><b>executadas:</b> chamadas que de fato rodaram a operação</li>
+ *   <li><b>coalescidas:</b> chamadas que reaproveitaram uma execução em voo</li>
+ * </ul>
+ *
+ * <p>Os contadores usam {@link LongAdder}, que tem custo baixo mesmo sob
+ * alta contenção.</p>
+ *
+ * @param <T> Tipo do resultado compartilhado
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see MovimentacaoService
+ */
+public class SingleFlight<T> {
+
+    /**
+     * Logger para registrar coalescências (nível debug).
+     */
+    private static final Logger logger = LoggerFactory.getLogger(SingleFlight.class);
+
+    /**
+     * Execução em andamento, ou {@code null} se não houver nenhuma.
+     */
+    private final AtomicReference<CompletableFuture<T>> emVoo = new AtomicReference<>();
+
+    /**
+     * Quantidade de chamadas que executaram a operação.
+     */
+    private final LongAdder executadas = new LongAdder();
+
+    /**
+     * Quantidade de chamadas que reaproveitaram uma execução em voo.
+     */
+    private final LongAdder coalescidas = new LongAdder();
+
+    /**
+     * Executa a operação, ou se anexa a uma execução idêntica já em andamento.
+     *
+     * <p>A operação roda na thread da líder. Exceções de runtime lançadas pela
+     * operação são repassadas sem encapsulamento a todas as threads anexadas.</p>
+     *
+     * @param operacao Operação a executar (ex: fetch + parse)
+     * @return Resultado da operação (compartilhado entre as chamadas coalescidas)
+     * @throws RuntimeException a mesma exceção lançada pela operação da líder
+     */
+    public T executar(Supplier<T> operacao) {
+
+        CompletableFuture<T> novo = new CompletableFuture<>();
+        CompletableFuture<T> existente = emVoo.compareAndExchange(null, novo);
+
+        // ===== SEGUIDORA: já existe uma execução em voo =====
+        if (existente != null) {
+            coalescidas.increment();
+            logger.debug("Chamada coalescida com execução em andamento");
+            return aguardar(existente);
+        }
+
+        // ===== LÍDER: executa e publica o resultado =====
+        executadas.increment();
+        try {
+            T resultado = operacao.get();
+            novo.complete(resultado);
+            return resultado;
+
+        } catch (RuntimeException | Error e) {
+            novo.completeExceptionally(e);
+            throw e;
+
+        } finally {
+            // Libera a vaga: a próxima chamada inicia uma nova execução
+            emVoo.compareAndSet(novo, null);
+        }
+    }
+
+    /**
+     * Aguarda o término da execução em voo e desembrulha exceções.
+     *
+     * @param future Execução da líder
+     * @return Resultado da líder
+     */
+    private T aguardar(CompletableFuture<T> future) {
+        try {
+            return future.join();
+
+        } catch (CompletionException e) {
+            Throwable causa = e.getCause();
+
+            if (causa instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (causa instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Indica se há uma execução em andamento neste momento.
+     *
+     * @return {@code true} se alguma thread está executando a operação
+     */
+    public boolean emAndamento() {
+        return emVoo.get() != null;
+    }
+
+    /**
+     * Retorna quantas chamadas de fato executaram a operação.
+     *
+     * @return Total de execuções
+     */
+    public long getExecutadas() {
+        return executadas.sum();
+    }
+
+    /**
+     * Retorna quantas chamadas foram atendidas por uma execução já em voo.
+     *
+     * @return Total de chamadas coalescidas
+     */
+    public long getCoalescidas() {
+        return coalescidas.sum();
+    }
+}
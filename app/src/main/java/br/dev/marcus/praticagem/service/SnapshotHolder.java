@@ -0,0 +1,96 @@
+package br.dev.marcus.praticagem.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Referência atômica para o snapshot de movimentações publicado mais recentemente.
+ *
+ * <p>É o ponto de encontro entre quem <b>produz</b> dados (revalidação do cache
+ * ou {@link br.dev.marcus.praticagem.scheduler.MovimentacaoPoller}) e quem
+ * <b>consome</b> (handlers HTTP). A troca é uma única escrita atômica de
+ * referência: leitores nunca veem um snapshot pela metade e nunca bloqueiam.</p>
+ *
+ * <pre>
+ *  Poller / revalidação ──publicar(novo)──►  [ AtomicReference ]  ◄──atual()── handlers HTTP
+ * </pre>
+ *
+ * <p>Quem precisa reagir a cada publicação (ex: push para clientes conectados)
+ * registra um {@link OuvinteSnapshot}, avisado logo após a troca.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ *
+ * @see MovimentacaoSnapshot
+ */
+public class SnapshotHolder {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotHolder.class);
+
+    /**
+     * Snapshot atual, ou {@code null} enquanto nada foi publicado.
+     */
+    private final AtomicReference<MovimentacaoSnapshot> atual = new AtomicReference<>();
+
+    /**
+     * Ouvintes avisados a cada publicação. Registro é raro e leitura é
+     * frequente, por isso copy-on-write.
+     */
+    private final List<OuvinteSnapshot> ouvintes = new CopyOnWriteArrayList<>();
+
+    /**
+     * Publica um novo snapshot, substituindo o anterior, e avisa os ouvintes.
+     *
+     * <p>Falha de um ouvinte é logada e não impede a publicação nem os demais avisos.</p>
+     *
+     * @param novo Snapshot recém-obtido (não pode ser {@code null})
+     * @return Snapshot que estava publicado antes, ou {@code null}
+     */
+    public MovimentacaoSnapshot publicar(MovimentacaoSnapshot novo) {
+
+        MovimentacaoSnapshot anterior = atual.getAndSet(novo);
+
+        for (OuvinteSnapshot ouvinte : ouvintes) {
+            try {
+                ouvinte.snapshotPublicado(anterior, novo);
+            } catch (RuntimeException e) {
+                logger.warn("Ouvinte de snapshot falhou: {}", e.getMessage(), e);
+            }
+        }
+
+        return anterior;
+    }
+
+    /**
+     * Registra um ouvinte para as próximas publicações.
+     *
+     * @param ouvinte Ouvinte a avisar (não pode ser {@code null})
+     */
+    public void adicionarOuvinte(OuvinteSnapshot ouvinte) {
+        ouvintes.add(ouvinte);
+    }
+
+    /**
+     * Lê o snapshot publicado, sem bloquear.
+     *
+     * @return Snapshot atual, ou vazio se nenhum foi publicado ainda
+     */
+    public Optional<MovimentacaoSnapshot> atual() {
+        return Optional.ofNullable(atual.get());
+    }
+
+    /**
+     * Lê o snapshot publicado, sem bloquear e sem alocar {@link Optional}.
+     *
+     * @return Snapshot atual, ou {@code null} se nenhum foi publicado ainda
+     */
+    MovimentacaoSnapshot atualOuNull() {
+        return atual.get();
+    }
+}
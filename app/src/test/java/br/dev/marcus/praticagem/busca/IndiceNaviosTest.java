@@ -0,0 +1,111 @@
+package br.dev.marcus.praticagem.busca;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+import br.dev.marcus.praticagem.service.MovimentacaoSnapshot;
+
+/**
+ * Testes unitários para {@link IndiceNavios}.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+class IndiceNaviosTest {
+
+    @Test
+    @DisplayName("Deve achar por prefixo e por palavras, sem diferenciar caixa e acento")
+    void deveBuscarPorPrefixoEPalavras() {
+        IndiceNavios indice = indice(
+            mov("MSC MARINA"), mov("MSC CARLOTTA"), mov("REBOCADOR TRITÃO"), mov("MAERSK ITAJAI")
+        );
+
+        List<CorrespondenciaNavio> prefixo = indice.buscar("msc  MAR", 10);
+        assertEquals("MSC MARINA", prefixo.get(0).navio());
+        assertEquals(CorrespondenciaNavio.Tipo.PREFIXO, prefixo.get(0).tipo());
+
+        List<CorrespondenciaNavio> palavra = indice.buscar("tritao", 10);
+        assertEquals("REBOCADOR TRITÃO", palavra.get(0).navio());
+        assertEquals(CorrespondenciaNavio.Tipo.PALAVRAS, palavra.get(0).tipo());
+
+        List<CorrespondenciaNavio> exato = indice.buscar("Msc Carlotta", 10);
+        assertEquals(CorrespondenciaNavio.Tipo.EXATO, exato.get(0).tipo());
+    }
+
+    @Test
+    @DisplayName("Deve tolerar erro de digitação e ordenar por relevância")
+    void deveBuscarAproximado() {
+        IndiceNavios indice = indice(mov("MSC MARINA"), mov("MSC CARLOTTA"), mov("MYD TIANJIN"));
+
+        List<CorrespondenciaNavio> resultado = indice.buscar("msc marna", 10);
+
+        assertEquals("MSC MARINA", resultado.get(0).navio());
+        assertEquals(CorrespondenciaNavio.Tipo.APROXIMADO, resultado.get(0).tipo());
+        assertTrue(resultado.get(0).similaridade() >= IndiceNavios.SIMILARIDADE_MINIMA);
+        assertTrue(resultado.stream().noneMatch(c -> c.navio().equals("MYD TIANJIN")));
+
+        assertEquals(1, indice.buscar("m", 1).size());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar só o conjunto de mudanças, contando as linhas de cada navio")
+    void deveAtualizarIncrementalmente() {
+        MovimentacaoSnapshot v1 = new MovimentacaoSnapshot(
+            List.of(mov("MSC MARINA", "Entrada"), mov("MSC MARINA", "Saída"), mov("EUROPE", "Entrada")), 0
+        );
+        IndiceNavios indice = new IndiceNavios(null);
+        indice.snapshotPublicado(null, v1);
+
+        // Sai uma das linhas da MSC MARINA e o EUROPE; entra o COPIAPO
+        MovimentacaoSnapshot v2 = v1.sucessor(List.of(mov("MSC MARINA", "Saída"), mov("COPIAPO", "Entrada")), 1);
+        indice.snapshotPublicado(v1, v2);
+        indice.snapshotPublicado(v2, v2.renovado(2));
+
+        assertEquals(1, indice.getReconstrucoes());
+        assertEquals(1, indice.getAtualizacoesIncrementais());
+        assertEquals(2, indice.getNavios());
+        assertEquals(1, indice.buscar("msc marina", 10).get(0).movimentacoes());
+        assertTrue(indice.buscar("europe", 10).isEmpty());
+        assertEquals("COPIAPO", indice.buscar("copi", 10).get(0).navio());
+
+        // Base desconhecida (ex: snapshot restaurado): reconstrói
+        indice.snapshotPublicado(null, MovimentacaoSnapshot.restaurado(List.of(mov("EUROPE", "Entrada")), 3, 9));
+        assertEquals(2, indice.getReconstrucoes());
+        assertEquals(1, indice.getNavios());
+        assertEquals("EUROPE", indice.buscar("europe", 10).get(0).navio());
+    }
+
+    @Test
+    @DisplayName("Consulta vazia, longa demais ou limite inválido devem lançar IllegalArgumentException")
+    void deveValidarConsulta() {
+        IndiceNavios indice = indice(mov("EUROPE"));
+
+        assertThrows(IllegalArgumentException.class, () -> indice.buscar("  ", 10));
+        assertThrows(IllegalArgumentException.class, () -> indice.buscar(null, 10));
+        assertThrows(IllegalArgumentException.class, () -> indice.buscar("x".repeat(101), 10));
+        assertThrows(IllegalArgumentException.class, () -> indice.buscar("eur", 0));
+        assertThrows(IllegalArgumentException.class, () -> indice.buscar("eur", IndiceNavios.LIMITE_MAXIMO + 1));
+    }
+
+    private static IndiceNavios indice(NavioMovimentacao... movimentacoes) {
+        IndiceNavios indice = new IndiceNavios(null);
+        indice.snapshotPublicado(null, new MovimentacaoSnapshot(List.of(movimentacoes), 0));
+        return indice;
+    }
+
+    private static NavioMovimentacao mov(String navio) {
+        return mov(navio, "Entrada");
+    }
+
+    private static NavioMovimentacao mov(String navio, String manobra) {
+        return new NavioMovimentacao("21/02/2026", "TBC", manobra, "JBS", navio, "Atracado");
+    }
+}
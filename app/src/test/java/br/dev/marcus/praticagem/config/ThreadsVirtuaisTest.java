@@ -0,0 +1,52 @@
+package br.dev.marcus.praticagem.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para {@link ThreadsVirtuais}, no JDK em que rodam.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+class ThreadsVirtuaisTest {
+
+    @Test
+    @DisplayName("Deve detectar virtual threads conforme a versão do JDK")
+    void deveDetectarConformeJdk() {
+        int versao = Runtime.version().feature();
+
+        if (versao >= 21) {
+            assertTrue(ThreadsVirtuais.disponiveis());
+        } else if (versao < 19) {
+            assertFalse(ThreadsVirtuais.disponiveis());
+            assertThrows(IllegalStateException.class, () -> ThreadsVirtuais.fabrica("t-"));
+            assertThrows(IllegalStateException.class, () -> ThreadsVirtuais.executorPorTarefa("t-"));
+        }
+    }
+
+    @Test
+    @DisplayName("Executor deve rodar cada tarefa em uma virtual thread nomeada")
+    void deveExecutarEmThreadVirtual() throws Exception {
+        if (!ThreadsVirtuais.disponiveis()) {
+            return;
+        }
+
+        CompletableFuture<String> nome = new CompletableFuture<>();
+        ThreadsVirtuais.executorPorTarefa("teste-").execute(() -> nome.complete(
+            Thread.currentThread().getName() + ":" + Thread.currentThread().isDaemon()
+        ));
+
+        // Virtual threads são sempre daemon
+        assertEquals("teste-0:true", nome.get(5, TimeUnit.SECONDS));
+    }
+}
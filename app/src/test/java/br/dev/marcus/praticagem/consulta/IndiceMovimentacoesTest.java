@@ -0,0 +1,145 @@
+package br.dev.marcus.praticagem.consulta;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.dev.marcus.praticagem.model.MovimentacaoTipada;
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+import br.dev.marcus.praticagem.model.SituacaoMovimentacao;
+import br.dev.marcus.praticagem.model.TipoManobra;
+
+/**
+ * Testes unitários para {@link IndiceMovimentacoes} e {@link FiltroMovimentacoes}.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+class IndiceMovimentacoesTest {
+
+    /**
+     * Linhas no estilo do site, fora de ordem cronológica de propósito.
+     */
+    private static final List<NavioMovimentacao> LINHAS = List.of(
+        mov("22/02/2026", "03:00 ETS", "Saída", "JBS 2", "MYD TIANJIN", "Atracado"),
+        mov("21/02/2026", "12:45 ATB", "Entrada", "JBS 1", "IRENES WISDOM", "Manobrando"),
+        mov("22/02/2026", "TBC", "Saída", "PNAVE 01", "MSC CARLOTTA", "Drifting"),
+        mov("21/02/2026", "20:00 ETB", "Entrada", "PNAVE 01", "MSC CARLOTTA", "Drifting"),
+        mov("23/02/2026", "TBC", "Entrada", "PNAVE", "XIAMEN EXPRESS", "Navegando para Itajaí"),
+        mov("", "TBC", "Entrada", "JBS", "EUROPE", "Navegando para Itajaí"),
+        mov("21/02/2026", "21:00 ETS", "Saída", "JBS 1", "IRENES WISDOM", "Drifting")
+    );
+
+    private static final IndiceMovimentacoes INDICE =
+        IndiceMovimentacoes.construir(MovimentacaoTipada.tipar(LINHAS));
+
+    @Test
+    @DisplayName("Sem filtros, a página deve sair na ordem do site")
+    void devePaginarSemFiltros() {
+        PaginaMovimentacoes pagina = consultar(Map.of("limit", "2", "offset", "1"));
+
+        assertEquals(7, pagina.total());
+        assertEquals(List.of(LINHAS.get(1), LINHAS.get(2)), pagina.movimentacoes());
+        assertEquals(Integer.valueOf(2), pagina.limit());
+
+        PaginaMovimentacoes invertida = consultar(Map.of("sort", "-site", "limit", "1"));
+        assertEquals(List.of(LINHAS.get(6)), invertida.movimentacoes());
+    }
+
+    @Test
+    @DisplayName("Filtros de berço, situação, manobra e prefixo do navio devem se combinar")
+    void deveCombinarFiltros() {
+        assertEquals(
+            List.of(LINHAS.get(2), LINHAS.get(3)),
+            consultar(Map.of("berco", " pnave 01")).movimentacoes()
+        );
+        assertEquals(
+            List.of(LINHAS.get(2), LINHAS.get(3), LINHAS.get(6)),
+            consultar(Map.of("situacao", "drifting")).movimentacoes()
+        );
+        assertEquals(
+            List.of(LINHAS.get(6)),
+            consultar(Map.of("situacao", "Drifting", "manobra", "Saída", "navio", "iren")).movimentacoes()
+        );
+        assertEquals(
+            List.of(LINHAS.get(2), LINHAS.get(3)),
+            consultar(Map.of("navio", "MSC")).movimentacoes()
+        );
+        assertEquals(0, consultar(Map.of("berco", "berço inexistente")).total());
+        assertEquals(0, consultar(Map.of("navio", "zzz")).total());
+    }
+
+    @Test
+    @DisplayName("Período deve usar o minuto tipado; TBC ocupa o dia inteiro e sem data fica de fora")
+    void deveFiltrarPorPeriodo() {
+        PaginaMovimentacoes dia22 = consultar(Map.of("de", "22/02/2026", "ate", "2026-02-22"));
+        assertEquals(List.of(LINHAS.get(0), LINHAS.get(2)), dia22.movimentacoes());
+
+        // 22/02 às 10h: a linha TBC do dia 22 ainda entra, a das 03:00 não
+        PaginaMovimentacoes manha = consultar(Map.of("de", "2026-02-22T10:00", "ate", "2026-02-22T11:00"));
+        assertEquals(List.of(LINHAS.get(2)), manha.movimentacoes());
+
+        PaginaMovimentacoes ate21 = consultar(Map.of("ate", "21/02/2026", "sort", "data"));
+        assertEquals(List.of(LINHAS.get(1), LINHAS.get(3), LINHAS.get(6)), ate21.movimentacoes());
+    }
+
+    @Test
+    @DisplayName("Ordenação por data, navio e berço, com inversão")
+    void deveOrdenar() {
+        List<NavioMovimentacao> cronologica = consultar(Map.of("sort", "data")).movimentacoes();
+        assertEquals(List.of(
+            LINHAS.get(1), LINHAS.get(3), LINHAS.get(6), LINHAS.get(0), LINHAS.get(2), LINHAS.get(4), LINHAS.get(5)
+        ), cronologica);
+
+        assertEquals(
+            List.of(LINHAS.get(4), LINHAS.get(0), LINHAS.get(2)),
+            consultar(Map.of("sort", "-navio", "limit", "3")).movimentacoes()
+        );
+        assertEquals(
+            List.of(LINHAS.get(1), LINHAS.get(6)),
+            consultar(Map.of("sort", "berco", "offset", "1", "limit", "2")).movimentacoes()
+        );
+        assertEquals(
+            List.of(LINHAS.get(2), LINHAS.get(6)),
+            consultar(Map.of("situacao", "drifting", "manobra", "", "sort", "-data", "limit", "2")).movimentacoes()
+        );
+    }
+
+    @Test
+    @DisplayName("Parâmetros inválidos devem lançar IllegalArgumentException")
+    void deveValidarParametros() {
+        assertTrue(FiltroMovimentacoes.de(Map.<String, String>of()::get).semEfeito());
+
+        FiltroMovimentacoes filtro = FiltroMovimentacoes.de(Map.of("manobra", "SAIDA", "situacao", "em andamento")::get);
+        assertSame(TipoManobra.SAIDA, filtro.manobra());
+        assertSame(SituacaoMovimentacao.EM_ANDAMENTO, filtro.situacao());
+        assertNull(filtro.limit());
+
+        assertThrows(IllegalArgumentException.class, () -> FiltroMovimentacoes.de(Map.of("manobra", "voo")::get));
+        assertThrows(IllegalArgumentException.class, () -> FiltroMovimentacoes.de(Map.of("sort", "calado")::get));
+        assertThrows(IllegalArgumentException.class, () -> FiltroMovimentacoes.de(Map.of("limit", "0")::get));
+        assertThrows(IllegalArgumentException.class, () -> FiltroMovimentacoes.de(Map.of("offset", "x")::get));
+        assertThrows(IllegalArgumentException.class,
+            () -> FiltroMovimentacoes.de(Map.of("de", "23/02/2026", "ate", "21/02/2026")::get));
+    }
+
+    private static PaginaMovimentacoes consultar(Map<String, String> parametros) {
+        return INDICE.consultar(FiltroMovimentacoes.de(new HashMap<>(parametros)::get));
+    }
+
+    private static NavioMovimentacao mov(
+        String data, String horario, String manobra, String berco, String navio, String situacao
+    ) {
+        return new NavioMovimentacao(data, horario, manobra, berco, navio, situacao);
+    }
+}
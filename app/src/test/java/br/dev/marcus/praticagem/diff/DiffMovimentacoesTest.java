@@ -0,0 +1,107 @@
+package br.dev.marcus.praticagem.diff;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+
+/**
+ * Testes unitários para {@link DiffMovimentacoes}.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+class DiffMovimentacoesTest {
+
+    private static final NavioMovimentacao ALFA = movimentacao("ALFA", "Entrada", "10:00", "201");
+    private static final NavioMovimentacao BRAVO = movimentacao("BRAVO", "Entrada", "11:00", "TVIP");
+    private static final NavioMovimentacao CHARLIE = movimentacao("CHARLIE", "Saída", "12:00", "301");
+
+    @Test
+    @DisplayName("Deve separar adicionadas, removidas e alteradas pela chave navio + manobra + data")
+    void deveCalcularMudancas() {
+        NavioMovimentacao alfaAtrasado = movimentacao("ALFA", "Entrada", "10:30", "202");
+
+        ConjuntoMudancas mudancas = DiffMovimentacoes.calcular(
+            List.of(ALFA, BRAVO),
+            List.of(CHARLIE, alfaAtrasado)
+        );
+
+        assertEquals(List.of(CHARLIE), mudancas.adicionadas());
+        assertEquals(List.of(BRAVO), mudancas.removidas());
+        assertEquals(List.of(alfaAtrasado), mudancas.alteradas());
+        assertEquals(List.of(ALFA), mudancas.alteradasAntes());
+        assertEquals(3, mudancas.total());
+    }
+
+    @Test
+    @DisplayName("Mesma manobra do mesmo navio em outra data é outra movimentação")
+    void outraDataDeveSerOutraMovimentacao() {
+        NavioMovimentacao alfaAmanha = new NavioMovimentacao(
+            "22/02/2026", "10:00", "Entrada", "201", "ALFA", "Programado"
+        );
+
+        ConjuntoMudancas mudancas = DiffMovimentacoes.calcular(List.of(ALFA), List.of(alfaAmanha));
+
+        assertEquals(List.of(alfaAmanha), mudancas.adicionadas());
+        assertEquals(List.of(ALFA), mudancas.removidas());
+        assertTrue(mudancas.alteradas().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Linhas duplicadas devem ser pareadas pela ordem de ocorrência")
+    void duplicatasDevemUsarOrdinal() {
+        NavioMovimentacao primeira = movimentacao("ALFA", "Entrada", "08:00", "201");
+        NavioMovimentacao segunda = movimentacao("ALFA", "Entrada", "20:00", "201");
+        NavioMovimentacao segundaAtrasada = movimentacao("ALFA", "Entrada", "21:00", "201");
+
+        ConjuntoMudancas mudancas = DiffMovimentacoes.calcular(
+            List.of(primeira, segunda),
+            List.of(primeira, segundaAtrasada, primeira)
+        );
+
+        assertEquals(List.of(segundaAtrasada), mudancas.alteradas());
+        assertEquals(List.of(segunda), mudancas.alteradasAntes());
+        assertEquals(List.of(primeira), mudancas.adicionadas());
+        assertTrue(mudancas.removidas().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Listas iguais devem devolver o conjunto vazio compartilhado")
+    void listasIguaisDevemSerVazias() {
+        List<NavioMovimentacao> lista = List.of(ALFA, BRAVO);
+
+        assertSame(ConjuntoMudancas.VAZIO, DiffMovimentacoes.calcular(lista, lista));
+        assertSame(ConjuntoMudancas.VAZIO, DiffMovimentacoes.calcular(lista, new ArrayList<>(lista)));
+        assertTrue(ConjuntoMudancas.VAZIO.vazio());
+    }
+
+    @Test
+    @DisplayName("Primeira coleta deve marcar tudo como adicionado")
+    void primeiraColetaDeveSerTodaAdicionada() {
+        ConjuntoMudancas mudancas = DiffMovimentacoes.calcular(List.of(), List.of(ALFA, BRAVO));
+
+        assertEquals(List.of(ALFA, BRAVO), mudancas.adicionadas());
+        assertEquals(2, mudancas.total());
+    }
+
+    @Test
+    @DisplayName("alteradas e alteradasAntes devem ter o mesmo tamanho")
+    void deveValidarAlinhamento() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new ConjuntoMudancas(List.of(), List.of(), List.of(ALFA), List.of()));
+    }
+
+    private static NavioMovimentacao movimentacao(String navio, String manobra, String horario, String berco) {
+        return new NavioMovimentacao("21/02/2026", horario, manobra, berco, navio, "Programado");
+    }
+}
@@ -0,0 +1,47 @@
+package br.dev.marcus.praticagem.fetcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para {@link HashTabela}.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+class HashTabelaTest {
+
+    @Test
+    @DisplayName("Mudanças fora da região de tabelas não devem alterar o hash")
+    void deveIgnorarConteudoForaDasTabelas() {
+        long a = hash("<head><script>nonce=1</script></head><TABLE><tr><td>X</td></tr></TABLE><footer>1</footer>");
+        long b = hash("<head><script>nonce=2</script></head><TABLE><tr><td>X</td></tr></TABLE><footer>2</footer>");
+
+        assertEquals(a, b);
+    }
+
+    @Test
+    @DisplayName("Mudanças dentro das tabelas devem alterar o hash")
+    void deveDetectarMudancaNasTabelas() {
+        long a = hash("<table><tr><td>NAVIO A</td></tr></table><table><tr><td>1</td></tr></table>");
+        long b = hash("<table><tr><td>NAVIO A</td></tr></table><table><tr><td>2</td></tr></table>");
+
+        assertNotEquals(a, b);
+    }
+
+    @Test
+    @DisplayName("HTML sem tabela deve usar o corpo inteiro")
+    void semTabelaDeveUsarCorpoInteiro() {
+        assertNotEquals(hash("<p>1</p>"), hash("<p>2</p>"));
+    }
+
+    private static long hash(String html) {
+        return HashTabela.calcular(html.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,270 @@
+package br.dev.marcus.praticagem.fetcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jsoup.nodes.Document;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+import br.dev.marcus.praticagem.parser.HtmlParser;
+import br.dev.marcus.praticagem.parser.StreamingHtmlParser;
+import br.dev.marcus.praticagem.simulador.Cenario;
+import br.dev.marcus.praticagem.simulador.SimuladorPraticagem;
+
+/**
+ * Testes de integração do {@link HtmlFetcher} com HTTP real, contra o
+ * {@link SimuladorPraticagem} (sem mocks do Jsoup).
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+class HtmlFetcherSimuladorTest {
+
+    private SimuladorPraticagem simulador;
+
+    @BeforeEach
+    void iniciar() {
+        simulador = new SimuladorPraticagem(0).iniciar();
+    }
+
+    @AfterEach
+    void parar() {
+        simulador.close();
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 enquanto a versão não muda e 200 quando muda")
+    void deveUsarGetCondicional() {
+        simulador.setCenario(Cenario.PADRAO.comLinhas(120));
+        HtmlFetcher fetcher = new HtmlFetcher(simulador.getUrl(), 2000, 1, 1);
+
+        ResultadoFetch primeiro = fetcher.fetchCondicional();
+        assertTrue(primeiro.modificado());
+        List<NavioMovimentacao> antes = new HtmlParser().parse(primeiro.corpo(), primeiro.charset());
+        assertEquals(120, antes.size());
+        assertEquals(primeiro.corpo().length, fetcher.getBytesBaixados());
+
+        // Sem confirmação, o fetcher não usa os validadores da resposta
+        assertTrue(fetcher.fetchCondicional().modificado());
+        assertEquals(0, simulador.getNaoModificadas());
+
+        fetcher.confirmarValidadores(primeiro);
+        assertFalse(fetcher.fetchCondicional().modificado());
+        assertEquals(1, simulador.getNaoModificadas());
+
+        simulador.avancarVersao();
+        ResultadoFetch segundo = fetcher.fetchCondicional();
+        assertTrue(segundo.modificado());
+        assertNotEquals(antes, new HtmlParser().parse(segundo.corpo(), segundo.charset()));
+    }
+
+    @Test
+    @DisplayName("Erros 5xx devem esgotar as tentativas e virar IllegalStateException")
+    void deveRetentarErros5xx() {
+        simulador.setCenario(Cenario.PADRAO.comErros(1.0, 503));
+        HtmlFetcher fetcher = new HtmlFetcher(simulador.getUrl(), 2000, 3, 1);
+
+        assertThrows(IllegalStateException.class, fetcher::fetchCondicional);
+        assertEquals(3, simulador.getRequisicoes());
+        assertEquals(3, simulador.getErrosInjetados());
+        assertEquals(2, fetcher.getRetentativas());
+        assertEquals(3, fetcher.getLatenciaTentativas().get("falha").contagem());
+    }
+
+    @Test
+    @DisplayName("Servidor que não responde deve estourar o timeout do fetcher")
+    void deveEstourarTimeout() {
+        simulador.setCenario(Cenario.PADRAO.comTimeouts(1.0, 2000));
+        HtmlFetcher fetcher = new HtmlFetcher(simulador.getUrl(), 200, 2, 1);
+
+        long inicio = System.nanoTime();
+        assertThrows(IllegalStateException.class, fetcher::fetchCondicional);
+
+        assertEquals(2, simulador.getTimeoutsInjetados());
+        assertTrue((System.nanoTime() - inicio) / 1_000_000 < 1900, "não deve esperar o servidor");
+    }
+
+    @Test
+    @DisplayName("Corpo em gotejamento deve chegar completo dentro do timeout")
+    void deveLerCorpoGotejado() {
+        simulador.setCenario(Cenario.PADRAO.comLinhas(30).comGotejamento(4096, 5));
+        HtmlFetcher fetcher = new HtmlFetcher(simulador.getUrl(), 5000, 1, 1);
+
+        ResultadoFetch resultado = fetcher.fetchCondicional();
+
+        assertEquals(30, new StreamingHtmlParser().parse(resultado.corpo(), resultado.charset()).size());
+    }
+
+    @Test
+    @DisplayName("Mudanças de layout: colunas reordenadas e renomeadas passam, sem a coluna Navio falha")
+    void deveAcompanharMudancasDeLayout() {
+        HtmlFetcher fetcher = new HtmlFetcher(simulador.getUrl(), 2000, 1, 1);
+        HtmlParser parser = new HtmlParser();
+
+        simulador.setCenario(Cenario.PADRAO);
+        List<NavioMovimentacao> padrao = parse(fetcher, parser);
+
+        simulador.setCenario(Cenario.PADRAO.comLayout(Cenario.Layout.REORDENADO));
+        assertEquals(padrao, parse(fetcher, parser));
+
+        simulador.setCenario(Cenario.PADRAO.comLayout(Cenario.Layout.RENOMEADO));
+        assertEquals(padrao, parse(fetcher, parser));
+
+        simulador.setCenario(Cenario.PADRAO.comLayout(Cenario.Layout.SEM_NAVIO));
+        assertThrows(IllegalStateException.class, () -> parse(fetcher, parser));
+    }
+
+    @Test
+    @DisplayName("Busca assíncrona deve agendar a retentativa sem bloquear quem chama")
+    void deveRetentarSemBloquear() throws Exception {
+        simulador.setCenario(Cenario.PADRAO.comErros(1.0, 503));
+        HtmlFetcher fetcher = new HtmlFetcher(simulador.getUrl(), 2000, 3, 300);
+
+        CompletableFuture<ResultadoFetch> futuro = fetcher.fetchCondicionalAsync();
+        assertFalse(futuro.isDone());
+
+        // Site volta durante o backoff: a 2ª tentativa, disparada pelo timer, dá certo
+        aguardarRequisicoes(1);
+        simulador.setCenario(Cenario.PADRAO.comLinhas(40));
+
+        ResultadoFetch resultado = futuro.get(5, TimeUnit.SECONDS);
+        assertTrue(resultado.modificado());
+        assertEquals(40, new HtmlParser().parse(resultado.corpo(), resultado.charset()).size());
+        assertEquals(2, simulador.getRequisicoes());
+        assertEquals(1, fetcher.getRetentativas());
+    }
+
+    @Test
+    @DisplayName("Cancelar a busca assíncrona deve impedir as próximas tentativas")
+    void devePararAoCancelar() throws Exception {
+        simulador.setCenario(Cenario.PADRAO.comErros(1.0, 503));
+        HtmlFetcher fetcher = new HtmlFetcher(simulador.getUrl(), 2000, 5, 200);
+
+        CompletableFuture<ResultadoFetch> futuro = fetcher.fetchCondicionalAsync();
+        aguardarRequisicoes(1);
+        futuro.cancel(true);
+
+        Thread.sleep(600);
+        assertEquals(1, simulador.getRequisicoes());
+    }
+
+    @Test
+    @DisplayName("fetchAsync deve devolver o documento parseado")
+    void deveBuscarDocumentoAssincrono() throws Exception {
+        simulador.setCenario(Cenario.PADRAO.comLinhas(15));
+        HtmlFetcher fetcher = new HtmlFetcher(simulador.getUrl(), 2000, 1, 1);
+
+        Document documento = fetcher.fetchAsync().get(5, TimeUnit.SECONDS);
+
+        assertEquals(15, new HtmlParser().parse(documento).size());
+    }
+
+    @Test
+    @DisplayName("fetch deve buscar o documento em uma requisição e registrar as métricas")
+    void deveBuscarDocumento() {
+        simulador.setCenario(Cenario.PADRAO.comLinhas(25));
+        HtmlFetcher fetcher = new HtmlFetcher(simulador.getUrl(), 2000, 3, 1);
+
+        Document documento = fetcher.fetch();
+
+        assertEquals(25, new HtmlParser().parse(documento).size());
+        assertEquals(1, simulador.getRequisicoes());
+        assertTrue(fetcher.getBytesBaixados() > 0);
+        assertEquals(1, fetcher.getLatenciaTentativas().get("sucesso").contagem());
+        assertEquals(0, fetcher.getRetentativas());
+    }
+
+    @Test
+    @DisplayName("fetch deve retentar após falha e devolver o documento da tentativa seguinte")
+    void fetchDeveRetentarAposFalha() throws Exception {
+        simulador.setCenario(Cenario.PADRAO.comErros(1.0, 503));
+        HtmlFetcher fetcher = new HtmlFetcher(simulador.getUrl(), 2000, 3, 300);
+
+        CompletableFuture<Document> futuro = CompletableFuture.supplyAsync(fetcher::fetch);
+
+        // Site volta durante o backoff
+        aguardarRequisicoes(1);
+        simulador.setCenario(Cenario.PADRAO.comLinhas(10));
+
+        assertEquals(10, new HtmlParser().parse(futuro.get(5, TimeUnit.SECONDS)).size());
+        assertEquals(2, simulador.getRequisicoes());
+        assertEquals(1, fetcher.getRetentativas());
+        assertEquals(1, fetcher.getLatenciaTentativas().get("falha").contagem());
+    }
+
+    @Test
+    @DisplayName("fetch deve falhar depois de esgotar as tentativas configuradas")
+    void fetchDeveFalharAposTodasTentativas() {
+        simulador.setCenario(Cenario.PADRAO.comErros(1.0, 503));
+        HtmlFetcher fetcher = new HtmlFetcher(simulador.getUrl(), 2000, 5, 1);
+
+        IllegalStateException erro = assertThrows(IllegalStateException.class, fetcher::fetch);
+
+        assertTrue(erro.getMessage().contains("Falha ao conectar após"));
+        assertEquals(5, simulador.getRequisicoes());
+        assertEquals(4, fetcher.getRetentativas());
+    }
+
+    @Test
+    @DisplayName("fetch deve falhar imediatamente com URL inválida")
+    void fetchDeveFalharImediatamenteComUrlInvalida() {
+        HtmlFetcher fetcher = new HtmlFetcher("url-sem-protocolo", 2000, 3, 1000);
+
+        long inicio = System.nanoTime();
+        IllegalStateException erro = assertThrows(IllegalStateException.class, fetcher::fetch);
+
+        assertTrue(erro.getMessage().contains("inválida"));
+        assertEquals(0, fetcher.getRetentativas());
+        assertTrue((System.nanoTime() - inicio) / 1_000_000 < 1000, "não deve esperar o backoff");
+    }
+
+    @Test
+    @DisplayName("fetch deve respeitar o timeout configurado")
+    void fetchDeveRespeitarTimeout() {
+        simulador.setCenario(Cenario.PADRAO.comTimeouts(1.0, 2000));
+        HtmlFetcher fetcher = new HtmlFetcher(simulador.getUrl(), 200, 1, 1);
+
+        long inicio = System.nanoTime();
+        assertThrows(IllegalStateException.class, fetcher::fetch);
+
+        assertEquals(1, simulador.getTimeoutsInjetados());
+        assertTrue((System.nanoTime() - inicio) / 1_000_000 < 1900, "não deve esperar o servidor");
+    }
+
+    @Test
+    @DisplayName("fetch deve se identificar com o User-Agent do bot")
+    void fetchDeveEnviarUserAgent() {
+        HtmlFetcher fetcher = new HtmlFetcher(simulador.getUrl(), 2000, 1, 1);
+
+        fetcher.fetch();
+
+        assertNotNull(simulador.getUltimoUserAgent());
+        assertTrue(simulador.getUltimoUserAgent().contains("-Bot/"));
+    }
+
+    private void aguardarRequisicoes(long quantidade) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (simulador.getRequisicoes() < quantidade && System.nanoTime() < limite) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static List<NavioMovimentacao> parse(HtmlFetcher fetcher, HtmlParser parser) {
+        ResultadoFetch resultado = fetcher.fetchCondicional();
+        return parser.parse(resultado.corpo(), resultado.charset());
+    }
+}
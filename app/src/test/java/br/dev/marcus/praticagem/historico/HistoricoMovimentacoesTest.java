@@ -0,0 +1,211 @@
+package br.dev.marcus.praticagem.historico;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+import br.dev.marcus.praticagem.service.MovimentacaoSnapshot;
+
+/**
+ * Testes unitários para {@link HistoricoMovimentacoes}.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+class HistoricoMovimentacoesTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    @DisplayName("Deve reconstruir a última versão gravada ao reabrir")
+    void deveRecuperarUltimaVersao() {
+        MovimentacaoSnapshot ultimo;
+        try (HistoricoMovimentacoes historico = HistoricoMovimentacoes.abrir(diretorio)) {
+            assertTrue(historico.ultimoEstado().isEmpty());
+            ultimo = gravarVersoes(historico, 5);
+
+            // Renovação com a mesma versão não gera registro
+            historico.snapshotPublicado(ultimo, ultimo.renovado(999));
+            assertEquals(5, historico.getVersoesGravadas());
+            assertEquals(1, historico.getCheckpointsGravados());
+        }
+
+        try (HistoricoMovimentacoes reaberto = HistoricoMovimentacoes.abrir(diretorio)) {
+            RegistroHistorico estado = reaberto.ultimoEstado().orElseThrow();
+            assertEquals(5L, estado.versao());
+            assertEquals(ultimo.obtidoEm(), estado.obtidoEm());
+            assertEquals(ultimo.movimentacoes(), estado.estado());
+        }
+    }
+
+    @Test
+    @DisplayName("Registro cortado por uma queda deve ser descartado e a gravação continuar")
+    void registroCortadoDeveSerDescartado() throws IOException {
+        MovimentacaoSnapshot ultimo;
+        try (HistoricoMovimentacoes historico = HistoricoMovimentacoes.abrir(diretorio)) {
+            ultimo = gravarVersoes(historico, 3);
+        }
+
+        Path segmento = HistoricoMovimentacoes.listarSegmentos(diretorio).get(0);
+        long tamanhoValido = Files.size(segmento);
+        Files.write(segmento, new byte[] {0, 0, 1, 0, 7, 7, 7}, StandardOpenOption.APPEND);
+
+        try (HistoricoMovimentacoes reaberto = HistoricoMovimentacoes.abrir(diretorio)) {
+            assertEquals(3L, reaberto.ultimoEstado().orElseThrow().versao());
+            assertEquals(tamanhoValido, Files.size(segmento));
+
+            ultimo = ultimo.sucessor(lista(4), 4_000);
+            reaberto.gravar(ultimo);
+        }
+
+        try (HistoricoMovimentacoes reaberto = HistoricoMovimentacoes.abrir(diretorio)) {
+            RegistroHistorico estado = reaberto.ultimoEstado().orElseThrow();
+            assertEquals(4L, estado.versao());
+            assertEquals(ultimo.movimentacoes(), estado.estado());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve dividir em segmentos, gravar checkpoints periódicos e refazer índice perdido")
+    void deveUsarSegmentosECheckpoints() throws IOException {
+        MovimentacaoSnapshot ultimo;
+        try (HistoricoMovimentacoes historico = HistoricoMovimentacoes.abrir(diretorio, 600, 2)) {
+            ultimo = gravarVersoes(historico, 12);
+            assertTrue(historico.getCheckpointsGravados() > 1);
+        }
+
+        List<Path> segmentos = HistoricoMovimentacoes.listarSegmentos(diretorio);
+        assertTrue(segmentos.size() > 1, "segmentos: " + segmentos);
+
+        Path ultimoSegmento = segmentos.get(segmentos.size() - 1);
+        Path indice = HistoricoMovimentacoes.caminhoIndice(ultimoSegmento);
+        long tamanhoIndice = Files.size(indice);
+        assertTrue(tamanhoIndice > 0 && tamanhoIndice % HistoricoMovimentacoes.ENTRADA_INDICE == 0);
+        Files.delete(indice);
+
+        try (HistoricoMovimentacoes reaberto = HistoricoMovimentacoes.abrir(diretorio, 600, 2)) {
+            RegistroHistorico estado = reaberto.ultimoEstado().orElseThrow();
+            assertEquals(12L, estado.versao());
+            assertEquals(ultimo.movimentacoes(), estado.estado());
+        }
+        assertEquals(tamanhoIndice, Files.size(indice));
+    }
+
+    @Test
+    @DisplayName("Codec deve preservar alteradas com os valores anteriores")
+    void codecDevePreservarMudancas() {
+        MovimentacaoSnapshot v1 = new MovimentacaoSnapshot(lista(1), 1_000);
+        MovimentacaoSnapshot v2 = v1.sucessor(lista(2), 2_000);
+        RegistroHistorico registro = RegistroHistorico.mudancas(v2.versao(), v2.obtidoEm(), v2.mudancas());
+
+        byte[] bytes = CodecRegistro.codificar(registro);
+        RegistroHistorico lido = CodecRegistro.ler(ByteBuffer.wrap(bytes));
+
+        assertEquals(registro, lido);
+        assertEquals(v2.mudancas().alteradasAntes(), lido.mudancas().alteradasAntes());
+
+        // Um bit trocado invalida o CRC
+        bytes[bytes.length - 1] ^= 1;
+        assertNull(CodecRegistro.ler(ByteBuffer.wrap(bytes)));
+        assertFalse(lido.mudancas().vazio());
+    }
+
+    @Test
+    @DisplayName("Reconstrução deve manter a ordem com inserções no meio e reordenações")
+    void reconstrucaoDeveManterOrdem() {
+        NavioMovimentacao alfa = movimentacao("ALFA", "08:00");
+        NavioMovimentacao bravo = movimentacao("BRAVO", "10:00");
+        NavioMovimentacao bravoII = movimentacao("BRAVO II", "11:00");
+        NavioMovimentacao charlie = movimentacao("CHARLIE", "12:00");
+        NavioMovimentacao delta = movimentacao("DELTA", "14:00");
+        NavioMovimentacao deltaAtrasado = movimentacao("DELTA", "15:00");
+        NavioMovimentacao echo = movimentacao("ECHO", "16:00");
+
+        List<List<NavioMovimentacao>> versoes = List.of(
+            List.of(alfa, charlie, delta),
+            // Inserida no meio; alterada mantém a posição
+            List.of(alfa, bravo, charlie, deltaAtrasado),
+            // Removida no início; inseridas no meio e antes do fim
+            List.of(bravo, bravoII, charlie, echo, deltaAtrasado),
+            // Alfa volta, no meio, e o resto só troca de ordem
+            List.of(charlie, alfa, bravo, bravoII, deltaAtrasado, echo),
+            // Só reordena: versão nova sem mudanças
+            List.of(echo, deltaAtrasado, bravoII, bravo, alfa, charlie)
+        );
+
+        MovimentacaoSnapshot atual = null;
+        try (HistoricoMovimentacoes historico = HistoricoMovimentacoes.abrir(diretorio)) {
+            for (int i = 0; i < versoes.size(); i++) {
+                MovimentacaoSnapshot proximo = atual == null
+                    ? new MovimentacaoSnapshot(versoes.get(i), 1_000)
+                    : atual.sucessor(versoes.get(i), (i + 1) * 1_000L);
+                historico.snapshotPublicado(atual, proximo);
+                atual = proximo;
+            }
+            // O inicial e os das versões que mudaram a ordem das demais linhas
+            assertEquals(3, historico.getCheckpointsGravados());
+        }
+
+        try (HistoricoMovimentacoes reaberto = HistoricoMovimentacoes.abrir(diretorio)) {
+            RegistroHistorico estado = reaberto.ultimoEstado().orElseThrow();
+            assertEquals(5L, estado.versao());
+            assertEquals(versoes.get(4), estado.estado());
+        }
+
+        // Até a versão 3, só as mudanças (com posições) reconstroem cada lista
+        RegistroHistorico estado = RegistroHistorico.checkpoint(1, 1_000, versoes.get(0));
+        MovimentacaoSnapshot snapshot = new MovimentacaoSnapshot(versoes.get(0), 1_000);
+        for (int i = 1; i < 3; i++) {
+            snapshot = snapshot.sucessor(versoes.get(i), (i + 1) * 1_000L);
+            estado = estado.aplicar(RegistroHistorico.mudancas(
+                snapshot.versao(), snapshot.obtidoEm(), snapshot.mudancas(),
+                RegistroHistorico.posicoes(snapshot.mudancas().adicionadas(), snapshot.movimentacoes())
+            ));
+            assertEquals(versoes.get(i), estado.estado());
+        }
+    }
+
+    /**
+     * Grava as versões 1..n, cada uma alterando o horário de ALFA e
+     * acrescentando um navio.
+     */
+    private static MovimentacaoSnapshot gravarVersoes(HistoricoMovimentacoes historico, int n) {
+        MovimentacaoSnapshot atual = new MovimentacaoSnapshot(lista(1), 1_000);
+        historico.snapshotPublicado(null, atual);
+        for (int i = 2; i <= n; i++) {
+            MovimentacaoSnapshot proximo = atual.sucessor(lista(i), i * 1_000L);
+            historico.snapshotPublicado(atual, proximo);
+            atual = proximo;
+        }
+        return atual;
+    }
+
+    private static NavioMovimentacao movimentacao(String navio, String horario) {
+        return new NavioMovimentacao("21/02/2026", horario, "Entrada", "201", navio, "Programado");
+    }
+
+    private static List<NavioMovimentacao> lista(int versao) {
+        List<NavioMovimentacao> lista = new ArrayList<>();
+        lista.add(new NavioMovimentacao("21/02/2026", String.format("%02d:00", versao), "Entrada", "201", "ALFA", "Programado"));
+        for (int i = 2; i <= versao; i++) {
+            lista.add(new NavioMovimentacao("21/02/2026", "12:00", "Saída", "30" + i, "NAVIO " + i, "Confirmado"));
+        }
+        return lista;
+    }
+}
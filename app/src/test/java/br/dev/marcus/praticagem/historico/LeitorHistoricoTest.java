@@ -0,0 +1,190 @@
+package br.dev.marcus.praticagem.historico;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+import br.dev.marcus.praticagem.service.MovimentacaoSnapshot;
+
+/**
+ * Testes unitários para {@link LeitorHistorico} e {@link ConsultaHistorico}.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+class LeitorHistoricoTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    @DisplayName("Deve devolver só as versões gravadas dentro do período, em vários segmentos")
+    void deveFiltrarPorPeriodo() throws IOException {
+        try (HistoricoMovimentacoes historico = HistoricoMovimentacoes.abrir(diretorio, 4_096, 10);
+             LeitorHistorico leitor = new LeitorHistorico(diretorio)) {
+            gravarVersoes(historico, 1, 200, null);
+            assertTrue(HistoricoMovimentacoes.listarSegmentos(diretorio).size() > 1);
+
+            JsonNode resposta = consultar(leitor, new ConsultaHistorico(100_000, 150_000, null));
+
+            assertEquals(51, resposta.get("total").asInt());
+            JsonNode registros = resposta.get("registros");
+            assertEquals(100, registros.get(0).get("versao").asInt());
+            assertEquals(150, registros.get(50).get("versao").asInt());
+
+            // Versão 100 alterou o horário de ALFA e acrescentou NAVIO 100
+            JsonNode v100 = registros.get(0);
+            assertEquals("ALFA", v100.get("alteradas").get(0).get("navio").asText());
+            assertEquals("99:00", v100.get("alteradasAntes").get(0).get("horario").asText());
+            assertEquals("NAVIO 100", v100.get("adicionadas").get(0).get("navio").asText());
+        }
+    }
+
+    @Test
+    @DisplayName("Filtro por berço deve usar só os registros e as linhas daquele berço")
+    void deveFiltrarPorBerco() throws IOException {
+        try (HistoricoMovimentacoes historico = HistoricoMovimentacoes.abrir(diretorio);
+             LeitorHistorico leitor = new LeitorHistorico(diretorio)) {
+            gravarVersoes(historico, 1, 30, null);
+
+            JsonNode resposta = consultar(leitor, new ConsultaHistorico(0, Long.MAX_VALUE, " TVIP "));
+
+            // Versões 10, 20 e 30 acrescentam um navio no TVIP; ALFA (201) fica de fora
+            assertEquals(3, resposta.get("total").asInt());
+            for (JsonNode registro : resposta.get("registros")) {
+                assertEquals(1, registro.get("adicionadas").size());
+                assertEquals("TVIP", registro.get("adicionadas").get(0).get("berco").asText());
+                assertEquals(0, registro.get("alteradas").size());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Segmento ativo deve ser relido conforme cresce")
+    void deveEnxergarRegistrosNovos() throws IOException {
+        try (HistoricoMovimentacoes historico = HistoricoMovimentacoes.abrir(diretorio);
+             LeitorHistorico leitor = new LeitorHistorico(diretorio)) {
+            MovimentacaoSnapshot ultimo = gravarVersoes(historico, 1, 5, null);
+            ConsultaHistorico tudo = new ConsultaHistorico(0, Long.MAX_VALUE, null);
+            assertEquals(5, consultar(leitor, tudo).get("total").asInt());
+
+            gravarVersoes(historico, 6, 8, ultimo);
+            assertEquals(8, consultar(leitor, tudo).get("total").asInt());
+            assertEquals(2, leitor.getConsultas());
+        }
+    }
+
+    @Test
+    @DisplayName("Segmento truncado pelo escritor deve ter os índices refeitos")
+    void deveRefazerIndicesQuandoSegmentoEncolhe() throws IOException {
+        ConsultaHistorico tudo = new ConsultaHistorico(0, Long.MAX_VALUE, null);
+        try (LeitorHistorico leitor = new LeitorHistorico(diretorio)) {
+            long fimVersao4;
+            MovimentacaoSnapshot v4;
+            try (HistoricoMovimentacoes historico = HistoricoMovimentacoes.abrir(diretorio)) {
+                v4 = gravarVersoes(historico, 1, 4, null);
+                fimVersao4 = Files.size(HistoricoMovimentacoes.listarSegmentos(diretorio).get(0));
+                gravarVersoes(historico, 5, 5, v4);
+            }
+            assertEquals(5, consultar(leitor, tudo).get("total").asInt());
+
+            // Como após uma gravação com falha: o último registro sai do arquivo
+            Path segmento = HistoricoMovimentacoes.listarSegmentos(diretorio).get(0);
+            try (FileChannel canal = FileChannel.open(segmento, StandardOpenOption.WRITE)) {
+                canal.truncate(fimVersao4);
+            }
+            assertEquals(4, consultar(leitor, tudo).get("total").asInt());
+
+            // Outra versão 5 ocupa o lugar da descartada
+            try (HistoricoMovimentacoes historico = HistoricoMovimentacoes.abrir(diretorio)) {
+                historico.gravar(v4.sucessor(lista(6), 9_000));
+            }
+            JsonNode registros = consultar(leitor, tudo).get("registros");
+            assertEquals(5, registros.size());
+            assertEquals(9_000, registros.get(4).get("obtidoEm").asLong());
+            assertEquals("NAVIO 6", registros.get(4).get("adicionadas").get(1).get("navio").asText());
+        }
+    }
+
+    @Test
+    @DisplayName("Parâmetros devem aceitar epoch, ISO-8601 e dd/MM/aaaa")
+    void deveInterpretarParametros() {
+        long inicioDia = LocalDate.of(2026, 2, 21).atStartOfDay(ConsultaHistorico.FUSO).toInstant().toEpochMilli();
+
+        ConsultaHistorico dia = ConsultaHistorico.de("2026-02-21", "21/02/2026", null, 0);
+        assertEquals(inicioDia, dia.de());
+        assertEquals(inicioDia + 24L * 60 * 60 * 1000 - 1, dia.ate());
+
+        ConsultaHistorico hora = ConsultaHistorico.de("2026-02-21T08:00", "2026-02-21T11:00:00Z", "", 0);
+        assertEquals(inicioDia + 8L * 60 * 60 * 1000, hora.de());
+        assertNull(hora.berco());
+
+        ConsultaHistorico padrao = ConsultaHistorico.de(null, "5000", null, 0);
+        assertEquals(5000 - ConsultaHistorico.PERIODO_PADRAO_MS, padrao.de());
+
+        assertThrows(IllegalArgumentException.class, () -> ConsultaHistorico.de("ontem", null, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> ConsultaHistorico.de("2000", "1000", null, 0));
+    }
+
+    private static JsonNode consultar(LeitorHistorico leitor, ConsultaHistorico consulta) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        long total = leitor.escrever(consulta, saida);
+        JsonNode resposta = MAPPER.readTree(saida.toByteArray());
+        assertEquals(total, resposta.get("total").asLong());
+        return resposta;
+    }
+
+    /**
+     * Grava as versões {@code de..ate}, obtidas em {@code versão × 1000} ms.
+     * Cada versão altera o horário de ALFA e acrescenta um navio; a cada 10
+     * versões o navio novo vai para o TVIP.
+     */
+    private static MovimentacaoSnapshot gravarVersoes(
+        HistoricoMovimentacoes historico,
+        int de,
+        int ate,
+        MovimentacaoSnapshot anterior
+    ) {
+        MovimentacaoSnapshot atual = anterior;
+        for (int versao = de; versao <= ate; versao++) {
+            MovimentacaoSnapshot proximo = atual == null
+                ? new MovimentacaoSnapshot(lista(versao), versao * 1_000L)
+                : atual.sucessor(lista(versao), versao * 1_000L);
+            historico.snapshotPublicado(atual, proximo);
+            atual = proximo;
+        }
+        return atual;
+    }
+
+    private static List<NavioMovimentacao> lista(int versao) {
+        List<NavioMovimentacao> lista = new ArrayList<>();
+        lista.add(new NavioMovimentacao("21/02/2026", versao + ":00", "Entrada", "201", "ALFA", "Programado"));
+        for (int i = 2; i <= versao; i++) {
+            String berco = i % 10 == 0 ? "TVIP" : "30" + (i % 5);
+            lista.add(new NavioMovimentacao("21/02/2026", "12:00", "Saída", berco, "NAVIO " + i, "Confirmado"));
+        }
+        return lista;
+    }
+}
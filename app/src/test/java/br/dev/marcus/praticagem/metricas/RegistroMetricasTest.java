@@ -0,0 +1,115 @@
+package br.dev.marcus.praticagem.metricas;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para {@link RegistroMetricas}, {@link Histograma} e {@link MetricasHttp}.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+class RegistroMetricasTest {
+
+    @Test
+    @DisplayName("Histograma deve acumular as faixas e somar as durações")
+    void deveAcumularFaixas() {
+        Histograma histograma = new Histograma(new double[] {0.01, 0.1, 1});
+
+        histograma.registrar(5_000_000);      // 5 ms
+        histograma.registrar(10_000_000);     // 10 ms: limite é inclusivo (le)
+        histograma.registrar(50_000_000);     // 50 ms
+        histograma.registrar(3_000_000_000L); // 3 s: só +Inf
+
+        assertArrayEquals(new long[] {2, 3, 3, 4}, histograma.acumuladas());
+        assertEquals(4, histograma.contagem());
+        assertEquals(3.065, histograma.somaSegundos(), 1e-9);
+
+        assertThrows(IllegalArgumentException.class, () -> new Histograma(new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> new Histograma(new double[] {1, 0.5}));
+    }
+
+    @Test
+    @DisplayName("Exportação deve seguir o formato texto do Prometheus")
+    void deveExportarNoFormatoPrometheus() {
+        RegistroMetricas registro = new RegistroMetricas();
+        Histograma parse = new Histograma(new double[] {0.0005, 0.25});
+        parse.registrar(100_000_000);
+
+        registro.contador("app_bytes_total", "Bytes baixados", () -> 4096);
+        registro.medidor("app_idade_segundos", "Idade do snapshot", () -> 1.5);
+        registro.medidor("app_sem_valor", "Ainda sem dados", () -> Double.NaN);
+        registro.contador("app_leituras_total", "Leituras", "resultado", Map.<String, LongSupplier>of(
+            "falta", () -> 1, "acerto", () -> 9
+        ));
+        registro.histograma("app_parse_segundos", "Duração do parse", parse);
+
+        String texto = registro.exportar();
+
+        assertTrue(texto.startsWith(
+            "# HELP app_bytes_total Bytes baixados\n"
+                + "# TYPE app_bytes_total counter\n"
+                + "app_bytes_total 4096\n"
+                + "# HELP app_idade_segundos Idade do snapshot\n"
+                + "# TYPE app_idade_segundos gauge\n"
+                + "app_idade_segundos 1.5\n"
+                + "# HELP app_sem_valor Ainda sem dados\n"
+                + "# TYPE app_sem_valor gauge\n"
+                + "# HELP app_leituras_total Leituras\n"
+                + "# TYPE app_leituras_total counter\n"
+                + "app_leituras_total{resultado=\"acerto\"} 9\n"
+                + "app_leituras_total{resultado=\"falta\"} 1\n"
+        ), texto);
+        assertTrue(texto.endsWith(
+            "# TYPE app_parse_segundos histogram\n"
+                + "app_parse_segundos_bucket{le=\"0.0005\"} 0\n"
+                + "app_parse_segundos_bucket{le=\"0.25\"} 1\n"
+                + "app_parse_segundos_bucket{le=\"+Inf\"} 1\n"
+                + "app_parse_segundos_sum 0.1\n"
+                + "app_parse_segundos_count 1\n"
+        ), texto);
+    }
+
+    @Test
+    @DisplayName("Nomes inválidos ou repetidos devem ser rejeitados")
+    void deveRejeitarNomesInvalidos() {
+        RegistroMetricas registro = new RegistroMetricas();
+        registro.contador("app_total", "Total", () -> 0);
+
+        assertThrows(IllegalArgumentException.class, () -> registro.contador("app_total", "Outro", () -> 1));
+        assertThrows(IllegalArgumentException.class, () -> registro.medidor("app-idade", "Idade", () -> 0));
+        assertThrows(IllegalArgumentException.class, () -> registro.medidor("1app", "Idade", () -> 0));
+    }
+
+    @Test
+    @DisplayName("Latência HTTP deve ser agrupada pelo padrão da rota, ignorando as de conexão longa")
+    void deveAgruparLatenciaPorRota() {
+        MetricasHttp metricas = new MetricasHttp(Set.of("/movimentacoes/stream"));
+        RegistroMetricas registro = new RegistroMetricas();
+        registro.histograma("app_http_segundos", "Latência", "rota", metricas::porRota);
+
+        metricas.registrar("/movimentacoes", 200_000);
+        metricas.registrar("/movimentacoes", 3_000_000);
+        metricas.registrar("", 100_000);
+        metricas.registrar("/movimentacoes/stream", 60_000_000_000L);
+
+        assertEquals(Set.of("/movimentacoes", MetricasHttp.ROTA_OUTRAS), metricas.porRota().keySet());
+        assertEquals(2, metricas.porRota().get("/movimentacoes").contagem());
+
+        String texto = registro.exportar();
+        assertTrue(texto.contains("app_http_segundos_bucket{rota=\"/movimentacoes\",le=\"0.0005\"} 1\n"), texto);
+        assertTrue(texto.contains("app_http_segundos_count{rota=\"outras\"} 1\n"), texto);
+        assertFalse(texto.contains("stream"), texto);
+    }
+}
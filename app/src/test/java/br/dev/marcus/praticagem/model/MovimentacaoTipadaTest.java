@@ -0,0 +1,118 @@
+package br.dev.marcus.praticagem.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.dev.marcus.praticagem.service.MovimentacaoSnapshot;
+
+/**
+ * Testes unitários para {@link MovimentacaoTipada}, {@link TipoManobra},
+ * {@link SituacaoMovimentacao} e {@link TabelaBercos}.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+class MovimentacaoTipadaTest {
+
+    @Test
+    @DisplayName("Deve converter data e horário do site em minuto epoch no fuso do porto")
+    void deveInterpretarDataEHorario() {
+        MovimentacaoTipada tipada = tipar("23/02/2026", "08:00 ETB", "Entrada", "PNAVE 01", "Atracado");
+
+        long esperado = ZonedDateTime.of(2026, 2, 23, 8, 0, 0, 0, MovimentacaoTipada.FUSO).toEpochSecond() / 60;
+        assertEquals(esperado, tipada.minuto());
+        assertTrue(tipada.horarioDefinido());
+        assertEquals(LocalDateTime.of(2026, 2, 23, 8, 0), tipada.dataHora());
+        assertEquals(tipada.minuto(), MovimentacaoTipada.minutoDe(esperado * 60_000 + 59_999));
+    }
+
+    @Test
+    @DisplayName("Sem horário, o minuto é o início do dia; sem data, SEM_DATA")
+    void deveTratarHorarioEDataAusentes() {
+        MovimentacaoTipada tbc = tipar("22/02/2026", "TBC", "Saída", "JBS", "Navegando para Itajaí");
+        assertFalse(tbc.horarioDefinido());
+        assertEquals(LocalDateTime.of(2026, 2, 22, 0, 0), tbc.dataHora());
+
+        MovimentacaoTipada semData = tipar("31/02/2026", "10:00", "Saída", "JBS", "");
+        assertEquals(MovimentacaoTipada.SEM_DATA, semData.minuto());
+        assertFalse(semData.temData());
+        assertNull(semData.dataHora());
+
+        assertFalse(tipar("22/02/2026", "25:00", "", "", "").horarioDefinido());
+        assertFalse(tipar("22-02-2026", "10:00", "", "", "").temData());
+    }
+
+    @Test
+    @DisplayName("Manobra e situação devem virar enums, tolerando caixa, acento e complemento")
+    void deveReconhecerManobraESituacao() {
+        assertEquals(TipoManobra.ENTRADA, TipoManobra.de("entrada"));
+        assertEquals(TipoManobra.SAIDA, TipoManobra.de("Saída"));
+        assertEquals(TipoManobra.DESATRACACAO, TipoManobra.de("Desatracação"));
+        assertEquals(TipoManobra.DESCONHECIDA, TipoManobra.de(null));
+
+        assertEquals(SituacaoMovimentacao.NAVEGANDO, SituacaoMovimentacao.de("Navegando para Itajaí"));
+        assertEquals(SituacaoMovimentacao.ATRACADO, SituacaoMovimentacao.de("Atracados"));
+        assertEquals(SituacaoMovimentacao.DRIFTING, SituacaoMovimentacao.de("Drifting"));
+        assertEquals(SituacaoMovimentacao.DESCONHECIDA, SituacaoMovimentacao.de("???"));
+    }
+
+    @Test
+    @DisplayName("Berços iguais depois de normalizados devem receber o mesmo código e a mesma instância")
+    void deveInternarBercos() {
+        int codigo = TabelaBercos.codigo("PNAVE 01");
+
+        assertEquals(codigo, TabelaBercos.codigo(" pnave 01 "));
+        assertEquals(codigo, TabelaBercos.buscar("Pnave 01"));
+        assertSame(TabelaBercos.nome(codigo), tipar("21/02/2026", "", "", "PNAVE 01", "").bercoNormalizado());
+        assertEquals("pnave 01", TabelaBercos.nome(codigo));
+        assertEquals(TabelaBercos.SEM_CODIGO, TabelaBercos.buscar("berço que nunca apareceu"));
+    }
+
+    @Test
+    @DisplayName("Ordem cronológica deve pôr horário indefinido no fim do dia e sem data no fim")
+    void deveOrdenarCronologicamente() {
+        List<MovimentacaoTipada> lista = new ArrayList<>(List.of(
+            tipar("", "", "", "", ""),
+            tipar("22/02/2026", "TBC", "", "", ""),
+            tipar("22/02/2026", "03:00 ETS", "", "", ""),
+            tipar("21/02/2026", "21:00 ETS", "", "", "")
+        ));
+
+        lista.sort(MovimentacaoTipada.CRONOLOGICA);
+
+        assertEquals("21:00 ETS", lista.get(0).movimentacao().horario());
+        assertEquals("03:00 ETS", lista.get(1).movimentacao().horario());
+        assertEquals("TBC", lista.get(2).movimentacao().horario());
+        assertFalse(lista.get(3).temData());
+    }
+
+    @Test
+    @DisplayName("Snapshot deve montar a lista tipada uma vez e reaproveitá-la quando nada muda")
+    void snapshotDeveReaproveitarListaTipada() {
+        List<NavioMovimentacao> dados = List.of(
+            new NavioMovimentacao("21/02/2026", "12:45 ATB", "Entrada", "JBS 1", "IRENES WISDOM", "Manobrando")
+        );
+        MovimentacaoSnapshot snapshot = new MovimentacaoSnapshot(dados, 0);
+
+        assertEquals(1, snapshot.tipadas().size());
+        assertEquals(SituacaoMovimentacao.MANOBRANDO, snapshot.tipadas().get(0).situacao());
+        assertSame(snapshot.tipadas(), snapshot.renovado(1).tipadas());
+        assertSame(snapshot.tipadas(), snapshot.sucessor(new ArrayList<>(dados), 2).tipadas());
+    }
+
+    private static MovimentacaoTipada tipar(String data, String horario, String manobra, String berco, String situacao) {
+        return MovimentacaoTipada.de(new NavioMovimentacao(data, horario, manobra, berco, "NAVIO", situacao));
+    }
+}
@@ -3,9 +3,12 @@ package br.dev.marcus.praticagem.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.jsoup.Jsoup;
@@ -185,4 +188,31 @@ public class HtmlParserTest {
                 () -> parser.parse(document));
     }
 
+    @Test
+    void deveReaproveitarEsquemaEnquantoCabecalhoNaoMudar() {
+
+        List<String> cabecalho = List.of("Data", "Horário", "Manobra", "Berço", "Navio", "Situação");
+        List<String> outroLayout = List.of("Navio", "Data", "Situação", "Horário", "Berço", "Manobra");
+
+        HtmlParser parser = new HtmlParser();
+        EsquemaTabela primeiro = parser.esquemaPara(cabecalho);
+
+        assertSame(primeiro, parser.esquemaPara(new ArrayList<>(cabecalho)));
+        assertEquals(4, primeiro.navio());
+        assertEquals(0, parser.esquemaPara(outroLayout).navio());
+        assertNull(parser.esquemaPara(List.of("Berço", "Navio")));
+    }
+
+    @Test
+    void deveUsarPrimeiraColunaQueContemAPalavraChave() {
+
+        EsquemaTabela esquema = EsquemaTabela.descobrir(List.of(
+            "Data", "Horário", "Horário Real", "Manobra", "Berço", "Navio", "Navio Anterior", "Situação"
+        ));
+
+        assertNotNull(esquema);
+        assertEquals(1, esquema.horario());
+        assertEquals(5, esquema.navio());
+    }
+
 }
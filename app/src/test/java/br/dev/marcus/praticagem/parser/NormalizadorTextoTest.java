@@ -0,0 +1,55 @@
+package br.dev.marcus.praticagem.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+public class NormalizadorTextoTest {
+
+    @Test
+    void deveNormalizarCabecalhosDaPraticagem() {
+        assertEquals("horario", NormalizadorTexto.normalizar("Horário"));
+        assertEquals("berco", NormalizadorTexto.normalizar("  BERÇO "));
+        assertEquals("situacao da manobra", NormalizadorTexto.normalizar("Situação da Manobra"));
+        assertEquals("", NormalizadorTexto.normalizar(null));
+    }
+
+    @Test
+    void caminhoRapidoDeveEquivalerAoNormalizerParaTodoLatin1() {
+        for (char c = 0; c < 256; c++) {
+            String texto = " x" + c + "y ";
+            assertEquals(referencia(texto), NormalizadorTexto.dobrar(texto), "char " + (int) c);
+        }
+    }
+
+    @Test
+    void deveTratarAcentosDecompostosETextoForaDoLatin1() {
+        assertEquals("berco", NormalizadorTexto.dobrar("berc\u0327o"));
+        assertEquals("aeg", NormalizadorTexto.dobrar("ǺĒĞ"));
+        assertEquals(referencia("Navio Ω"), NormalizadorTexto.dobrar("Navio Ω"));
+    }
+
+    @Test
+    void cacheDeveDevolverMesmaInstancia() {
+        String primeiro = NormalizadorTexto.normalizar("Calado Máximo");
+        String segundo = NormalizadorTexto.normalizar("Calado Máximo");
+
+        assertSame(primeiro, segundo);
+        assertTrue(NormalizadorTexto.tamanhoCache() <= NormalizadorTexto.LIMITE_CACHE);
+    }
+
+    /**
+     * Implementação original de HtmlParser.normalizar.
+     */
+    private static String referencia(String texto) {
+        return Normalizer.normalize(texto, Normalizer.Form.NFD)
+            .replaceAll("\\p{InCombiningDiacriticalMarks}+", "")
+            .trim()
+            .toLowerCase(Locale.ROOT);
+    }
+}
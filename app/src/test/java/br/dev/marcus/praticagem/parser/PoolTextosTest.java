@@ -0,0 +1,109 @@
+package br.dev.marcus.praticagem.parser;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.Test;
+
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+
+public class PoolTextosTest {
+
+    @Test
+    void deveDevolverMesmaInstanciaParaTextosIguais() {
+        String primeiro = PoolTextos.canonico(new String("MSC CARLOTTA"));
+        String segundo = PoolTextos.canonico(new String("MSC CARLOTTA"));
+
+        assertSame(primeiro, segundo);
+        assertNull(PoolTextos.canonico(null));
+        assertEquals("", PoolTextos.canonico(new String("")));
+    }
+
+    @Test
+    void deveContarAcertos() {
+        PoolTextos.Estatisticas antes = PoolTextos.estatisticas();
+
+        PoolTextos.canonico(new String("PNAVE 01 - teste de métricas"));
+        PoolTextos.canonico(new String("PNAVE 01 - teste de métricas"));
+        PoolTextos.canonico(new String("PNAVE 01 - teste de métricas"));
+
+        PoolTextos.Estatisticas depois = PoolTextos.estatisticas();
+        assertTrue(depois.consultas() - antes.consultas() >= 3);
+        assertTrue(depois.acertos() - antes.acertos() >= 2);
+        assertTrue(depois.taxaAcerto() > 0 && depois.taxaAcerto() <= 1);
+    }
+
+    @Test
+    void bytesPoupadosDeveContarSoAsInstanciasRepetidasDaLista() {
+        String berco = PoolTextos.canonico(new String("JBS 1"));
+        List<NavioMovimentacao> lista = List.of(
+            new NavioMovimentacao("21/02/2026", "", "Entrada", berco, "EUROPE", "Programado"),
+            new NavioMovimentacao("22/02/2026", "", "Saída", berco, "COPIAPO", "Atracado")
+        );
+
+        // Só o berço se repete (mesma instância); vazios não contam
+        assertEquals(PoolTextos.tamanhoEstimado("JBS 1"), PoolTextos.bytesPoupados(lista));
+
+        // Textos iguais em instâncias diferentes não foram poupados
+        List<NavioMovimentacao> semPool = List.of(
+            new NavioMovimentacao("", "", "", new String("JBS 1"), "", ""),
+            new NavioMovimentacao("", "", "", new String("JBS 1"), "", "")
+        );
+        assertEquals(0, PoolTextos.bytesPoupados(semPool));
+
+        // Calcular de novo a mesma lista não acumula
+        assertEquals(PoolTextos.bytesPoupados(lista), PoolTextos.bytesPoupados(lista));
+    }
+
+    @Test
+    void tamanhoEstimadoDeveConsiderarCompactStrings() {
+        // 24 (String) + 16 (array) + 8 bytes Latin-1
+        assertEquals(48, PoolTextos.tamanhoEstimado("Atracado"));
+        // 24 + 16 + 1 → alinhado a 24
+        assertEquals(48, PoolTextos.tamanhoEstimado("x"));
+        // Fora do Latin-1: dois bytes por caractere
+        assertEquals(24 + 32, PoolTextos.tamanhoEstimado("Ω1234567"));
+    }
+
+    @Test
+    void deveEsvaziarAoAtingirOLimite() {
+        PoolTextos.limpar();
+        long descartesAntes = PoolTextos.estatisticas().descartes();
+
+        String primeiro = PoolTextos.canonico(new String("valor-0"));
+        for (int i = 1; i <= PoolTextos.LIMITE; i++) {
+            PoolTextos.canonico("valor-" + i);
+        }
+
+        assertTrue(PoolTextos.estatisticas().entradas() <= PoolTextos.LIMITE);
+        assertEquals(descartesAntes + 1, PoolTextos.estatisticas().descartes());
+        // Depois do descarte, uma cópia nova vira a instância canônica
+        assertNotSame(primeiro, PoolTextos.canonico(new String("valor-0")));
+        PoolTextos.limpar();
+    }
+
+    @Test
+    void parsesSucessivosDevemCompartilharOsTextos() {
+        String html = """
+            <table>
+              <tr><th>Data</th><th>Horário</th><th>Manobra</th><th>Berço</th><th>Navio</th><th>Situação</th></tr>
+              <tr><td>21/02/2026</td><td>TBC</td><td>Entrada</td><td>JBS 1</td><td>EUROPE</td><td>Programado</td></tr>
+              <tr><td>21/02/2026</td><td>TBC</td><td>Saída</td><td>JBS 1</td><td>COPIAPO</td><td>Programado</td></tr>
+            </table>
+            """;
+
+        List<NavioMovimentacao> primeira = new HtmlParser().parse(Jsoup.parse(html));
+        List<NavioMovimentacao> segunda = new StreamingHtmlParser().parse(html.getBytes(UTF_8), UTF_8);
+
+        assertSame(primeira.get(0).data(), primeira.get(1).data());
+        assertSame(primeira.get(0).berco(), segunda.get(1).berco());
+        assertSame(primeira.get(0).navio(), segunda.get(0).navio());
+    }
+}
@@ -0,0 +1,152 @@
+package br.dev.marcus.praticagem.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.Test;
+
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+
+public class StreamingHtmlParserTest {
+
+    @Test
+    void deveProduzirMesmoResultadoQueModoDom() throws Exception {
+
+        byte[] html;
+        try (InputStream input = getClass()
+                .getClassLoader()
+                .getResourceAsStream("html/praticagem_sample.html")) {
+            assertNotNull(input);
+            html = input.readAllBytes();
+        }
+
+        List<NavioMovimentacao> dom = new HtmlParser()
+            .parse(Jsoup.parse(new String(html, StandardCharsets.UTF_8)));
+        List<NavioMovimentacao> streaming = new StreamingHtmlParser()
+            .parse(html, StandardCharsets.UTF_8);
+
+        assertFalse(streaming.isEmpty());
+        assertEquals(dom, streaming);
+    }
+
+    @Test
+    void deveFuncionarMesmoComOrdemAlteradaDasColunas() {
+
+        String html = """
+            <table>
+                <tr>
+                    <th>Navio</th>
+                    <th>Data</th>
+                    <th>Situação</th>
+                    <th>Horário</th>
+                    <th>Berço</th>
+                    <th>Manobra</th>
+                </tr>
+                <tr>
+                    <td>NAVIO TESTE</td>
+                    <td>21/02/2026</td>
+                    <td>CONFIRMADA</td>
+                    <td>10:30</td>
+                    <td>201</td>
+                    <td>ATRACACAO</td>
+                </tr>
+            </table>
+        """;
+
+        List<NavioMovimentacao> resultado = parse(html);
+
+        assertEquals(1, resultado.size());
+        assertEquals("NAVIO TESTE", resultado.get(0).navio());
+        assertEquals("ATRACACAO", resultado.get(0).manobra());
+    }
+
+    @Test
+    void deveIgnorarTabelasSemColunasEssenciaisENormalizarTexto() {
+
+        String html = """
+            <table><tr><th>Berço</th><th>Navio</th></tr><tr><td>X</td><td>Y</td></tr></table>
+            <script>var s = "<table><tr><th>data</th></tr></table>";</script>
+            <!-- <table> comentada </table> -->
+            <TABLE class="mov">
+                <thead><TR><th>Data</th><th>Horário</th><th>Manobra</th>
+                    <th>Berço</th><th>Navio</th><th>Situação</th></TR></thead>
+                <tbody>
+                <tr><td>21/02/2026<td>12:45
+                    ATB<td>Entrada<td>JBS&nbsp;1<td><span>MSC</span> <b>ANNA</b><td>Programada<br>Confirmada
+                </tbody>
+            </TABLE>
+        """;
+
+        List<NavioMovimentacao> resultado = parse(html);
+
+        assertEquals(1, resultado.size());
+        NavioMovimentacao mov = resultado.get(0);
+        assertEquals("12:45 ATB", mov.horario());
+        assertEquals("JBS 1", mov.berco());
+        assertEquals("MSC ANNA", mov.navio());
+        assertEquals("Programada Confirmada", mov.situacao());
+    }
+
+    @Test
+    void devePararNoFechamentoDaTabela() {
+
+        // Tabela malformada depois da tabela de movimentação não deve ser lida
+        String html = """
+            <table>
+                <tr><th>Data</th><th>Horário</th><th>Manobra</th>
+                    <th>Berço</th><th>Navio</th><th>Situação</th></tr>
+                <tr><td>21/02/2026</td><td>10:30</td><td>Entrada</td>
+                    <td>201</td><td>NAVIO</td><td>Atracado</td></tr>
+            </table>
+            <table><tr><td>lixo
+        """;
+
+        assertEquals(1, parse(html).size());
+    }
+
+    @Test
+    void deveFalharSeColunaEssencialForRemovida() {
+
+        String html = """
+            <table>
+                <tr><th>Data</th><th>Horário</th><th>Berço</th><th>Navio</th><th>Situação</th></tr>
+                <tr><td>21/02/2026</td><td>10:30</td><td>201</td><td>NAVIO</td><td>OK</td></tr>
+            </table>
+        """;
+
+        assertThrows(IllegalStateException.class, () -> parse(html));
+    }
+
+    @Test
+    void semCharsetDeclaradoDeveDetectarPeloMetaComoModoDom() {
+
+        byte[] html = """
+            <html><head><meta http-equiv="Content-Type" content="text/html; charset=ISO-8859-1"></head><body>
+            <table>
+                <tr><th>Data</th><th>Horário</th><th>Manobra</th>
+                    <th>Berço</th><th>Navio</th><th>Situação</th></tr>
+                <tr><td>21/02/2026</td><td>10:30</td><td>Desatracação</td>
+                    <td>201</td><td>NAVIO</td><td>Manobrando</td></tr>
+            </table></body></html>
+        """.getBytes(StandardCharsets.ISO_8859_1);
+
+        List<NavioMovimentacao> streaming = new StreamingHtmlParser().parse(html, null);
+        List<NavioMovimentacao> dom = new HtmlParser().parse(html, null);
+
+        assertEquals(1, streaming.size());
+        assertEquals("Desatracação", streaming.get(0).manobra());
+        assertEquals(dom, streaming);
+        assertEquals(StandardCharsets.UTF_8, StreamingHtmlParser.detectarCharset("<table>".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<NavioMovimentacao> parse(String html) {
+        return new StreamingHtmlParser().parse(html.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+}
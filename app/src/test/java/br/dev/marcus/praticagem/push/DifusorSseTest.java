@@ -0,0 +1,303 @@
+package br.dev.marcus.praticagem.push;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.dev.marcus.praticagem.fetcher.HtmlFetcher;
+import br.dev.marcus.praticagem.fetcher.ResultadoFetch;
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+import br.dev.marcus.praticagem.parser.HtmlParser;
+import br.dev.marcus.praticagem.service.MovimentacaoService;
+
+/**
+ * Testes unitários para o {@link DifusorSse}.
+ *
+ * <p>O site é substituído por uma lista controlada pelo teste, e os clientes
+ * por canais em memória que registram os eventos recebidos.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+class DifusorSseTest {
+
+    private static final NavioMovimentacao ALFA = movimentacao("ALFA", "10:00", "Programado");
+    private static final NavioMovimentacao BRAVO = movimentacao("BRAVO", "11:00", "Programado");
+    private static final NavioMovimentacao CHARLIE = movimentacao("CHARLIE", "12:00", "Programado");
+
+    private final AtomicReference<List<NavioMovimentacao>> site = new AtomicReference<>(List.of());
+
+    private final HtmlFetcher fetcherFalso = new HtmlFetcher("https://example.com", 1000, 1, 0) {
+        @Override
+        public ResultadoFetch fetchCondicional() {
+            String html = "<table><tr><td>" + System.nanoTime() + "</td></tr></table>";
+            return ResultadoFetch.modificado(html.getBytes(StandardCharsets.UTF_8), "UTF-8", "");
+        }
+    };
+
+    private final HtmlParser parserFalso = new HtmlParser() {
+        @Override
+        public List<NavioMovimentacao> parse(Document document) {
+            return site.get();
+        }
+    };
+
+    @Test
+    @DisplayName("Cliente deve receber o snapshot ao conectar e depois só as mudanças")
+    void deveEnviarSnapshotEDepoisMudancas() throws Exception {
+        MovimentacaoService service = new MovimentacaoService(fetcherFalso, parserFalso);
+        DifusorSse difusor = new DifusorSse(service, 60_000);
+        difusor.iniciar();
+
+        site.set(List.of(ALFA, BRAVO));
+        service.atualizar();
+
+        CanalFalso canal = new CanalFalso();
+        difusor.conectar(canal);
+        aguardarEventos(canal, 1);
+        assertEquals(DifusorSse.EVENTO_SNAPSHOT, canal.eventos.get(0)[0]);
+        assertTrue(canal.eventos.get(0)[1].contains("\"navio\":\"BRAVO\""));
+
+        site.set(List.of(movimentacao("ALFA", "10:30", "Atracado"), CHARLIE));
+        service.atualizar();
+        aguardarEventos(canal, 2);
+
+        String[] mudancas = canal.eventos.get(1);
+        assertEquals(DifusorSse.EVENTO_MUDANCAS, mudancas[0]);
+        assertTrue(mudancas[1].matches(
+            "\\{\"adicionadas\":\\[\\{[^]]*\"CHARLIE\"[^]]*}],"
+                + "\"removidas\":\\[\\{[^]]*\"BRAVO\"[^]]*}],"
+                + "\"alteradas\":\\[\\{[^]]*\"10:30\"[^]]*}]}"
+        ), mudancas[1]);
+
+        difusor.encerrar();
+    }
+
+    @Test
+    @DisplayName("Snapshot renovado sem mudanças não deve gerar evento")
+    void semMudancasNaoDeveDifundir() throws Exception {
+        MovimentacaoService service = new MovimentacaoService(fetcherFalso, parserFalso);
+        DifusorSse difusor = new DifusorSse(service, 60_000);
+        difusor.iniciar();
+
+        CanalFalso canal = new CanalFalso();
+        difusor.conectar(canal);
+
+        site.set(List.of(ALFA));
+        service.atualizar();
+        aguardarEventos(canal, 1);
+
+        // Mesmos dados, nova lista: o ETag é igual e nada é enviado
+        site.set(List.of(movimentacao("ALFA", "10:00", "Programado")));
+        service.atualizar();
+        site.set(List.of(ALFA, BRAVO));
+        service.atualizar();
+        aguardarEventos(canal, 2);
+
+        assertEquals(DifusorSse.EVENTO_SNAPSHOT, canal.eventos.get(0)[0]);
+        assertEquals(DifusorSse.EVENTO_MUDANCAS, canal.eventos.get(1)[0]);
+        assertEquals(2, canal.eventos.size());
+        assertEquals(1, difusor.getDifusoes());
+
+        difusor.encerrar();
+    }
+
+    @Test
+    @DisplayName("Cliente cuja escrita falha deve ser removido")
+    void falhaDeEscritaDeveRemoverCliente() throws Exception {
+        MovimentacaoService service = new MovimentacaoService(fetcherFalso, parserFalso);
+        DifusorSse difusor = new DifusorSse(service, 60_000);
+        difusor.iniciar();
+
+        CanalFalso bom = new CanalFalso();
+        CanalFalso quebrado = new CanalFalso();
+        quebrado.falhar = true;
+        difusor.conectar(bom);
+        difusor.conectar(quebrado);
+        aguardar(() -> difusor.getClientesConectados() == 2);
+
+        site.set(List.of(ALFA));
+        service.atualizar();
+        aguardarEventos(bom, 1);
+
+        aguardar(() -> difusor.getClientesConectados() == 1);
+        difusor.encerrar();
+    }
+
+    @Test
+    @DisplayName("Cliente que fica para trás não deve atrasar os demais e deve ser descartado")
+    void clienteLentoDeveSerDescartadoPelaFilaCheia() throws Exception {
+        MovimentacaoService service = new MovimentacaoService(fetcherFalso, parserFalso);
+        DifusorSse difusor = new DifusorSse(service, 60_000);
+        difusor.iniciar();
+
+        CanalFalso rapido = new CanalFalso();
+        CanalFalso lento = new CanalFalso();
+        lento.bloquear = new CountDownLatch(1);
+        difusor.conectar(rapido);
+        difusor.conectar(lento);
+        aguardar(() -> difusor.getClientesConectados() == 2);
+
+        // Primeiro evento prende a escrita do lento; os seguintes enchem a fila dele
+        int atualizacoes = DifusorSse.LIMITE_PENDENTES + 2;
+        for (int i = 0; i < atualizacoes; i++) {
+            site.set(List.of(movimentacao("ALFA", "10:" + (10 + i), "Programado")));
+            service.atualizar();
+        }
+        aguardarEventos(rapido, atualizacoes);
+
+        aguardar(() -> difusor.getClientesDescartados() == 1);
+        assertEquals(1, difusor.getClientesConectados());
+        assertTrue(lento.fechado);
+        difusor.encerrar();
+    }
+
+    @Test
+    @DisplayName("Escrita parada por mais de um heartbeat deve descartar o cliente")
+    void escritaParadaDeveDescartarCliente() throws Exception {
+        MovimentacaoService service = new MovimentacaoService(fetcherFalso, parserFalso);
+        DifusorSse difusor = new DifusorSse(service, 50);
+        difusor.iniciar();
+
+        CanalFalso rapido = new CanalFalso();
+        CanalFalso lento = new CanalFalso();
+        lento.bloquear = new CountDownLatch(1);
+        difusor.conectar(rapido);
+        difusor.conectar(lento);
+        aguardar(() -> difusor.getClientesConectados() == 2);
+
+        site.set(List.of(ALFA));
+        service.atualizar();
+        aguardarEventos(rapido, 1);
+
+        aguardar(() -> difusor.getClientesDescartados() == 1);
+        assertTrue(lento.fechado);
+        assertEquals(1, difusor.getClientesConectados());
+        aguardar(() -> rapido.comentarios.get() >= 2);
+        difusor.encerrar();
+    }
+
+    @Test
+    @DisplayName("Muitos clientes lentos não devem criar uma thread de escrita por cliente")
+    void threadsDeEscritaDevemSerLimitadas() throws Exception {
+        int antes = threadsDeEscrita();
+        MovimentacaoService service = new MovimentacaoService(fetcherFalso, parserFalso);
+        DifusorSse difusor = new DifusorSse(service, 50);
+        difusor.iniciar();
+
+        int lentos = 40;
+        for (int i = 0; i < lentos; i++) {
+            CanalFalso lento = new CanalFalso();
+            lento.bloquear = new CountDownLatch(1);
+            difusor.conectar(lento);
+        }
+        CanalFalso rapido = new CanalFalso();
+        difusor.conectar(rapido);
+        aguardar(() -> difusor.getClientesConectados() == lentos + 1);
+
+        site.set(List.of(ALFA));
+        service.atualizar();
+
+        // Os lentos vão sendo descartados, PoolEscrita.THREADS por vez, até o rápido ter a vez
+        AtomicInteger maximo = new AtomicInteger();
+        aguardar(() -> {
+            maximo.accumulateAndGet(threadsDeEscrita(), Math::max);
+            return rapido.eventos.size() >= 1 && difusor.getClientesDescartados() == lentos;
+        });
+
+        // Threads de difusores de outros testes podem ainda estar terminando
+        assertTrue(maximo.get() - antes <= PoolEscrita.THREADS, "threads de escrita: " + maximo.get());
+        assertEquals(1, difusor.getClientesConectados());
+        difusor.encerrar();
+    }
+
+    // ===== MÉTODOS AUXILIARES =====
+
+    private static int threadsDeEscrita() {
+        int total = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.isAlive() && "sse-escrita".equals(thread.getName())) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Canal em memória: guarda pares [evento, dados].
+     */
+    private static class CanalFalso implements DifusorSse.Canal {
+
+        private final List<String[]> eventos = new CopyOnWriteArrayList<>();
+        private final AtomicInteger comentarios = new AtomicInteger();
+        private volatile boolean falhar;
+        private volatile boolean fechado;
+
+        /**
+         * Se definido, a escrita fica bloqueada (janela TCP cheia) até {@link #fechar()}.
+         */
+        private volatile CountDownLatch bloquear;
+
+        @Override
+        public void enviar(String evento, String dados) {
+            if (falhar) {
+                throw new IllegalStateException("Conexão fechada");
+            }
+            CountDownLatch latch = bloquear;
+            if (latch != null) {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IllegalStateException("Conexão fechada durante a escrita");
+            }
+            eventos.add(new String[] {evento, dados});
+        }
+
+        @Override
+        public void comentar(String texto) {
+            comentarios.incrementAndGet();
+        }
+
+        @Override
+        public void fechar() {
+            fechado = true;
+            CountDownLatch latch = bloquear;
+            if (latch != null) {
+                latch.countDown();
+            }
+        }
+    }
+
+    private static NavioMovimentacao movimentacao(String navio, String horario, String situacao) {
+        return new NavioMovimentacao("21/02/2026", horario, "Entrada", "201", navio, situacao);
+    }
+
+    private static void aguardarEventos(CanalFalso canal, int quantidade) throws InterruptedException {
+        aguardar(() -> canal.eventos.size() >= quantidade);
+    }
+
+    private static void aguardar(java.util.function.BooleanSupplier condicao)
+        throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condicao.getAsBoolean()) {
+            if (System.nanoTime() > limite) {
+                throw new AssertionError("Condição não atendida a tempo");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package br.dev.marcus.praticagem.push;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.dev.marcus.praticagem.fetcher.HtmlFetcher;
+import br.dev.marcus.praticagem.fetcher.ResultadoFetch;
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+import br.dev.marcus.praticagem.parser.HtmlParser;
+import br.dev.marcus.praticagem.service.MovimentacaoService;
+import br.dev.marcus.praticagem.service.MovimentacaoSnapshot;
+
+/**
+ * Testes unitários para o {@link HubWebSocket}.
+ *
+ * <p>As conexões são substituídas por listas em memória com as mensagens recebidas.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+class HubWebSocketTest {
+
+    private final AtomicReference<List<NavioMovimentacao>> site = new AtomicReference<>(List.of());
+
+    private final HtmlFetcher fetcherFalso = new HtmlFetcher("https://example.com", 1000, 1, 0) {
+        @Override
+        public ResultadoFetch fetchCondicional() {
+            String html = "<table><tr><td>" + System.nanoTime() + "</td></tr></table>";
+            return ResultadoFetch.modificado(html.getBytes(StandardCharsets.UTF_8), "UTF-8", "");
+        }
+    };
+
+    private final HtmlParser parserFalso = new HtmlParser() {
+        @Override
+        public List<NavioMovimentacao> parse(Document document) {
+            return site.get();
+        }
+    };
+
+    @Test
+    @DisplayName("Assinatura deve devolver as movimentações atuais que casam com os filtros")
+    void assinarDeveDevolverEstadoAtual() throws Exception {
+        MovimentacaoService service = new MovimentacaoService(fetcherFalso, parserFalso);
+        HubWebSocket hub = new HubWebSocket(service);
+        site.set(List.of(
+            movimentacao("ALFA", "201", "10:00"),
+            movimentacao("BRAVO", "TVIP", "11:00"),
+            movimentacao("CHARLIE", "301", "12:00")
+        ));
+        service.atualizar();
+        hub.iniciar();
+
+        List<String> recebidas = new CopyOnWriteArrayList<>();
+        HubWebSocket.Sessao sessao = hub.abrir(recebidas::add);
+        hub.receber(sessao, "{\"acao\":\"assinar\",\"bercos\":[\"tvip\"],\"navios\":[\"Charlie\"]}");
+        aguardar(() -> recebidas.size() == 1);
+
+        String resposta = recebidas.get(0);
+        assertTrue(resposta.startsWith("{\"tipo\":\"assinaturas\""), resposta);
+        assertTrue(resposta.contains("BRAVO") && resposta.contains("CHARLIE"), resposta);
+        assertFalse(resposta.contains("ALFA"), resposta);
+
+        hub.encerrar();
+    }
+
+    @Test
+    @DisplayName("Cada sessão deve receber apenas as mudanças dos seus filtros")
+    void deveRotearMudancasPorAssinatura() throws Exception {
+        MovimentacaoService service = new MovimentacaoService(fetcherFalso, parserFalso);
+        HubWebSocket hub = new HubWebSocket(service);
+        hub.iniciar();
+        site.set(List.of(movimentacao("ALFA", "201", "10:00"), movimentacao("BRAVO", "TVIP", "11:00")));
+        service.atualizar();
+
+        List<String> berco201 = new CopyOnWriteArrayList<>();
+        List<String> navioBravo = new CopyOnWriteArrayList<>();
+        List<String> semFiltro = new CopyOnWriteArrayList<>();
+        hub.receber(hub.abrir(berco201::add), "{\"acao\":\"assinar\",\"bercos\":[\"201\"]}");
+        hub.receber(hub.abrir(navioBravo::add), "{\"acao\":\"assinar\",\"navios\":[\"BRAVO\"]}");
+        hub.abrir(semFiltro::add);
+        aguardar(() -> berco201.size() == 1 && navioBravo.size() == 1);
+
+        // ALFA muda de horário; BRAVO troca do TVIP para o 201
+        site.set(List.of(movimentacao("ALFA", "201", "10:30"), movimentacao("BRAVO", "201", "11:00")));
+        service.atualizar();
+        aguardar(() -> berco201.size() == 2 && navioBravo.size() == 2);
+
+        assertTrue(berco201.get(1).contains("ALFA") && berco201.get(1).contains("BRAVO"), berco201.get(1));
+        assertTrue(navioBravo.get(1).startsWith("{\"tipo\":\"mudancas\""), navioBravo.get(1));
+        assertFalse(navioBravo.get(1).contains("ALFA"), navioBravo.get(1));
+        assertTrue(semFiltro.isEmpty());
+        assertEquals(2, hub.getMensagensMudancas());
+
+        hub.encerrar();
+    }
+
+    @Test
+    @DisplayName("Cancelar e fechar devem tirar a sessão dos índices")
+    void cancelarDevePararDeReceber() throws Exception {
+        MovimentacaoService service = new MovimentacaoService(fetcherFalso, parserFalso);
+        HubWebSocket hub = new HubWebSocket(service);
+        hub.iniciar();
+
+        List<String> recebidas = new CopyOnWriteArrayList<>();
+        HubWebSocket.Sessao sessao = hub.abrir(recebidas::add);
+        hub.receber(sessao, "{\"acao\":\"assinar\",\"bercos\":[\"201\"]}");
+        hub.receber(sessao, "{\"acao\":\"cancelar\",\"bercos\":[\"201\"]}");
+        hub.receber(sessao, "nada de json");
+        hub.receber(sessao, "null");
+        aguardar(() -> recebidas.size() == 4);
+        assertTrue(recebidas.get(2).startsWith("{\"tipo\":\"erro\""), recebidas.get(2));
+        assertTrue(recebidas.get(3).startsWith("{\"tipo\":\"erro\""), recebidas.get(3));
+
+        site.set(List.of(movimentacao("ALFA", "201", "10:00")));
+        service.atualizar();
+        hub.fechar(sessao);
+        service.atualizar();
+
+        Thread.sleep(50);
+        assertEquals(4, recebidas.size());
+        assertEquals(0, hub.getClientesConectados());
+
+        hub.encerrar();
+    }
+
+    @Test
+    @DisplayName("Snapshot de mesma versão com outra lista deve reindexar as posições")
+    void mesmaVersaoComOutraListaDeveReindexar() throws Exception {
+        MovimentacaoService service = new MovimentacaoService(fetcherFalso, parserFalso);
+        HubWebSocket hub = new HubWebSocket(service);
+        hub.iniciar();
+
+        MovimentacaoSnapshot v1 = new MovimentacaoSnapshot(
+            List.of(movimentacao("ALFA", "201", "10:00"), movimentacao("BRAVO", "TVIP", "11:00")), 0
+        );
+        MovimentacaoSnapshot restaurado = MovimentacaoSnapshot.restaurado(
+            List.of(movimentacao("BRAVO", "TVIP", "11:00"), movimentacao("ALFA", "201", "10:00")), 1, v1.versao()
+        );
+        hub.snapshotPublicado(null, v1);
+        hub.snapshotPublicado(v1, restaurado);
+
+        List<String> recebidas = new CopyOnWriteArrayList<>();
+        hub.receber(hub.abrir(recebidas::add), "{\"acao\":\"assinar\",\"bercos\":[\"201\"]}");
+        aguardar(() -> recebidas.size() == 1);
+
+        assertTrue(recebidas.get(0).contains("ALFA"), recebidas.get(0));
+        assertFalse(recebidas.get(0).contains("BRAVO"), recebidas.get(0));
+
+        hub.encerrar();
+    }
+
+    @Test
+    @DisplayName("Sessão com escrita bloqueada não deve atrasar as outras e deve ser fechada")
+    void sessaoLentaNaoDeveBloquearHub() throws Exception {
+        MovimentacaoService service = new MovimentacaoService(fetcherFalso, parserFalso);
+        HubWebSocket hub = new HubWebSocket(service, 100);
+        hub.iniciar();
+
+        CountDownLatch fechada = new CountDownLatch(1);
+        HubWebSocket.Sessao lenta = hub.abrir(new HubWebSocket.Conexao() {
+            @Override
+            public void enviar(String mensagem) {
+                try {
+                    fechada.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IllegalStateException("Conexão fechada");
+            }
+
+            @Override
+            public void fechar() {
+                fechada.countDown();
+            }
+        });
+        hub.receber(lenta, "{\"acao\":\"assinar\",\"bercos\":[\"201\"]}");
+
+        List<String> recebidas = new CopyOnWriteArrayList<>();
+        hub.receber(hub.abrir(recebidas::add), "{\"acao\":\"assinar\",\"bercos\":[\"201\"]}");
+        aguardar(() -> recebidas.size() == 1);
+
+        aguardar(() -> hub.getSessoesDescartadas() == 1);
+        assertEquals(0, fechada.getCount());
+        assertEquals(1, hub.getClientesConectados());
+
+        hub.encerrar();
+    }
+
+    // ===== MÉTODOS AUXILIARES =====
+
+    private static NavioMovimentacao movimentacao(String navio, String berco, String horario) {
+        return new NavioMovimentacao("21/02/2026", horario, "Entrada", berco, navio, "Programado");
+    }
+
+    private static void aguardar(java.util.function.BooleanSupplier condicao)
+        throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condicao.getAsBoolean()) {
+            if (System.nanoTime() > limite) {
+                throw new AssertionError("Condição não atendida a tempo");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
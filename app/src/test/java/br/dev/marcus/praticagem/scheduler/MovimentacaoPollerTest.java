@@ -0,0 +1,108 @@
+package br.dev.marcus.praticagem.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.dev.marcus.praticagem.fetcher.HtmlFetcher;
+import br.dev.marcus.praticagem.fetcher.ResultadoFetch;
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+import br.dev.marcus.praticagem.parser.HtmlParser;
+import br.dev.marcus.praticagem.service.MovimentacaoService;
+
+/**
+ * Testes unitários para {@link MovimentacaoPoller}.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+class MovimentacaoPollerTest {
+
+    private final AtomicInteger chamadasFetch = new AtomicInteger();
+
+    /**
+     * Fetcher que falha na segunda chamada, para simular instabilidade do site.
+     */
+    private final HtmlFetcher fetcherInstavel = new HtmlFetcher("https://example.com", 1000, 1, 0) {
+        @Override
+        public ResultadoFetch fetchCondicional() {
+            if (chamadasFetch.incrementAndGet() == 2) {
+                throw new IllegalStateException("Site fora do ar");
+            }
+            return paginaUnica();
+        }
+    };
+
+    private final HtmlParser parserFalso = new HtmlParser() {
+        @Override
+        public List<NavioMovimentacao> parse(Document document) {
+            return List.of(new NavioMovimentacao(
+                "21/02/2026", "10:30", "Entrada", "201", "NAVIO " + chamadasFetch.get(), "Atracado"
+            ));
+        }
+    };
+
+    @Test
+    @DisplayName("Poller deve publicar snapshots e continuar após falhas")
+    void devePublicarSnapshotsEContinuarAposFalha() throws Exception {
+        MovimentacaoService service = new MovimentacaoService(fetcherInstavel, parserFalso);
+        MovimentacaoPoller poller = new MovimentacaoPoller(service, 5, 0);
+
+        poller.iniciar();
+        try {
+            long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (chamadasFetch.get() < 3 && System.nanoTime() < limite) {
+                Thread.sleep(5);
+            }
+        } finally {
+            poller.encerrar();
+        }
+
+        assertTrue(chamadasFetch.get() >= 3, "Poller deveria continuar após a falha");
+        assertTrue(service.snapshotAtual().isPresent());
+    }
+
+    @Test
+    @DisplayName("Atraso até o próximo poll deve ficar entre intervalo e intervalo + jitter")
+    void atrasoDeveRespeitarJitter() {
+        MovimentacaoService service = new MovimentacaoService(fetcherInstavel, parserFalso);
+        MovimentacaoPoller poller = new MovimentacaoPoller(service, 1000, 200);
+
+        for (int i = 0; i < 1000; i++) {
+            long atraso = poller.proximoAtraso();
+            assertTrue(atraso >= 1000 && atraso <= 1200, "Atraso fora da faixa: " + atraso);
+        }
+
+        MovimentacaoPoller semJitter = new MovimentacaoPoller(service, 1000, 0);
+        assertEquals(1000, semJitter.proximoAtraso());
+    }
+
+    @Test
+    @DisplayName("Intervalo inválido deve ser rejeitado")
+    void intervaloInvalidoDeveSerRejeitado() {
+        MovimentacaoService service = new MovimentacaoService(fetcherInstavel, parserFalso);
+
+        assertThrows(IllegalArgumentException.class, () -> new MovimentacaoPoller(service, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MovimentacaoPoller(service, 1000, -1));
+    }
+
+    // ===== MÉTODOS AUXILIARES =====
+
+    /**
+     * Corpo diferente a cada chamada, para que o hash de conteúdo não evite o parse.
+     */
+    private ResultadoFetch paginaUnica() {
+        String html = "<table><tr><td>" + System.nanoTime() + "</td></tr></table>";
+        return ResultadoFetch.modificado(html.getBytes(StandardCharsets.UTF_8), "UTF-8", "");
+    }
+}
@@ -0,0 +1,131 @@
+package br.dev.marcus.praticagem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+
+/**
+ * Testes unitários para {@link JanelaMudancas} e para a versão dos snapshots.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+class JanelaMudancasTest {
+
+    @Test
+    @DisplayName("Versão só deve avançar quando os dados mudam")
+    void versaoDeveAvancarSoComMudancas() {
+        MovimentacaoSnapshot v1 = new MovimentacaoSnapshot(List.of(mov("ALFA", "10:00")), 0);
+        MovimentacaoSnapshot renovado = v1.renovado(10);
+        MovimentacaoSnapshot igual = v1.sucessor(List.of(mov("ALFA", "10:00")), 20);
+        MovimentacaoSnapshot v2 = igual.sucessor(List.of(mov("ALFA", "10:30")), 30);
+
+        assertEquals(1L, v1.versao());
+        assertEquals(1L, renovado.versao());
+        assertEquals(1L, igual.versao());
+        assertSame(v1.json(), igual.json());
+        assertEquals(2L, v2.versao());
+    }
+
+    @Test
+    @DisplayName("Site que só reordena as linhas deve publicar versão nova, sem mudanças")
+    void reordenacaoDevePublicarNovaVersao() {
+        List<NavioMovimentacao> original = List.of(mov("ALFA", "10:00"), mov("BRAVO", "11:00"));
+        List<NavioMovimentacao> invertida = List.of(mov("BRAVO", "11:00"), mov("ALFA", "10:00"));
+        MovimentacaoSnapshot v1 = new MovimentacaoSnapshot(original, 0);
+
+        MovimentacaoSnapshot reordenado = v1.sucessor(invertida, 10);
+
+        assertEquals(2L, reordenado.versao());
+        assertEquals(10L, reordenado.obtidoEm());
+        assertTrue(reordenado.mudancas().vazio());
+        assertEquals(invertida, reordenado.movimentacoes());
+        assertFalse(v1.json().etag().equals(reordenado.json().etag()));
+        assertEquals(
+            texto(RepresentacaoJson.serializar(invertida).bytes()),
+            texto(reordenado.json().bytes())
+        );
+        for (int i = 0; i < reordenado.movimentacoes().size(); i++) {
+            assertEquals(reordenado.movimentacoes().get(i), reordenado.indice().tipadas().get(i).movimentacao());
+        }
+
+        JanelaMudancas janela = new JanelaMudancas(4);
+        registrar(janela, v1);
+        registrar(janela, reordenado);
+        String desdeV1 = texto(janela.jsonDesde(1, reordenado));
+        assertTrue(desdeV1.startsWith("{\"versao\":2,\"desde\":1,\"completo\":false"), desdeV1);
+    }
+
+    @Test
+    @DisplayName("since dentro da janela deve trazer só as mudanças")
+    void sinceNaJanelaDeveTrazerDelta() {
+        JanelaMudancas janela = new JanelaMudancas(4);
+        MovimentacaoSnapshot v1 = registrar(janela, new MovimentacaoSnapshot(List.of(mov("ALFA", "10:00")), 0));
+        MovimentacaoSnapshot v2 = registrar(janela, v1.sucessor(List.of(mov("ALFA", "10:30")), 1));
+        MovimentacaoSnapshot v3 = registrar(janela, v2.sucessor(
+            List.of(mov("ALFA", "10:30"), mov("BRAVO", "11:00")), 2
+        ));
+
+        String desdeV2 = texto(janela.jsonDesde(2, v3));
+        assertTrue(desdeV2.startsWith("{\"versao\":3,\"desde\":2,\"completo\":false"), desdeV2);
+        assertTrue(desdeV2.contains("\"adicionadas\":[{") && desdeV2.contains("BRAVO"), desdeV2);
+        assertTrue(desdeV2.contains("\"alteradas\":[]"), desdeV2);
+
+        // v1 → v3 combina a alteração de ALFA e a adição de BRAVO
+        String desdeV1 = texto(janela.jsonDesde(1, v3));
+        assertTrue(desdeV1.contains("\"alteradas\":[{") && desdeV1.contains("10:30"), desdeV1);
+        assertTrue(desdeV1.contains("BRAVO"), desdeV1);
+
+        String desdeAtual = texto(janela.jsonDesde(3, v3));
+        assertTrue(desdeAtual.contains("\"adicionadas\":[],\"removidas\":[],\"alteradas\":[]"), desdeAtual);
+
+        // Resposta serializada uma vez e reaproveitada
+        assertSame(janela.jsonDesde(2, v3), janela.jsonDesde(2, v3));
+    }
+
+    @Test
+    @DisplayName("since fora da janela deve trazer a lista completa")
+    void sinceForaDaJanelaDeveTrazerCompleto() {
+        JanelaMudancas janela = new JanelaMudancas(2);
+        MovimentacaoSnapshot atual = registrar(janela, new MovimentacaoSnapshot(List.of(mov("ALFA", "10:00")), 0));
+        for (int i = 1; i <= 3; i++) {
+            atual = registrar(janela, atual.sucessor(List.of(mov("ALFA", "1" + i + ":00")), i));
+        }
+
+        assertEquals(4L, atual.versao());
+        assertFalse(janela.disponivel(2, atual));
+        assertTrue(janela.disponivel(3, atual));
+
+        String completo = texto(janela.jsonDesde(1, atual));
+        String esperado = "{\"versao\":4,\"completo\":true,\"movimentacoes\":"
+            + texto(atual.json().bytes()) + "}";
+        assertEquals(esperado, completo);
+
+        // Versões desconhecidas compartilham a mesma resposta
+        assertSame(janela.jsonDesde(1, atual), janela.jsonDesde(99, atual));
+        assertSame(janela.jsonDesde(1, atual), janela.jsonDesde(-5, atual));
+    }
+
+    private static MovimentacaoSnapshot registrar(JanelaMudancas janela, MovimentacaoSnapshot snapshot) {
+        janela.registrar(snapshot);
+        return snapshot;
+    }
+
+    private static String texto(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static NavioMovimentacao mov(String navio, String horario) {
+        return new NavioMovimentacao("21/02/2026", horario, "Entrada", "201", navio, "Programado");
+    }
+}
@@ -0,0 +1,370 @@
+package br.dev.marcus.praticagem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.dev.marcus.praticagem.diff.ConjuntoMudancas;
+import br.dev.marcus.praticagem.fetcher.HtmlFetcher;
+import br.dev.marcus.praticagem.fetcher.ResultadoFetch;
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+import br.dev.marcus.praticagem.parser.HtmlParser;
+
+/**
+ * Testes unitários para o cache stale-while-revalidate do {@link MovimentacaoService}.
+ *
+ * <p>Fetcher e parser são substituídos por implementações em memória que
+ * contam as chamadas, e o relógio é controlado pelo teste.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+class MovimentacaoServiceTest {
+
+    private static final long TTL = 1000;
+
+    private final AtomicInteger chamadasFetch = new AtomicInteger();
+    private final AtomicLong agora = new AtomicLong(0);
+
+    /**
+     * Fetcher que não acessa a rede: devolve um documento vazio e conta as chamadas.
+     */
+    private final HtmlFetcher fetcherFalso = new HtmlFetcher("https://example.com", 1000, 1, 0) {
+        @Override
+        public ResultadoFetch fetchCondicional() {
+            chamadasFetch.incrementAndGet();
+            return paginaUnica();
+        }
+    };
+
+    /**
+     * Parser que devolve uma lista com o número da chamada no nome do navio.
+     */
+    private final HtmlParser parserFalso = new HtmlParser() {
+        @Override
+        public List<NavioMovimentacao> parse(Document document) {
+            return List.of(movimentacao("NAVIO " + chamadasFetch.get()));
+        }
+    };
+
+    @Test
+    @DisplayName("Sem cache, toda chamada deve ir ao site")
+    void semCacheDeveBuscarSempre() {
+        MovimentacaoService service = new MovimentacaoService(fetcherFalso, parserFalso);
+
+        service.buscarMovimentacoes();
+        service.buscarMovimentacoes();
+
+        assertEquals(2, chamadasFetch.get());
+    }
+
+    @Test
+    @DisplayName("Snapshot fresco deve ser servido sem acessar o site")
+    void snapshotFrescoNaoDeveBuscarNovamente() {
+        MovimentacaoService service = criarServiceComCache(fetcherFalso);
+
+        MovimentacaoSnapshot primeiro = service.obterSnapshot();
+        agora.set(TTL - 1);
+        MovimentacaoSnapshot segundo = service.obterSnapshot();
+
+        assertSame(primeiro, segundo);
+        assertEquals(1, chamadasFetch.get());
+    }
+
+    @Test
+    @DisplayName("Snapshot expirado deve ser servido na hora e revalidado em background")
+    void snapshotExpiradoDeveSerRevalidadoEmBackground() throws Exception {
+        MovimentacaoService service = criarServiceComCache(fetcherFalso);
+
+        MovimentacaoSnapshot primeiro = service.obterSnapshot();
+        agora.set(TTL);
+
+        // Devolve o snapshot antigo imediatamente
+        assertSame(primeiro, service.obterSnapshot());
+
+        // Aguarda a revalidação terminar e publicar o novo snapshot
+        MovimentacaoSnapshot novo = aguardarNovoSnapshot(service, primeiro);
+        assertEquals("NAVIO 2", novo.movimentacoes().get(0).navio());
+        assertEquals(2, chamadasFetch.get());
+    }
+
+    @Test
+    @DisplayName("Várias leituras de snapshot expirado devem disparar uma única revalidação")
+    void deveDispararApenasUmaRevalidacao() throws Exception {
+        CountDownLatch liberarFetch = new CountDownLatch(1);
+        HtmlFetcher fetcherLento = new HtmlFetcher("https://example.com", 1000, 1, 0) {
+            @Override
+            public ResultadoFetch fetchCondicional() {
+                if (chamadasFetch.incrementAndGet() > 1) {
+                    aguardar(liberarFetch);
+                }
+                return paginaUnica();
+            }
+        };
+        MovimentacaoService service = criarServiceComCache(fetcherLento);
+
+        MovimentacaoSnapshot primeiro = service.obterSnapshot();
+        agora.set(TTL * 5);
+
+        for (int i = 0; i < 50; i++) {
+            assertSame(primeiro, service.obterSnapshot());
+        }
+        liberarFetch.countDown();
+        aguardarNovoSnapshot(service, primeiro);
+
+        assertEquals(2, chamadasFetch.get());
+    }
+
+    @Test
+    @DisplayName("Falha na revalidação deve manter o último snapshot bom")
+    void falhaNaRevalidacaoDeveManterSnapshotAnterior() throws Exception {
+        HtmlFetcher fetcherInstavel = new HtmlFetcher("https://example.com", 1000, 1, 0) {
+            @Override
+            public ResultadoFetch fetchCondicional() {
+                if (chamadasFetch.incrementAndGet() > 1) {
+                    throw new IllegalStateException("Site fora do ar");
+                }
+                return paginaUnica();
+            }
+        };
+        MovimentacaoService service = criarServiceComCache(fetcherInstavel);
+
+        MovimentacaoSnapshot primeiro = service.obterSnapshot();
+        agora.set(TTL);
+        service.obterSnapshot();
+
+        aguardarCondicao(() -> chamadasFetch.get() >= 2);
+        assertSame(primeiro, service.obterSnapshot());
+    }
+
+    @Test
+    @DisplayName("Falha na carga inicial deve propagar IllegalStateException")
+    void falhaNaCargaInicialDevePropagar() {
+        HtmlFetcher fetcherQuebrado = new HtmlFetcher("https://example.com", 1000, 1, 0) {
+            @Override
+            public ResultadoFetch fetchCondicional() {
+                throw new IllegalStateException("Site fora do ar");
+            }
+        };
+        MovimentacaoService service = criarServiceComCache(fetcherQuebrado);
+
+        assertThrows(IllegalStateException.class, service::buscarMovimentacoes);
+    }
+
+    @Test
+    @DisplayName("Resposta 304 deve reaproveitar a lista anterior sem parse")
+    void naoModificadoDeveReaproveitarLista() {
+        AtomicInteger chamadasParse = new AtomicInteger();
+        HtmlFetcher fetcher304 = new HtmlFetcher("https://example.com", 1000, 1, 0) {
+            @Override
+            public ResultadoFetch fetchCondicional() {
+                if (chamadasFetch.incrementAndGet() > 1) {
+                    return ResultadoFetch.naoModificado();
+                }
+                return paginaUnica();
+            }
+        };
+        HtmlParser parserContador = new HtmlParser() {
+            @Override
+            public List<NavioMovimentacao> parse(Document document) {
+                chamadasParse.incrementAndGet();
+                return List.of(movimentacao("NAVIO"));
+            }
+        };
+        MovimentacaoService service = new MovimentacaoService(fetcher304, parserContador);
+
+        MovimentacaoSnapshot primeiro = service.atualizar();
+        MovimentacaoSnapshot segundo = service.atualizar();
+
+        assertSame(primeiro.movimentacoes(), segundo.movimentacoes());
+        assertSame(primeiro.json(), segundo.json());
+        assertSame(ConjuntoMudancas.VAZIO, segundo.mudancas());
+        assertEquals(1, chamadasParse.get());
+        assertEquals(1, service.getRespostasNaoModificadas());
+    }
+
+    @Test
+    @DisplayName("Parse que falha não deve confirmar o ETag: a página nova volta em vez de 304")
+    void parseComFalhaNaoDeveConfirmarValidadores() {
+        AtomicInteger versaoSite = new AtomicInteger(1);
+        HtmlFetcher fetcherEtag = new HtmlFetcher("https://example.com", 1000, 1, 0) {
+
+            private volatile String etagConfirmado;
+
+            @Override
+            public ResultadoFetch fetchCondicional() {
+                chamadasFetch.incrementAndGet();
+                String etag = "\"v" + versaoSite.get() + "\"";
+                if (etag.equals(etagConfirmado)) {
+                    return ResultadoFetch.naoModificado();
+                }
+                String html = "<table><tr><td>" + etag + "</td></tr></table>";
+                return ResultadoFetch.modificado(html.getBytes(StandardCharsets.UTF_8), "UTF-8", "", etag, null);
+            }
+
+            @Override
+            public void confirmarValidadores(ResultadoFetch resultado) {
+                etagConfirmado = resultado.etag();
+            }
+        };
+        AtomicInteger falhasParse = new AtomicInteger(1);
+        HtmlParser parserInstavel = new HtmlParser() {
+            @Override
+            public List<NavioMovimentacao> parse(Document document) {
+                if (versaoSite.get() == 2 && falhasParse.getAndDecrement() > 0) {
+                    throw new IllegalStateException("Estrutura da tabela mudou");
+                }
+                return List.of(movimentacao("NAVIO V" + versaoSite.get()));
+            }
+        };
+        MovimentacaoService service = new MovimentacaoService(fetcherEtag, parserInstavel);
+
+        MovimentacaoSnapshot primeiro = service.atualizar();
+        versaoSite.set(2);
+        assertThrows(IllegalStateException.class, service::atualizar);
+
+        MovimentacaoSnapshot segundo = service.atualizar();
+
+        assertEquals("NAVIO V2", segundo.movimentacoes().get(0).navio());
+        assertEquals(primeiro.versao() + 1, segundo.versao());
+        assertEquals(0, service.getRespostasNaoModificadas());
+
+        // Com o parse confirmado, o ETag novo passa a valer
+        assertSame(segundo.movimentacoes(), service.atualizar().movimentacoes());
+        assertEquals(1, service.getRespostasNaoModificadas());
+    }
+
+    @Test
+    @DisplayName("Corpo com a mesma região de tabelas deve reaproveitar a lista sem parse")
+    void hashIdenticoDeveEvitarParse() {
+        AtomicInteger chamadasParse = new AtomicInteger();
+        HtmlFetcher fetcherNonce = new HtmlFetcher("https://example.com", 1000, 1, 0) {
+            @Override
+            public ResultadoFetch fetchCondicional() {
+                // Script com nonce muda a cada resposta; a tabela, não
+                String html = "<script>nonce=" + chamadasFetch.incrementAndGet() + "</script>"
+                    + "<table><tr><td>NAVIO</td></tr></table>";
+                return ResultadoFetch.modificado(html.getBytes(StandardCharsets.UTF_8), "UTF-8", "");
+            }
+        };
+        HtmlParser parserContador = new HtmlParser() {
+            @Override
+            public List<NavioMovimentacao> parse(Document document) {
+                chamadasParse.incrementAndGet();
+                return List.of(movimentacao("NAVIO"));
+            }
+        };
+        MovimentacaoService service = new MovimentacaoService(fetcherNonce, parserContador);
+
+        MovimentacaoSnapshot primeiro = service.atualizar();
+        MovimentacaoSnapshot segundo = service.atualizar();
+
+        assertSame(primeiro.movimentacoes(), segundo.movimentacoes());
+        assertEquals(1, chamadasParse.get());
+        assertEquals(1, service.getHashAcertos());
+        assertEquals(1, service.getHashFalhas());
+    }
+
+    @Test
+    @DisplayName("Cada snapshot deve carregar as mudanças em relação ao anterior")
+    void snapshotDeveCarregarMudancas() {
+        MovimentacaoService service = new MovimentacaoService(fetcherFalso, parserFalso);
+
+        MovimentacaoSnapshot primeiro = service.atualizar();
+        MovimentacaoSnapshot segundo = service.atualizar();
+
+        assertEquals(primeiro.movimentacoes(), primeiro.mudancas().adicionadas());
+        assertEquals(List.of(movimentacao("NAVIO 2")), segundo.mudancas().adicionadas());
+        assertEquals(List.of(movimentacao("NAVIO 1")), segundo.mudancas().removidas());
+    }
+
+    @Test
+    @DisplayName("Versões de uma execução anterior devem receber a lista completa")
+    void sinceDeOutraExecucaoDeveTrazerListaCompleta() {
+        agora.set(1_000_000);
+        MovimentacaoService anterior = criarServiceComCache(fetcherFalso);
+        anterior.atualizar();
+        MovimentacaoSnapshot ultimaAnterior = anterior.atualizar();
+
+        // Reinício sem histórico: a numeração não recomeça em 1
+        agora.set(2_000_000);
+        MovimentacaoService reiniciado = criarServiceComCache(fetcherFalso);
+        MovimentacaoSnapshot primeiro = reiniciado.atualizar();
+        MovimentacaoSnapshot segundo = reiniciado.atualizar();
+
+        assertEquals(2_000_000, primeiro.versao());
+        assertTrue(primeiro.versao() > ultimaAnterior.versao());
+        String resposta = new String(
+            reiniciado.movimentacoesDesde(ultimaAnterior.versao(), segundo), StandardCharsets.UTF_8
+        );
+        assertTrue(resposta.contains("\"completo\":true"), resposta);
+        String delta = new String(reiniciado.movimentacoesDesde(primeiro.versao(), segundo), StandardCharsets.UTF_8);
+        assertTrue(delta.contains("\"completo\":false"), delta);
+    }
+
+    // ===== MÉTODOS AUXILIARES =====
+
+    /**
+     * Corpo diferente a cada chamada, para que o hash de conteúdo não evite o parse.
+     */
+    private ResultadoFetch paginaUnica() {
+        String html = "<table><tr><td>" + System.nanoTime() + "</td></tr></table>";
+        return ResultadoFetch.modificado(html.getBytes(StandardCharsets.UTF_8), "UTF-8", "");
+    }
+
+    private MovimentacaoService criarServiceComCache(HtmlFetcher fetcher) {
+        return new MovimentacaoService(fetcher, parserFalso, true, TTL, agora::get);
+    }
+
+    private static NavioMovimentacao movimentacao(String navio) {
+        return new NavioMovimentacao("21/02/2026", "10:30", "Entrada", "201", navio, "Atracado");
+    }
+
+    private static MovimentacaoSnapshot aguardarNovoSnapshot(
+        MovimentacaoService service,
+        MovimentacaoSnapshot anterior
+    ) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < limite) {
+            MovimentacaoSnapshot atual = service.obterSnapshot();
+            if (atual != anterior) {
+                return atual;
+            }
+            Thread.sleep(5);
+        }
+        throw new AssertionError("Snapshot não foi revalidado a tempo");
+    }
+
+    private static void aguardarCondicao(java.util.function.BooleanSupplier condicao)
+        throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condicao.getAsBoolean()) {
+            if (System.nanoTime() > limite) {
+                throw new AssertionError("Condição não atendida a tempo");
+            }
+            Thread.sleep(5);
+        }
+        Thread.sleep(20);
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package br.dev.marcus.praticagem.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+
+/**
+ * Testes unitários para {@link RepresentacaoJson}.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+class RepresentacaoJsonTest {
+
+    private static final NavioMovimentacao MOV = new NavioMovimentacao(
+        "21/02/2026", "10:30", "Entrada", "201", "NAVIO", "Atracado"
+    );
+
+    @Test
+    @DisplayName("JSON deve ter os campos do record e ETag forte estável")
+    void deveSerializarComEtagEstavel() {
+        RepresentacaoJson a = RepresentacaoJson.serializar(List.of(MOV));
+        RepresentacaoJson b = RepresentacaoJson.serializar(List.of(MOV));
+
+        String json = new String(a.bytes(), StandardCharsets.UTF_8);
+        assertTrue(json.startsWith("[{") && json.contains("\"navio\":\"NAVIO\""), json);
+        assertEquals(a.etag(), b.etag());
+        assertTrue(a.etag().matches("\"[0-9a-f]{32}\""), a.etag());
+        assertNotEquals(a.etag(), RepresentacaoJson.serializar(List.of()).etag());
+    }
+
+    @Test
+    @DisplayName("If-None-Match deve aceitar lista, ETag fraco e curinga")
+    void deveInterpretarIfNoneMatch() {
+        RepresentacaoJson json = RepresentacaoJson.serializar(List.of(MOV));
+
+        assertTrue(json.correspondeA(json.etag()));
+        assertTrue(json.correspondeA("\"outro\", W/" + json.etag()));
+        assertTrue(json.correspondeA("*"));
+        assertFalse(json.correspondeA("\"outro\""));
+        assertFalse(json.correspondeA(null));
+    }
+
+    @Test
+    @DisplayName("Variante gzip deve descomprimir para o mesmo JSON e ter ETag próprio")
+    void varianteGzipDeveConterMesmoJson() throws Exception {
+        RepresentacaoJson json = RepresentacaoJson.serializar(List.of(MOV, MOV, MOV));
+
+        byte[] descomprimido;
+        try (GZIPInputStream entrada = new GZIPInputStream(new ByteArrayInputStream(json.gzip()))) {
+            descomprimido = entrada.readAllBytes();
+        }
+
+        assertArrayEquals(json.bytes(), descomprimido);
+        assertNotEquals(json.etag(), json.etagGzip());
+        assertTrue(json.correspondeA(json.etagGzip()));
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding deve respeitar q=0 e curinga")
+    void deveNegociarGzip() {
+        assertTrue(RepresentacaoJson.aceitaGzip("gzip, deflate, br"));
+        assertTrue(RepresentacaoJson.aceitaGzip("br;q=1.0, *;q=0.5"));
+        assertFalse(RepresentacaoJson.aceitaGzip("gzip;q=0, *"));
+        assertFalse(RepresentacaoJson.aceitaGzip("identity"));
+        assertFalse(RepresentacaoJson.aceitaGzip(null));
+    }
+}
@@ -0,0 +1,135 @@
+package br.dev.marcus.praticagem.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para {@link SingleFlight}.
+ *
+ * <p>Cada teste segura a operação da líder em um {@link CountDownLatch} até
+ * que todas as outras threads tenham se anexado à execução em voo.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+class SingleFlightTest {
+
+    private static final int THREADS = 20;
+
+    @Test
+    @DisplayName("Chamadas simultâneas devem compartilhar uma única execução")
+    void chamadasSimultaneasDevemCompartilharResultado() throws Exception {
+        SingleFlight<Object> singleFlight = new SingleFlight<>();
+        AtomicInteger execucoes = new AtomicInteger();
+        CountDownLatch liberar = new CountDownLatch(1);
+        Object resultadoEsperado = new Object();
+
+        List<Future<Object>> futuros = dispararEmParalelo(() -> singleFlight.executar(() -> {
+            execucoes.incrementAndGet();
+            aguardar(liberar);
+            return resultadoEsperado;
+        }), singleFlight);
+
+        liberar.countDown();
+
+        for (Future<Object> futuro : futuros) {
+            assertSame(resultadoEsperado, futuro.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, execucoes.get());
+        assertEquals(1, singleFlight.getExecutadas());
+        assertEquals(THREADS - 1, singleFlight.getCoalescidas());
+        assertFalse(singleFlight.emAndamento());
+    }
+
+    @Test
+    @DisplayName("Exceção da líder deve ser repassada a todas as chamadas coalescidas")
+    void excecaoDeveSerCompartilhada() throws Exception {
+        SingleFlight<Object> singleFlight = new SingleFlight<>();
+        CountDownLatch liberar = new CountDownLatch(1);
+        IllegalStateException falha = new IllegalStateException("Site fora do ar");
+
+        List<Future<Object>> futuros = dispararEmParalelo(() -> {
+            try {
+                return singleFlight.executar(() -> {
+                    aguardar(liberar);
+                    throw falha;
+                });
+            } catch (IllegalStateException e) {
+                return e;
+            }
+        }, singleFlight);
+
+        liberar.countDown();
+
+        for (Future<Object> futuro : futuros) {
+            assertSame(falha, futuro.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, singleFlight.getExecutadas());
+    }
+
+    @Test
+    @DisplayName("Chamadas sequenciais devem executar a operação novamente")
+    void chamadasSequenciaisDevemExecutarDeNovo() {
+        SingleFlight<Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger contador = new AtomicInteger();
+
+        int primeira = singleFlight.executar(contador::incrementAndGet);
+        int segunda = singleFlight.executar(contador::incrementAndGet);
+
+        assertEquals(1, primeira);
+        assertEquals(2, segunda);
+
+        assertEquals(2, singleFlight.getExecutadas());
+        assertEquals(0, singleFlight.getCoalescidas());
+    }
+
+    // ===== MÉTODOS AUXILIARES =====
+
+    /**
+     * Dispara {@link #THREADS} chamadas e espera até que todas as seguidoras
+     * tenham se anexado à execução da líder.
+     */
+    private static List<Future<Object>> dispararEmParalelo(
+        java.util.concurrent.Callable<Object> tarefa,
+        SingleFlight<?> singleFlight
+    ) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Object>> futuros = new ArrayList<>();
+
+        futuros.add(executor.submit(tarefa));
+        while (!singleFlight.emAndamento()) {
+            Thread.sleep(1);
+        }
+        for (int i = 1; i < THREADS; i++) {
+            futuros.add(executor.submit(tarefa));
+        }
+        while (singleFlight.getCoalescidas() < THREADS - 1) {
+            Thread.sleep(1);
+        }
+
+        executor.shutdown();
+        return futuros;
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
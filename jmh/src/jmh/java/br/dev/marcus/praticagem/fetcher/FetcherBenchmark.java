@@ -0,0 +1,65 @@
+package br.dev.marcus.praticagem.fetcher;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import br.dev.marcus.praticagem.simulador.Cenario;
+import br.dev.marcus.praticagem.simulador.SimuladorPraticagem;
+
+/**
+ * Benchmark do {@link HtmlFetcher} com HTTP real, contra o
+ * {@link SimuladorPraticagem} em localhost (sem latência injetada).
+ *
+ * <ul>
+ *   <li>{@code fetchCompleto}: GET incondicional, corpo inteiro + hash</li>
+ *   <li>{@code fetchNaoModificado}: GET condicional respondido com 304</li>
+ * </ul>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FetcherBenchmark {
+
+    @Param({"50", "500", "5000"})
+    public int linhas;
+
+    private SimuladorPraticagem simulador;
+    private HtmlFetcher fetcher;
+
+    @Setup
+    public void iniciar() {
+        simulador = new SimuladorPraticagem(0).iniciar();
+        simulador.setCenario(Cenario.PADRAO.comLinhas(linhas));
+        fetcher = new HtmlFetcher(simulador.getUrl(), 10_000, 1, 1);
+        fetcher.confirmarValidadores(fetcher.fetchCondicional());
+    }
+
+    @TearDown
+    public void parar() {
+        simulador.close();
+    }
+
+    @Benchmark
+    public ResultadoFetch fetchCompleto() {
+        fetcher.limparValidadores();
+        return fetcher.fetchCondicional();
+    }
+
+    @Benchmark
+    public ResultadoFetch fetchNaoModificado() {
+        return fetcher.fetchCondicional();
+    }
+}
@@ -0,0 +1,47 @@
+package br.dev.marcus.praticagem.fetcher;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import br.dev.marcus.praticagem.parser.FixturesPraticagem;
+
+/**
+ * Benchmark do hash da região de tabelas, calculado em toda resposta 200 do
+ * {@link HtmlFetcher} (ver {@link ResultadoFetch}) para decidir se o parse
+ * pode ser pulado.
+ *
+ * <p>É o único trabalho de CPU do fetcher fora da rede: ele precisa ficar bem
+ * abaixo do custo do parse para que a comparação de hash valha a pena.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HashTabelaBenchmark {
+
+    @Param({"50", "500", "5000"})
+    public int linhas;
+
+    private byte[] html;
+
+    @Setup
+    public void preparar() {
+        html = FixturesPraticagem.pagina(linhas);
+    }
+
+    @Benchmark
+    public long calcular() {
+        return HashTabela.calcular(html);
+    }
+}
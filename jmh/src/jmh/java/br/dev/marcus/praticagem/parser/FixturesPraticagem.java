@@ -0,0 +1,100 @@
+package br.dev.marcus.praticagem.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+/**
+ * Páginas de teste para os benchmarks, derivadas do HTML real capturado do site.
+ *
+ * <p>A página capturada ({@code html/praticagem_sample.html}) tem algumas
+ * dezenas de movimentações. Para medir com 50, 500 ou 5000 linhas, as linhas
+ * reais da tabela são repetidas até o tamanho pedido; o resto da página
+ * (menu, scripts, rodapé, outras tabelas) fica intacto, então o custo de
+ * localizar a tabela continua o do site.</p>
+ *
+ * <p>A partir da segunda volta, o nome do navio ganha um sufixo
+ * ({@code "MSC CARLOTTA #2"}): datas, berços e situações se repetem como no
+ * site, mas a quantidade de navios distintos cresce com a página, como
+ * cresceria numa programação mais longa.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+public final class FixturesPraticagem {
+
+    /**
+     * Recurso com a página capturada, compartilhado com os testes do app.
+     */
+    static final String PAGINA_CAPTURADA = "/html/praticagem_sample.html";
+
+    /**
+     * Classe utilitária: não deve ser instanciada.
+     */
+    private FixturesPraticagem() {
+    }
+
+    /**
+     * Gera a página com a quantidade de linhas pedida.
+     *
+     * @param linhas Quantidade de movimentações na tabela
+     * @return HTML da página em UTF-8
+     * @throws IllegalStateException se a página capturada não tiver a tabela de movimentação
+     */
+    public static byte[] pagina(int linhas) {
+
+        Document documento = Jsoup.parse(new String(capturada(), StandardCharsets.UTF_8));
+        HtmlParser.TabelaEncontrada encontrada = new HtmlParser().encontrarTabelaMovimentacao(documento);
+        if (encontrada == null) {
+            throw new IllegalStateException("Página capturada sem a tabela de movimentação");
+        }
+
+        // Linhas de dados originais (a primeira <tr> é o cabeçalho)
+        List<Element> originais = new ArrayList<>();
+        for (Element linha : encontrada.tabela().select("tr")) {
+            if (!linha.select("td").isEmpty()) {
+                originais.add(linha);
+            }
+        }
+        if (originais.isEmpty()) {
+            throw new IllegalStateException("Tabela de movimentação capturada sem linhas");
+        }
+
+        Element pai = originais.get(0).parent();
+        originais.forEach(Element::remove);
+
+        int colunaNavio = encontrada.esquema().navio();
+        for (int i = 0; i < linhas; i++) {
+            Element copia = originais.get(i % originais.size()).clone();
+            int volta = i / originais.size();
+            Elements celulas = copia.select("td");
+            if (volta > 0 && colunaNavio < celulas.size()) {
+                Element navio = celulas.get(colunaNavio);
+                navio.text(navio.text() + " #" + (volta + 1));
+            }
+            pai.appendChild(copia);
+        }
+
+        return documento.outerHtml().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] capturada() {
+        try (InputStream entrada = FixturesPraticagem.class.getResourceAsStream(PAGINA_CAPTURADA)) {
+            if (entrada == null) {
+                throw new IllegalStateException("Recurso não encontrado: " + PAGINA_CAPTURADA);
+            }
+            return entrada.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package br.dev.marcus.praticagem.parser;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks da normalização de texto.
+ *
+ * <ul>
+ *   <li>{@code normalizarCabecalhos}: os cabeçalhos da página real, pelo
+ *       cache de {@link NormalizadorTexto#normalizar(String)} (o caso comum)</li>
+ *   <li>{@code dobrarCelulas}: valores de células, sem cache</li>
+ *   <li>{@code referenciaNormalizer}: a implementação original (NFD +
+ *       {@code replaceAll}), para comparação</li>
+ * </ul>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NormalizadorBenchmark {
+
+    private static final List<String> CABECALHOS = List.of(
+        "Data", "Horário", "Manobra", "Berço", "Bordo", "Navio",
+        "Rota", "Loa", "Boca", "Calado", "Situação"
+    );
+
+    private static final List<String> CELULAS = List.of(
+        "21/02/2026", "12:45 ATB", "Saída", "PNAVE 01", "IRENES WISDOM",
+        "Navegando para Itajaí", "Atracação", "MSC CARLOTTA", "Em andamento", "TBC"
+    );
+
+    @Benchmark
+    public void normalizarCabecalhos(Blackhole bh) {
+        for (String cabecalho : CABECALHOS) {
+            bh.consume(NormalizadorTexto.normalizar(cabecalho));
+        }
+    }
+
+    @Benchmark
+    public void dobrarCelulas(Blackhole bh) {
+        for (String celula : CELULAS) {
+            bh.consume(NormalizadorTexto.dobrar(celula));
+        }
+    }
+
+    @Benchmark
+    public void referenciaNormalizer(Blackhole bh) {
+        for (String cabecalho : CABECALHOS) {
+            bh.consume(
+                Normalizer.normalize(cabecalho, Normalizer.Form.NFD)
+                    .replaceAll("\\p{InCombiningDiacriticalMarks}+", "")
+                    .trim()
+                    .toLowerCase(Locale.ROOT)
+            );
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package br.dev.marcus.praticagem.parser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+
+/**
+ * Benchmarks do parse da página de movimentação, nos dois modos.
+ *
+ * <ul>
+ *   <li>{@code parseDom}: bytes → Jsoup → movimentações (o caminho de
+ *       {@code praticagem.parser.modo=dom})</li>
+ *   <li>{@code parseStreaming}: bytes → movimentações, sem DOM</li>
+ *   <li>{@code extrairDoDocumento}: só a extração, com o documento já montado</li>
+ *   <li>{@code encontrarTabelaMovimentacao}: só a localização da tabela e do esquema</li>
+ * </ul>
+ *
+ * <p>Os parsers são criados uma vez, como na aplicação: o esquema da tabela
+ * fica em cache desde a primeira invocação do aquecimento.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParserBenchmark {
+
+    @Param({"50", "500", "5000"})
+    public int linhas;
+
+    private byte[] html;
+    private Document documento;
+
+    private final HtmlParser dom = new HtmlParser();
+    private final StreamingHtmlParser streaming = new StreamingHtmlParser();
+
+    @Setup
+    public void preparar() {
+        html = FixturesPraticagem.pagina(linhas);
+        documento = Jsoup.parse(new String(html, StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public List<NavioMovimentacao> parseDom() {
+        return dom.parse(html, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<NavioMovimentacao> parseStreaming() {
+        return streaming.parse(html, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<NavioMovimentacao> extrairDoDocumento() {
+        return dom.parse(documento);
+    }
+
+    @Benchmark
+    public HtmlParser.TabelaEncontrada encontrarTabelaMovimentacao() {
+        return dom.encontrarTabelaMovimentacao(documento);
+    }
+}
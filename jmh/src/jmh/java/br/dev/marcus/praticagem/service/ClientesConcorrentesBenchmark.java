@@ -0,0 +1,138 @@
+package br.dev.marcus.praticagem.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import br.dev.marcus.praticagem.config.ThreadsVirtuais;
+import br.dev.marcus.praticagem.fetcher.HtmlFetcher;
+import br.dev.marcus.praticagem.parser.HtmlParser;
+import br.dev.marcus.praticagem.simulador.Cenario;
+import br.dev.marcus.praticagem.simulador.SimuladorPraticagem;
+
+/**
+ * Muitos clientes esperando o site ao mesmo tempo: pool fixo de threads de
+ * plataforma (o que o Jetty usa por padrão) contra uma virtual thread por
+ * cliente ({@code server.virtualThreads=true}).
+ *
+ * <p>Cada operação atende {@code clientes} requisições e termina quando a
+ * última é respondida:</p>
+ * <ul>
+ *   <li>{@code obterSnapshot}: {@link MovimentacaoService#obterSnapshot()} com o
+ *       cache desligado, como na carga inicial sem poller. As leituras se
+ *       anexam ao {@link SingleFlight} de uma busca ao {@link SimuladorPraticagem},
+ *       que responde após {@code latenciaMs}.</li>
+ *   <li>{@code esperarUpstream}: cada cliente espera sozinho {@code latenciaMs}
+ *       por um future completado em um timer, como um handler bloqueado em
+ *       I/O sem coalescência. Com o pool, só {@value #THREADS_JETTY} esperam por
+ *       vez e o resto fica na fila; com virtual threads, todos esperam juntos.</li>
+ * </ul>
+ *
+ * <p>O modo {@code virtual} precisa de um JDK 21 nos forks:
+ * {@code ./gradlew :jmh:jmh -Pbenchmarks=ClientesConcorrentes -PjmhJvm=/caminho/jdk-21/bin/java}.
+ * Em JDKs anteriores o setup falha com {@link IllegalStateException}.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ClientesConcorrentesBenchmark {
+
+    /**
+     * {@code maxThreads} padrão do {@code QueuedThreadPool} do Jetty.
+     */
+    static final int THREADS_JETTY = 200;
+
+    @Param({"plataforma", "virtual"})
+    public String modo;
+
+    @Param({"1000", "10000"})
+    public int clientes;
+
+    @Param({"50"})
+    public int latenciaMs;
+
+    private SimuladorPraticagem simulador;
+    private MovimentacaoService service;
+    private ExecutorService pool;
+    private Executor executor;
+
+    @Setup
+    public void iniciar() {
+        simulador = new SimuladorPraticagem(0).iniciar();
+        simulador.setCenario(Cenario.PADRAO.comLatencia(latenciaMs, 0));
+
+        if ("virtual".equals(modo)) {
+            executor = ThreadsVirtuais.executorPorTarefa("cliente-");
+        } else {
+            pool = Executors.newFixedThreadPool(THREADS_JETTY);
+            executor = pool;
+        }
+
+        HtmlFetcher fetcher = new HtmlFetcher(simulador.getUrl(), 10_000, 1, 1);
+        service = new MovimentacaoService(fetcher, new HtmlParser(), false, 0);
+    }
+
+    @TearDown
+    public void parar() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+        service.encerrar();
+        simulador.close();
+    }
+
+    @Benchmark
+    public long obterSnapshot() throws InterruptedException {
+        return atender(() -> service.obterSnapshot().versao());
+    }
+
+    @Benchmark
+    public long esperarUpstream() throws InterruptedException {
+        Executor atraso = CompletableFuture.delayedExecutor(latenciaMs, TimeUnit.MILLISECONDS);
+        return atender(() -> CompletableFuture.supplyAsync(() -> 1L, atraso).join());
+    }
+
+    /**
+     * Dispara {@code clientes} requisições no executor do modo e espera todas.
+     *
+     * @param requisicao Trabalho bloqueante de uma requisição
+     * @return Soma dos resultados (consumida pelo JMH)
+     */
+    private long atender(LongSupplier requisicao) throws InterruptedException {
+
+        CountDownLatch atendidos = new CountDownLatch(clientes);
+        LongAdder soma = new LongAdder();
+
+        for (int i = 0; i < clientes; i++) {
+            executor.execute(() -> {
+                try {
+                    soma.add(requisicao.getAsLong());
+                } finally {
+                    atendidos.countDown();
+                }
+            });
+        }
+
+        atendidos.await();
+        return soma.sum();
+    }
+}
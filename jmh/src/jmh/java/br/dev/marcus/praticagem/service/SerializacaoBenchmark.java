@@ -0,0 +1,63 @@
+package br.dev.marcus.praticagem.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.dev.marcus.praticagem.model.NavioMovimentacao;
+import br.dev.marcus.praticagem.parser.FixturesPraticagem;
+import br.dev.marcus.praticagem.parser.StreamingHtmlParser;
+
+/**
+ * Benchmarks da serialização da lista de movimentações.
+ *
+ * <ul>
+ *   <li>{@code jackson}: só {@code writeValueAsBytes}, o custo que cada
+ *       requisição pagaria sem o JSON pré-serializado</li>
+ *   <li>{@code representacaoJson}: o que roda uma vez por snapshot
+ *       (JSON + ETag + gzip)</li>
+ * </ul>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializacaoBenchmark {
+
+    @Param({"50", "500", "5000"})
+    public int linhas;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private List<NavioMovimentacao> movimentacoes;
+
+    @Setup
+    public void preparar() {
+        movimentacoes = new StreamingHtmlParser().parse(FixturesPraticagem.pagina(linhas), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] jackson() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(movimentacoes);
+    }
+
+    @Benchmark
+    public RepresentacaoJson representacaoJson() {
+        return RepresentacaoJson.serializar(movimentacoes);
+    }
+}
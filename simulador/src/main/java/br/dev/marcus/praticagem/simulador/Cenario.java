@@ -0,0 +1,220 @@
+package br.dev.marcus.praticagem.simulador;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Comportamento do {@link SimuladorPraticagem}: tamanho da tabela, layout e
+ * falhas injetadas em cada requisição.
+ *
+ * <p>Imutável; os métodos {@code com...} devolvem uma cópia alterada. O
+ * simulador aplica o cenário vigente no início de cada requisição, então
+ * trocá-lo no meio de um teste de carga vale a partir da próxima.</p>
+ *
+ * <pre>
+ * Cenario.PADRAO
+ *     .comLinhas(5000)
+ *     .comLatencia(200, 100)     // 200 a 300 ms antes de responder
+ *     .comErros(0.1, 503)        // 10% das requisições com 503
+ *     .comTimeouts(0.05, 30_000) // 5% seguram a conexão por 30 s sem responder
+ *     .comGotejamento(512, 50)   // corpo em pedaços de 512 bytes a cada 50 ms
+ * </pre>
+ *
+ * @param linhas Movimentações na tabela gerada
+ * @param latenciaMs Espera fixa antes de responder
+ * @param variacaoLatenciaMs Espera aleatória adicional, de 0 a este valor
+ * @param taxaErro Fração das requisições respondidas com {@code statusErro} (0 a 1)
+ * @param statusErro Status HTTP das falhas injetadas (500 a 599)
+ * @param taxaTimeout Fração das requisições que ficam sem resposta (0 a 1)
+ * @param duracaoTimeoutMs Quanto tempo a conexão fica parada antes de ser fechada sem resposta
+ * @param bytesPorGota Tamanho de cada pedaço do corpo no gotejamento; 0 envia tudo de uma vez
+ * @param intervaloGotaMs Espera entre os pedaços do gotejamento
+ * @param layout Layout da tabela (mudanças de estrutura do site)
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+public record Cenario(
+    int linhas,
+    int latenciaMs,
+    int variacaoLatenciaMs,
+    double taxaErro,
+    int statusErro,
+    double taxaTimeout,
+    int duracaoTimeoutMs,
+    int bytesPorGota,
+    int intervaloGotaMs,
+    Layout layout
+) {
+
+    /**
+     * 50 linhas no layout atual do site, sem falhas.
+     */
+    public static final Cenario PADRAO = new Cenario(50, 0, 0, 0, 503, 0, 30_000, 0, 0, Layout.PADRAO);
+
+    /**
+     * Máximo de linhas geradas, para não esgotar o heap do teste.
+     */
+    public static final int LIMITE_LINHAS = 100_000;
+
+    /**
+     * Estrutura da tabela servida.
+     */
+    public enum Layout {
+        /** Cabeçalho igual ao do site hoje. */
+        PADRAO,
+        /** Mesmas colunas em outra ordem. */
+        REORDENADO,
+        /** Cabeçalhos com outros textos que ainda contêm as palavras-chave. */
+        RENOMEADO,
+        /** Sem a coluna "Navio": o parser deve falhar. */
+        SEM_NAVIO,
+        /** Página sem a tabela de movimentação. */
+        SEM_TABELA
+    }
+
+    /**
+     * Valida os parâmetros.
+     *
+     * @throws IllegalArgumentException se algum valor estiver fora da faixa
+     */
+    public Cenario {
+        exigir(linhas >= 0 && linhas <= LIMITE_LINHAS, "linhas deve estar entre 0 e " + LIMITE_LINHAS);
+        exigir(latenciaMs >= 0 && variacaoLatenciaMs >= 0, "latência não pode ser negativa");
+        exigir(taxaErro >= 0 && taxaErro <= 1, "taxa de erro deve estar entre 0 e 1");
+        exigir(statusErro >= 500 && statusErro <= 599, "status de erro deve ser 5xx");
+        exigir(taxaTimeout >= 0 && taxaTimeout <= 1, "taxa de timeout deve estar entre 0 e 1");
+        exigir(duracaoTimeoutMs >= 0, "duração do timeout não pode ser negativa");
+        exigir(bytesPorGota >= 0 && intervaloGotaMs >= 0, "gotejamento não pode ser negativo");
+        exigir(layout != null, "layout é obrigatório");
+    }
+
+    /**
+     * Lê um cenário de parâmetros chave/valor (argumentos da linha de comando
+     * ou query string do endpoint de controle). Chaves ausentes mantêm o
+     * valor de {@code base}.
+     *
+     * <p>Chaves: {@code linhas}, {@code latencia}, {@code variacao},
+     * {@code erros}, {@code status}, {@code timeouts}, {@code duracaoTimeout},
+     * {@code gota}, {@code intervaloGota} e {@code layout}.</p>
+     *
+     * @param parametro Valor de cada chave, ou {@code null} se ausente
+     * @param base Cenário de partida
+     * @return Novo cenário
+     * @throws IllegalArgumentException se algum valor for inválido
+     */
+    public static Cenario de(Function<String, String> parametro, Cenario base) {
+        return new Cenario(
+            inteiro(parametro, "linhas", base.linhas),
+            inteiro(parametro, "latencia", base.latenciaMs),
+            inteiro(parametro, "variacao", base.variacaoLatenciaMs),
+            fracao(parametro, "erros", base.taxaErro),
+            inteiro(parametro, "status", base.statusErro),
+            fracao(parametro, "timeouts", base.taxaTimeout),
+            inteiro(parametro, "duracaoTimeout", base.duracaoTimeoutMs),
+            inteiro(parametro, "gota", base.bytesPorGota),
+            inteiro(parametro, "intervaloGota", base.intervaloGotaMs),
+            layout(parametro.apply("layout"), base.layout)
+        );
+    }
+
+    /**
+     * @param linhas Movimentações na tabela
+     * @return Cópia com outra quantidade de linhas
+     */
+    public Cenario comLinhas(int linhas) {
+        return new Cenario(linhas, latenciaMs, variacaoLatenciaMs, taxaErro, statusErro,
+            taxaTimeout, duracaoTimeoutMs, bytesPorGota, intervaloGotaMs, layout);
+    }
+
+    /**
+     * @param latenciaMs Espera fixa antes de responder
+     * @param variacaoLatenciaMs Espera aleatória adicional máxima
+     * @return Cópia com outra latência
+     */
+    public Cenario comLatencia(int latenciaMs, int variacaoLatenciaMs) {
+        return new Cenario(linhas, latenciaMs, variacaoLatenciaMs, taxaErro, statusErro,
+            taxaTimeout, duracaoTimeoutMs, bytesPorGota, intervaloGotaMs, layout);
+    }
+
+    /**
+     * @param taxaErro Fração das requisições com erro (0 a 1)
+     * @param statusErro Status 5xx devolvido
+     * @return Cópia com outra taxa de erros
+     */
+    public Cenario comErros(double taxaErro, int statusErro) {
+        return new Cenario(linhas, latenciaMs, variacaoLatenciaMs, taxaErro, statusErro,
+            taxaTimeout, duracaoTimeoutMs, bytesPorGota, intervaloGotaMs, layout);
+    }
+
+    /**
+     * @param taxaTimeout Fração das requisições sem resposta (0 a 1)
+     * @param duracaoTimeoutMs Tempo com a conexão parada antes de fechá-la
+     * @return Cópia com outra taxa de timeouts
+     */
+    public Cenario comTimeouts(double taxaTimeout, int duracaoTimeoutMs) {
+        return new Cenario(linhas, latenciaMs, variacaoLatenciaMs, taxaErro, statusErro,
+            taxaTimeout, duracaoTimeoutMs, bytesPorGota, intervaloGotaMs, layout);
+    }
+
+    /**
+     * @param bytesPorGota Tamanho de cada pedaço do corpo (0 desliga)
+     * @param intervaloGotaMs Espera entre os pedaços
+     * @return Cópia com outro gotejamento
+     */
+    public Cenario comGotejamento(int bytesPorGota, int intervaloGotaMs) {
+        return new Cenario(linhas, latenciaMs, variacaoLatenciaMs, taxaErro, statusErro,
+            taxaTimeout, duracaoTimeoutMs, bytesPorGota, intervaloGotaMs, layout);
+    }
+
+    /**
+     * @param layout Layout da tabela
+     * @return Cópia com outro layout
+     */
+    public Cenario comLayout(Layout layout) {
+        return new Cenario(linhas, latenciaMs, variacaoLatenciaMs, taxaErro, statusErro,
+            taxaTimeout, duracaoTimeoutMs, bytesPorGota, intervaloGotaMs, layout);
+    }
+
+    private static int inteiro(Function<String, String> parametro, String chave, int atual) {
+        String valor = parametro.apply(chave);
+        if (valor == null || valor.isBlank()) {
+            return atual;
+        }
+        try {
+            return Integer.parseInt(valor.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(chave + " deve ser um inteiro: " + valor);
+        }
+    }
+
+    private static double fracao(Function<String, String> parametro, String chave, double atual) {
+        String valor = parametro.apply(chave);
+        if (valor == null || valor.isBlank()) {
+            return atual;
+        }
+        try {
+            return Double.parseDouble(valor.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(chave + " deve ser um número entre 0 e 1: " + valor);
+        }
+    }
+
+    private static Layout layout(String valor, Layout atual) {
+        if (valor == null || valor.isBlank()) {
+            return atual;
+        }
+        try {
+            return Layout.valueOf(valor.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("layout desconhecido: " + valor);
+        }
+    }
+
+    private static void exigir(boolean condicao, String mensagem) {
+        if (!condicao) {
+            throw new IllegalArgumentException(mensagem);
+        }
+    }
+}
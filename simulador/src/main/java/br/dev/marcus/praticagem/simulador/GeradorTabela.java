@@ -0,0 +1,166 @@
+package br.dev.marcus.praticagem.simulador;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Gera a página de movimentação no formato do site da praticagem.
+ *
+ * <p>A marcação imita a página real: menu e rodapé com outras tabelas,
+ * {@code <thead>}/{@code <tbody>}, entidades ({@code &nbsp;}), texto com
+ * acentos e células em branco. O conteúdo é determinístico: a mesma
+ * combinação de linhas, layout e versão gera sempre os mesmos bytes, e cada
+ * versão nova muda a situação de cerca de 10% das linhas, para que o diff e
+ * o push tenham o que entregar.</p>
+ *
+ * <pre>
+ *  linha i:  data      = 21/02/2026 + i/20 dias
+ *            navio     = PREFIXO[i % 8] + " " + NOME[(i / 8) % 16] (+ " 2", " 3"... ao esgotar)
+ *            berço, manobra, horário ciclam por listas do porto
+ *            situação  = SITUACAO[(i + (versao + i % 10) / 10) % n]
+ * </pre>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+final class GeradorTabela {
+
+    private static final LocalDate INICIO = LocalDate.of(2026, 2, 21);
+
+    private static final DateTimeFormatter DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    /**
+     * Linhas por dia de programação.
+     */
+    private static final int LINHAS_POR_DIA = 20;
+
+    private static final List<String> PREFIXOS = List.of(
+        "MSC", "MAERSK", "LOG-IN", "CMA CGM", "HAPAG", "COSTA", "MERCOSUL", "EVER"
+    );
+
+    private static final List<String> NOMES = List.of(
+        "CARLOTTA", "MARINA", "POLARIS", "TIANJIN", "WISDOM", "DIADEMA", "SUAPE", "FANTASIA",
+        "ITAJAÍ", "SÃO FRANCISCO", "AURORA", "PARANAGUÁ", "EUROPE", "XIAMEN", "SANTOS", "VITÓRIA"
+    );
+
+    private static final List<String> BERCOS = List.of(
+        "JBS 1", "JBS 2", "PNAVE 01", "PNAVE 02", "PORTO ITAJAI - 04", "TVIP", "TERMINAL BRASKARNE", "PNAVE"
+    );
+
+    private static final List<String> MANOBRAS = List.of("Entrada", "Saída", "Mudança");
+
+    private static final List<String> HORARIOS = List.of(
+        "03:00 ETS", "07:30 ETB", "12:45 ATB", "TBC", "17:00 ETS", "19:00 ETS", "21:15 ETB"
+    );
+
+    private static final List<String> SITUACOES = List.of(
+        "Programado", "Confirmado", "Navegando para Itajaí", "Fundeado", "Manobrando", "Atracado", "Drifting"
+    );
+
+    /**
+     * Colunas na ordem do site; os índices abaixo se referem a esta lista.
+     */
+    private static final List<String> CABECALHO = List.of(
+        "Data", "Horário", "Manobra", "Berço", "Bordo", "Navio", "Rota", "Loa", "Boca", "Calado", "Situação"
+    );
+
+    private static final List<String> CABECALHO_RENOMEADO = List.of(
+        "Data Prevista", "Horário Previsto", "Tipo de Manobra", "Berço de Atracação", "Bordo",
+        "Nome do Navio", "Rota", "Loa", "Boca", "Calado", "Situação Atual"
+    );
+
+    private static final int[] ORDEM_PADRAO = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+    private static final int[] ORDEM_REORDENADA = {5, 10, 0, 3, 1, 2, 4, 6, 7, 8, 9};
+
+    private static final int[] ORDEM_SEM_NAVIO = {0, 1, 2, 3, 4, 6, 7, 8, 9, 10};
+
+    private GeradorTabela() {
+        // Classe utilitária
+    }
+
+    /**
+     * Gera a página completa.
+     *
+     * @param linhas Movimentações na tabela
+     * @param layout Layout da tabela
+     * @param versao Versão dos dados (muda a situação de parte das linhas)
+     * @return HTML em UTF-8
+     */
+    static byte[] pagina(int linhas, Cenario.Layout layout, long versao) {
+
+        StringBuilder html = new StringBuilder(2048 + linhas * 700);
+        html.append("<!DOCTYPE html>\n<html lang=\"pt-BR\"><head><meta charset=\"UTF-8\">\n")
+            .append("<title>Movimentação de navios – ZP21 Práticos (simulador)</title></head>\n<body>\n")
+            .append("<table class=\"menu\"><tr><td><a href=\"/\">Início</a></td>")
+            .append("<td><a href=\"/movimentacao-de-navios/\">Movimentação</a></td></tr></table>\n")
+            .append("<h2 class=\"elementor-heading-title\">Manobras previstas</h2>\n");
+
+        if (layout != Cenario.Layout.SEM_TABELA) {
+            tabela(html, linhas, layout, versao);
+        } else {
+            html.append("<p>Nenhuma manobra prevista.</p>\n");
+        }
+
+        html.append("<table class=\"rodape\"><tr><th>Contato</th></tr>")
+            .append("<tr><td>Itajaí&nbsp;-&nbsp;SC</td></tr></table>\n</body></html>\n");
+
+        return html.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void tabela(StringBuilder html, int linhas, Cenario.Layout layout, long versao) {
+
+        int[] ordem = switch (layout) {
+            case REORDENADO -> ORDEM_REORDENADA;
+            case SEM_NAVIO -> ORDEM_SEM_NAVIO;
+            default -> ORDEM_PADRAO;
+        };
+        List<String> cabecalho = layout == Cenario.Layout.RENOMEADO ? CABECALHO_RENOMEADO : CABECALHO;
+
+        html.append("<table>\n<thead>\n<tr>\n");
+        for (int coluna : ordem) {
+            html.append("  <th>").append(cabecalho.get(coluna)).append("</th>\n");
+        }
+        html.append("</tr>\n</thead>\n<tbody>\n");
+
+        String[] celulas = new String[CABECALHO.size()];
+        for (int i = 0; i < linhas; i++) {
+            preencher(celulas, i, versao);
+            html.append("<tr>\n");
+            for (int coluna : ordem) {
+                html.append("  <td>").append(celulas[coluna]).append("</td>\n");
+            }
+            html.append("</tr>\n");
+        }
+        html.append("</tbody>\n</table>\n");
+    }
+
+    /**
+     * Valores da linha {@code i}, na ordem de {@link #CABECALHO}.
+     */
+    private static void preencher(String[] celulas, int i, long versao) {
+
+        int combinacoes = PREFIXOS.size() * NOMES.size();
+        String navio = PREFIXOS.get(i % PREFIXOS.size()) + " " + NOMES.get((i / PREFIXOS.size()) % NOMES.size());
+        if (i >= combinacoes) {
+            navio += " " + (i / combinacoes + 1);
+        }
+
+        int passo = (int) ((versao + i % 10) / 10);
+
+        celulas[0] = INICIO.plusDays(i / LINHAS_POR_DIA).format(DATA);
+        celulas[1] = HORARIOS.get(i % HORARIOS.size());
+        celulas[2] = MANOBRAS.get(i % MANOBRAS.size());
+        celulas[3] = BERCOS.get((i / 3) % BERCOS.size());
+        celulas[4] = i % 2 == 0 ? "BB" : "BE";
+        celulas[5] = navio;
+        celulas[6] = "";
+        celulas[7] = (180 + i % 130) + ",50";
+        celulas[8] = (28 + i % 20) + ",00";
+        celulas[9] = (7 + i % 6) + ",50/" + (8 + i % 6) + ",20";
+        celulas[10] = SITUACOES.get((i + passo) % SITUACOES.size());
+    }
+}
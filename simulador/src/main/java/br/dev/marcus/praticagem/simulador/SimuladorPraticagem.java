@@ -0,0 +1,407 @@
+package br.dev.marcus.praticagem.simulador;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Servidor HTTP local que imita o site da praticagem, para testes de
+ * integração, benchmarks e testes de carga sem depender do site real.
+ *
+ * <p>Usa o {@link HttpServer} do próprio JDK (sem dependências) e serve a
+ * página gerada por {@link GeradorTabela} com o comportamento descrito pelo
+ * {@link Cenario} vigente: latência, erros 5xx, conexões que não respondem
+ * (timeout), corpo enviado aos poucos (gotejamento) e mudanças de layout.
+ * Respeita {@code If-None-Match} com {@code 304}, como o site.</p>
+ *
+ * <h2>Uso em testes</h2>
+ * <pre>
+ * try (SimuladorPraticagem simulador = new SimuladorPraticagem(0).iniciar()) {
+ *     HtmlFetcher fetcher = new HtmlFetcher(simulador.getUrl(), 1000, 3, 10);
+ *     simulador.setCenario(Cenario.PADRAO.comErros(1.0, 503));
+ *     ...
+ * }
+ * </pre>
+ *
+ * <h2>Uso em teste de carga</h2>
+ * <pre>
+ * ./gradlew :simulador:run --args="porta=8089 linhas=5000 latencia=300 erros=0.05"
+ * PRATICAGEM_URL=http://localhost:8089/movimentacao-de-navios/ ./gradlew :app:run
+ *
+ * # Muda o cenário sem reiniciar / publica uma versão nova dos dados
+ * curl -X POST 'http://localhost:8089/_simulador/cenario?layout=reordenado&gota=256&intervaloGota=20'
+ * curl -X POST  http://localhost:8089/_simulador/avancar
+ * </pre>
+ *
+ * <p>Cada requisição roda numa thread própria (pool sem limite, threads
+ * daemon), então latência e gotejamento de uma não atrasam as outras.</p>
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+public class SimuladorPraticagem implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SimuladorPraticagem.class);
+
+    /**
+     * Caminho da página, o mesmo do site.
+     */
+    public static final String CAMINHO = "/movimentacao-de-navios/";
+
+    /**
+     * Prefixo dos endpoints de controle.
+     */
+    public static final String CAMINHO_CONTROLE = "/_simulador/";
+
+    private static final DateTimeFormatter HTTP_DATA = DateTimeFormatter.RFC_1123_DATE_TIME.withZone(ZoneOffset.UTC);
+
+    /**
+     * Página gerada para uma combinação de linhas, layout e versão.
+     */
+    private record Pagina(int linhas, Cenario.Layout layout, long versao, byte[] corpo, String etag) {
+    }
+
+    private final HttpServer servidor;
+    private final ExecutorService executor;
+
+    private volatile Cenario cenario = Cenario.PADRAO;
+    private final AtomicLong versao = new AtomicLong(1);
+    private volatile long versaoDesde = System.currentTimeMillis();
+    private volatile Pagina pagina;
+
+    private final LongAdder requisicoes = new LongAdder();
+    private final LongAdder naoModificadas = new LongAdder();
+    private final LongAdder errosInjetados = new LongAdder();
+    private final LongAdder timeoutsInjetados = new LongAdder();
+    private volatile String ultimoUserAgent;
+
+    /**
+     * Cria o simulador, sem iniciá-lo.
+     *
+     * @param porta Porta TCP em localhost; 0 escolhe uma porta livre
+     * @throws UncheckedIOException se a porta não puder ser aberta
+     */
+    public SimuladorPraticagem(int porta) {
+
+        try {
+            servidor = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), porta), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível abrir a porta " + porta, e);
+        }
+
+        AtomicInteger contador = new AtomicInteger();
+        executor = Executors.newCachedThreadPool(tarefa -> {
+            Thread thread = new Thread(tarefa, "simulador-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        servidor.setExecutor(executor);
+        servidor.createContext(CAMINHO, this::servirPagina);
+        servidor.createContext(CAMINHO_CONTROLE, this::controlar);
+    }
+
+    /**
+     * Começa a aceitar conexões.
+     *
+     * @return Este simulador, para encadear com o construtor
+     */
+    public SimuladorPraticagem iniciar() {
+        servidor.start();
+        logger.info("Simulador da praticagem em {}", getUrl());
+        return this;
+    }
+
+    /**
+     * Para o servidor e interrompe as requisições em andamento.
+     */
+    @Override
+    public void close() {
+        servidor.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Troca o cenário; vale a partir da próxima requisição.
+     *
+     * @param cenario Novo cenário
+     */
+    public void setCenario(Cenario cenario) {
+        this.cenario = Objects.requireNonNull(cenario, "cenario");
+    }
+
+    /**
+     * Publica uma versão nova dos dados (parte das linhas muda de situação).
+     *
+     * @return Versão nova
+     */
+    public long avancarVersao() {
+        versaoDesde = System.currentTimeMillis();
+        return versao.incrementAndGet();
+    }
+
+    // ===== HANDLERS =====
+
+    private void servirPagina(HttpExchange troca) throws IOException {
+
+        requisicoes.increment();
+        ultimoUserAgent = troca.getRequestHeaders().getFirst("User-Agent");
+        Cenario atual = cenario;
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+
+        try {
+            esperar(atual.latenciaMs() + (atual.variacaoLatenciaMs() > 0
+                ? aleatorio.nextInt(atual.variacaoLatenciaMs() + 1) : 0));
+
+            // ===== TIMEOUT: segura a conexão e fecha sem responder =====
+            if (atual.taxaTimeout() > 0 && aleatorio.nextDouble() < atual.taxaTimeout()) {
+                timeoutsInjetados.increment();
+                esperar(atual.duracaoTimeoutMs());
+                return;
+            }
+
+            // ===== ERRO 5xx =====
+            if (atual.taxaErro() > 0 && aleatorio.nextDouble() < atual.taxaErro()) {
+                errosInjetados.increment();
+                responder(troca, atual.statusErro(), "Erro simulado " + atual.statusErro());
+                return;
+            }
+
+            Pagina servida = paginaPara(atual);
+
+            // ===== 304: cliente já tem esta versão =====
+            String ifNoneMatch = troca.getRequestHeaders().getFirst("If-None-Match");
+            if (servida.etag().equals(ifNoneMatch)) {
+                naoModificadas.increment();
+                troca.getResponseHeaders().set("ETag", servida.etag());
+                troca.sendResponseHeaders(304, -1);
+                return;
+            }
+
+            troca.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+            troca.getResponseHeaders().set("ETag", servida.etag());
+            troca.getResponseHeaders().set("Last-Modified", HTTP_DATA.format(Instant.ofEpochMilli(versaoDesde)));
+
+            if (atual.bytesPorGota() <= 0) {
+                troca.sendResponseHeaders(200, servida.corpo().length);
+                troca.getResponseBody().write(servida.corpo());
+                return;
+            }
+
+            // ===== GOTEJAMENTO: corpo em pedaços, com pausa entre eles =====
+            troca.sendResponseHeaders(200, servida.corpo().length);
+            OutputStream saida = troca.getResponseBody();
+            byte[] corpo = servida.corpo();
+            for (int inicio = 0; inicio < corpo.length; inicio += atual.bytesPorGota()) {
+                saida.write(corpo, inicio, Math.min(atual.bytesPorGota(), corpo.length - inicio));
+                saida.flush();
+                esperar(atual.intervaloGotaMs());
+            }
+
+        } catch (IOException e) {
+            // Cliente desistiu no meio (ex: timeout do lado dele)
+            logger.debug("Conexão encerrada pelo cliente: {}", e.getMessage());
+
+        } finally {
+            troca.close();
+        }
+    }
+
+    private void controlar(HttpExchange troca) throws IOException {
+
+        try {
+            String acao = troca.getRequestURI().getPath().substring(CAMINHO_CONTROLE.length());
+            Map<String, String> parametros = parametros(troca.getRequestURI().getRawQuery());
+
+            switch (acao) {
+                case "cenario" -> {
+                    if ("POST".equals(troca.getRequestMethod())) {
+                        setCenario(Cenario.de(parametros::get, cenario));
+                        logger.info("Cenário alterado: {}", cenario);
+                    }
+                    responder(troca, 200, cenario.toString());
+                }
+                case "avancar" -> responder(troca, 200, "versao=" + avancarVersao());
+                default -> responder(troca, 404, "Ações: cenario, avancar");
+            }
+
+        } catch (IllegalArgumentException e) {
+            responder(troca, 400, e.getMessage());
+
+        } finally {
+            troca.close();
+        }
+    }
+
+    // ===== AUXILIARES =====
+
+    /**
+     * Página do cenário, gerada só quando linhas, layout ou versão mudam.
+     */
+    private Pagina paginaPara(Cenario atual) {
+
+        long versaoAtual = versao.get();
+        Pagina existente = pagina;
+        if (existente != null
+            && existente.linhas() == atual.linhas()
+            && existente.layout() == atual.layout()
+            && existente.versao() == versaoAtual) {
+            return existente;
+        }
+
+        byte[] corpo = GeradorTabela.pagina(atual.linhas(), atual.layout(), versaoAtual);
+        String etag = "\"v" + versaoAtual + "-" + atual.layout().name().toLowerCase(Locale.ROOT) + "-" + atual.linhas() + "\"";
+        Pagina gerada = new Pagina(atual.linhas(), atual.layout(), versaoAtual, corpo, etag);
+        pagina = gerada;
+        return gerada;
+    }
+
+    private static void responder(HttpExchange troca, int status, String texto) throws IOException {
+        byte[] corpo = (texto + "\n").getBytes(StandardCharsets.UTF_8);
+        troca.getResponseHeaders().set("Content-Type", "text/plain; charset=UTF-8");
+        troca.sendResponseHeaders(status, corpo.length);
+        troca.getResponseBody().write(corpo);
+    }
+
+    private static void esperar(long ms) {
+        if (ms <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Decodifica {@code a=1&b=2} (query string ou argumentos já unidos por {@code &}).
+     */
+    static Map<String, String> parametros(String texto) {
+        Map<String, String> parametros = new HashMap<>();
+        if (texto == null || texto.isEmpty()) {
+            return parametros;
+        }
+        for (String par : texto.split("&")) {
+            int igual = par.indexOf('=');
+            if (igual > 0) {
+                parametros.put(
+                    URLDecoder.decode(par.substring(0, igual), StandardCharsets.UTF_8),
+                    URLDecoder.decode(par.substring(igual + 1), StandardCharsets.UTF_8)
+                );
+            }
+        }
+        return parametros;
+    }
+
+    // ===== GETTERS =====
+
+    /**
+     * @return URL completa da página simulada
+     */
+    public String getUrl() {
+        return "http://localhost:" + getPorta() + CAMINHO;
+    }
+
+    /**
+     * @return Porta em que o servidor escuta
+     */
+    public int getPorta() {
+        return servidor.getAddress().getPort();
+    }
+
+    /**
+     * @return Cenário vigente
+     */
+    public Cenario getCenario() {
+        return cenario;
+    }
+
+    /**
+     * @return Versão atual dos dados
+     */
+    public long getVersao() {
+        return versao.get();
+    }
+
+    /**
+     * @return Requisições recebidas na página (inclui as com falha injetada)
+     */
+    public long getRequisicoes() {
+        return requisicoes.sum();
+    }
+
+    /**
+     * @return Requisições respondidas com 304
+     */
+    public long getNaoModificadas() {
+        return naoModificadas.sum();
+    }
+
+    /**
+     * @return Requisições respondidas com o erro 5xx do cenário
+     */
+    public long getErrosInjetados() {
+        return errosInjetados.sum();
+    }
+
+    /**
+     * @return Requisições deixadas sem resposta
+     */
+    public long getTimeoutsInjetados() {
+        return timeoutsInjetados.sum();
+    }
+
+    /**
+     * @return Header {@code User-Agent} da última requisição na página, ou {@code null}
+     */
+    public String getUltimoUserAgent() {
+        return ultimoUserAgent;
+    }
+
+    /**
+     * Executa o simulador até o processo ser encerrado.
+     *
+     * <p>Argumentos no formato {@code chave=valor}: {@code porta} (padrão 8089)
+     * e as chaves de {@link Cenario#de}.</p>
+     *
+     * @param args Argumentos da linha de comando
+     */
+    public static void main(String[] args) {
+
+        Map<String, String> parametros = parametros(String.join("&", args));
+        int porta = Integer.parseInt(parametros.getOrDefault("porta", "8089"));
+
+        SimuladorPraticagem simulador = new SimuladorPraticagem(porta);
+        simulador.setCenario(Cenario.de(parametros::get, Cenario.PADRAO));
+        simulador.iniciar();
+        logger.info("Cenário: {}", simulador.getCenario());
+        logger.info("Controle: POST http://localhost:{}{}cenario?... | POST ...{}avancar",
+            porta, CAMINHO_CONTROLE, CAMINHO_CONTROLE);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(simulador::close));
+    }
+}
@@ -0,0 +1,99 @@
+package br.dev.marcus.praticagem.simulador;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes unitários para {@link SimuladorPraticagem}, {@link Cenario} e {@link GeradorTabela}.
+ *
+ * @author Marcus
+ * @version 1.0
+ * @since 2026-02-23
+ */
+class SimuladorPraticagemTest {
+
+    private final HttpClient cliente = HttpClient.newHttpClient();
+
+    @Test
+    @DisplayName("Cenário deve ler chave=valor mantendo o que não foi informado")
+    void deveLerCenario() {
+        Cenario base = Cenario.PADRAO.comLatencia(100, 0);
+
+        Cenario lido = Cenario.de(
+            Map.of("linhas", "500", "erros", "0.25", "layout", "sem-navio")::get, base
+        );
+
+        assertEquals(500, lido.linhas());
+        assertEquals(0.25, lido.taxaErro());
+        assertSame(Cenario.Layout.SEM_NAVIO, lido.layout());
+        assertEquals(100, lido.latenciaMs());
+
+        assertThrows(IllegalArgumentException.class, () -> Cenario.de(Map.of("erros", "2")::get, base));
+        assertThrows(IllegalArgumentException.class, () -> Cenario.de(Map.of("status", "404")::get, base));
+        assertThrows(IllegalArgumentException.class, () -> Cenario.de(Map.of("layout", "novo")::get, base));
+        assertThrows(IllegalArgumentException.class, () -> Cenario.de(Map.of("linhas", "x")::get, base));
+    }
+
+    @Test
+    @DisplayName("Página deve ser determinística e mudar ~10% das situações a cada versão")
+    void deveGerarPaginaDeterministica() {
+        byte[] v1 = GeradorTabela.pagina(200, Cenario.Layout.PADRAO, 1);
+        byte[] v2 = GeradorTabela.pagina(200, Cenario.Layout.PADRAO, 2);
+
+        assertArrayEquals(v1, GeradorTabela.pagina(200, Cenario.Layout.PADRAO, 1));
+        assertFalse(Arrays.equals(v1, v2));
+
+        String html = new String(v1, StandardCharsets.UTF_8);
+        assertEquals(200 + 1, html.split("<tr>\n  <td>", -1).length);
+        assertTrue(html.contains("<th>Situação</th>"));
+
+        String semTabela = new String(GeradorTabela.pagina(200, Cenario.Layout.SEM_TABELA, 1), StandardCharsets.UTF_8);
+        assertFalse(semTabela.contains("<th>Navio</th>"));
+    }
+
+    @Test
+    @DisplayName("Endpoints de controle devem trocar o cenário e avançar a versão")
+    void deveControlarPorHttp() throws Exception {
+        try (SimuladorPraticagem simulador = new SimuladorPraticagem(0).iniciar()) {
+            String controle = "http://localhost:" + simulador.getPorta() + SimuladorPraticagem.CAMINHO_CONTROLE;
+
+            HttpResponse<String> alterado = enviar(controle + "cenario?linhas=7&latencia=5", "POST");
+            assertEquals(200, alterado.statusCode());
+            assertEquals(7, simulador.getCenario().linhas());
+            assertEquals(5, simulador.getCenario().latenciaMs());
+
+            assertEquals(400, enviar(controle + "cenario?erros=-1", "POST").statusCode());
+            assertEquals(7, simulador.getCenario().linhas());
+
+            assertEquals("versao=2", enviar(controle + "avancar", "POST").body().trim());
+            assertEquals(404, enviar(controle + "outra", "GET").statusCode());
+
+            HttpResponse<String> pagina = enviar(simulador.getUrl(), "GET");
+            assertEquals(200, pagina.statusCode());
+            assertEquals("\"v2-padrao-7\"", pagina.headers().firstValue("ETag").orElseThrow());
+            assertEquals(1, simulador.getRequisicoes());
+        }
+    }
+
+    private HttpResponse<String> enviar(String url, String metodo) throws Exception {
+        HttpRequest requisicao = HttpRequest.newBuilder(URI.create(url))
+            .method(metodo, HttpRequest.BodyPublishers.noBody())
+            .build();
+        return cliente.send(requisicao, HttpResponse.BodyHandlers.ofString());
+    }
+}